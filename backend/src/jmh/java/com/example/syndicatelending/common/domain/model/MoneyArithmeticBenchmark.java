@@ -0,0 +1,78 @@
+package com.example.syndicatelending.common.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money演算のベンチマーク。
+ * <p>
+ * 配分ループ（PaymentService.createPaymentDistributions相当）を
+ * BigDecimal + setScale による従来方式と、Money（固定小数点）で比較する。
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int lenders;
+
+    private BigDecimal principal;
+    private Money principalMoney;
+    private BigDecimal[] shareRatios;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        principal = new BigDecimal("123456789.12");
+        principalMoney = Money.of(principal);
+        shareRatios = new BigDecimal[lenders];
+        for (int i = 0; i < lenders; i++) {
+            shareRatios[i] = BigDecimal.valueOf(random.nextInt(1_000_000_000), 10);
+        }
+    }
+
+    /**
+     * 従来方式: 演算ごとにBigDecimalを生成しsetScaleで丸める。
+     */
+    @Benchmark
+    public BigDecimal bigDecimalDistribution() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal ratio : shareRatios) {
+            BigDecimal share = principal.multiply(ratio).setScale(2, RoundingMode.HALF_UP);
+            total = total.add(share).setScale(2, RoundingMode.HALF_UP);
+        }
+        return principal.subtract(total).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Money（固定小数点）による不変オブジェクトでの累積。
+     */
+    @Benchmark
+    public Money moneyDistribution() {
+        Money total = Money.zero();
+        for (BigDecimal ratio : shareRatios) {
+            total = total.add(principalMoney.multiply(ratio));
+        }
+        return principalMoney.subtract(total);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.syndicatelending.common.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProRataAllocator（最大剰余方式の按分）のベンチマーク。
+ * <p>
+ * 元本・利息を出資額に比例して按分する処理（PaymentService相当）を、
+ * 従来方式（比率をBigDecimalで計算し最後の投資家で端数調整）と比較する。
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProRataAllocatorBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int lenders;
+
+    private Money principal;
+    private Money interest;
+    private BigDecimal[] investments;
+    private long[] weights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        principal = Money.of(new BigDecimal("123456789.12"));
+        interest = Money.of(new BigDecimal("2345678.91"));
+        investments = new BigDecimal[lenders];
+        weights = new long[lenders];
+        for (int i = 0; i < lenders; i++) {
+            long minorUnits = 100_000L + random.nextInt(1_000_000_000);
+            investments[i] = BigDecimal.valueOf(minorUnits, 2);
+            weights[i] = minorUnits;
+        }
+    }
+
+    /**
+     * 従来方式: 出資額から10桁の比率を求め、元本・利息ごとに乗算し、最後の投資家で端数を調整する。
+     */
+    @Benchmark
+    public Money[][] lastInvestorAdjustment() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal investment : investments) {
+            total = total.add(investment);
+        }
+        Money[][] result = new Money[2][lenders];
+        Money principalTotal = Money.zero();
+        Money interestTotal = Money.zero();
+        for (int i = 0; i < lenders - 1; i++) {
+            BigDecimal ratio = investments[i].divide(total, 10, RoundingMode.HALF_UP);
+            result[0][i] = principal.multiply(ratio);
+            result[1][i] = interest.multiply(ratio);
+            principalTotal = principalTotal.add(result[0][i]);
+            interestTotal = interestTotal.add(result[1][i]);
+        }
+        result[0][lenders - 1] = principal.subtract(principalTotal);
+        result[1][lenders - 1] = interest.subtract(interestTotal);
+        return result;
+    }
+
+    /**
+     * 最大剰余方式: 元本・利息を同じ重みで同時に按分する。
+     */
+    @Benchmark
+    public Money[][] largestRemainder() {
+        return ProRataAllocator.allocate(new Money[] { principal, interest }, weights);
+    }
+
+    /**
+     * 最大剰余方式: 元本のみを按分する（単一金額）。
+     */
+    @Benchmark
+    public Money[] largestRemainderSingle() {
+        return ProRataAllocator.allocate(principal, weights);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.syndicatelending.common.statemachine;
+
+import com.example.syndicatelending.common.statemachine.facility.FacilityEvent;
+import com.example.syndicatelending.common.statemachine.facility.FacilityState;
+import com.example.syndicatelending.common.statemachine.facility.FacilityStateMachineConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StateMachinePool による状態遷移のベンチマーク。
+ * <p>
+ * 1つのプールを全スレッドで共有し、スレッド数（1, 2, 4, 8）ごとの合計スループットを計測する。
+ * 各遷移は専用のStateMachineで実行されるため、スループットはスレッド数（CPUコア数まで）に
+ * ほぼ比例して伸びることを確認する。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateMachinePoolBenchmark {
+
+    private StateMachinePool<FacilityState, FacilityEvent> pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new FacilityStateMachineConfig().facilityStateMachinePool();
+    }
+
+    private boolean transition() {
+        return pool.execute(FacilityState.DRAFT,
+                stateMachine -> StateMachinePool.sendEvent(stateMachine, FacilityEvent.DRAWDOWN_EXECUTED));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean transition_1thread() {
+        return transition();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean transition_2threads() {
+        return transition();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean transition_4threads() {
+        return transition();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean transition_8threads() {
+        return transition();
+    }
+}
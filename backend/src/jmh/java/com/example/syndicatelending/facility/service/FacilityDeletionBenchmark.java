@@ -0,0 +1,133 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.DemoApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FacilityService.deleteFacility() のベンチマーク。
+ * <p>
+ * data.sql の初期データ（DRAFT状態のFacility ID=1、SharePie・FacilityInvestment各2件）を削除し、
+ * 1回あたりのレイテンシとJDBCステートメント数を計測する。各呼び出しはフラッシュ後にロールバックする。
+ * </p>
+ * <p>
+ * {@code backgroundInvestments} は他のFacilityに属するFacilityInvestmentの事前投入件数。
+ * 関連データはFacility IDを条件に一括削除するため、件数によらずレイテンシ・ステートメント数は一定になる。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FacilityDeletionBenchmark {
+
+    private static final long FACILITY_ID = 1L;
+
+    /** 事前投入するFacilityInvestmentのID・Facility IDの開始値（初期データ・シーケンスと重ならない値） */
+    private static final long SEED_ID_OFFSET = 100_000_000L;
+    private static final long SEED_FACILITY_ID_OFFSET = 1_000_000L;
+    private static final int SEED_FACILITY_COUNT = 10_000;
+
+    @Param({"0", "1000000"})
+    public int backgroundInvestments;
+
+    private ConfigurableApplicationContext context;
+    private FacilityService facilityService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    /**
+     * イテレーションごとの準備されたJDBCステートメント数と呼び出し回数。
+     * 1回あたりのステートメント数は {@code statements / invocations} で求める。
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        public long statements;
+        public long invocations;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.root=WARN");
+
+        facilityService = context.getBean(FacilityService.class);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        seedInvestments(context.getBean(JdbcTemplate.class));
+    }
+
+    /**
+     * 他のFacilityに属するFacilityInvestmentをSQLで一括投入する
+     */
+    private void seedInvestments(JdbcTemplate jdbcTemplate) {
+        if (backgroundInvestments == 0) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO TRANSACTION (ID, FACILITY_ID, BORROWER_ID, TRANSACTION_DATE, TRANSACTION_TYPE, STATUS, "
+                        + "AMOUNT, CREATED_AT, UPDATED_AT, VERSION) "
+                        + "SELECT ? + X, ? + MOD(X, ?), 1, DATE '2025-07-04', 'FACILITY_INVESTMENT', 'COMPLETED', "
+                        + "100.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, ?)",
+                SEED_ID_OFFSET, SEED_FACILITY_ID_OFFSET, SEED_FACILITY_COUNT, backgroundInvestments);
+        jdbcTemplate.update(
+                "INSERT INTO FACILITY_INVESTMENT (INVESTOR_ID, ID) SELECT 2, ? + X FROM SYSTEM_RANGE(1, ?)",
+                SEED_ID_OFFSET, backgroundInvestments);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Facility削除（状態復旧イベント、SharePie・FacilityInvestmentの削除、Facilityの削除を含む）。
+     */
+    @Benchmark
+    public void deleteFacility(StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        transactionTemplate.executeWithoutResult(status -> {
+            facilityService.deleteFacility(FACILITY_ID);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+        counter.statements += statistics.getPrepareStatementCount() - before;
+        counter.invocations++;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.syndicatelending.loan.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loan.generatePaymentSchedule() のベンチマーク。
+ * <p>
+ * 返済サイクル（MONTHLY〜ANNUALLY）、返済期間（12〜360ヶ月）、返済方法の全組み合わせで
+ * 支払いスケジュール生成のスループットを計測する。
+ * アロケーションレートは {@code -prof gc}（benchmarkプロファイルのデフォルト引数）で取得する。
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanScheduleBenchmark {
+
+    @Param({"MONTHLY", "QUARTERLY", "SEMI_ANNUALLY", "ANNUALLY"})
+    public RepaymentCycle repaymentCycle;
+
+    @Param({"12", "60", "120", "240", "360"})
+    public int repaymentPeriodMonths;
+
+    @Param({"EQUAL_INSTALLMENT", "BULLET_PAYMENT"})
+    public RepaymentMethod repaymentMethod;
+
+    private Loan loan;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loan = new Loan(
+                1L,
+                1L,
+                Money.of(new BigDecimal("1000000000")), // 10億円
+                Percentage.of(new BigDecimal("0.0275")), // 年利2.75%
+                LocalDate.of(2025, 1, 31),
+                repaymentPeriodMonths,
+                repaymentCycle,
+                repaymentMethod,
+                "JPY");
+    }
+
+    /**
+     * 既存ローンの支払いスケジュール再生成（DrawdownService.updateDrawdownと同じ経路）。
+     */
+    @Benchmark
+    public List<PaymentDetail> regenerateSchedule() {
+        loan.generatePaymentSchedule();
+        return loan.getPaymentDetails();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.DemoApplication;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SharePieによる自動按分を伴う DrawdownService.createDrawdown() のベンチマーク（2次キャッシュの有無）。
+ * <p>
+ * data.sql の初期データ（Facility ID=1、Borrower ID=1）に対し、AmountPieを指定せずにドローダウンを実行する。
+ * {@code secondLevelCache=true} では計測前に1回実行してキャッシュを温めておき、
+ * SharePie・Facility・Syndicateの読み込みがキャッシュから返ることを、JDBCステートメント数と
+ * 2次キャッシュ・クエリキャッシュのヒット数で確認する。
+ * 各呼び出しはフラッシュ後にロールバックする。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DrawdownAllocationCacheBenchmark {
+
+    @Param({"false", "true"})
+    public boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private DrawdownService drawdownService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private CreateDrawdownRequest request;
+
+    /**
+     * イテレーションごとのJDBCステートメント数・キャッシュヒット数と呼び出し回数。
+     * 1回あたりの値は各カウンタを {@code invocations} で割って求める。
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounter {
+        public long statements;
+        public long secondLevelCacheHits;
+        public long queryCacheHits;
+        public long invocations;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                "--logging.level.root=WARN");
+
+        drawdownService = context.getBean(DrawdownService.class);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        request = new CreateDrawdownRequest();
+        request.setFacilityId(1L);
+        request.setBorrowerId(1L);
+        request.setAmount(new BigDecimal("1000.00"));
+        request.setCurrency("JPY");
+        request.setPurpose("Benchmark");
+        request.setAnnualInterestRate(new BigDecimal("0.0275"));
+        request.setDrawdownDate(LocalDate.of(2025, 7, 31));
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+
+        // キャッシュを温める
+        createDrawdown();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private Long createDrawdown() {
+        return transactionTemplate.execute(status -> {
+            Long id = drawdownService.createDrawdown(request).getId();
+            entityManager.flush();
+            status.setRollbackOnly();
+            return id;
+        });
+    }
+
+    /**
+     * SharePieによる自動按分を伴うドローダウン作成。
+     */
+    @Benchmark
+    public Long createDrawdownWithAllocation(CacheCounter counter) {
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long secondLevelHitsBefore = statistics.getSecondLevelCacheHitCount();
+        long queryHitsBefore = statistics.getQueryCacheHitCount();
+        Long drawdownId = createDrawdown();
+        counter.statements += statistics.getPrepareStatementCount() - statementsBefore;
+        counter.secondLevelCacheHits += statistics.getSecondLevelCacheHitCount() - secondLevelHitsBefore;
+        counter.queryCacheHits += statistics.getQueryCacheHitCount() - queryHitsBefore;
+        counter.invocations++;
+        return drawdownId;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.DemoApplication;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DrawdownService.createDrawdown() のベンチマーク。
+ * <p>
+ * data.sql の初期データ（Facility ID=1、Borrower ID=1）に対してドローダウンを実行し、
+ * 1回あたりのレイテンシとJDBCステートメント数を計測する。
+ * Facilityは初回ドローダウンで状態が変わるため、各呼び出しはフラッシュ後にロールバックする。
+ * </p>
+ * <p>
+ * {@code batchSize=1} はバッチなし（1行ずつINSERT）、{@code batchSize=50} はJDBCバッチ有効時の値。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DrawdownCreationBenchmark {
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    @Param({"60", "360"})
+    public int repaymentPeriodMonths;
+
+    private ConfigurableApplicationContext context;
+    private DrawdownService drawdownService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private CreateDrawdownRequest request;
+
+    /**
+     * イテレーションごとの準備されたJDBCステートメント数と呼び出し回数。
+     * 1回あたりのステートメント数は {@code statements / invocations} で求める。
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        public long statements;
+        public long invocations;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--logging.level.root=WARN");
+
+        drawdownService = context.getBean(DrawdownService.class);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        request = new CreateDrawdownRequest();
+        request.setFacilityId(1L);
+        request.setBorrowerId(1L);
+        request.setAmount(new BigDecimal("1000.00"));
+        request.setCurrency("JPY");
+        request.setPurpose("Benchmark");
+        request.setAnnualInterestRate(new BigDecimal("0.0275"));
+        request.setDrawdownDate(LocalDate.of(2025, 7, 31));
+        request.setRepaymentPeriodMonths(repaymentPeriodMonths);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * ドローダウン作成（Loan、PaymentDetail、Drawdown、AmountPieのINSERTを含む）。
+     */
+    @Benchmark
+    public Long createDrawdown(StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        Long drawdownId = transactionTemplate.execute(status -> {
+            Long id = drawdownService.createDrawdown(request).getId();
+            entityManager.flush();
+            status.setRollbackOnly();
+            return id;
+        });
+        counter.statements += statistics.getPrepareStatementCount() - before;
+        counter.invocations++;
+        return drawdownId;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.DemoApplication;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.repository.DrawdownRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawdownのページング一覧（/api/v1/loans/drawdowns/paged）のベンチマーク。
+ * <p>
+ * 1ページ分の取得からJSONへのシリアライズまでのレイテンシ分布（p99を含む）とレスポンスサイズを計測する。
+ * {@code entityPage} は従来どおりエンティティを返し、按分（AmountPie）を行ごとに遅延ロードする場合、
+ * {@code summaryPage} は軽量な射影（DrawdownSummary）で按分の件数・合計のみを返す場合。
+ * </p>
+ * <p>
+ * 1ページあたりのレスポンスサイズは {@code payloadBytes / invocations} で求める。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DrawdownListBenchmark {
+
+    /** 事前投入するDrawdown・AmountPieのIDの開始値（初期データ・シーケンスと重ならない値） */
+    private static final long SEED_ID_OFFSET = 100_000_000L;
+    private static final int SEED_DRAWDOWN_COUNT = 10_000;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"3", "20"})
+    public int investorsPerDrawdown;
+
+    private ConfigurableApplicationContext context;
+    private DrawdownService drawdownService;
+    private DrawdownRepository drawdownRepository;
+    private ObjectMapper objectMapper;
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * イテレーションごとのレスポンスサイズ（バイト）の合計と呼び出し回数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounter {
+        public long payloadBytes;
+        public long invocations;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN");
+
+        drawdownService = context.getBean(DrawdownService.class);
+        drawdownRepository = context.getBean(DrawdownRepository.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        seedDrawdowns(context.getBean(JdbcTemplate.class));
+    }
+
+    /**
+     * Drawdownと投資家別の按分をSQLで一括投入する
+     */
+    private void seedDrawdowns(JdbcTemplate jdbcTemplate) {
+        // 按分額はJava側で求めて渡す（SQL内でパラメータで割ると、H2が行ごとに桁数の大きい除算を行い投入が極端に遅くなる）
+        BigDecimal amountPerInvestor = new BigDecimal("1000000.00")
+                .divide(BigDecimal.valueOf(investorsPerDrawdown), 2, RoundingMode.DOWN);
+        jdbcTemplate.update(
+                "INSERT INTO TRANSACTION (ID, FACILITY_ID, BORROWER_ID, TRANSACTION_DATE, TRANSACTION_TYPE, STATUS, "
+                        + "AMOUNT, CREATED_AT, UPDATED_AT, VERSION) "
+                        + "SELECT ? + X, 1, 1, DATE '2025-07-04', 'DRAWDOWN', 'COMPLETED', "
+                        + "1000000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, ?)",
+                SEED_ID_OFFSET, SEED_DRAWDOWN_COUNT);
+        jdbcTemplate.update(
+                "INSERT INTO DRAWDOWN (ID, LOAN_ID, CURRENCY, PURPOSE) "
+                        + "SELECT ? + X, 1, 'USD', 'benchmark' FROM SYSTEM_RANGE(1, ?)",
+                SEED_ID_OFFSET, SEED_DRAWDOWN_COUNT);
+        jdbcTemplate.update(
+                "INSERT INTO DRAWDOWN_AMOUNT_PIES (ID, INVESTOR_ID, AMOUNT, CURRENCY, DRAWDOWN_ID, "
+                        + "CREATED_AT, UPDATED_AT, VERSION) "
+                        + "SELECT ? + X, 1 + MOD(X, ?), ?, 'USD', ? + 1 + X / ?, "
+                        + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(0, ? - 1)",
+                SEED_ID_OFFSET, investorsPerDrawdown, amountPerInvestor, SEED_ID_OFFSET, investorsPerDrawdown,
+                SEED_DRAWDOWN_COUNT * investorsPerDrawdown);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * エンティティのページを返す場合（Open Session in Viewでのシリアライズ時と同様に、按分を行ごとに読み込む）
+     */
+    @Benchmark
+    public byte[] entityPage(PayloadCounter counter) {
+        byte[] payload = transactionTemplate.execute(status -> {
+            Page<Drawdown> page = drawdownRepository.findAll(PageRequest.of(0, pageSize));
+            page.forEach(drawdown -> Hibernate.initialize(drawdown.getAmountPies()));
+            return serialize(page);
+        });
+        counter.payloadBytes += payload.length;
+        counter.invocations++;
+        return payload;
+    }
+
+    /**
+     * 軽量な射影のページを返す場合（一覧、件数の2クエリ）
+     */
+    @Benchmark
+    public byte[] summaryPage(PayloadCounter counter) {
+        byte[] payload = transactionTemplate.execute(
+                status -> serialize(drawdownService.getAllDrawdowns(PageRequest.of(0, pageSize))));
+        counter.payloadBytes += payload.length;
+        counter.invocations++;
+        return payload;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
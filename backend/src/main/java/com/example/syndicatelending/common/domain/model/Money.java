@@ -3,34 +3,69 @@ package com.example.syndicatelending.common.domain.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode; // Use standard RoundingMode
 import java.util.Objects;
 
 /**
  * 金額を表すValue Object。金融計算のためBigDecimalを使用。
  * Immutable Class.
+ * <p>
+ * 内部表現は補助単位（スケール2、例: 銭・セント）のlong値による固定小数点。
+ * longの範囲を超える場合のみBigDecimalにフォールバックする。
+ * 演算結果は従来のBigDecimal + setScale(2, HALF_UP) と完全に一致する。
+ * </p>
  */
 public final class Money {
 
     static final int DEFAULT_SCALE = 2; // 通常の金額で使うスケール（例: 円、ドルセント）
     static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_UP; // デフォルトの丸めモード
 
-    private final BigDecimal amount;
+    /** long固定小数点で扱える乗数スケールの上限（10^18 < Long.MAX_VALUE） */
+    private static final int MAX_FIXED_POINT_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_FIXED_POINT_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private static final Money ZERO = new Money(0L, null);
+
+    /** 補助単位での金額（overflowAmountがnullの場合のみ有効） */
+    private final long minorUnits;
+    /** longの範囲を超えた場合のみ保持するスケール2のBigDecimal */
+    private final BigDecimal overflowAmount;
     // private final Currency currency; // 通貨も考慮する場合は追加
 
-    private Money(BigDecimal amount) {
+    private Money(long minorUnits, BigDecimal overflowAmount) {
+        this.minorUnits = minorUnits;
+        this.overflowAmount = overflowAmount;
+    }
+
+    /**
+     * BigDecimalからスケールと丸めを強制してMoneyを生成する。
+     * longに収まる場合は固定小数点表現に正規化する。
+     */
+    private static Money fromBigDecimal(BigDecimal amount) {
         if (amount == null) {
             throw new IllegalArgumentException("Amount cannot be null");
         }
-        // コンストラクタでスケールと丸めを強制
-        this.amount = amount.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
+        BigDecimal scaled = amount.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
+        BigInteger unscaled = scaled.unscaledValue();
+        if (unscaled.bitLength() <= 63) {
+            return new Money(unscaled.longValue(), null);
+        }
+        return new Money(0L, scaled);
     }
 
     /**
      * 指定されたBigDecimalからMoneyインスタンスを生成するファクトリメソッド。
      */
     public static Money of(BigDecimal amount) {
-        return new Money(amount);
+        return fromBigDecimal(amount);
     }
 
     /**
@@ -38,28 +73,41 @@ public final class Money {
      */
     @JsonCreator
     public static Money fromJson(BigDecimal amount) {
-        return new Money(amount);
+        return fromBigDecimal(amount);
     }
 
     /**
      * 指定されたlong値からMoneyインスタンスを生成するファクトリメソッド。(整数金額用)
      */
     public static Money of(long amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        long hi = Math.multiplyHigh(amount, POWERS_OF_TEN[DEFAULT_SCALE]);
+        long lo = amount * POWERS_OF_TEN[DEFAULT_SCALE];
+        if (fitsInLong(hi, lo)) {
+            return new Money(lo, null);
+        }
+        return fromBigDecimal(BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * 補助単位（スケール2）のlong値からMoneyインスタンスを生成するファクトリメソッド。
+     * 例: Money.ofMinorUnits(12345) // 123.45
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits, null);
     }
 
     /**
      * ゼロ金額のMoneyインスタンスを取得する。
      */
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
     }
 
     /**
      * 金額のBigDecimal値を取得する。
      */
     public BigDecimal getAmount() {
-        return amount;
+        return overflowAmount != null ? overflowAmount : BigDecimal.valueOf(minorUnits, DEFAULT_SCALE);
     }
 
     /**
@@ -67,7 +115,7 @@ public final class Money {
      */
     @JsonValue
     public BigDecimal toJson() {
-        return amount;
+        return getAmount();
     }
 
     /**
@@ -75,7 +123,14 @@ public final class Money {
      */
     public Money add(Money other) {
         Objects.requireNonNull(other, "Cannot add null Money");
-        return new Money(this.amount.add(other.amount));
+        if (this.isFixedPoint() && other.isFixedPoint()) {
+            long result = this.minorUnits + other.minorUnits;
+            // 符号が両オペランドと異なる場合のみオーバーフロー
+            if (((this.minorUnits ^ result) & (other.minorUnits ^ result)) >= 0) {
+                return new Money(result, null);
+            }
+        }
+        return fromBigDecimal(this.getAmount().add(other.getAmount()));
     }
 
     /**
@@ -83,16 +138,35 @@ public final class Money {
      */
     public Money subtract(Money other) {
         Objects.requireNonNull(other, "Cannot subtract null Money");
-        return new Money(this.amount.subtract(other.amount));
+        if (this.isFixedPoint() && other.isFixedPoint()) {
+            long result = this.minorUnits - other.minorUnits;
+            // 被減数と減数の符号が異なり、結果の符号が被減数と異なる場合のみオーバーフロー
+            if (((this.minorUnits ^ other.minorUnits) & (this.minorUnits ^ result)) >= 0) {
+                return new Money(result, null);
+            }
+        }
+        return fromBigDecimal(this.getAmount().subtract(other.getAmount()));
     }
 
     /**
      * 乗算。
+     * <p>
+     * 結果は {@code getAmount().multiply(multiplier).setScale(2, HALF_UP)} と一致する。
+     * </p>
      */
     public Money multiply(BigDecimal multiplier) {
         Objects.requireNonNull(multiplier, "Cannot multiply by null BigDecimal");
-        // 乗算結果のスケールはBigDecimalのデフォルトに任せるか、ここで強制するか検討
-        return new Money(this.amount.multiply(multiplier));
+        int multiplierScale = multiplier.scale();
+        if (this.isFixedPoint() && multiplierScale >= 0 && multiplierScale <= MAX_FIXED_POINT_SCALE
+                && multiplier.precision() <= MAX_FIXED_POINT_SCALE) {
+            long unscaledMultiplier = multiplier.unscaledValue().longValue();
+            long hi = Math.multiplyHigh(this.minorUnits, unscaledMultiplier);
+            long lo = this.minorUnits * unscaledMultiplier;
+            if (fitsInLong(hi, lo)) {
+                return new Money(roundHalfUp(lo, POWERS_OF_TEN[multiplierScale]), null);
+            }
+        }
+        return fromBigDecimal(this.getAmount().multiply(multiplier));
     }
 
     /**
@@ -100,7 +174,7 @@ public final class Money {
      */
     public boolean isGreaterThan(Money other) {
         Objects.requireNonNull(other, "Cannot compare with null Money");
-        return this.amount.compareTo(other.amount) > 0;
+        return compareAmount(other) > 0;
     }
 
     /**
@@ -108,7 +182,7 @@ public final class Money {
      */
     public boolean isGreaterThanOrEqual(Money other) {
         Objects.requireNonNull(other, "Cannot compare with null Money");
-        return this.amount.compareTo(other.amount) >= 0;
+        return compareAmount(other) >= 0;
     }
 
     /**
@@ -116,24 +190,66 @@ public final class Money {
      */
     public boolean isLessThan(Money other) {
         Objects.requireNonNull(other, "Cannot compare with null Money");
-        return this.amount.compareTo(other.amount) < 0;
+        return compareAmount(other) < 0;
     }
 
     /**
      * 現在の金額がゼロまたは正か。
      */
     public boolean isPositiveOrZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) >= 0;
+        return isFixedPoint() ? minorUnits >= 0 : overflowAmount.signum() >= 0;
     }
 
     /**
      * 現在の金額がゼロか。
      */
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        // 正規化によりlongに収まる値は常に固定小数点表現のため、オーバーフロー値はゼロになり得ない
+        return isFixedPoint() && minorUnits == 0L;
+    }
+
+    /**
+     * 固定小数点（long）表現かどうか。
+     */
+    boolean isFixedPoint() {
+        return overflowAmount == null;
+    }
+
+    /**
+     * 補助単位でのlong値を取得する（固定小数点表現の場合のみ有効）。
+     */
+    long minorUnits() {
+        return minorUnits;
+    }
+
+    private int compareAmount(Money other) {
+        if (this.isFixedPoint() && other.isFixedPoint()) {
+            return Long.compare(this.minorUnits, other.minorUnits);
+        }
+        return this.getAmount().compareTo(other.getAmount());
     }
 
-    // equals, hashCode, toString (BigDecimal based) - Omitted for brevity
+    /**
+     * 128bit積（hi:lo）がlongに収まるかを判定する。
+     */
+    private static boolean fitsInLong(long hi, long lo) {
+        return (hi == 0L && lo >= 0L) || (hi == -1L && lo < 0L);
+    }
+
+    /**
+     * value / divisor をHALF_UP（ゼロから遠い方へ）で丸める。
+     */
+    private static long roundHalfUp(long value, long divisor) {
+        if (divisor == 1L) {
+            return value;
+        }
+        long quotient = value / divisor;
+        long remainder = Math.abs(value % divisor);
+        if (remainder >= divisor - remainder) {
+            quotient += value < 0 ? -1L : 1L;
+        }
+        return quotient;
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -142,21 +258,17 @@ public final class Money {
         if (o == null || getClass() != o.getClass())
             return false;
         Money money = (Money) o;
-        // BigDecimalのequalsはスケールも比較するので注意。
-        // 金額としての等価性を比較する場合は compareTo == 0 を使うことが多いが、
-        // Value Objectとしてはequalsもスケール込みとするのが一般的。
-        // または、equalsForAmount(Money other) のようなメソッドを別途用意する。
-        // ここでは標準的なequals実装を採用。
-        return Objects.equals(amount, money.amount);
+        // スケールは常に2に正規化されているため、金額としての等価性と一致する。
+        return minorUnits == money.minorUnits && Objects.equals(overflowAmount, money.overflowAmount);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return isFixedPoint() ? Long.hashCode(minorUnits) : overflowAmount.hashCode();
     }
 
     @Override
     public String toString() {
-        return amount.toPlainString(); // 指数表記を避ける
+        return getAmount().toPlainString(); // 指数表記を避ける
     }
 }
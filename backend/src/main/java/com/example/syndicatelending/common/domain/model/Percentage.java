@@ -66,10 +66,8 @@ public final class Percentage {
      */
     public Money applyTo(Money money) {
         Objects.requireNonNull(money, "Cannot apply percentage to null Money");
-        // 計算結果のスケールはMoneyのデフォルトスケールに合わせる
-        BigDecimal resultAmount = money.getAmount().multiply(this.value).setScale(Money.DEFAULT_SCALE,
-                Money.DEFAULT_ROUNDING_MODE);
-        return Money.of(resultAmount);
+        // 計算結果のスケールはMoneyのデフォルトスケールに合わせる（Money.multiplyで丸め済み）
+        return money.multiply(this.value);
     }
 
     /**
@@ -0,0 +1,207 @@
+package com.example.syndicatelending.common.domain.model;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * 金額を重みに比例して按分する（最大剰余方式）。
+ * <p>
+ * 補助単位（スケール2）の整数で {@code 金額 × 重み / 重み合計} を計算し、切り捨てた端数の合計を
+ * 剰余の大きい順（同じ場合は先頭から）に1単位ずつ割り当てる。
+ * 配分額の合計は常に元の金額と一致し、各配分額と理論値の差は1単位未満になる。
+ * </p>
+ * <p>
+ * 重みは比率のみが意味を持つ（例: 持分比率のスケール4整数値、出資額の補助単位）。
+ * 複数の金額（元本・利息など）を同じ重みで同時に按分できる。
+ * </p>
+ */
+public final class ProRataAllocator {
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private ProRataAllocator() {
+    }
+
+    /**
+     * 金額を重みに比例して按分する。
+     *
+     * @param amount 按分する金額
+     * @param weights 配分先ごとの重み（0以上、合計が正）
+     * @return 配分先ごとの金額（weightsと同じ順序）
+     */
+    public static Money[] allocate(Money amount, long[] weights) {
+        return allocate(new Money[] { amount }, weights)[0];
+    }
+
+    /**
+     * 複数の金額を同じ重みで按分する。
+     *
+     * @param amounts 按分する金額（例: 元本、利息）
+     * @param weights 配分先ごとの重み（0以上、合計が正）
+     * @return {@code [金額のインデックス][配分先のインデックス]} の配分額
+     */
+    public static Money[][] allocate(Money[] amounts, long[] weights) {
+        Objects.requireNonNull(amounts, "amounts must not be null");
+        Objects.requireNonNull(weights, "weights must not be null");
+        Money[][] result = new Money[amounts.length][weights.length];
+        if (weights.length == 0) {
+            return result;
+        }
+        long totalWeight = 0L;
+        long maxWeight = 0L;
+        for (long weight : weights) {
+            if (weight < 0L) {
+                throw new IllegalArgumentException("Weight must not be negative: " + weight);
+            }
+            totalWeight = Math.addExact(totalWeight, weight);
+            maxWeight = Math.max(maxWeight, weight);
+        }
+        if (totalWeight == 0L) {
+            throw new IllegalArgumentException("Total weight must be positive");
+        }
+
+        long[] quotients = new long[weights.length];
+        long[] remainders = new long[weights.length];
+        for (int k = 0; k < amounts.length; k++) {
+            Money amount = Objects.requireNonNull(amounts[k], "amount must not be null");
+            if (fitsFixedPoint(amount, maxWeight)) {
+                allocateFixedPoint(amount.minorUnits(), weights, totalWeight, quotients, remainders, result[k]);
+            } else {
+                allocateBigInteger(amount, weights, totalWeight, result[k]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 金額を重みとして使う場合の値（補助単位）を取得する。
+     *
+     * @param money 金額（0以上）
+     * @return 補助単位のlong値
+     * @throws ArithmeticException longの範囲を超える場合
+     */
+    public static long weightOf(Money money) {
+        if (money.isFixedPoint()) {
+            return money.minorUnits();
+        }
+        return money.getAmount().unscaledValue().longValueExact();
+    }
+
+    /**
+     * |amount| × maxWeight がlongに収まるか。
+     */
+    private static boolean fitsFixedPoint(Money amount, long maxWeight) {
+        if (!amount.isFixedPoint() || amount.minorUnits() == Long.MIN_VALUE) {
+            return false;
+        }
+        long magnitude = Math.abs(amount.minorUnits());
+        return Math.multiplyHigh(magnitude, maxWeight) == 0L && magnitude * maxWeight >= 0L;
+    }
+
+    private static void allocateFixedPoint(long minorUnits, long[] weights, long totalWeight,
+            long[] quotients, long[] remainders, Money[] out) {
+        // 負の金額は絶対値で按分して符号を戻す（端数の割り当てを正負で対称にする）
+        boolean negative = minorUnits < 0L;
+        long magnitude = Math.abs(minorUnits);
+        long allocated = 0L;
+        for (int i = 0; i < weights.length; i++) {
+            long product = magnitude * weights[i];
+            quotients[i] = product / totalWeight;
+            remainders[i] = product % totalWeight;
+            allocated += quotients[i];
+        }
+        distributeLeftover(magnitude - allocated, remainders, quotients, weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            out[i] = Money.ofMinorUnits(negative ? -quotients[i] : quotients[i]);
+        }
+    }
+
+    private static void allocateBigInteger(Money amount, long[] weights, long totalWeight, Money[] out) {
+        BigInteger minorUnits = amount.getAmount().unscaledValue();
+        boolean negative = minorUnits.signum() < 0;
+        BigInteger magnitude = minorUnits.abs();
+        BigInteger total = BigInteger.valueOf(totalWeight);
+        BigInteger[] quotients = new BigInteger[weights.length];
+        long[] remainders = new long[weights.length];
+        BigInteger allocated = BigInteger.ZERO;
+        for (int i = 0; i < weights.length; i++) {
+            BigInteger[] divided = magnitude.multiply(BigInteger.valueOf(weights[i])).divideAndRemainder(total);
+            quotients[i] = divided[0];
+            remainders[i] = divided[1].longValue();
+            allocated = allocated.add(divided[0]);
+        }
+        // 端数の合計は配分先の数未満のためintに収まる
+        int leftover = magnitude.subtract(allocated).intValueExact();
+        int[] order = largestRemainders(remainders, weights.length, leftover);
+        for (int j = 0; j < leftover; j++) {
+            quotients[order[j]] = quotients[order[j]].add(BigInteger.ONE);
+        }
+        for (int i = 0; i < weights.length; i++) {
+            BigInteger value = negative ? quotients[i].negate() : quotients[i];
+            out[i] = value.compareTo(LONG_MIN) >= 0 && value.compareTo(LONG_MAX) <= 0
+                    ? Money.ofMinorUnits(value.longValue())
+                    : Money.of(new BigDecimal(value, Money.DEFAULT_SCALE));
+        }
+    }
+
+    private static void distributeLeftover(long leftover, long[] remainders, long[] quotients, int size) {
+        if (leftover == 0L) {
+            return;
+        }
+        int count = (int) leftover;
+        int[] order = largestRemainders(remainders, size, count);
+        for (int j = 0; j < count; j++) {
+            quotients[order[j]]++;
+        }
+    }
+
+    /**
+     * 剰余の大きい順（同じ場合はインデックスの小さい順）に先頭count件のインデックスを返す。
+     * ヒープで選択するため O(size + count × log size)。
+     */
+    private static int[] largestRemainders(long[] remainders, int size, int count) {
+        int[] heap = new int[size];
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(heap, i, size, remainders);
+        }
+        int[] selected = new int[count];
+        int heapSize = size;
+        for (int j = 0; j < count; j++) {
+            selected[j] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, 0, heapSize, remainders);
+        }
+        return selected;
+    }
+
+    private static void siftDown(int[] heap, int index, int heapSize, long[] remainders) {
+        int current = index;
+        while (true) {
+            int largest = current;
+            int left = 2 * current + 1;
+            int right = left + 1;
+            if (left < heapSize && precedes(heap[left], heap[largest], remainders)) {
+                largest = left;
+            }
+            if (right < heapSize && precedes(heap[right], heap[largest], remainders)) {
+                largest = right;
+            }
+            if (largest == current) {
+                return;
+            }
+            int tmp = heap[current];
+            heap[current] = heap[largest];
+            heap[largest] = tmp;
+            current = largest;
+        }
+    }
+
+    private static boolean precedes(int a, int b, long[] remainders) {
+        return remainders[a] > remainders[b] || (remainders[a] == remainders[b] && a < b);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import org.hibernate.Hibernate;
+
+/**
+ * 未初期化の遅延ロード項目をJSON出力から除外するフィルタ
+ *
+ * {@code @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UninitializedLazyValueFilter.class)}
+ * として関連コレクションに付与する。一覧取得のようにエンティティグラフで取得していない関連は、
+ * シリアライズ時に遅延ロード（1行ごとの追加クエリ）を起こさず出力しない。
+ *
+ * jackson-datatype-hibernate6 の Hibernate6Module はObjectMapper全体に作用し、Facility.sharePies や
+ * Drawdown.amountPies など、表示時の遅延ロードを前提にしている関連までnullで出力するため、
+ * 対象の関連にのみ付与するこのフィルタを使用する。
+ */
+public class UninitializedLazyValueFilter {
+
+    /**
+     * Jacksonは {@code true} を返した値を出力から除外する
+     */
+    @Override
+    public boolean equals(Object value) {
+        return !Hibernate.isInitialized(value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.syndicatelending.common.statemachine;
+
+/**
+ * 状態遷移の判定エンジンを表すEnum。
+ * 設定値 {@code statemachine.engine} で切り替える。
+ */
+public enum StateMachineEngine {
+    /** 起動時に作成した遷移表（TransitionTable）で判定する（既定） */
+    TABLE,
+
+    /** 遷移ごとにSpring StateMachineを開始・実行・停止して判定する */
+    SPRING
+}
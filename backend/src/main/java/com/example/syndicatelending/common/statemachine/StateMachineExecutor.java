@@ -1,7 +1,6 @@
 package com.example.syndicatelending.common.statemachine;
 
-import org.springframework.statemachine.StateMachine;
-import org.springframework.statemachine.support.DefaultStateMachineContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,7 +12,8 @@ import org.slf4j.LoggerFactory;
  * 統一的なStateMachine実行・作成・管理を提供する。
  * 
  * 主な機能：
- * - エンティティの現在状態に基づくStateMachine作成
+ * - エンティティの現在状態に復元したStateMachineの貸し出し（StateMachinePool）
+ * - 事前計算済みの遷移表（TransitionTable）による判定（statemachine.engine=TABLE）
  * - 統一的な状態遷移実行
  * - エラーハンドリング
  * - ログ出力
@@ -23,12 +23,87 @@ public class StateMachineExecutor {
     
     private static final Logger logger = LoggerFactory.getLogger(StateMachineExecutor.class);
 
+    private final StateMachineEngine engine;
+
+    public StateMachineExecutor(@Value("${statemachine.engine:TABLE}") StateMachineEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * 設定された判定エンジンで状態遷移を実行する
+     * 
+     * TABLEの場合は遷移表を参照するのみでStateMachineは使用しない。
+     * SPRINGの場合は {@link #executeTransition(StateMachinePool, Object, Object, Long, String)} と同じ。
+     * いずれの場合も遷移可否の判定結果は同一となる。
+     * 
+     * @param <S> 状態の型
+     * @param <E> イベントの型
+     * @param stateMachinePool StateMachineの貸し出し元（SPRING時に使用）
+     * @param transitionTable 遷移表（TABLE時に使用）
+     * @param currentState エンティティの現在状態
+     * @param event 発火するイベント
+     * @param entityId エンティティID（ログ用）
+     * @param entityType エンティティタイプ（ログ用）
+     * @return 遷移成功時 true
+     */
+    public <S extends Enum<S>, E extends Enum<E>> boolean executeTransition(
+            StateMachinePool<S, E> stateMachinePool,
+            TransitionTable<S, E> transitionTable,
+            S currentState,
+            E event,
+            Long entityId,
+            String entityType) {
+        return resolveTransition(stateMachinePool, transitionTable, currentState, event, entityId, entityType) != null;
+    }
+
+    /**
+     * 設定された判定エンジンで遷移後の状態を求める
+     * 
+     * TABLEの場合は遷移表を参照し、SPRINGの場合はStateMachineにイベントを送信して遷移後の状態を取得する。
+     * 一括遷移で遷移元の状態ごとに判定する場合に使用する。
+     * 
+     * @param <S> 状態の型
+     * @param <E> イベントの型
+     * @param stateMachinePool StateMachineの貸し出し元（SPRING時に使用）
+     * @param transitionTable 遷移表（TABLE時に使用）
+     * @param currentState 遷移元の状態
+     * @param event 発火するイベント
+     * @param entityId エンティティID（ログ用）
+     * @param entityType エンティティタイプ（ログ用）
+     * @return 遷移後の状態（遷移できない場合は null）
+     */
+    public <S extends Enum<S>, E extends Enum<E>> S resolveTransition(
+            StateMachinePool<S, E> stateMachinePool,
+            TransitionTable<S, E> transitionTable,
+            S currentState,
+            E event,
+            Long entityId,
+            String entityType) {
+        
+        if (engine == StateMachineEngine.SPRING) {
+            return transitionWithStateMachine(stateMachinePool, currentState, event, entityId, entityType);
+        }
+        
+        S newState = transitionTable.targetOf(currentState, event);
+        if (newState != null) {
+            logger.info("{} transition table transition successful: {} -> {} for ID {}", 
+                       entityType, currentState, newState, entityId);
+            return newState;
+        }
+        logger.warn("{} transition table transition failed for ID {}: cannot execute {} from {}", 
+                   entityType, entityId, event, currentState);
+        return null;
+    }
+
     /**
      * 汎用StateMachine実行メソッド
      * 
+     * プールから呼び出しごとに専用のStateMachineを借り、エンティティの現在状態に
+     * 復元してからイベントを送信する。
+     * 
      * @param <S> 状態の型（例：FacilityState, BorrowerState等）
      * @param <E> イベントの型（例：FacilityEvent, BorrowerEvent等）
-     * @param stateMachine 実行するStateMachine
+     * @param stateMachinePool StateMachineの貸し出し元
      * @param currentState エンティティの現在状態
      * @param event 発火するイベント
      * @param entityId エンティティID（ログ用）
@@ -36,7 +111,19 @@ public class StateMachineExecutor {
      * @return 遷移成功時 true
      */
     public <S, E> boolean executeTransition(
-            StateMachine<S, E> stateMachine,
+            StateMachinePool<S, E> stateMachinePool,
+            S currentState,
+            E event,
+            Long entityId,
+            String entityType) {
+        return transitionWithStateMachine(stateMachinePool, currentState, event, entityId, entityType) != null;
+    }
+
+    /**
+     * StateMachineにイベントを送信し、遷移後の状態を返す（遷移できない場合は null）
+     */
+    private <S, E> S transitionWithStateMachine(
+            StateMachinePool<S, E> stateMachinePool,
             S currentState,
             E event,
             Long entityId,
@@ -46,35 +133,24 @@ public class StateMachineExecutor {
             logger.info("Starting {} state machine transition for ID: {}, event: {}, current state: {}", 
                        entityType, entityId, event, currentState);
             
-            // StateMachineを現在のエンティティ状態に設定
-            resetStateMachineToState(stateMachine, currentState);
-            
-            // State Machineを開始
-            stateMachine.start();
-            
-            logger.info("{} state machine started for entity state: {}", 
-                       entityType, stateMachine.getState().getId());
-            
-            // コンテキスト設定
-            stateMachine.getExtendedState().getVariables().put("entityId", entityId);
-            stateMachine.getExtendedState().getVariables().put("entityType", entityType);
-            
-            // イベント送信
-            boolean result = stateMachine.sendEvent(event);
-            
-            if (result) {
-                S newState = stateMachine.getState().getId();
-                logger.info("{} state machine transition successful: {} -> {} for ID {}", 
-                           entityType, currentState, newState, entityId);
-            } else {
+            return stateMachinePool.execute(currentState, stateMachine -> {
+                // コンテキスト設定
+                stateMachine.getExtendedState().getVariables().put("entityId", entityId);
+                stateMachine.getExtendedState().getVariables().put("entityType", entityType);
+                
+                // イベント送信
+                boolean result = StateMachinePool.sendEvent(stateMachine, event);
+                
+                if (result) {
+                    S newState = stateMachine.getState().getId();
+                    logger.info("{} state machine transition successful: {} -> {} for ID {}", 
+                               entityType, currentState, newState, entityId);
+                    return newState;
+                }
                 logger.warn("{} state machine transition failed for ID {}: cannot execute {} from {}", 
                            entityType, entityId, event, currentState);
-            }
-            
-            // State Machine停止
-            stateMachine.stop();
-            
-            return result;
+                return null;
+            });
             
         } catch (Exception e) {
             logger.error("{} state transition failed for ID: {}", entityType, entityId, e);
@@ -83,26 +159,6 @@ public class StateMachineExecutor {
         }
     }
 
-    /**
-     * StateMachineを指定された状態にリセット
-     * 
-     * @param <S> 状態の型
-     * @param <E> イベントの型
-     * @param stateMachine リセットするStateMachine
-     * @param currentState 設定する現在状態
-     */
-    private <S, E> void resetStateMachineToState(StateMachine<S, E> stateMachine, S currentState) {
-        try {
-            stateMachine.getStateMachineAccessor().doWithAllRegions(access -> {
-                access.resetStateMachine(new DefaultStateMachineContext<>(
-                    currentState, null, null, null));
-            });
-        } catch (Exception e) {
-            logger.error("Failed to reset state machine to state: {}", currentState, e);
-            throw new IllegalStateException("Failed to reset state machine", e);
-        }
-    }
-
     /**
      * エンティティの現在状態を検証
      * 
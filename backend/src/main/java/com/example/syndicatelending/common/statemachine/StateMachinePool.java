@@ -0,0 +1,139 @@
+package com.example.syndicatelending.common.statemachine;
+
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.StateMachineEventResult.ResultType;
+import org.springframework.statemachine.support.DefaultStateMachineContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * StateMachineのプール
+ *
+ * 状態遷移ごとにStateMachineを1つ貸し出し、エンティティの永続化済み状態に復元してから
+ * 呼び出し元に渡す。同じインスタンスが複数スレッドで同時に使われることはないため、
+ * 共有シングルトンのStateMachineをリセットして使い回す方式と異なり、
+ * 同時リクエスト間で状態が混ざらず、直列化も発生しない。
+ *
+ * 返却されたStateMachineは最大 {@code maxIdle} 個まで保持して再利用し、
+ * 構築コストを抑える。
+ *
+ * @param <S> 状態の型
+ * @param <E> イベントの型
+ */
+public class StateMachinePool<S, E> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StateMachinePool.class);
+
+    /** 既定の最大保持数 */
+    public static final int DEFAULT_MAX_IDLE = 16;
+
+    /**
+     * StateMachineの生成処理
+     *
+     * @param <S> 状態の型
+     * @param <E> イベントの型
+     */
+    @FunctionalInterface
+    public interface StateMachineSupplier<S, E> {
+        StateMachine<S, E> build() throws Exception;
+    }
+
+    private final String entityType;
+    private final StateMachineSupplier<S, E> supplier;
+    private final int maxIdle;
+    private final ConcurrentLinkedQueue<StateMachine<S, E>> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public StateMachinePool(String entityType, StateMachineSupplier<S, E> supplier) {
+        this(entityType, supplier, DEFAULT_MAX_IDLE);
+    }
+
+    public StateMachinePool(String entityType, StateMachineSupplier<S, E> supplier, int maxIdle) {
+        this.entityType = entityType;
+        this.supplier = supplier;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * 指定状態に復元したStateMachineを貸し出してコールバックを実行する
+     *
+     * StateMachineはコールバック実行前に開始され、実行後に停止してプールへ返却される。
+     *
+     * @param <R> コールバックの戻り値の型
+     * @param currentState エンティティの現在状態
+     * @param callback StateMachineを使う処理
+     * @return コールバックの戻り値
+     */
+    public <R> R execute(S currentState, Function<StateMachine<S, E>, R> callback) {
+        StateMachine<S, E> stateMachine = acquire();
+        try {
+            restore(stateMachine, currentState);
+            stateMachine.startReactively().block();
+            return callback.apply(stateMachine);
+        } finally {
+            stateMachine.stopReactively().block();
+            stateMachine.getExtendedState().getVariables().clear();
+            release(stateMachine);
+        }
+    }
+
+    /**
+     * イベントを送信し、受理されたかどうかを返す
+     *
+     * 非推奨となった {@code StateMachine.sendEvent(E)} と同じ判定を、リアクティブAPIで行う。
+     *
+     * @param <S> 状態の型
+     * @param <E> イベントの型
+     * @param stateMachine 貸し出されたStateMachine
+     * @param event 発火するイベント
+     * @return いずれかのリージョンでイベントが受理された場合 true
+     */
+    public static <S, E> boolean sendEvent(StateMachine<S, E> stateMachine, E event) {
+        Boolean accepted = stateMachine.sendEvent(Mono.just(MessageBuilder.withPayload(event).build()))
+                .any(result -> result.getResultType() == ResultType.ACCEPTED)
+                .block();
+        return Boolean.TRUE.equals(accepted);
+    }
+
+    /**
+     * 現在保持している未使用StateMachineの数
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    private StateMachine<S, E> acquire() {
+        StateMachine<S, E> stateMachine = idle.poll();
+        if (stateMachine != null) {
+            idleCount.decrementAndGet();
+            return stateMachine;
+        }
+        try {
+            logger.debug("Creating new {} state machine", entityType);
+            return supplier.build();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create " + entityType + " state machine", e);
+        }
+    }
+
+    private void release(StateMachine<S, E> stateMachine) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(stateMachine);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    private void restore(StateMachine<S, E> stateMachine, S currentState) {
+        stateMachine.getStateMachineAccessor().doWithAllRegions(access -> {
+            access.resetStateMachineReactively(new DefaultStateMachineContext<>(currentState, null, null, null))
+                    .block();
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.syndicatelending.common.statemachine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+
+/**
+ * 事前計算済みの状態遷移表
+ *
+ * {@code *StateMachineConfig} で定義されたSpring StateMachineを、起動時に
+ * 全ての「状態 × イベント」の組み合わせについて実行し、遷移先を {@link EnumMap} に記録する。
+ * 実行時の判定は表の参照のみで行い、StateMachineの開始・停止やオブジェクト生成を伴わない。
+ *
+ * 前提：ガード条件は現在状態のみに依存すること（既存の全設定が該当する）。
+ * 拡張状態（ExtendedState）の変数を参照するガードは表に正しく反映されない。
+ *
+ * @param <S> 状態の型
+ * @param <E> イベントの型
+ */
+public final class TransitionTable<S extends Enum<S>, E extends Enum<E>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransitionTable.class);
+
+    private final EnumMap<S, EnumMap<E, S>> transitions;
+
+    private TransitionTable(EnumMap<S, EnumMap<E, S>> transitions) {
+        this.transitions = transitions;
+    }
+
+    /**
+     * StateMachineの定義から遷移表を作成する
+     *
+     * @param <S> 状態の型
+     * @param <E> イベントの型
+     * @param stateType 状態のEnumクラス
+     * @param eventType イベントのEnumクラス
+     * @param stateMachinePool 遷移表の元になるStateMachineのプール
+     * @return 遷移表
+     */
+    public static <S extends Enum<S>, E extends Enum<E>> TransitionTable<S, E> compile(
+            Class<S> stateType, Class<E> eventType, StateMachinePool<S, E> stateMachinePool) {
+        EnumMap<S, EnumMap<E, S>> transitions = new EnumMap<>(stateType);
+        for (S source : stateType.getEnumConstants()) {
+            EnumMap<E, S> targets = new EnumMap<>(eventType);
+            for (E event : eventType.getEnumConstants()) {
+                S target = stateMachinePool.execute(source, stateMachine ->
+                        StateMachinePool.sendEvent(stateMachine, event) ? stateMachine.getState().getId() : null);
+                if (target != null) {
+                    targets.put(event, target);
+                    logger.debug("Compiled {} transition: {} --{}--> {}",
+                            stateType.getSimpleName(), source, event, target);
+                }
+            }
+            transitions.put(source, targets);
+        }
+        return new TransitionTable<>(transitions);
+    }
+
+    /**
+     * 遷移可能かどうかを判定する
+     *
+     * @param currentState 現在状態
+     * @param event 発火するイベント
+     * @return 遷移可能な場合 true
+     */
+    public boolean canTransition(S currentState, E event) {
+        return targetOf(currentState, event) != null;
+    }
+
+    /**
+     * 遷移先の状態を取得する
+     *
+     * @param currentState 現在状態
+     * @param event 発火するイベント
+     * @return 遷移先の状態（遷移できない場合 null）
+     */
+    public S targetOf(S currentState, E event) {
+        EnumMap<E, S> targets = transitions.get(currentState);
+        return targets != null ? targets.get(event) : null;
+    }
+
+    /**
+     * 指定状態がイベントによる遷移先かどうかを判定する（遷移済みの判定用）
+     *
+     * @param state 状態
+     * @param event イベント
+     * @return いずれかの状態からイベントで遷移した先が指定状態の場合 true
+     */
+    public boolean isTargetOf(S state, E event) {
+        for (EnumMap<E, S> targets : transitions.values()) {
+            if (targets.get(event) == state) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.syndicatelending.common.statemachine.events;
 
 import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Facility削除イベント
@@ -12,29 +17,51 @@ import java.time.LocalDateTime;
  * - Borrower: RESTRICTED → ACTIVE
  * - Investor: RESTRICTED → ACTIVE
  * 
- * このイベントはSpring Eventsメカニズムを通じて
- * 関連するイベントハンドラーに配信される。
+ * このイベントは発行トランザクション内でアウトボックスに記録され、
+ * コミット後に OutboxDispatcher から非同期に配信される。
+ * 非同期配信時にはFacilityが削除済みの場合もあるため、エンティティではなくIDを保持する。
  */
 public class FacilityDeletedEvent {
     
-    private final Facility facility;
+    private final Long facilityId;
+    private final Long syndicateId;
+    private final List<Long> investorIds;
     private final LocalDateTime occurredAt;
     
     public FacilityDeletedEvent(Facility facility) {
-        this.facility = facility;
-        this.occurredAt = LocalDateTime.now();
+        this(facility.getId(), facility.getSyndicateId(),
+             facility.getSharePies() == null ? List.of() : facility.getSharePies().stream()
+                 .map(SharePie::getInvestorId)
+                 .distinct()
+                 .toList(),
+             LocalDateTime.now());
     }
     
-    public Facility getFacility() {
-        return facility;
+    @JsonCreator
+    public FacilityDeletedEvent(
+            @JsonProperty("facilityId") Long facilityId,
+            @JsonProperty("syndicateId") Long syndicateId,
+            @JsonProperty("investorIds") List<Long> investorIds,
+            @JsonProperty("occurredAt") LocalDateTime occurredAt) {
+        this.facilityId = facilityId;
+        this.syndicateId = syndicateId;
+        this.investorIds = investorIds == null ? List.of() : List.copyOf(investorIds);
+        this.occurredAt = occurredAt;
     }
     
     public Long getFacilityId() {
-        return facility.getId();
+        return facilityId;
     }
     
     public Long getSyndicateId() {
-        return facility.getSyndicateId();
+        return syndicateId;
+    }
+    
+    /**
+     * SharePieの投資家IDリスト（イベント発行時点）
+     */
+    public List<Long> getInvestorIds() {
+        return investorIds;
     }
     
     public LocalDateTime getOccurredAt() {
@@ -44,8 +71,9 @@ public class FacilityDeletedEvent {
     @Override
     public String toString() {
         return "FacilityDeletedEvent{" +
-                "facilityId=" + facility.getId() +
-                ", syndicateId=" + facility.getSyndicateId() +
+                "facilityId=" + facilityId +
+                ", syndicateId=" + syndicateId +
+                ", investorIds=" + investorIds +
                 ", occurredAt=" + occurredAt +
                 '}';
     }
@@ -1,5 +1,9 @@
 package com.example.syndicatelending.common.statemachine.events;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Payment取り消し時に発行されるドメインイベント
  * 
@@ -44,7 +48,12 @@ public class PaymentCancelledEvent {
      * @param facilityId 取り消された支払いが関連するFacilityのID
      * @param paymentDetailId PaymentDetailのID（任意）
      */
-    public PaymentCancelledEvent(Long loanId, Long paymentId, Long facilityId, Long paymentDetailId) {
+    @JsonCreator
+    public PaymentCancelledEvent(
+            @JsonProperty("loanId") Long loanId,
+            @JsonProperty("paymentId") Long paymentId,
+            @JsonProperty("facilityId") Long facilityId,
+            @JsonProperty("paymentDetailId") Long paymentDetailId) {
         this.loanId = loanId;
         this.paymentId = paymentId;
         this.facilityId = facilityId;
@@ -72,6 +81,7 @@ public class PaymentCancelledEvent {
      * 
      * @return PaymentDetail基づく支払いの取り消しの場合true
      */
+    @JsonIgnore
     public boolean isScheduledPaymentCancellation() {
         return paymentDetailId != null;
     }
@@ -1,5 +1,9 @@
 package com.example.syndicatelending.common.statemachine.events;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Payment作成時に発行されるドメインイベント
  * 
@@ -44,7 +48,12 @@ public class PaymentCreatedEvent {
      * @param facilityId 支払いが関連するFacilityのID
      * @param paymentDetailId PaymentDetailのID（任意）
      */
-    public PaymentCreatedEvent(Long loanId, Long paymentId, Long facilityId, Long paymentDetailId) {
+    @JsonCreator
+    public PaymentCreatedEvent(
+            @JsonProperty("loanId") Long loanId,
+            @JsonProperty("paymentId") Long paymentId,
+            @JsonProperty("facilityId") Long facilityId,
+            @JsonProperty("paymentDetailId") Long paymentDetailId) {
         this.loanId = loanId;
         this.paymentId = paymentId;
         this.facilityId = facilityId;
@@ -72,6 +81,7 @@ public class PaymentCreatedEvent {
      * 
      * @return PaymentDetail基づく支払いの場合true
      */
+    @JsonIgnore
     public boolean isScheduledPayment() {
         return paymentDetailId != null;
     }
@@ -1,5 +1,7 @@
 package com.example.syndicatelending.common.statemachine.facility;
 
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.statemachine.config.StateMachineConfigurerAdapter;
@@ -116,13 +118,36 @@ public class FacilityStateMachineConfig extends StateMachineConfigurerAdapter<Fa
     }
 
     /**
-     * FacilityStateMachineのBean定義
+     * Facility用StateMachineプールのBean定義
      * 
-     * @return 設定済みのStateMachineインスタンス
+     * 状態遷移ごとに専用のStateMachineを貸し出す（シングルトンのStateMachineは共有しない）。
+     * 
+     * @return FacilityのStateMachineプール
+     */
+    @Bean("facilityStateMachinePool")
+    public StateMachinePool<FacilityState, FacilityEvent> facilityStateMachinePool() {
+        return new StateMachinePool<>("Facility", this::buildFacilityStateMachine);
+    }
+
+    /**
+     * Facility用遷移表のBean定義
+     * 
+     * 起動時にFacilityのStateMachine定義から作成する。
+     * 
+     * @return Facilityの遷移表
+     */
+    @Bean("facilityTransitionTable")
+    public TransitionTable<FacilityState, FacilityEvent> facilityTransitionTable() {
+        return TransitionTable.compile(FacilityState.class, FacilityEvent.class, facilityStateMachinePool());
+    }
+
+    /**
+     * Facility用StateMachineの生成
+     * 
+     * @return FacilityのStateMachine
      * @throws Exception 設定エラー時
      */
-    @Bean(name = "facilityStateMachine")
-    public StateMachine<FacilityState, FacilityEvent> facilityStateMachine() throws Exception {
+    private StateMachine<FacilityState, FacilityEvent> buildFacilityStateMachine() throws Exception {
         StateMachineBuilder.Builder<FacilityState, FacilityEvent> builder = StateMachineBuilder.builder();
         
         builder.configureStates()
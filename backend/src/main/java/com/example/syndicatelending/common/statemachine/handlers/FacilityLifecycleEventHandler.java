@@ -5,18 +5,16 @@ import com.example.syndicatelending.common.statemachine.events.FacilityDeletedEv
 import com.example.syndicatelending.common.statemachine.managers.SyndicateStateManager;
 import com.example.syndicatelending.common.statemachine.managers.BorrowerStateManager;
 import com.example.syndicatelending.common.statemachine.managers.InvestorStateManager;
-import com.example.syndicatelending.facility.entity.Facility;
-import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.common.statemachine.party.InvestorEvent;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
 import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Facilityライフサイクルイベントハンドラー
@@ -31,6 +29,10 @@ import java.util.stream.Collectors;
  * このハンドラーは、既存のEntityStateServiceの
  * onFacilityCreated/onFacilityDeleted メソッドを
  * イベント軸で分割・再実装したものです。
+ * 
+ * イベントはアウトボックスに記録され、OutboxDispatcher によって
+ * 発行元トランザクションのコミット後に非同期で配信される。
+ * 再配信に備え、遷移済みのエンティティはスキップされる（冪等）。
  */
 @Component
 @Transactional
@@ -64,16 +66,13 @@ public class FacilityLifecycleEventHandler {
      * 
      * @param event Facility作成イベント
      */
-    @EventListener
     public void handleFacilityCreated(FacilityCreatedEvent event) {
         logger.info("Handling FacilityCreatedEvent for facility ID: {}", event.getFacilityId());
         
         try {
-            Facility facility = event.getFacility();
-            
             // Syndicateから関連エンティティを取得
-            Syndicate syndicate = syndicateRepository.findById(facility.getSyndicateId())
-                .orElseThrow(() -> new IllegalStateException("Syndicate not found: " + facility.getSyndicateId()));
+            Syndicate syndicate = syndicateRepository.findById(event.getSyndicateId())
+                .orElseThrow(() -> new IllegalStateException("Syndicate not found: " + event.getSyndicateId()));
             
             // 1. Syndicate状態遷移（DRAFT → ACTIVE）
             syndicateStateManager.transitionToActive(syndicate.getId());
@@ -82,10 +81,8 @@ public class FacilityLifecycleEventHandler {
             borrowerStateManager.transitionToRestricted(syndicate.getBorrowerId());
             
             // 3. 関連Investor状態遷移（ACTIVE → RESTRICTED）
-            List<Long> investorIds = getInvestorIdsFromFacility(facility, syndicate);
-            for (Long investorId : investorIds) {
-                investorStateManager.transitionToRestricted(investorId);
-            }
+            List<Long> investorIds = getInvestorIds(event.getFacilityId(), event.getInvestorIds(), syndicate);
+            investorStateManager.transitionAll(investorIds, InvestorEvent.FACILITY_PARTICIPATION);
             
             logger.info("Successfully processed FacilityCreatedEvent for facility ID: {}", event.getFacilityId());
             
@@ -106,16 +103,13 @@ public class FacilityLifecycleEventHandler {
      * 
      * @param event Facility削除イベント
      */
-    @EventListener
     public void handleFacilityDeleted(FacilityDeletedEvent event) {
         logger.info("Handling FacilityDeletedEvent for facility ID: {}", event.getFacilityId());
         
         try {
-            Facility facility = event.getFacility();
-            
             // Syndicateから関連エンティティを取得
-            Syndicate syndicate = syndicateRepository.findById(facility.getSyndicateId())
-                .orElseThrow(() -> new IllegalStateException("Syndicate not found: " + facility.getSyndicateId()));
+            Syndicate syndicate = syndicateRepository.findById(event.getSyndicateId())
+                .orElseThrow(() -> new IllegalStateException("Syndicate not found: " + event.getSyndicateId()));
             
             // 1. Syndicate状態復旧（ACTIVE → DRAFT）
             syndicateStateManager.transitionToDraft(syndicate.getId());
@@ -124,10 +118,8 @@ public class FacilityLifecycleEventHandler {
             borrowerStateManager.transitionToActive(syndicate.getBorrowerId());
             
             // 3. 関連Investor状態復旧（RESTRICTED → ACTIVE）
-            List<Long> investorIds = getInvestorIdsFromFacility(facility, syndicate);
-            for (Long investorId : investorIds) {
-                investorStateManager.transitionToActive(investorId);
-            }
+            List<Long> investorIds = getInvestorIds(event.getFacilityId(), event.getInvestorIds(), syndicate);
+            investorStateManager.transitionAll(investorIds, InvestorEvent.FACILITY_DELETED);
             
             logger.info("Successfully processed FacilityDeletedEvent for facility ID: {}", event.getFacilityId());
             
@@ -139,21 +131,18 @@ public class FacilityLifecycleEventHandler {
     }
     
     /**
-     * FacilityのSharePieからInvestor IDリストを取得
+     * イベントのSharePie投資家IDからInvestor IDリストを取得
      * 
      * 既存のEntityStateServiceの実装を踏襲し、
      * LeadBankとSharePieの投資家IDを両方含めて返す
      * 
-     * @param facility Facilityエンティティ
+     * @param facilityId Facility ID（ログ用）
+     * @param sharePieInvestorIds イベント発行時点のSharePie投資家IDリスト
      * @param syndicate Syndicateエンティティ
      * @return Investor IDのリスト（LeadBank含む）
      */
-    private List<Long> getInvestorIdsFromFacility(Facility facility, Syndicate syndicate) {
-        // SharePieからInvestor IDを取得
-        List<Long> investorIds = facility.getSharePies().stream()
-            .map(SharePie::getInvestorId)
-            .distinct()
-            .collect(Collectors.toList());
+    private List<Long> getInvestorIds(Long facilityId, List<Long> sharePieInvestorIds, Syndicate syndicate) {
+        List<Long> investorIds = new ArrayList<>(sharePieInvestorIds);
         
         // LeadBank IDを追加（重複を避けるため、まず存在チェック）
         if (syndicate.getLeadBankId() != null && !investorIds.contains(syndicate.getLeadBankId())) {
@@ -161,7 +150,7 @@ public class FacilityLifecycleEventHandler {
         }
         
         logger.debug("Extracted {} investor IDs from facility ID: {}", 
-                    investorIds.size(), facility.getId());
+                    investorIds.size(), facilityId);
         
         return investorIds;
     }
@@ -4,7 +4,6 @@ import com.example.syndicatelending.common.statemachine.events.PaymentCreatedEve
 import com.example.syndicatelending.common.statemachine.events.PaymentCancelledEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
@@ -14,6 +13,9 @@ import org.springframework.stereotype.Component;
  * 現在の実装では、Drawdownの保護はDrawdownService内で直接チェックしているため、
  * このハンドラーは主にログ記録と将来的な拡張のための基盤として機能する。
  * 
+ * イベントはアウトボックスに記録され、OutboxDispatcher によって
+ * 発行元トランザクションのコミット後に非同期で配信される。
+ * 
  * 将来的な拡張例：
  * - Loanの状態更新
  * - 通知システムとの連携
@@ -30,7 +32,6 @@ public class PaymentLifecycleEventHandler {
      * 
      * @param event PaymentCreatedEvent
      */
-    @EventListener
     public void handlePaymentCreated(PaymentCreatedEvent event) {
         logger.info("Payment created event received: loanId={}, paymentId={}, facilityId={}, isScheduled={}", 
                    event.getLoanId(), event.getPaymentId(), event.getFacilityId(), event.isScheduledPayment());
@@ -63,7 +64,6 @@ public class PaymentLifecycleEventHandler {
      * 
      * @param event PaymentCancelledEvent
      */
-    @EventListener
     public void handlePaymentCancelled(PaymentCancelledEvent event) {
         logger.info("Payment cancelled event received: loanId={}, paymentId={}, facilityId={}, isScheduled={}", 
                    event.getLoanId(), event.getPaymentId(), event.getFacilityId(), event.isScheduledPaymentCancellation());
@@ -1,5 +1,7 @@
 package com.example.syndicatelending.common.statemachine.loan;
 
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.statemachine.StateMachine;
@@ -18,13 +20,36 @@ import java.util.EnumSet;
 public class LoanStateMachineConfig {
 
     /**
-     * Loan用State Machine Bean
+     * Loan用StateMachineプールのBean定義
+     * 
+     * 状態遷移ごとに専用のStateMachineを貸し出す（シングルトンのStateMachineは共有しない）。
+     * 
+     * @return LoanのStateMachineプール
+     */
+    @Bean("loanStateMachinePool")
+    public StateMachinePool<LoanState, LoanEvent> loanStateMachinePool() {
+        return new StateMachinePool<>("Loan", this::buildLoanStateMachine);
+    }
+
+    /**
+     * Loan用遷移表のBean定義
+     * 
+     * 起動時にLoanのStateMachine定義から作成する。
+     * 
+     * @return Loanの遷移表
+     */
+    @Bean("loanTransitionTable")
+    public TransitionTable<LoanState, LoanEvent> loanTransitionTable() {
+        return TransitionTable.compile(LoanState.class, LoanEvent.class, loanStateMachinePool());
+    }
+
+    /**
+     * Loan用StateMachineの生成
      * 
      * @return LoanのStateMachine
      * @throws Exception 設定エラー時
      */
-    @Bean("loanStateMachine")
-    public StateMachine<LoanState, LoanEvent> loanStateMachine() throws Exception {
+    private StateMachine<LoanState, LoanEvent> buildLoanStateMachine() throws Exception {
         StateMachineBuilder.Builder<LoanState, LoanEvent> builder = 
             StateMachineBuilder.builder();
 
@@ -1,12 +1,12 @@
 package com.example.syndicatelending.common.statemachine.managers;
 
 import com.example.syndicatelending.common.statemachine.StateMachineExecutor;
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import com.example.syndicatelending.common.statemachine.party.BorrowerState;
 import com.example.syndicatelending.common.statemachine.party.BorrowerEvent;
 import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
@@ -29,15 +29,18 @@ public class BorrowerStateManager {
     
     private final BorrowerRepository borrowerRepository;
     private final StateMachineExecutor stateMachineExecutor;
-    private final StateMachine<BorrowerState, BorrowerEvent> borrowerStateMachine;
+    private final StateMachinePool<BorrowerState, BorrowerEvent> borrowerStateMachinePool;
+    private final TransitionTable<BorrowerState, BorrowerEvent> borrowerTransitionTable;
     
     public BorrowerStateManager(
             BorrowerRepository borrowerRepository,
             StateMachineExecutor stateMachineExecutor,
-            @Qualifier("borrowerStateMachine") StateMachine<BorrowerState, BorrowerEvent> borrowerStateMachine) {
+            StateMachinePool<BorrowerState, BorrowerEvent> borrowerStateMachinePool,
+            TransitionTable<BorrowerState, BorrowerEvent> borrowerTransitionTable) {
         this.borrowerRepository = borrowerRepository;
         this.stateMachineExecutor = stateMachineExecutor;
-        this.borrowerStateMachine = borrowerStateMachine;
+        this.borrowerStateMachinePool = borrowerStateMachinePool;
+        this.borrowerTransitionTable = borrowerTransitionTable;
     }
     
     /**
@@ -62,7 +65,8 @@ public class BorrowerStateManager {
         
         // 状態遷移実行
         boolean success = stateMachineExecutor.executeTransition(
-            borrowerStateMachine,
+            borrowerStateMachinePool,
+            borrowerTransitionTable,
             borrower.getStatus(),
             BorrowerEvent.FACILITY_PARTICIPATION,
             borrowerId,
@@ -104,7 +108,8 @@ public class BorrowerStateManager {
         
         // 状態遷移実行
         boolean success = stateMachineExecutor.executeTransition(
-            borrowerStateMachine,
+            borrowerStateMachinePool,
+            borrowerTransitionTable,
             borrower.getStatus(),
             BorrowerEvent.FACILITY_DELETED,
             borrowerId,
@@ -1,13 +1,14 @@
 package com.example.syndicatelending.common.statemachine.managers;
 
 import com.example.syndicatelending.common.statemachine.StateMachineExecutor;
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import com.example.syndicatelending.common.statemachine.facility.FacilityState;
 import com.example.syndicatelending.common.statemachine.facility.FacilityEvent;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.service.SharePieSnapshotRegistry;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
@@ -31,15 +32,21 @@ public class FacilityStateManager {
     
     private final FacilityRepository facilityRepository;
     private final StateMachineExecutor stateMachineExecutor;
-    private final StateMachine<FacilityState, FacilityEvent> facilityStateMachine;
+    private final StateMachinePool<FacilityState, FacilityEvent> facilityStateMachinePool;
+    private final TransitionTable<FacilityState, FacilityEvent> facilityTransitionTable;
+    private final SharePieSnapshotRegistry sharePieSnapshotRegistry;
     
     public FacilityStateManager(
             FacilityRepository facilityRepository,
             StateMachineExecutor stateMachineExecutor,
-            @Qualifier("facilityStateMachine") StateMachine<FacilityState, FacilityEvent> facilityStateMachine) {
+            StateMachinePool<FacilityState, FacilityEvent> facilityStateMachinePool,
+            TransitionTable<FacilityState, FacilityEvent> facilityTransitionTable,
+            SharePieSnapshotRegistry sharePieSnapshotRegistry) {
         this.facilityRepository = facilityRepository;
         this.stateMachineExecutor = stateMachineExecutor;
-        this.facilityStateMachine = facilityStateMachine;
+        this.facilityStateMachinePool = facilityStateMachinePool;
+        this.facilityTransitionTable = facilityTransitionTable;
+        this.sharePieSnapshotRegistry = sharePieSnapshotRegistry;
     }
     
     /**
@@ -65,7 +72,8 @@ public class FacilityStateManager {
         
         // 状態遷移実行
         boolean success = stateMachineExecutor.executeTransition(
-            facilityStateMachine,
+            facilityStateMachinePool,
+            facilityTransitionTable,
             facility.getStatus(),
             FacilityEvent.DRAWDOWN_EXECUTED,
             facilityId,
@@ -76,6 +84,8 @@ public class FacilityStateManager {
             // エンティティ状態更新
             facility.setStatus(FacilityState.ACTIVE);
             facilityRepository.save(facility);
+            // SharePieが確定したため、按分用のスナップショットを作成
+            sharePieSnapshotRegistry.register(facility);
             
             stateMachineExecutor.logTransitionSuccess(
                 facilityId, "Facility", "DRAFT", "FIXED");
@@ -109,7 +119,8 @@ public class FacilityStateManager {
         
         // 状態遷移実行
         boolean success = stateMachineExecutor.executeTransition(
-            facilityStateMachine,
+            facilityStateMachinePool,
+            facilityTransitionTable,
             facility.getStatus(),
             FacilityEvent.REVERT_TO_DRAFT,
             facilityId,
@@ -120,6 +131,7 @@ public class FacilityStateManager {
             // エンティティ状態更新
             facility.setStatus(FacilityState.DRAFT);
             facilityRepository.save(facility);
+            sharePieSnapshotRegistry.remove(facility);
             
             stateMachineExecutor.logTransitionSuccess(
                 facilityId, "Facility", "FIXED", "DRAFT");
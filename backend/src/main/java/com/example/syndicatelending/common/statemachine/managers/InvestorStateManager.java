@@ -1,17 +1,26 @@
 package com.example.syndicatelending.common.statemachine.managers;
 
 import com.example.syndicatelending.common.statemachine.StateMachineExecutor;
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import com.example.syndicatelending.common.statemachine.party.InvestorState;
 import com.example.syndicatelending.common.statemachine.party.InvestorEvent;
 import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.repository.InvestorRepository;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Investor専用状態管理クラス
  * 
@@ -19,6 +28,7 @@ import org.slf4j.LoggerFactory;
  * 主な責務：
  * - DRAFT → ACTIVE 状態遷移（Facility作成時）
  * - ACTIVE → COMPLETED 状態遷移（Facility削除時）
+ * - 複数Investorの一括状態遷移（transitionAll）
  * - StateMachine制約の活用
  */
 @Component
@@ -29,15 +39,18 @@ public class InvestorStateManager {
     
     private final InvestorRepository investorRepository;
     private final StateMachineExecutor stateMachineExecutor;
-    private final StateMachine<InvestorState, InvestorEvent> investorStateMachine;
+    private final StateMachinePool<InvestorState, InvestorEvent> investorStateMachinePool;
+    private final TransitionTable<InvestorState, InvestorEvent> investorTransitionTable;
     
     public InvestorStateManager(
             InvestorRepository investorRepository,
             StateMachineExecutor stateMachineExecutor,
-            @Qualifier("investorStateMachine") StateMachine<InvestorState, InvestorEvent> investorStateMachine) {
+            StateMachinePool<InvestorState, InvestorEvent> investorStateMachinePool,
+            TransitionTable<InvestorState, InvestorEvent> investorTransitionTable) {
         this.investorRepository = investorRepository;
         this.stateMachineExecutor = stateMachineExecutor;
-        this.investorStateMachine = investorStateMachine;
+        this.investorStateMachinePool = investorStateMachinePool;
+        this.investorTransitionTable = investorTransitionTable;
     }
     
     /**
@@ -62,7 +75,8 @@ public class InvestorStateManager {
         
         // 状態遷移実行
         boolean success = stateMachineExecutor.executeTransition(
-            investorStateMachine,
+            investorStateMachinePool,
+            investorTransitionTable,
             investor.getStatus(),
             InvestorEvent.FACILITY_PARTICIPATION,
             investorId,
@@ -104,7 +118,8 @@ public class InvestorStateManager {
         
         // 状態遷移実行
         boolean success = stateMachineExecutor.executeTransition(
-            investorStateMachine,
+            investorStateMachinePool,
+            investorTransitionTable,
             investor.getStatus(),
             InvestorEvent.FACILITY_DELETED,
             investorId,
@@ -124,6 +139,79 @@ public class InvestorStateManager {
         }
     }
     
+    /**
+     * 複数Investorを一括で状態遷移
+     * 
+     * 全Investorを1クエリで取得し、現在の状態ごとに1回だけ設定された判定エンジン
+     * （statemachine.engine）で遷移可否と遷移先を判定した上で、遷移元の状態ごとに1回の一括UPDATEで状態を更新する。
+     * 遷移済みのInvestorはスキップし、遷移できないInvestorは警告ログのみ出力する
+     * （transitionToRestricted / transitionToActive と同じ扱い）。
+     * 
+     * 一括UPDATEの実行後は永続化コンテキストがクリアされる。
+     * 
+     * @param investorIds Investor IDのリスト
+     * @param event 発火するイベント
+     * @return 状態を更新したInvestor数
+     */
+    public int transitionAll(Collection<Long> investorIds, InvestorEvent event) {
+        Set<Long> ids = new LinkedHashSet<>(investorIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        logger.info("Starting bulk Investor state transition with {} for {} investors", event, ids.size());
+        
+        List<Investor> investors = investorRepository.findAllById(ids);
+        if (investors.size() != ids.size()) {
+            for (Investor investor : investors) {
+                ids.remove(investor.getId());
+            }
+            throw new IllegalStateException("Investor not found: " + ids.iterator().next());
+        }
+        
+        // 現在の状態ごとに対象IDをまとめる
+        Map<InvestorState, List<Long>> idsByState = new EnumMap<>(InvestorState.class);
+        for (Investor investor : investors) {
+            stateMachineExecutor.validateCurrentState(investor.getStatus(), investor.getId(), "Investor");
+            idsByState.computeIfAbsent(investor.getStatus(), state -> new ArrayList<>()).add(investor.getId());
+        }
+        
+        // 状態ごとに遷移先を判定する（判定結果は同じ状態のInvestorで共通）
+        Map<InvestorState, InvestorState> targets = new EnumMap<>(InvestorState.class);
+        for (Map.Entry<InvestorState, List<Long>> entry : idsByState.entrySet()) {
+            InvestorState current = entry.getKey();
+            InvestorState target = stateMachineExecutor.resolveTransition(
+                investorStateMachinePool, investorTransitionTable, current, event, entry.getValue().get(0), "Investor");
+            if (target != null) {
+                targets.put(current, target);
+            } else if (investorTransitionTable.isTargetOf(current, event)) {
+                logger.info("Investor IDs {} are already in {} state, skipping transition", 
+                           entry.getValue(), current);
+            } else {
+                for (Long investorId : entry.getValue()) {
+                    stateMachineExecutor.logTransitionFailure(investorId, "Investor", current, event);
+                }
+            }
+        }
+        
+        // 遷移元の状態ごとに一括UPDATE
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<InvestorState, InvestorState> entry : targets.entrySet()) {
+            InvestorState source = entry.getKey();
+            InvestorState target = entry.getValue();
+            List<Long> sourceIds = idsByState.get(source);
+            int count = investorRepository.updateStatus(sourceIds, source, target, now);
+            if (count != sourceIds.size()) {
+                logger.warn("Bulk Investor transition {} -> {} updated {} of {} investors (concurrent modification)", 
+                           source, target, count, sourceIds.size());
+            }
+            updated += count;
+        }
+        
+        logger.info("Bulk Investor state transition with {} completed: {} updated", event, updated);
+        return updated;
+    }
+    
     /**
      * Investorの現在状態を取得
      * 
@@ -1,12 +1,12 @@
 package com.example.syndicatelending.common.statemachine.managers;
 
 import com.example.syndicatelending.common.statemachine.StateMachineExecutor;
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import com.example.syndicatelending.common.statemachine.syndicate.SyndicateState;
 import com.example.syndicatelending.common.statemachine.syndicate.SyndicateEvent;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
 import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
@@ -29,15 +29,18 @@ public class SyndicateStateManager {
     
     private final SyndicateRepository syndicateRepository;
     private final StateMachineExecutor stateMachineExecutor;
-    private final StateMachine<SyndicateState, SyndicateEvent> syndicateStateMachine;
+    private final StateMachinePool<SyndicateState, SyndicateEvent> syndicateStateMachinePool;
+    private final TransitionTable<SyndicateState, SyndicateEvent> syndicateTransitionTable;
     
     public SyndicateStateManager(
             SyndicateRepository syndicateRepository,
             StateMachineExecutor stateMachineExecutor,
-            @Qualifier("syndicateStateMachine") StateMachine<SyndicateState, SyndicateEvent> syndicateStateMachine) {
+            StateMachinePool<SyndicateState, SyndicateEvent> syndicateStateMachinePool,
+            TransitionTable<SyndicateState, SyndicateEvent> syndicateTransitionTable) {
         this.syndicateRepository = syndicateRepository;
         this.stateMachineExecutor = stateMachineExecutor;
-        this.syndicateStateMachine = syndicateStateMachine;
+        this.syndicateStateMachinePool = syndicateStateMachinePool;
+        this.syndicateTransitionTable = syndicateTransitionTable;
     }
     
     /**
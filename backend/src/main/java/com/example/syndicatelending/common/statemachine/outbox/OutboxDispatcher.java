@@ -0,0 +1,210 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+import com.example.syndicatelending.common.statemachine.events.FacilityCreatedEvent;
+import com.example.syndicatelending.common.statemachine.events.FacilityDeletedEvent;
+import com.example.syndicatelending.common.statemachine.events.PaymentCancelledEvent;
+import com.example.syndicatelending.common.statemachine.events.PaymentCreatedEvent;
+import com.example.syndicatelending.common.statemachine.handlers.FacilityLifecycleEventHandler;
+import com.example.syndicatelending.common.statemachine.handlers.PaymentLifecycleEventHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * アウトボックスイベントのディスパッチャー
+ *
+ * outbox_event の未配信イベントを記録順に取り出し、専用のバックグラウンドスレッドで
+ * ライフサイクルイベントハンドラーへ配信する。
+ *
+ * 配信保証：
+ * - 1イベントごとに新しいトランザクションで「取得（PENDING→IN_PROGRESS）+ ハンドラー実行 + 配信済み更新」を行う
+ * - 取得は条件付きUPDATEで行い、更新できたトランザクションのみが配信する。取得した行は配信の終了までロックされるため、
+ *   他のスレッド・インスタンスのディスパッチャーは同じイベントを同時に配信しない
+ * - 失敗した場合はロールバック（取得もPENDINGに戻る）して試行回数を記録し、次回のポーリングで再配信する（at-least-once）
+ * - 既に配信済みのイベントは再配信せず、試行回数も記録しない
+ * - 各ハンドラーは遷移済みの状態をスキップするため、再配信されても結果は変わらない（冪等）
+ * - 記録順を保つため、配信に失敗した時点でその回の処理を打ち切る
+ *
+ * 配信順序の制約：
+ * - 「記録順」は outbox_event の ID 順であり、コミット順ではない。ID はシーケンスから
+ *   まとめて払い出される（allocationSize=50）ため、記録時点（コミット前）に決まる
+ * - 並行するトランザクションや複数インスタンスでは、小さいIDのイベントが後からコミットされることがある。
+ *   そのイベントは既に大きいIDのイベントを配信した後の回で配信される（失われはしない）
+ * - したがって、異なるトランザクションで記録されたイベント間の配信順は保証しない。
+ *   ハンドラーは現在の状態を見て遷移済みならスキップするため、この順序に依存しない
+ *
+ * 起動契機はコミット直後の {@link #wakeUp()} と、取りこぼし防止の定期ポーリング。
+ * {@code outbox.dispatcher.enabled=false} の場合はどちらも起動せず、{@link #dispatchPending()} の呼び出しでのみ配信する
+ * （テストで配信のタイミングを制御するため）。
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final FacilityLifecycleEventHandler facilityLifecycleEventHandler;
+    private final PaymentLifecycleEventHandler paymentLifecycleEventHandler;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final boolean enabled;
+    private final ExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            FacilityLifecycleEventHandler facilityLifecycleEventHandler,
+            PaymentLifecycleEventHandler paymentLifecycleEventHandler,
+            @Value("${outbox.dispatcher.batch-size:100}") int batchSize,
+            @Value("${outbox.dispatcher.max-attempts:5}") int maxAttempts,
+            @Value("${outbox.dispatcher.enabled:true}") boolean enabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.facilityLifecycleEventHandler = facilityLifecycleEventHandler;
+        this.paymentLifecycleEventHandler = paymentLifecycleEventHandler;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.enabled = enabled;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * バックグラウンドでの配信を要求する
+     *
+     * 既に配信待ちの場合は何もしないため、コミットごとに呼び出しても配信処理は積み上がらない。
+     */
+    public void wakeUp() {
+        if (!enabled || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                scheduled.set(false);
+                try {
+                    dispatchPending();
+                } catch (RuntimeException e) {
+                    logger.error("Outbox dispatch failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            logger.debug("Outbox dispatcher is shut down");
+        }
+    }
+
+    /**
+     * 定期ポーリング（コミット直後の起動を取りこぼした場合や再試行用）
+     */
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * 未配信イベントを記録順に配信する
+     *
+     * @return 配信したイベント数
+     */
+    public synchronized int dispatchPending() {
+        int dispatched = 0;
+        while (true) {
+            List<Long> ids = outboxEventRepository.findIdsByStatus(
+                    OutboxStatus.PENDING, PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                if (!dispatch(id)) {
+                    return dispatched;
+                }
+                dispatched++;
+            }
+            if (ids.size() < batchSize) {
+                return dispatched;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private boolean dispatch(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (outboxEventRepository.compareAndSetStatus(
+                        id, OutboxStatus.PENDING, OutboxStatus.IN_PROGRESS) == 0) {
+                    // 他のディスパッチャーで配信済み
+                    return;
+                }
+                OutboxEvent outboxEvent = outboxEventRepository.findById(id).orElseThrow();
+                deliver(outboxEvent.getEventType(), readPayload(outboxEvent));
+                outboxEvent.markProcessed();
+                outboxEventRepository.save(outboxEvent);
+            });
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to dispatch outbox event {}", id, e);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.findById(id).ifPresent(outboxEvent -> {
+                        outboxEvent.recordFailure(e.toString(), maxAttempts);
+                        outboxEventRepository.save(outboxEvent);
+                        if (outboxEvent.getStatus() == OutboxStatus.FAILED) {
+                            logger.error("Outbox event {} ({}) gave up after {} attempts",
+                                    id, outboxEvent.getEventType(), outboxEvent.getAttempts());
+                        }
+                    }));
+            } catch (OptimisticLockingFailureException conflict) {
+                // 記録の間に他のディスパッチャーが配信した
+                logger.debug("Outbox event {} was updated by another dispatcher", id);
+            }
+            return false;
+        }
+    }
+
+    private Object readPayload(OutboxEvent outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), outboxEvent.getEventType().getEventClass());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize outbox event: " + outboxEvent.getId(), e);
+        }
+    }
+
+    private void deliver(OutboxEventType eventType, Object event) {
+        switch (eventType) {
+            case FACILITY_CREATED ->
+                facilityLifecycleEventHandler.handleFacilityCreated((FacilityCreatedEvent) event);
+            case FACILITY_DELETED ->
+                facilityLifecycleEventHandler.handleFacilityDeleted((FacilityDeletedEvent) event);
+            case PAYMENT_CREATED ->
+                paymentLifecycleEventHandler.handlePaymentCreated((PaymentCreatedEvent) event);
+            case PAYMENT_CANCELLED ->
+                paymentLifecycleEventHandler.handlePaymentCancelled((PaymentCancelledEvent) event);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * トランザクショナル・アウトボックスのイベント
+ *
+ * ライフサイクルイベントを発行元と同じトランザクションで記録し、
+ * コミット後に OutboxDispatcher が非同期に配信する。
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_status_id", columnList = "status, id")
+})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    protected OutboxEvent() {
+    }
+
+    public OutboxEvent(OutboxEventType eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 配信済みにする
+     */
+    public void markProcessed() {
+        this.status = OutboxStatus.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 配信失敗を記録する。最大試行回数に達した場合は FAILED、それ以外は PENDING（再試行待ち）にする。
+     * 未配信（PENDING・IN_PROGRESS）でない場合は、他のディスパッチャーで配信済みのため何もしない。
+     *
+     * @param error 失敗理由
+     * @param maxAttempts 最大試行回数
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        if (this.status != OutboxStatus.PENDING && this.status != OutboxStatus.IN_PROGRESS) {
+            return;
+        }
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.status = this.attempts >= maxAttempts ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+import com.example.syndicatelending.common.statemachine.events.FacilityCreatedEvent;
+import com.example.syndicatelending.common.statemachine.events.FacilityDeletedEvent;
+import com.example.syndicatelending.common.statemachine.events.PaymentCancelledEvent;
+import com.example.syndicatelending.common.statemachine.events.PaymentCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * アウトボックスへのイベント記録
+ *
+ * サービスが発行したライフサイクルイベントを、発行元と同じトランザクションで
+ * outbox_event テーブルに記録する。業務データと記録は同時にコミット・ロールバックされるため、
+ * コミットされた変更のイベントが失われることはない。
+ * コミット後に OutboxDispatcher を起動し、状態伝播をリクエストの処理時間から切り離す。
+ */
+@Component
+public class OutboxEventRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxEventRecorder.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher outboxDispatcher;
+
+    public OutboxEventRecorder(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            OutboxDispatcher outboxDispatcher) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.outboxDispatcher = outboxDispatcher;
+    }
+
+    /**
+     * ライフサイクルイベントをアウトボックスに記録する
+     *
+     * @param event ライフサイクルイベント
+     */
+    @EventListener({
+        FacilityCreatedEvent.class,
+        FacilityDeletedEvent.class,
+        PaymentCreatedEvent.class,
+        PaymentCancelledEvent.class
+    })
+    @Transactional
+    public void record(Object event) {
+        OutboxEventType eventType = OutboxEventType.of(event);
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event: " + event, e);
+        }
+
+        OutboxEvent outboxEvent = outboxEventRepository.save(new OutboxEvent(eventType, payload));
+        logger.debug("Recorded outbox event {} ({}): {}", outboxEvent.getId(), eventType, event);
+
+        // コミット後にディスパッチャーを起動（ロールバック時は何もしない）
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
+    }
+}
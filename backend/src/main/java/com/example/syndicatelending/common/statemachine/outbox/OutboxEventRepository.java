@@ -0,0 +1,35 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * 指定状態のイベントIDを記録順（ID順）に取得する
+     * IDはコミット前に払い出されるため、コミット順とは一致しない場合がある（OutboxDispatcher参照）
+     */
+    @Query("SELECT o.id FROM OutboxEvent o WHERE o.status = :status ORDER BY o.id")
+    List<Long> findIdsByStatus(@Param("status") OutboxStatus status, Pageable pageable);
+
+    /**
+     * イベントの状態が expected の場合のみ newStatus に更新する（配信前の取得に使用）
+     * 条件付きUPDATEのため、同じイベントを取得できるのは1つのトランザクションのみ。
+     * 更新した行は取得したトランザクションの終了までロックされ、他のトランザクションの更新は終了後に0件となる。
+     *
+     * @return 更新した場合は1、状態が expected でない場合は0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.status = :newStatus, o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.status = :expected")
+    int compareAndSetStatus(@Param("id") Long id, @Param("expected") OutboxStatus expected,
+            @Param("newStatus") OutboxStatus newStatus);
+
+    long countByStatus(OutboxStatus status);
+}
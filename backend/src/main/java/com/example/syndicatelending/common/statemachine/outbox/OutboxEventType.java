@@ -0,0 +1,43 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+import com.example.syndicatelending.common.statemachine.events.FacilityCreatedEvent;
+import com.example.syndicatelending.common.statemachine.events.FacilityDeletedEvent;
+import com.example.syndicatelending.common.statemachine.events.PaymentCancelledEvent;
+import com.example.syndicatelending.common.statemachine.events.PaymentCreatedEvent;
+
+/**
+ * アウトボックス経由で非同期配信するイベントの種別
+ *
+ * ペイロードの復元先クラスはこのEnumに登録されたものに限定する。
+ */
+public enum OutboxEventType {
+    FACILITY_CREATED(FacilityCreatedEvent.class),
+    FACILITY_DELETED(FacilityDeletedEvent.class),
+    PAYMENT_CREATED(PaymentCreatedEvent.class),
+    PAYMENT_CANCELLED(PaymentCancelledEvent.class);
+
+    private final Class<?> eventClass;
+
+    OutboxEventType(Class<?> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    public Class<?> getEventClass() {
+        return eventClass;
+    }
+
+    /**
+     * イベントオブジェクトから種別を取得する
+     *
+     * @param event イベント
+     * @return イベント種別
+     */
+    public static OutboxEventType of(Object event) {
+        for (OutboxEventType type : values()) {
+            if (type.eventClass == event.getClass()) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported outbox event: " + event.getClass().getName());
+    }
+}
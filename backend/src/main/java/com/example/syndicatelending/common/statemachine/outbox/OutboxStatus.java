@@ -0,0 +1,18 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+/**
+ * アウトボックスイベントの配信状態
+ */
+public enum OutboxStatus {
+    /** 未配信（再試行待ちを含む） */
+    PENDING,
+
+    /** 配信中（ディスパッチャーが取得済み。配信トランザクションの終了までPENDINGに戻らない） */
+    IN_PROGRESS,
+
+    /** 配信済み */
+    PROCESSED,
+
+    /** 最大試行回数を超えて配信に失敗 */
+    FAILED
+}
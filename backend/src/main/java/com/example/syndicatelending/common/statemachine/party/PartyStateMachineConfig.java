@@ -1,5 +1,7 @@
 package com.example.syndicatelending.common.statemachine.party;
 
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.statemachine.StateMachine;
@@ -21,13 +23,36 @@ import java.util.EnumSet;
 public class PartyStateMachineConfig {
 
     /**
-     * Borrower用State Machine Bean
+     * Borrower用StateMachineプールのBean定義
+     * 
+     * 状態遷移ごとに専用のStateMachineを貸し出す（シングルトンのStateMachineは共有しない）。
+     * 
+     * @return BorrowerのStateMachineプール
+     */
+    @Bean("borrowerStateMachinePool")
+    public StateMachinePool<BorrowerState, BorrowerEvent> borrowerStateMachinePool() {
+        return new StateMachinePool<>("Borrower", this::buildBorrowerStateMachine);
+    }
+
+    /**
+     * Borrower用遷移表のBean定義
+     * 
+     * 起動時にBorrowerのStateMachine定義から作成する。
+     * 
+     * @return Borrowerの遷移表
+     */
+    @Bean("borrowerTransitionTable")
+    public TransitionTable<BorrowerState, BorrowerEvent> borrowerTransitionTable() {
+        return TransitionTable.compile(BorrowerState.class, BorrowerEvent.class, borrowerStateMachinePool());
+    }
+
+    /**
+     * Borrower用StateMachineの生成
      * 
      * @return BorrowerのStateMachine
      * @throws Exception 設定エラー時
      */
-    @Bean("borrowerStateMachine")
-    public StateMachine<BorrowerState, BorrowerEvent> borrowerStateMachine() throws Exception {
+    private StateMachine<BorrowerState, BorrowerEvent> buildBorrowerStateMachine() throws Exception {
         StateMachineBuilder.Builder<BorrowerState, BorrowerEvent> builder = 
             StateMachineBuilder.builder();
 
@@ -54,13 +79,36 @@ public class PartyStateMachineConfig {
 
 
     /**
-     * Investor用State Machine Bean
+     * Investor用StateMachineプールのBean定義
+     * 
+     * 状態遷移ごとに専用のStateMachineを貸し出す（シングルトンのStateMachineは共有しない）。
+     * 
+     * @return InvestorのStateMachineプール
+     */
+    @Bean("investorStateMachinePool")
+    public StateMachinePool<InvestorState, InvestorEvent> investorStateMachinePool() {
+        return new StateMachinePool<>("Investor", this::buildInvestorStateMachine);
+    }
+
+    /**
+     * Investor用遷移表のBean定義
+     * 
+     * 起動時にInvestorのStateMachine定義から作成する。
+     * 
+     * @return Investorの遷移表
+     */
+    @Bean("investorTransitionTable")
+    public TransitionTable<InvestorState, InvestorEvent> investorTransitionTable() {
+        return TransitionTable.compile(InvestorState.class, InvestorEvent.class, investorStateMachinePool());
+    }
+
+    /**
+     * Investor用StateMachineの生成
      * 
      * @return InvestorのStateMachine
      * @throws Exception 設定エラー時
      */
-    @Bean("investorStateMachine")
-    public StateMachine<InvestorState, InvestorEvent> investorStateMachine() throws Exception {
+    private StateMachine<InvestorState, InvestorEvent> buildInvestorStateMachine() throws Exception {
         StateMachineBuilder.Builder<InvestorState, InvestorEvent> builder = 
             StateMachineBuilder.builder();
 
@@ -1,5 +1,7 @@
 package com.example.syndicatelending.common.statemachine.syndicate;
 
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.statemachine.StateMachine;
@@ -28,13 +30,36 @@ import java.util.EnumSet;
 public class SyndicateStateMachineConfig {
 
     /**
-     * Syndicate用State Machine Bean
+     * Syndicate用StateMachineプールのBean定義
+     * 
+     * 状態遷移ごとに専用のStateMachineを貸し出す（シングルトンのStateMachineは共有しない）。
+     * 
+     * @return SyndicateのStateMachineプール
+     */
+    @Bean("syndicateStateMachinePool")
+    public StateMachinePool<SyndicateState, SyndicateEvent> syndicateStateMachinePool() {
+        return new StateMachinePool<>("Syndicate", this::buildSyndicateStateMachine);
+    }
+
+    /**
+     * Syndicate用遷移表のBean定義
+     * 
+     * 起動時にSyndicateのStateMachine定義から作成する。
+     * 
+     * @return Syndicateの遷移表
+     */
+    @Bean("syndicateTransitionTable")
+    public TransitionTable<SyndicateState, SyndicateEvent> syndicateTransitionTable() {
+        return TransitionTable.compile(SyndicateState.class, SyndicateEvent.class, syndicateStateMachinePool());
+    }
+
+    /**
+     * Syndicate用StateMachineの生成
      * 
      * @return SyndicateのStateMachine
      * @throws Exception 設定エラー時
      */
-    @Bean("syndicateStateMachine")
-    public StateMachine<SyndicateState, SyndicateEvent> syndicateStateMachine() throws Exception {
+    private StateMachine<SyndicateState, SyndicateEvent> buildSyndicateStateMachine() throws Exception {
         StateMachineBuilder.Builder<SyndicateState, SyndicateEvent> builder = 
             StateMachineBuilder.builder();
 
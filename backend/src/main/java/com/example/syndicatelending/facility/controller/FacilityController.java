@@ -1,6 +1,7 @@
 package com.example.syndicatelending.facility.controller;
 
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.FacilitySummary;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.service.FacilityService;
@@ -25,8 +26,8 @@ public class FacilityController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Facility>> getAllFacilities(Pageable pageable) {
-        Page<Facility> facilities = facilityService.getAllFacilities(pageable);
+    public ResponseEntity<Page<FacilitySummary>> getAllFacilities(Pageable pageable) {
+        Page<FacilitySummary> facilities = facilityService.getAllFacilities(pageable);
         return ResponseEntity.ok(facilities);
     }
 
@@ -0,0 +1,102 @@
+package com.example.syndicatelending.facility.domain;
+
+import com.example.syndicatelending.facility.entity.SharePie;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * FacilityのSharePie（投資家別持分比率）の不変スナップショット
+ *
+ * 投資家IDと持分比率をプリミティブ配列で保持する。持分比率は Percentage と同じ
+ * スケール4の整数値（例: 0.4000 → 4000）として保持し、按分計算のたびに
+ * エンティティやPercentageを生成しない。
+ * Immutable Class.
+ */
+public final class SharePieSnapshot {
+
+    /** 持分比率のスケール（Percentageと同じ） */
+    public static final int SHARE_SCALE = 4;
+
+    private static final SharePieSnapshot EMPTY = new SharePieSnapshot(new long[0], new long[0]);
+
+    private final long[] investorIds;
+    private final long[] scaledShares;
+
+    private SharePieSnapshot(long[] investorIds, long[] scaledShares) {
+        this.investorIds = investorIds;
+        this.scaledShares = scaledShares;
+    }
+
+    /**
+     * SharePieのリストからスナップショットを作成する（リストの順序を保持）
+     *
+     * @param sharePies SharePieのリスト
+     * @return スナップショット
+     */
+    public static SharePieSnapshot of(List<SharePie> sharePies) {
+        if (sharePies.isEmpty()) {
+            return EMPTY;
+        }
+        long[] investorIds = new long[sharePies.size()];
+        long[] scaledShares = new long[sharePies.size()];
+        for (int i = 0; i < sharePies.size(); i++) {
+            SharePie sharePie = sharePies.get(i);
+            investorIds[i] = sharePie.getInvestorId();
+            scaledShares[i] = sharePie.getShare().getValue()
+                    .setScale(SHARE_SCALE)
+                    .unscaledValue()
+                    .longValueExact();
+        }
+        return new SharePieSnapshot(investorIds, scaledShares);
+    }
+
+    /**
+     * 空のスナップショットを取得する
+     */
+    public static SharePieSnapshot empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return investorIds.length;
+    }
+
+    public boolean isEmpty() {
+        return investorIds.length == 0;
+    }
+
+    public long investorIdAt(int index) {
+        return investorIds[index];
+    }
+
+    /**
+     * 持分比率をスケール4の整数値で取得する（例: 40% → 4000）
+     */
+    public long scaledShareAt(int index) {
+        return scaledShares[index];
+    }
+
+    /**
+     * 全投資家の持分比率をスケール4の整数値で取得する（按分の重みとして使用）
+     *
+     * @return 持分比率の配列（コピー）
+     */
+    public long[] scaledShares() {
+        return scaledShares.clone();
+    }
+
+    /**
+     * 持分比率（0〜1）を取得する
+     */
+    public BigDecimal shareAt(int index) {
+        return BigDecimal.valueOf(scaledShares[index], SHARE_SCALE);
+    }
+
+    /**
+     * 持分比率をパーセンテージ表示（0〜100）で取得する
+     */
+    public double sharePercentAt(int index) {
+        return scaledShares[index] / 100.0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.syndicatelending.facility.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.statemachine.facility.FacilityState;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Facility一覧用の軽量な射影
+ *
+ * SharePieを読み込まず、JPQLのコンストラクタ式でFacilityの列と参加投資家数のみを取得する。
+ * 持分の明細は詳細取得（/{id}）で返す。
+ */
+public class FacilitySummary {
+
+    private final Long id;
+    private final Long syndicateId;
+    private final Money commitment;
+    private final String currency;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String interestTerms;
+    private final FacilityState status;
+    private final Long investorCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    public FacilitySummary(Long id, Long syndicateId, Money commitment, String currency, LocalDate startDate,
+            LocalDate endDate, String interestTerms, FacilityState status, Long investorCount,
+            LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.syndicateId = syndicateId;
+        this.commitment = commitment;
+        this.currency = currency;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.interestTerms = interestTerms;
+        this.status = status;
+        this.investorCount = investorCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSyndicateId() {
+        return syndicateId;
+    }
+
+    public Money getCommitment() {
+        return commitment;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String getInterestTerms() {
+        return interestTerms;
+    }
+
+    public FacilityState getStatus() {
+        return status;
+    }
+
+    /**
+     * 持分（SharePie）を持つ投資家の数
+     */
+    public Long getInvestorCount() {
+        return investorCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
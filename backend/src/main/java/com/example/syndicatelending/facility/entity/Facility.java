@@ -9,9 +9,15 @@ import java.util.List;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
 import com.example.syndicatelending.common.statemachine.facility.FacilityState;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "facilities")
+@Table(name = "facilities", indexes = {
+        @Index(name = "idx_facilities_syndicate_id", columnList = "syndicate_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Facility {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,6 +43,7 @@ public class Facility {
     private String interestTerms;
 
     @OneToMany(mappedBy = "facility", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<SharePie> sharePies = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
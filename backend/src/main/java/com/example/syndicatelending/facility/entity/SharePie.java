@@ -4,13 +4,21 @@ import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.common.domain.model.PercentageAttributeConverter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "facility_share_pies")
+@Table(name = "facility_share_pies", indexes = {
+        @Index(name = "idx_facility_share_pies_facility_id", columnList = "facility_id"),
+        @Index(name = "idx_facility_share_pies_investor_id", columnList = "investor_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class SharePie {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "facility_share_pies_seq")
+    @SequenceGenerator(name = "facility_share_pies_seq", sequenceName = "facility_share_pies_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
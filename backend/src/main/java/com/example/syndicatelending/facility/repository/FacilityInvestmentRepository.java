@@ -2,9 +2,20 @@ package com.example.syndicatelending.facility.repository;
 
 import com.example.syndicatelending.facility.entity.FacilityInvestment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FacilityInvestmentRepository extends JpaRepository<FacilityInvestment, Long> {
-    void deleteByFacilityId(Long facilityId);
+    /**
+     * 指定されたFacilityのFacilityInvestmentを一括削除する（エンティティを読み込まずにDELETE文で削除）。
+     * 実行前に永続化コンテキストをフラッシュする。
+     *
+     * @return 削除件数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM FacilityInvestment fi WHERE fi.facilityId = :facilityId")
+    int deleteByFacilityId(@Param("facilityId") Long facilityId);
 }
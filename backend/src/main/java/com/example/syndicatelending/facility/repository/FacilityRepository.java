@@ -1,6 +1,9 @@
 package com.example.syndicatelending.facility.repository;
 
+import com.example.syndicatelending.facility.dto.FacilitySummary;
 import com.example.syndicatelending.facility.entity.Facility;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -47,4 +50,15 @@ public interface FacilityRepository extends JpaRepository<Facility, Long> {
            "JOIN Syndicate s ON f.syndicateId = s.id " +
            "WHERE s.borrowerId = :borrowerId")
     BigDecimal getTotalFacilityAmountByBorrowerId(@Param("borrowerId") Long borrowerId);
+
+    /**
+     * Facility一覧を軽量な射影で取得（SharePieは読み込まず、参加投資家数のみ集計する）
+     */
+    @Query(value = "SELECT new com.example.syndicatelending.facility.dto.FacilitySummary(" +
+                   "f.id, f.syndicateId, f.commitment, f.currency, f.startDate, f.endDate, f.interestTerms, f.status, " +
+                   "(SELECT COUNT(sp) FROM SharePie sp WHERE sp.facility = f), " +
+                   "f.createdAt, f.updatedAt, f.version) " +
+                   "FROM Facility f",
+           countQuery = "SELECT COUNT(f) FROM Facility f")
+    Page<FacilitySummary> findSummaries(Pageable pageable);
 }
@@ -1,14 +1,49 @@
 package com.example.syndicatelending.facility.repository;
 
 import com.example.syndicatelending.facility.entity.SharePie;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SharePieRepository extends JpaRepository<SharePie, Long> {
-    List<SharePie> findByFacility_Id(Long facilityId);
+    /** findByFacility_Id の結果を保持するクエリキャッシュのリージョン名 */
+    String SHARE_PIES_BY_FACILITY_REGION = "sharePiesByFacility";
 
-    void deleteByFacility_Id(Long facilityId);
+    /**
+     * 指定されたFacilityのSharePieリストを取得
+     * 自動按分・手数料配分で繰り返し参照されるため、結果をクエリキャッシュに保持する
+     * （facility_share_pies テーブルの更新時にHibernateが無効化する）
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SHARE_PIES_BY_FACILITY_REGION)
+    })
+    @Query("SELECT sp FROM SharePie sp WHERE sp.facility.id = :facilityId")
+    List<SharePie> findByFacility_Id(@Param("facilityId") Long facilityId);
+
+    /**
+     * 複数FacilityのSharePieを1回のIN句クエリで取得
+     */
+    @Query("SELECT sp FROM SharePie sp WHERE sp.facility.id IN :facilityIds")
+    List<SharePie> findByFacility_IdIn(@Param("facilityIds") Collection<Long> facilityIds);
+
+    /**
+     * 指定されたFacilityのSharePieを1回のDELETE文で一括削除する。
+     * 実行前に永続化コンテキストをフラッシュし、実行後にクリアする
+     * （読み込み済みのSharePieがFacilityのカスケード削除の対象に残らないようにする）。
+     *
+     * @return 削除件数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SharePie sp WHERE sp.facility.id = :facilityId")
+    int deleteByFacility_Id(@Param("facilityId") Long facilityId);
 }
@@ -0,0 +1,53 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Facility関連の2次キャッシュを削除するコンポーネント
+ *
+ * エンティティ単位の更新はHibernateがキャッシュに反映するが、FacilityService の更新・削除では
+ * SharePieを丸ごと差し替えるため、Facility・SharePieコレクション・SharePieクエリキャッシュを明示的に削除する。
+ * 他のトランザクションがコミット前の状態を再キャッシュしないよう、トランザクション完了後にも再度削除する。
+ */
+@Component
+public class FacilityCacheEvictor {
+
+    private static final String SHARE_PIES_ROLE = Facility.class.getName() + ".sharePies";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public FacilityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 指定FacilityのキャッシュとSharePieクエリキャッシュを削除する
+     *
+     * @param facilityId FacilityのID
+     */
+    public void evict(Long facilityId) {
+        evictNow(facilityId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(facilityId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long facilityId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Facility.class, facilityId);
+        cache.evictCollectionData(SHARE_PIES_ROLE, facilityId);
+        cache.evictQueryRegion(SharePieRepository.SHARE_PIES_BY_FACILITY_REGION);
+    }
+}
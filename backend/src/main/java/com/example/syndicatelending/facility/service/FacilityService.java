@@ -1,6 +1,7 @@
 package com.example.syndicatelending.facility.service;
 
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.FacilitySummary;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
 import com.example.syndicatelending.facility.domain.FacilityValidator;
 import com.example.syndicatelending.facility.entity.Facility;
@@ -13,6 +14,9 @@ import com.example.syndicatelending.common.application.exception.ResourceNotFoun
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
 import com.example.syndicatelending.syndicate.entity.Syndicate;
+import com.example.syndicatelending.common.statemachine.StateMachineExecutor;
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 import com.example.syndicatelending.common.statemachine.facility.FacilityState;
 import com.example.syndicatelending.common.statemachine.facility.FacilityEvent;
 // import com.example.syndicatelending.common.statemachine.EntityStateService; // 【削除】Spring Eventsに移行
@@ -20,7 +24,6 @@ import com.example.syndicatelending.common.statemachine.events.FacilityCreatedEv
 import com.example.syndicatelending.common.statemachine.events.FacilityDeletedEvent;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.transaction.entity.TransactionType;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import java.time.LocalDate;
@@ -42,15 +45,25 @@ public class FacilityService {
     private final SyndicateRepository syndicateRepository;
     // private final EntityStateService entityStateService; // 【削除】Spring Eventsに移行
     private final ApplicationEventPublisher eventPublisher;
+    private final FacilityCacheEvictor facilityCacheEvictor;
+    private final SharePieSnapshotRegistry sharePieSnapshotRegistry;
     
     @Autowired
-    private StateMachine<FacilityState, FacilityEvent> stateMachine;
+    private StateMachinePool<FacilityState, FacilityEvent> facilityStateMachinePool;
+
+    @Autowired
+    private TransitionTable<FacilityState, FacilityEvent> facilityTransitionTable;
+
+    @Autowired
+    private StateMachineExecutor stateMachineExecutor;
 
     public FacilityService(FacilityRepository facilityRepository, FacilityValidator facilityValidator,
             SharePieRepository sharePieRepository, FacilityInvestmentRepository facilityInvestmentRepository,
             SyndicateRepository syndicateRepository,
             // EntityStateService entityStateService, // 【削除】Spring Eventsに移行
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            FacilityCacheEvictor facilityCacheEvictor,
+            SharePieSnapshotRegistry sharePieSnapshotRegistry) {
         this.facilityRepository = facilityRepository;
         this.facilityValidator = facilityValidator;
         this.sharePieRepository = sharePieRepository;
@@ -58,6 +71,8 @@ public class FacilityService {
         this.syndicateRepository = syndicateRepository;
         // this.entityStateService = entityStateService; // 【削除】Spring Eventsに移行
         this.eventPublisher = eventPublisher;
+        this.facilityCacheEvictor = facilityCacheEvictor;
+        this.sharePieSnapshotRegistry = sharePieSnapshotRegistry;
     }
 
     @Transactional
@@ -124,8 +139,11 @@ public class FacilityService {
         return facilityRepository.findAll();
     }
 
-    public Page<Facility> getAllFacilities(Pageable pageable) {
-        return facilityRepository.findAll(pageable);
+    /**
+     * Facility一覧をページング取得（SharePieを含まない一覧用の射影）
+     */
+    public Page<FacilitySummary> getAllFacilities(Pageable pageable) {
+        return facilityRepository.findSummaries(pageable);
     }
 
     public Facility getFacilityById(Long id) {
@@ -160,9 +178,9 @@ public class FacilityService {
         entityToSave.setInterestTerms(request.getInterestTerms());
         entityToSave.setCreatedAt(existingFacility.getCreatedAt());
 
-        // 既存のSharePieエンティティをクリア
-        existingFacility.getSharePies().clear();
-        // SharePieRepositoryを用いて、既存のSharePie(Facilityに紐づく)を明示的に削除する。
+        // 既存のSharePie(Facilityに紐づく)を一括削除する。
+        // 一括削除は永続化コンテキストをクリアするため、existingFacility はこれ以降デタッチされている（参照しない）。
+        // Facilityは下の save（merge）で、リクエストのバージョンを条件にDBから読み直して更新する。
         sharePieRepository.deleteByFacility_Id(id);
 
         // 新しいSharePieエンティティを作成して追加
@@ -203,6 +221,10 @@ public class FacilityService {
         }
         facilityInvestmentRepository.saveAll(newInvestments);
 
+        // SharePieを差し替えたため、Facility・SharePieのキャッシュを削除
+        facilityCacheEvictor.evict(id);
+        sharePieSnapshotRegistry.remove(savedFacility);
+
         return savedFacility;
     }
 
@@ -226,6 +248,8 @@ public class FacilityService {
         
         // 5. 物理削除
         facilityRepository.deleteById(id);
+        facilityCacheEvictor.evict(id);
+        sharePieSnapshotRegistry.remove(facility);
         
         System.out.println("Facility ID " + id + " has been successfully deleted with state recovery");
     }
@@ -255,15 +279,9 @@ public class FacilityService {
      * @param facility 削除対象のFacility
      */
     private void deleteRelatedData(Facility facility) {
-        // SharePieの削除
-        sharePieRepository.deleteAll(facility.getSharePies());
-        
-        // FacilityInvestmentの削除
-        List<FacilityInvestment> facilityInvestments = facilityInvestmentRepository.findAll()
-            .stream()
-            .filter(fi -> fi.getFacilityId().equals(facility.getId()))
-            .collect(java.util.stream.Collectors.toList());
-        facilityInvestmentRepository.deleteAll(facilityInvestments);
+        // SharePie・FacilityInvestmentはFacility IDを条件に一括削除する（件数によらず一定のSQL数）
+        sharePieRepository.deleteByFacility_Id(facility.getId());
+        facilityInvestmentRepository.deleteByFacilityId(facility.getId());
         
         // 他の関連データがあれば、ここに追加
     }
@@ -297,6 +315,7 @@ public class FacilityService {
         // ビジネスルール検証が完了しているため、状態更新を実行
         facility.setStatus(FacilityState.ACTIVE);
         facilityRepository.save(facility);
+        sharePieSnapshotRegistry.register(facility);
     }
 
     /**
@@ -341,6 +360,7 @@ public class FacilityService {
         // ビジネスルール検証が完了しているため、状態更新を実行
         facility.setStatus(FacilityState.DRAFT);
         facilityRepository.save(facility);
+        sharePieSnapshotRegistry.remove(facility);
     }
 
 
@@ -379,6 +399,7 @@ public class FacilityService {
             // これによりデータ整合性を保ち、ユーザー操作の完了を保証する
             facility.setStatus(FacilityState.DRAFT);
             facilityRepository.save(facility);
+            sharePieSnapshotRegistry.remove(facility);
             
             // State Machine統合の結果をログ出力（統計・監査目的）
             if (stateTransitionSuccess) {
@@ -400,25 +421,14 @@ public class FacilityService {
      */
     private boolean executeFacilityStateTransition(Facility facility, FacilityEvent event) {
         try {
-            // StateMachineを初期化
-            stateMachine.getStateMachineAccessor().doWithAllRegions(access -> {
-                access.resetStateMachine(null);
-            });
-            
-            // StateMachineを開始（初期状態に設定）
-            stateMachine.start();
-            
-            // 現在状態の確認とコンテキスト設定
-            stateMachine.getExtendedState().getVariables().put("facilityId", facility.getId());
-            
-            // State Machine のガード条件は Service 層でビジネスルール検証済みのため
-            // 常に true を返すように設定している
-            boolean result = stateMachine.sendEvent(event);
-            
-            // StateMachine停止
-            stateMachine.stop();
-            
-            return result;
+            // 設定された判定エンジン（遷移表 / StateMachine）で遷移を実行
+            return stateMachineExecutor.executeTransition(
+                facilityStateMachinePool,
+                facilityTransitionTable,
+                facility.getStatus(),
+                event,
+                facility.getId(),
+                "Facility");
         } catch (Exception e) {
             throw new BusinessRuleViolationException(
                 String.format("Facility state transition failed for facility %d: %s", 
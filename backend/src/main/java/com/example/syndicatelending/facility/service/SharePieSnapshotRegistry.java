@@ -0,0 +1,200 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.facility.domain.SharePieSnapshot;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ACTIVE状態のFacilityのSharePieスナップショットを保持するレジストリ
+ *
+ * ACTIVE状態のFacilityはSharePieを変更できないため、DRAFT → ACTIVE 遷移時に
+ * スナップショットを作成して保持し、DRAFTへの復帰時に破棄する。
+ * 登録はトランザクションのコミット後に行い、ロールバックされた遷移の状態を保持しない。
+ * 起動前からACTIVEのFacilityは、初回参照時に登録する。
+ *
+ * 各スナップショットは読み込んだ時点のFacilityのバージョンとともに保持し、登録済みより新しいバージョンのみ登録する。
+ * 破棄時は遷移をコミットしたバージョンの破棄済みエントリを残すため、破棄より前に読み込んだ参照側の
+ * コミット後の登録が、破棄の後に届いても反映されない。
+ * 保持件数は {@code facility.share-pie-snapshot.max-size} を上限とし、最も古くアクセスされたエントリから追い出す。
+ */
+@Component
+public class SharePieSnapshotRegistry {
+
+    private final FacilityRepository facilityRepository;
+    private final SharePieRepository sharePieRepository;
+    private final Map<Long, Entry> snapshots;
+
+    public SharePieSnapshotRegistry(
+            FacilityRepository facilityRepository,
+            SharePieRepository sharePieRepository,
+            @Value("${facility.share-pie-snapshot.max-size:10000}") int maxSize) {
+        this.facilityRepository = facilityRepository;
+        this.sharePieRepository = sharePieRepository;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * FacilityのSharePieスナップショットを取得する
+     *
+     * 登録済みの場合はそのまま返す。未登録の場合はSharePieを読み込んで作成し、
+     * FacilityがACTIVE状態であれば登録する。
+     *
+     * @param facilityId FacilityのID
+     * @return スナップショット（Facilityが存在しない場合は空）
+     */
+    public SharePieSnapshot getSnapshot(Long facilityId) {
+        SharePieSnapshot snapshot = lookup(facilityId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        Facility facility = facilityRepository.findById(facilityId).orElse(null);
+        if (facility == null) {
+            return SharePieSnapshot.empty();
+        }
+        snapshot = SharePieSnapshot.of(sharePieRepository.findByFacility_Id(facilityId));
+        if (facility.isFixed()) {
+            putAfterCommit(facilityId, versionOf(facility), snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 複数FacilityのSharePieスナップショットを一括取得する
+     *
+     * 未登録のFacilityのSharePieは1回のIN句クエリで読み込む。
+     * ACTIVE状態のFacilityのスナップショットは {@link #getSnapshot(Long)} と同様に登録する。
+     *
+     * @param facilities 取得済みのFacility
+     * @return FacilityのIDとスナップショットのMap
+     */
+    public Map<Long, SharePieSnapshot> getSnapshots(Collection<Facility> facilities) {
+        Map<Long, SharePieSnapshot> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Facility facility : facilities) {
+            SharePieSnapshot snapshot = lookup(facility.getId());
+            if (snapshot != null) {
+                result.put(facility.getId(), snapshot);
+            } else {
+                missing.add(facility.getId());
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        Map<Long, List<SharePie>> sharePiesByFacility = new HashMap<>();
+        for (SharePie sharePie : sharePieRepository.findByFacility_IdIn(missing)) {
+            sharePiesByFacility.computeIfAbsent(sharePie.getFacility().getId(), id -> new ArrayList<>()).add(sharePie);
+        }
+        for (Facility facility : facilities) {
+            if (result.containsKey(facility.getId())) {
+                continue;
+            }
+            SharePieSnapshot snapshot = SharePieSnapshot.of(
+                    sharePiesByFacility.getOrDefault(facility.getId(), List.of()));
+            if (facility.isFixed()) {
+                putAfterCommit(facility.getId(), versionOf(facility), snapshot);
+            }
+            result.put(facility.getId(), snapshot);
+        }
+        return result;
+    }
+
+    /**
+     * DRAFT → ACTIVE 遷移時にスナップショットを作成・登録する
+     *
+     * バージョンはコミット後のFacilityから取得する（遷移をコミットしたバージョン）。
+     *
+     * @param facility ACTIVE状態に遷移したFacility
+     */
+    public void register(Facility facility) {
+        SharePieSnapshot snapshot = SharePieSnapshot.of(sharePieRepository.findByFacility_Id(facility.getId()));
+        afterCommit(() -> put(facility.getId(), versionOf(facility), snapshot));
+    }
+
+    /**
+     * ACTIVE → DRAFT 遷移時・SharePieの変更時・削除時にスナップショットを破棄する
+     *
+     * 直ちに破棄し、コミット後にそのバージョン以前の登録を拒否する破棄済みエントリを残す。
+     *
+     * @param facility 遷移・変更・削除するFacility
+     */
+    public void remove(Facility facility) {
+        Long facilityId = facility.getId();
+        synchronized (snapshots) {
+            snapshots.remove(facilityId);
+        }
+        afterCommit(() -> {
+            synchronized (snapshots) {
+                Entry current = snapshots.get(facilityId);
+                long version = versionOf(facility);
+                if (current == null || version >= current.version()) {
+                    snapshots.put(facilityId, new Entry(version, null));
+                }
+            }
+        });
+    }
+
+    private SharePieSnapshot lookup(Long facilityId) {
+        synchronized (snapshots) {
+            Entry entry = snapshots.get(facilityId);
+            return entry != null ? entry.snapshot() : null;
+        }
+    }
+
+    private void putAfterCommit(Long facilityId, long version, SharePieSnapshot snapshot) {
+        afterCommit(() -> put(facilityId, version, snapshot));
+    }
+
+    /**
+     * 登録済み（破棄済みを含む）より新しいバージョンの場合のみ登録する
+     */
+    private void put(Long facilityId, long version, SharePieSnapshot snapshot) {
+        synchronized (snapshots) {
+            Entry current = snapshots.get(facilityId);
+            if (current == null || version > current.version()) {
+                snapshots.put(facilityId, new Entry(version, snapshot));
+            }
+        }
+    }
+
+    private static long versionOf(Facility facility) {
+        return facility.getVersion() != null ? facility.getVersion() : 0L;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 登録したスナップショットとFacilityのバージョン（スナップショットがnullの場合は破棄済み）
+     */
+    private record Entry(long version, SharePieSnapshot snapshot) {
+    }
+}
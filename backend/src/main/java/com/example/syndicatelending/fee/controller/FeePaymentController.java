@@ -1,6 +1,7 @@
 package com.example.syndicatelending.fee.controller;
 
 import com.example.syndicatelending.fee.dto.CreateFeePaymentRequest;
+import com.example.syndicatelending.fee.dto.FeePaymentStatistics;
 import com.example.syndicatelending.fee.entity.FeePayment;
 import com.example.syndicatelending.fee.entity.FeeType;
 import com.example.syndicatelending.fee.service.FeePaymentService;
@@ -105,36 +106,6 @@ public class FeePaymentController {
         return ResponseEntity.ok(feePayments);
     }
 
-    /**
-     * 手数料支払い統計レスポンス
-     */
-    public static class FeePaymentStatistics {
-        private final long totalCount;
-        private final String totalAmount;
-        private final long managementFeeCount;
-        private final long arrangementFeeCount;
-        private final long commitmentFeeCount;
-        private final long lateFeeCount;
-
-        public FeePaymentStatistics(long totalCount, String totalAmount, long managementFeeCount,
-                                  long arrangementFeeCount, long commitmentFeeCount, long lateFeeCount) {
-            this.totalCount = totalCount;
-            this.totalAmount = totalAmount;
-            this.managementFeeCount = managementFeeCount;
-            this.arrangementFeeCount = arrangementFeeCount;
-            this.commitmentFeeCount = commitmentFeeCount;
-            this.lateFeeCount = lateFeeCount;
-        }
-
-        // Getters
-        public long getTotalCount() { return totalCount; }
-        public String getTotalAmount() { return totalAmount; }
-        public long getManagementFeeCount() { return managementFeeCount; }
-        public long getArrangementFeeCount() { return arrangementFeeCount; }
-        public long getCommitmentFeeCount() { return commitmentFeeCount; }
-        public long getLateFeeCount() { return lateFeeCount; }
-    }
-
     /**
      * 手数料支払いを削除
      * 
@@ -151,39 +122,16 @@ public class FeePaymentController {
      * Facility別手数料統計を取得
      * 
      * @param facilityId Facility ID
+     * @param startDate 開始日 (YYYY-MM-DD形式、任意。終了日と同時に指定)
+     * @param endDate 終了日 (YYYY-MM-DD形式、任意。開始日と同時に指定)
      * @return 手数料統計情報
      */
     @GetMapping("/facility/{facilityId}/statistics")
-    public ResponseEntity<FeePaymentStatistics> getFeePaymentStatistics(@PathVariable Long facilityId) {
-        List<FeePayment> feePayments = feePaymentService.getFeePaymentsByFacility(facilityId);
-        
-        long totalCount = feePayments.size();
-        String totalAmount = feePayments.stream()
-            .map(fp -> fp.getAmount().getAmount())
-            .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add)
-            .toString();
-        
-        long managementFeeCount = feePayments.stream()
-            .filter(fp -> fp.getFeeType() == FeeType.MANAGEMENT_FEE)
-            .count();
-        
-        long arrangementFeeCount = feePayments.stream()
-            .filter(fp -> fp.getFeeType() == FeeType.ARRANGEMENT_FEE)
-            .count();
-        
-        long commitmentFeeCount = feePayments.stream()
-            .filter(fp -> fp.getFeeType() == FeeType.COMMITMENT_FEE)
-            .count();
-        
-        long lateFeeCount = feePayments.stream()
-            .filter(fp -> fp.getFeeType() == FeeType.LATE_FEE)
-            .count();
-
-        FeePaymentStatistics statistics = new FeePaymentStatistics(
-            totalCount, totalAmount, managementFeeCount, 
-            arrangementFeeCount, commitmentFeeCount, lateFeeCount
-        );
-        
+    public ResponseEntity<FeePaymentStatistics> getFeePaymentStatistics(
+            @PathVariable Long facilityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        FeePaymentStatistics statistics = feePaymentService.getFeePaymentStatistics(facilityId, startDate, endDate);
         return ResponseEntity.ok(statistics);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.example.syndicatelending.fee.dto;
+
+import com.example.syndicatelending.fee.entity.FeeType;
+import com.example.syndicatelending.transaction.dto.TypeTotal;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 手数料支払い統計レスポンス
+ * 
+ * 全ての手数料タイプについて件数と金額合計を保持する（該当なしのタイプは0件・0円）。
+ */
+public class FeePaymentStatistics {
+    private final long totalCount;
+    private final String totalAmount;
+    private final Map<FeeType, TypeTotal> totalsByFeeType;
+
+    public FeePaymentStatistics(long totalCount, String totalAmount, Map<FeeType, TypeTotal> totalsByFeeType) {
+        this.totalCount = totalCount;
+        this.totalAmount = totalAmount;
+        this.totalsByFeeType = Collections.unmodifiableMap(totalsByFeeType);
+    }
+
+    /**
+     * 手数料タイプごとの集計結果から統計を組み立てる
+     * 
+     * @param summaries 手数料タイプごとの件数と金額合計
+     * @return 手数料支払い統計
+     */
+    public static FeePaymentStatistics from(List<FeeTypeSummaryView> summaries) {
+        Map<FeeType, TypeTotal> totalsByFeeType = new EnumMap<>(FeeType.class);
+        for (FeeType feeType : FeeType.values()) {
+            totalsByFeeType.put(feeType, TypeTotal.zero());
+        }
+        long totalCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (FeeTypeSummaryView summary : summaries) {
+            totalsByFeeType.put(summary.getFeeType(),
+                    new TypeTotal(summary.getPaymentCount(), summary.getTotalAmount()));
+            totalCount += summary.getPaymentCount();
+            totalAmount = totalAmount.add(summary.getTotalAmount());
+        }
+        return new FeePaymentStatistics(totalCount, totalAmount.toString(), totalsByFeeType);
+    }
+
+    public long getTotalCount() { return totalCount; }
+    public String getTotalAmount() { return totalAmount; }
+    public Map<FeeType, TypeTotal> getTotalsByFeeType() { return totalsByFeeType; }
+    public long getManagementFeeCount() { return countOf(FeeType.MANAGEMENT_FEE); }
+    public long getArrangementFeeCount() { return countOf(FeeType.ARRANGEMENT_FEE); }
+    public long getCommitmentFeeCount() { return countOf(FeeType.COMMITMENT_FEE); }
+    public long getLateFeeCount() { return countOf(FeeType.LATE_FEE); }
+
+    private long countOf(FeeType feeType) {
+        return totalsByFeeType.get(feeType).getCount();
+    }
+}
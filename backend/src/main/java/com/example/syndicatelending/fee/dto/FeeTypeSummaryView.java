@@ -0,0 +1,18 @@
+package com.example.syndicatelending.fee.dto;
+
+import com.example.syndicatelending.fee.entity.FeeType;
+
+import java.math.BigDecimal;
+
+/**
+ * 手数料タイプごとの件数と金額合計を取得するプロジェクション
+ * 
+ * 手数料統計を、手数料支払い（と手数料配分）を読み込まずに集計クエリで求めるために使用する。
+ */
+public interface FeeTypeSummaryView {
+    FeeType getFeeType();
+
+    long getPaymentCount();
+
+    BigDecimal getTotalAmount();
+}
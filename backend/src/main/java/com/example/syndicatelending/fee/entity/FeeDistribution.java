@@ -13,11 +13,14 @@ import java.time.LocalDateTime;
  * PaymentDistributionと類似の構造で手数料配分を実現する。
  */
 @Entity
-@Table(name = "fee_distributions")
+@Table(name = "fee_distributions", indexes = {
+        @Index(name = "idx_fee_distributions_fee_payment_id", columnList = "fee_payment_id")
+})
 public class FeeDistribution {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fee_distributions_seq")
+    @SequenceGenerator(name = "fee_distributions_seq", sequenceName = "fee_distributions_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "recipient_type", nullable = false)
@@ -2,8 +2,10 @@ package com.example.syndicatelending.fee.entity;
 
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import com.example.syndicatelending.common.infrastructure.UninitializedLazyValueFilter;
 import com.example.syndicatelending.transaction.entity.Transaction;
 import com.example.syndicatelending.transaction.entity.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
@@ -19,9 +21,18 @@ import java.util.ArrayList;
  * Transaction基底クラスを継承して統一的な取引管理を実現する。
  */
 @Entity
-@Table(name = "fee_payments")
+@NamedEntityGraph(name = FeePayment.WITH_DISTRIBUTIONS,
+        attributeNodes = @NamedAttributeNode("feeDistributions"))
+@Table(name = "fee_payments", indexes = {
+        @Index(name = "idx_fee_payments_fee_type", columnList = "fee_type"),
+        @Index(name = "idx_fee_payments_fee_date", columnList = "fee_date"),
+        @Index(name = "idx_fee_payments_recipient", columnList = "recipient_type, recipient_id")
+})
 public class FeePayment extends Transaction {
 
+    /** 手数料配分を同時に取得するエンティティグラフ（詳細取得・一覧取得用） */
+    public static final String WITH_DISTRIBUTIONS = "FeePayment.withDistributions";
+
     @Enumerated(EnumType.STRING)
     @Column(name = "fee_type", nullable = false)
     private FeeType feeType;
@@ -49,7 +60,8 @@ public class FeePayment extends Transaction {
     @Column(name = "currency", nullable = false)
     private String currency;
 
-    @OneToMany(mappedBy = "feePayment", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "feePayment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UninitializedLazyValueFilter.class)
     private List<FeeDistribution> feeDistributions = new ArrayList<>();
 
     @PrePersist
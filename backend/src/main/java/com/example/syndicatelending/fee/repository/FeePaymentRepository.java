@@ -1,12 +1,19 @@
 package com.example.syndicatelending.fee.repository;
 
+import com.example.syndicatelending.fee.dto.FeeTypeSummaryView;
 import com.example.syndicatelending.fee.entity.FeePayment;
 import com.example.syndicatelending.fee.entity.FeeType;
+import com.example.syndicatelending.fee.entity.RecipientType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 手数料支払いリポジトリ
@@ -17,6 +24,28 @@ import java.util.List;
 @Repository
 public interface FeePaymentRepository extends JpaRepository<FeePayment, Long> {
 
+    /**
+     * IDで手数料支払いを手数料配分とともに検索
+     * 
+     * 詳細取得用。配分はJOINで同時に取得する。
+     * 
+     * @param id 手数料支払いID
+     * @return 手数料支払い
+     */
+    @EntityGraph(FeePayment.WITH_DISTRIBUTIONS)
+    Optional<FeePayment> findWithDistributionsById(Long id);
+
+    /**
+     * IDの一覧で手数料支払いを手数料配分とともに検索
+     * 
+     * 一覧用。手数料支払いの取得後に、取得した分の配分を1回のクエリで読み込む。
+     * 
+     * @param ids 手数料支払いIDのリスト
+     * @return 手数料支払いのリスト
+     */
+    @EntityGraph(FeePayment.WITH_DISTRIBUTIONS)
+    List<FeePayment> findWithDistributionsByIdIn(Collection<Long> ids);
+
     /**
      * Facility IDで手数料支払いを検索
      * 
@@ -57,7 +86,7 @@ public interface FeePaymentRepository extends JpaRepository<FeePayment, Long> {
      * @param recipientId 受益者ID
      * @return 手数料支払いのリスト
      */
-    List<FeePayment> findByRecipientTypeAndRecipientId(String recipientType, Long recipientId);
+    List<FeePayment> findByRecipientTypeAndRecipientId(RecipientType recipientType, Long recipientId);
 
     /**
      * Facility IDと手数料タイプで検索
@@ -77,4 +106,29 @@ public interface FeePaymentRepository extends JpaRepository<FeePayment, Long> {
      * @return 手数料支払いのリスト
      */
     List<FeePayment> findByFacilityIdAndFeeDateBetween(Long facilityId, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+
+    /**
+     * Facility IDで手数料支払いを手数料タイプごとに集計
+     * 
+     * @param facilityId Facility ID
+     * @return 手数料タイプごとの件数と金額合計（該当のあるタイプのみ）
+     */
+    @Query("SELECT f.feeType AS feeType, COUNT(f) AS paymentCount, COALESCE(SUM(f.amount), 0) AS totalAmount " +
+           "FROM FeePayment f WHERE f.facilityId = :facilityId GROUP BY f.feeType")
+    List<FeeTypeSummaryView> summarizeByFacilityId(@Param("facilityId") Long facilityId);
+
+    /**
+     * Facility IDと手数料日付範囲で手数料支払いを手数料タイプごとに集計
+     * 
+     * @param facilityId Facility ID
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @return 手数料タイプごとの件数と金額合計（該当のあるタイプのみ）
+     */
+    @Query("SELECT f.feeType AS feeType, COUNT(f) AS paymentCount, COALESCE(SUM(f.amount), 0) AS totalAmount " +
+           "FROM FeePayment f WHERE f.facilityId = :facilityId AND f.feeDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY f.feeType")
+    List<FeeTypeSummaryView> summarizeByFacilityIdAndFeeDateBetween(@Param("facilityId") Long facilityId,
+                                                                   @Param("startDate") LocalDate startDate,
+                                                                   @Param("endDate") LocalDate endDate);
+}
@@ -3,16 +3,18 @@ package com.example.syndicatelending.fee.service;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.ProRataAllocator;
 import com.example.syndicatelending.fee.dto.CreateFeePaymentRequest;
+import com.example.syndicatelending.fee.dto.FeePaymentStatistics;
 import com.example.syndicatelending.fee.entity.FeeDistribution;
 import com.example.syndicatelending.fee.entity.FeePayment;
 import com.example.syndicatelending.fee.entity.FeeType;
 import com.example.syndicatelending.fee.entity.RecipientType;
 import com.example.syndicatelending.fee.entity.FeeCalculationRule;
 import com.example.syndicatelending.fee.repository.FeePaymentRepository;
-import com.example.syndicatelending.facility.entity.Facility;
-import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.domain.SharePieSnapshot;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.service.SharePieSnapshotRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -35,11 +37,14 @@ public class FeePaymentService {
 
     private final FeePaymentRepository feePaymentRepository;
     private final FacilityRepository facilityRepository;
+    private final SharePieSnapshotRegistry sharePieSnapshotRegistry;
 
     public FeePaymentService(FeePaymentRepository feePaymentRepository,
-                           FacilityRepository facilityRepository) {
+                           FacilityRepository facilityRepository,
+                           SharePieSnapshotRegistry sharePieSnapshotRegistry) {
         this.feePaymentRepository = feePaymentRepository;
         this.facilityRepository = facilityRepository;
+        this.sharePieSnapshotRegistry = sharePieSnapshotRegistry;
     }
 
     /**
@@ -52,12 +57,9 @@ public class FeePaymentService {
         // バリデーション
         validateFeePaymentRequest(request);
 
-        // Facility存在確認（SharePieも一緒に取得）
-        Facility facility = facilityRepository.findById(request.getFacilityId())
+        // Facility存在確認
+        facilityRepository.findById(request.getFacilityId())
             .orElseThrow(() -> new ResourceNotFoundException("Facility not found: " + request.getFacilityId()));
-        
-        // SharePieのLazy Loadingを明示的に初期化
-        facility.getSharePies().size(); // Lazy Loadingを強制実行
 
         // 手数料支払いエンティティ作成
         Money feeAmount = Money.of(request.getFeeAmount());
@@ -84,7 +86,8 @@ public class FeePaymentService {
 
         // 手数料配分生成（投資家配分が必要な場合）
         if (feePayment.requiresInvestorDistribution()) {
-            List<FeeDistribution> distributions = generateFeeDistributions(feePayment, facility);
+            SharePieSnapshot sharePies = sharePieSnapshotRegistry.getSnapshot(request.getFacilityId());
+            List<FeeDistribution> distributions = generateFeeDistributions(feePayment, sharePies);
             // 手数料配分の逆参照設定（保存前に設定）
             distributions.forEach(dist -> dist.setFeePayment(feePayment));
             feePayment.setFeeDistributions(distributions);
@@ -104,7 +107,7 @@ public class FeePaymentService {
      */
     @Transactional(readOnly = true)
     public FeePayment getFeePaymentById(Long feePaymentId) {
-        return feePaymentRepository.findById(feePaymentId)
+        return feePaymentRepository.findWithDistributionsById(feePaymentId)
             .orElseThrow(() -> new ResourceNotFoundException("Fee payment not found: " + feePaymentId));
     }
 
@@ -116,7 +119,7 @@ public class FeePaymentService {
      */
     @Transactional(readOnly = true)
     public List<FeePayment> getFeePaymentsByFacility(Long facilityId) {
-        return feePaymentRepository.findByFacilityId(facilityId);
+        return withDistributions(feePaymentRepository.findByFacilityId(facilityId));
     }
 
     /**
@@ -127,7 +130,7 @@ public class FeePaymentService {
      */
     @Transactional(readOnly = true)
     public List<FeePayment> getFeePaymentsByType(FeeType feeType) {
-        return feePaymentRepository.findByFeeType(feeType);
+        return withDistributions(feePaymentRepository.findByFeeType(feeType));
     }
 
     /**
@@ -139,18 +142,64 @@ public class FeePaymentService {
      */
     @Transactional(readOnly = true)
     public List<FeePayment> getFeePaymentsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return feePaymentRepository.findByFeeDateBetween(startDate, endDate);
+        return withDistributions(feePaymentRepository.findByFeeDateBetween(startDate, endDate));
+    }
+
+    /**
+     * Facility別の手数料統計を取得
+     * 
+     * 手数料タイプごとの件数と金額合計を集計クエリで取得し、手数料支払いは読み込まない。
+     * 日付範囲は開始日・終了日の両方を指定した場合のみ適用する。
+     * 
+     * @param facilityId Facility ID
+     * @param startDate 開始日（任意）
+     * @param endDate 終了日（任意）
+     * @return 手数料統計（全ての手数料タイプを含む）
+     * @throws BusinessRuleViolationException 日付範囲の指定が不正な場合
+     */
+    @Transactional(readOnly = true)
+    public FeePaymentStatistics getFeePaymentStatistics(Long facilityId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null && endDate == null) {
+            return FeePaymentStatistics.from(feePaymentRepository.summarizeByFacilityId(facilityId));
+        }
+        if (startDate == null || endDate == null) {
+            throw new BusinessRuleViolationException("startDate and endDate must be specified together");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessRuleViolationException("startDate must not be after endDate");
+        }
+        return FeePaymentStatistics.from(
+                feePaymentRepository.summarizeByFacilityIdAndFeeDateBetween(facilityId, startDate, endDate));
     }
 
     /**
      * 全手数料支払いをページング取得
      * 
      * @param pageable ページング情報
-     * @return 手数料支払いのページ
+     * @return 手数料支払いのページ（配分を含む）
      */
     @Transactional(readOnly = true)
     public Page<FeePayment> getAllFeePayments(Pageable pageable) {
-        return feePaymentRepository.findAll(pageable);
+        Page<FeePayment> feePayments = feePaymentRepository.findAll(pageable);
+        withDistributions(feePayments.getContent());
+        return feePayments;
+    }
+
+    /**
+     * 取得済みの手数料支払いの配分を1回のクエリでまとめて読み込む
+     * 
+     * 一覧の取得クエリに配分をJOINすると、ページングがDBではなくメモリ上での絞り込みになり、
+     * Facility IDの検索もインデックスを使えなくなるため、一覧の取得後に別のクエリで読み込む。
+     * 
+     * @param feePayments 同じトランザクションで取得した手数料支払い
+     * @return 引数の手数料支払い（配分を初期化済み）
+     */
+    private List<FeePayment> withDistributions(List<FeePayment> feePayments) {
+        if (!feePayments.isEmpty()) {
+            feePaymentRepository.findWithDistributionsByIdIn(
+                    feePayments.stream().map(FeePayment::getId).toList());
+        }
+        return feePayments;
     }
 
     /**
@@ -180,24 +229,25 @@ public class FeePaymentService {
      * 手数料配分を生成
      * 
      * @param feePayment 手数料支払い
-     * @param facility Facility
+     * @param sharePies FacilityのSharePieスナップショット
      * @return 手数料配分のリスト
      */
-    private List<FeeDistribution> generateFeeDistributions(FeePayment feePayment, Facility facility) {
+    private List<FeeDistribution> generateFeeDistributions(FeePayment feePayment, SharePieSnapshot sharePies) {
         List<FeeDistribution> distributions = new ArrayList<>();
 
-        // SharePieに基づく投資家別配分計算
-        for (SharePie sharePie : facility.getSharePies()) {
-            // 配分金額計算：手数料総額 × 持分比率
-            // SharePieの値は既に小数点形式（0.4 = 40%）なので100で除算不要
-            Money distributionAmount = feePayment.getAmount()
-                .multiply(sharePie.getShare().getValue());
+        if (sharePies.isEmpty()) {
+            return distributions;
+        }
 
+        // SharePieに基づく投資家別配分計算：手数料総額 × 持分比率
+        // 最大剰余方式で按分するため、配分額の合計は手数料総額と一致する
+        Money[] distributionAmounts = ProRataAllocator.allocate(feePayment.getAmount(), sharePies.scaledShares());
+        for (int i = 0; i < sharePies.size(); i++) {
             FeeDistribution distribution = new FeeDistribution(
                 "INVESTOR",
-                sharePie.getInvestorId(),
-                distributionAmount,
-                sharePie.getShare().getValue().multiply(BigDecimal.valueOf(100)).doubleValue(), // パーセンテージ表示のため100倍
+                sharePies.investorIdAt(i),
+                distributionAmounts[i],
+                sharePies.sharePercentAt(i), // パーセンテージ表示（0〜100）
                 feePayment.getCurrency()
             );
 
@@ -1,24 +1,40 @@
 package com.example.syndicatelending.loan.controller;
 
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownBatchResponse;
+import com.example.syndicatelending.loan.dto.DrawdownSummary;
 import com.example.syndicatelending.loan.dto.UpdateDrawdownRequest;
 import com.example.syndicatelending.loan.entity.Drawdown;
 import com.example.syndicatelending.loan.service.DrawdownService;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/loans/drawdowns")
 public class DrawdownController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final DrawdownService drawdownService;
+    private final ObjectMapper objectMapper;
 
-    public DrawdownController(DrawdownService drawdownService) {
+    public DrawdownController(DrawdownService drawdownService, ObjectMapper objectMapper) {
         this.drawdownService = drawdownService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -27,15 +43,33 @@ public class DrawdownController {
         return ResponseEntity.ok(drawdown);
     }
 
+    /**
+     * ドローダウンの一括登録（JSON配列）
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DrawdownBatchResponse> createDrawdowns(@RequestBody List<CreateDrawdownRequest> requests) {
+        return ResponseEntity.ok(drawdownService.createDrawdowns(requests));
+    }
+
+    /**
+     * ドローダウンの一括登録（NDJSON: 1行に1件のリクエスト）
+     *
+     * 解析できない行がある場合は、登録を行わずにエラーを返す。
+     */
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<DrawdownBatchResponse> createDrawdownsFromNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(drawdownService.createDrawdowns(readNdjson(body)));
+    }
+
     @GetMapping
-    public ResponseEntity<List<Drawdown>> getAllDrawdowns() {
-        List<Drawdown> drawdowns = drawdownService.getAllDrawdowns();
+    public ResponseEntity<List<DrawdownSummary>> getAllDrawdowns() {
+        List<DrawdownSummary> drawdowns = drawdownService.getAllDrawdowns();
         return ResponseEntity.ok(drawdowns);
     }
 
     @GetMapping("/paged")
-    public ResponseEntity<Page<Drawdown>> getAllDrawdowns(Pageable pageable) {
-        Page<Drawdown> drawdowns = drawdownService.getAllDrawdowns(pageable);
+    public ResponseEntity<Page<DrawdownSummary>> getAllDrawdowns(Pageable pageable) {
+        Page<DrawdownSummary> drawdowns = drawdownService.getAllDrawdowns(pageable);
         return ResponseEntity.ok(drawdowns);
     }
 
@@ -46,8 +80,8 @@ public class DrawdownController {
     }
 
     @GetMapping("/facility/{facilityId}")
-    public ResponseEntity<List<Drawdown>> getDrawdownsByFacilityId(@PathVariable Long facilityId) {
-        List<Drawdown> drawdowns = drawdownService.getDrawdownsByFacilityId(facilityId);
+    public ResponseEntity<List<DrawdownSummary>> getDrawdownsByFacilityId(@PathVariable Long facilityId) {
+        List<DrawdownSummary> drawdowns = drawdownService.getDrawdownsByFacilityId(facilityId);
         return ResponseEntity.ok(drawdowns);
     }
 
@@ -62,4 +96,24 @@ public class DrawdownController {
         Drawdown drawdown = drawdownService.updateDrawdown(id, request);
         return ResponseEntity.ok(drawdown);
     }
+
+    private List<CreateDrawdownRequest> readNdjson(InputStream body) throws IOException {
+        List<CreateDrawdownRequest> requests = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                requests.add(objectMapper.readValue(line, CreateDrawdownRequest.class));
+            } catch (JsonProcessingException e) {
+                throw new BusinessRuleViolationException(
+                        "NDJSONの" + lineNumber + "行目を解析できません: " + e.getOriginalMessage());
+            }
+        }
+        return requests;
+    }
 }
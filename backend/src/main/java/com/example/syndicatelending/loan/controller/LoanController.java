@@ -1,14 +1,19 @@
 package com.example.syndicatelending.loan.controller;
 
+import com.example.syndicatelending.loan.dto.DueInstallmentPage;
+import com.example.syndicatelending.loan.dto.LoanSummary;
 import com.example.syndicatelending.loan.entity.Loan;
 import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
 import com.example.syndicatelending.loan.service.LoanService;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -58,8 +63,8 @@ public class LoanController {
      * @return ローンのページ
      */
     @GetMapping
-    public ResponseEntity<Page<Loan>> getAllLoans(Pageable pageable) {
-        Page<Loan> loans = loanService.getAllLoans(pageable);
+    public ResponseEntity<Page<LoanSummary>> getAllLoans(Pageable pageable) {
+        Page<LoanSummary> loans = loanService.getAllLoans(pageable);
         return ResponseEntity.ok(loans);
     }
     
@@ -67,11 +72,11 @@ public class LoanController {
      * ファシリティIDに関連するローンを取得します。
      * 
      * @param facilityId ファシリティID
-     * @return ローンのリスト
+     * @return ローンの一覧（返済明細を含まない軽量な射影）
      */
     @GetMapping("/facility/{facilityId}")
-    public ResponseEntity<List<Loan>> getLoansByFacilityId(@PathVariable Long facilityId) {
-        List<Loan> loans = loanService.getLoansByFacilityId(facilityId);
+    public ResponseEntity<List<LoanSummary>> getLoansByFacilityId(@PathVariable Long facilityId) {
+        List<LoanSummary> loans = loanService.getLoansByFacilityId(facilityId);
         return ResponseEntity.ok(loans);
     }
     
@@ -79,11 +84,11 @@ public class LoanController {
      * 借り手IDに関連するローンを取得します。
      * 
      * @param borrowerId 借り手ID
-     * @return ローンのリスト
+     * @return ローンの一覧（返済明細を含まない軽量な射影）
      */
     @GetMapping("/borrower/{borrowerId}")
-    public ResponseEntity<List<Loan>> getLoansByBorrowerId(@PathVariable Long borrowerId) {
-        List<Loan> loans = loanService.getLoansByBorrowerId(borrowerId);
+    public ResponseEntity<List<LoanSummary>> getLoansByBorrowerId(@PathVariable Long borrowerId) {
+        List<LoanSummary> loans = loanService.getLoansByBorrowerId(borrowerId);
         return ResponseEntity.ok(loans);
     }
 
@@ -98,4 +103,27 @@ public class LoanController {
         List<PaymentDetail> paymentDetails = loanService.getPaymentDetailsByLoanId(loanId);
         return ResponseEntity.ok(paymentDetails);
     }
-}
\ No newline at end of file
+
+    /**
+     * 期日が指定期間内の返済明細をキーセットページングで取得します（資金繰り予測用）。
+     * 
+     * @param from 期間開始日
+     * @param to 期間終了日
+     * @param status 支払い状態（省略時はPENDING）
+     * @param afterDueDate 前ページの nextAfterDueDate（初回は省略）
+     * @param afterId 前ページの nextAfterId（初回は省略）
+     * @param size 取得件数（省略時は100。1000を超える場合は1000件）
+     * @return 返済明細のページ
+     */
+    @GetMapping("/payment-details/due")
+    public ResponseEntity<DueInstallmentPage> getDueInstallments(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate afterDueDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "100") int size) {
+        DueInstallmentPage page = loanService.getDueInstallments(from, to, status, afterDueDate, afterId, size);
+        return ResponseEntity.ok(page);
+    }
+}
@@ -1,22 +1,28 @@
 package com.example.syndicatelending.loan.controller;
 
 import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.PaymentRunReport;
 import com.example.syndicatelending.loan.entity.Payment;
 import com.example.syndicatelending.loan.service.PaymentService;
+import com.example.syndicatelending.loan.service.ScheduledPaymentRunService;
 
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/loans/payments")
 public class PaymentController {
     private final PaymentService paymentService;
+    private final ScheduledPaymentRunService scheduledPaymentRunService;
 
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService, ScheduledPaymentRunService scheduledPaymentRunService) {
         this.paymentService = paymentService;
+        this.scheduledPaymentRunService = scheduledPaymentRunService;
     }
 
     @PostMapping
@@ -43,6 +49,16 @@ public class PaymentController {
         return ResponseEntity.ok(payment);
     }
 
+    /**
+     * 基準日（省略時は当日）以前に期日が到来した返済明細を一括で支払う
+     */
+    @PostMapping("/scheduled/run")
+    public ResponseEntity<PaymentRunReport> runScheduledPayments(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate) {
+        PaymentRunReport report = scheduledPaymentRunService.run(runDate != null ? runDate : LocalDate.now());
+        return ResponseEntity.ok(report);
+    }
+
     @DeleteMapping("/{paymentId}/cancel")
     public ResponseEntity<Payment> cancelPayment(@PathVariable Long paymentId) {
         Payment payment = paymentService.cancelPayment(paymentId);
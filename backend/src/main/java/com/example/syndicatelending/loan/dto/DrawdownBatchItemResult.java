@@ -0,0 +1,95 @@
+package com.example.syndicatelending.loan.dto;
+
+/**
+ * ドローダウン一括登録の明細ごとの結果DTO
+ */
+public class DrawdownBatchItemResult {
+
+    /** リクエスト内の位置（0始まり） */
+    private int index;
+
+    /** 対象のFacility ID */
+    private Long facilityId;
+
+    /** 登録に成功したかどうか */
+    private boolean succeeded;
+
+    /** 作成されたDrawdownのID（失敗時は null） */
+    private Long drawdownId;
+
+    /** 作成されたLoanのID（失敗時は null） */
+    private Long loanId;
+
+    /** 失敗理由（成功時は null） */
+    private String error;
+
+    public DrawdownBatchItemResult() {
+    }
+
+    public static DrawdownBatchItemResult success(int index, Long facilityId, Long drawdownId, Long loanId) {
+        DrawdownBatchItemResult result = new DrawdownBatchItemResult();
+        result.index = index;
+        result.facilityId = facilityId;
+        result.succeeded = true;
+        result.drawdownId = drawdownId;
+        result.loanId = loanId;
+        return result;
+    }
+
+    public static DrawdownBatchItemResult failure(int index, Long facilityId, String error) {
+        DrawdownBatchItemResult result = new DrawdownBatchItemResult();
+        result.index = index;
+        result.facilityId = facilityId;
+        result.succeeded = false;
+        result.error = error;
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public void setFacilityId(Long facilityId) {
+        this.facilityId = facilityId;
+    }
+
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public Long getDrawdownId() {
+        return drawdownId;
+    }
+
+    public void setDrawdownId(Long drawdownId) {
+        this.drawdownId = drawdownId;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(Long loanId) {
+        this.loanId = loanId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.syndicatelending.loan.dto;
+
+import java.util.List;
+
+/**
+ * ドローダウン一括登録のレスポンスDTO
+ *
+ * 明細ごとの結果と、件数・処理時間・スループットを返す。
+ */
+public class DrawdownBatchResponse {
+
+    /** リクエストの件数 */
+    private int totalCount;
+
+    /** 登録に成功した件数 */
+    private int succeededCount;
+
+    /** 登録に失敗した件数 */
+    private int failedCount;
+
+    /** 処理したチャンク（トランザクション）の数 */
+    private int chunkCount;
+
+    /** 処理時間（ミリ秒） */
+    private long elapsedMillis;
+
+    /** 1秒あたりの処理件数 */
+    private double itemsPerSecond;
+
+    /** 明細ごとの結果（リクエストと同じ順序） */
+    private List<DrawdownBatchItemResult> results;
+
+    public DrawdownBatchResponse() {
+    }
+
+    public DrawdownBatchResponse(List<DrawdownBatchItemResult> results, int chunkCount, long elapsedNanos) {
+        this.results = results;
+        this.totalCount = results.size();
+        this.succeededCount = (int) results.stream().filter(DrawdownBatchItemResult::isSucceeded).count();
+        this.failedCount = totalCount - succeededCount;
+        this.chunkCount = chunkCount;
+        this.elapsedMillis = elapsedNanos / 1_000_000L;
+        this.itemsPerSecond = elapsedNanos > 0 ? totalCount * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public int getSucceededCount() {
+        return succeededCount;
+    }
+
+    public void setSucceededCount(int succeededCount) {
+        this.succeededCount = succeededCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getItemsPerSecond() {
+        return itemsPerSecond;
+    }
+
+    public void setItemsPerSecond(double itemsPerSecond) {
+        this.itemsPerSecond = itemsPerSecond;
+    }
+
+    public List<DrawdownBatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<DrawdownBatchItemResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.transaction.entity.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Drawdown一覧用の軽量な射影
+ *
+ * 投資家別の按分（AmountPie）を読み込まず、JPQLのコンストラクタ式でDrawdownの列と按分の件数・合計のみを取得する。
+ * 按分の明細は詳細取得（/{id}）で返す。
+ */
+public class DrawdownSummary {
+
+    private final Long id;
+    private final Long facilityId;
+    private final Long borrowerId;
+    private final Long loanId;
+    private final Money amount;
+    private final String currency;
+    private final String purpose;
+    private final LocalDate transactionDate;
+    private final TransactionStatus status;
+    private final Long investorCount;
+    private final BigDecimal allocatedAmount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    public DrawdownSummary(Long id, Long facilityId, Long borrowerId, Long loanId, Money amount, String currency,
+            String purpose, LocalDate transactionDate, TransactionStatus status, Long investorCount,
+            BigDecimal allocatedAmount, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.facilityId = facilityId;
+        this.borrowerId = borrowerId;
+        this.loanId = loanId;
+        this.amount = amount;
+        this.currency = currency;
+        this.purpose = purpose;
+        this.transactionDate = transactionDate;
+        this.status = status;
+        this.investorCount = investorCount;
+        this.allocatedAmount = allocatedAmount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public Long getBorrowerId() {
+        return borrowerId;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public TransactionStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * 按分先の投資家数
+     */
+    public Long getInvestorCount() {
+        return investorCount;
+    }
+
+    /**
+     * 投資家への按分額の合計
+     */
+    public BigDecimal getAllocatedAmount() {
+        return allocatedAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 期日別の返済明細DTO（資金繰り予測用の軽量な射影）
+ * 
+ * PaymentDetailエンティティとLoanを読み込まず、JPQLのコンストラクタ式で必要な列のみを取得する。
+ */
+public class DueInstallmentDto {
+
+    private final Long id;
+    private final Long loanId;
+    private final Long facilityId;
+    private final Integer paymentNumber;
+    private final LocalDate dueDate;
+    private final Money principalPayment;
+    private final Money interestPayment;
+    private final PaymentStatus paymentStatus;
+    private final String currency;
+
+    public DueInstallmentDto(Long id, Long loanId, Long facilityId, Integer paymentNumber, LocalDate dueDate,
+            Money principalPayment, Money interestPayment, PaymentStatus paymentStatus, String currency) {
+        this.id = id;
+        this.loanId = loanId;
+        this.facilityId = facilityId;
+        this.paymentNumber = paymentNumber;
+        this.dueDate = dueDate;
+        this.principalPayment = principalPayment;
+        this.interestPayment = interestPayment;
+        this.paymentStatus = paymentStatus;
+        this.currency = currency;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public Integer getPaymentNumber() {
+        return paymentNumber;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Money getPrincipalPayment() {
+        return principalPayment;
+    }
+
+    public Money getInterestPayment() {
+        return interestPayment;
+    }
+
+    /**
+     * 元本と利息の合計
+     */
+    public Money getTotalPayment() {
+        return principalPayment.add(interestPayment);
+    }
+
+    public PaymentStatus getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+}
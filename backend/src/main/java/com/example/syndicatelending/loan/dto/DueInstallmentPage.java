@@ -0,0 +1,49 @@
+package com.example.syndicatelending.loan.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 期日別の返済明細のキーセットページ
+ * 
+ * 次ページは {@code nextAfterDueDate} と {@code nextAfterId} をそのまま
+ * {@code afterDueDate}、{@code afterId} に指定して取得する（OFFSETを使わない）。
+ */
+public class DueInstallmentPage {
+
+    /** 返済明細（期日・ID順） */
+    private final List<DueInstallmentDto> items;
+
+    /** 次ページがあるかどうか */
+    private final boolean hasNext;
+
+    /** 次ページ取得用の期日（次ページがない場合は null） */
+    private final LocalDate nextAfterDueDate;
+
+    /** 次ページ取得用のID（次ページがない場合は null） */
+    private final Long nextAfterId;
+
+    public DueInstallmentPage(List<DueInstallmentDto> items, boolean hasNext) {
+        this.items = items;
+        this.hasNext = hasNext;
+        DueInstallmentDto last = hasNext && !items.isEmpty() ? items.get(items.size() - 1) : null;
+        this.nextAfterDueDate = last != null ? last.getDueDate() : null;
+        this.nextAfterId = last != null ? last.getId() : null;
+    }
+
+    public List<DueInstallmentDto> getItems() {
+        return items;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public LocalDate getNextAfterDueDate() {
+        return nextAfterDueDate;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.syndicatelending.loan.dto;
+
+/**
+ * 期日到来の支払い詳細のIDとローンIDのみを取得するプロジェクション
+ * 
+ * 支払い一括実行で対象の支払い詳細をローンごとに振り分けるために使用する。
+ */
+public interface DuePaymentDetailView {
+    Long getId();
+
+    Long getLoanId();
+}
@@ -0,0 +1,116 @@
+package com.example.syndicatelending.loan.dto;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.statemachine.loan.LoanState;
+import com.example.syndicatelending.loan.entity.RepaymentCycle;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Loan一覧用の軽量な射影
+ *
+ * 返済明細（PaymentDetail）を読み込まず、JPQLのコンストラクタ式でLoanの列のみを取得する。
+ * 返済明細は詳細取得（/{id}）または /{loanId}/payment-details で返す。
+ */
+public class LoanSummary {
+
+    private final Long id;
+    private final Long facilityId;
+    private final Long borrowerId;
+    private final Money principalAmount;
+    private final Money outstandingBalance;
+    private final Percentage annualInterestRate;
+    private final LocalDate drawdownDate;
+    private final Integer repaymentPeriodMonths;
+    private final RepaymentCycle repaymentCycle;
+    private final RepaymentMethod repaymentMethod;
+    private final String currency;
+    private final LoanState status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    public LoanSummary(Long id, Long facilityId, Long borrowerId, Money principalAmount, Money outstandingBalance,
+            Percentage annualInterestRate, LocalDate drawdownDate, Integer repaymentPeriodMonths,
+            RepaymentCycle repaymentCycle, RepaymentMethod repaymentMethod, String currency, LoanState status,
+            LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.facilityId = facilityId;
+        this.borrowerId = borrowerId;
+        this.principalAmount = principalAmount;
+        this.outstandingBalance = outstandingBalance;
+        this.annualInterestRate = annualInterestRate;
+        this.drawdownDate = drawdownDate;
+        this.repaymentPeriodMonths = repaymentPeriodMonths;
+        this.repaymentCycle = repaymentCycle;
+        this.repaymentMethod = repaymentMethod;
+        this.currency = currency;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFacilityId() {
+        return facilityId;
+    }
+
+    public Long getBorrowerId() {
+        return borrowerId;
+    }
+
+    public Money getPrincipalAmount() {
+        return principalAmount;
+    }
+
+    public Money getOutstandingBalance() {
+        return outstandingBalance;
+    }
+
+    public Percentage getAnnualInterestRate() {
+        return annualInterestRate;
+    }
+
+    public LocalDate getDrawdownDate() {
+        return drawdownDate;
+    }
+
+    public Integer getRepaymentPeriodMonths() {
+        return repaymentPeriodMonths;
+    }
+
+    public RepaymentCycle getRepaymentCycle() {
+        return repaymentCycle;
+    }
+
+    public RepaymentMethod getRepaymentMethod() {
+        return repaymentMethod;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public LoanState getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
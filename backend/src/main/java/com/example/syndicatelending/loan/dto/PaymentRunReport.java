@@ -0,0 +1,154 @@
+package com.example.syndicatelending.loan.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 支払い一括実行の結果レポートDTO
+ *
+ * 対象件数・支払い件数・失敗件数と、処理時間・スループット、失敗したLoanの一覧を返す。
+ */
+public class PaymentRunReport {
+
+    /** 基準日（この日以前に期日が到来した返済明細が対象） */
+    private LocalDate runDate;
+
+    /** 対象の返済明細の件数 */
+    private int dueCount;
+
+    /** 対象のLoanの件数（ページをまたぐLoanも1件と数える） */
+    private int loanCount;
+
+    /** 支払いを作成した返済明細の件数 */
+    private int paidCount;
+
+    /** 実行時点で支払い済みだったためスキップした返済明細の件数 */
+    private int skippedCount;
+
+    /** 失敗した返済明細の件数 */
+    private int failedCount;
+
+    /** 処理時間（ミリ秒） */
+    private long elapsedMillis;
+
+    /** 1秒あたりの支払い件数 */
+    private double paymentsPerSecond;
+
+    /** 失敗したLoanごとの詳細 */
+    private List<Failure> failures;
+
+    public PaymentRunReport() {
+    }
+
+    public PaymentRunReport(LocalDate runDate, int dueCount, int loanCount, int paidCount, int failedCount,
+            List<Failure> failures, long elapsedNanos) {
+        this.runDate = runDate;
+        this.dueCount = dueCount;
+        this.loanCount = loanCount;
+        this.paidCount = paidCount;
+        this.failedCount = failedCount;
+        this.skippedCount = dueCount - paidCount - failedCount;
+        this.failures = failures;
+        this.elapsedMillis = elapsedNanos / 1_000_000L;
+        this.paymentsPerSecond = elapsedNanos > 0 ? paidCount * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public int getDueCount() {
+        return dueCount;
+    }
+
+    public void setDueCount(int dueCount) {
+        this.dueCount = dueCount;
+    }
+
+    public int getLoanCount() {
+        return loanCount;
+    }
+
+    public void setLoanCount(int loanCount) {
+        this.loanCount = loanCount;
+    }
+
+    public int getPaidCount() {
+        return paidCount;
+    }
+
+    public void setPaidCount(int paidCount) {
+        this.paidCount = paidCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(int skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getPaymentsPerSecond() {
+        return paymentsPerSecond;
+    }
+
+    public void setPaymentsPerSecond(double paymentsPerSecond) {
+        this.paymentsPerSecond = paymentsPerSecond;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<Failure> failures) {
+        this.failures = failures;
+    }
+
+    /**
+     * Loan単位の失敗内容（Loanの返済明細はまとめてロールバックされる）
+     */
+    public static class Failure {
+        private Long loanId;
+        private List<Long> paymentDetailIds;
+        private String error;
+
+        public Failure() {
+        }
+
+        public Failure(Long loanId, List<Long> paymentDetailIds, String error) {
+            this.loanId = loanId;
+            this.paymentDetailIds = paymentDetailIds;
+            this.error = error;
+        }
+
+        public Long getLoanId() { return loanId; }
+        public void setLoanId(Long loanId) { this.loanId = loanId; }
+
+        public List<Long> getPaymentDetailIds() { return paymentDetailIds; }
+        public void setPaymentDetailIds(List<Long> paymentDetailIds) { this.paymentDetailIds = paymentDetailIds; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+}
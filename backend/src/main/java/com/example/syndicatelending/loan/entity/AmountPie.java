@@ -6,10 +6,13 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "drawdown_amount_pies")
+@Table(name = "drawdown_amount_pies", indexes = {
+        @Index(name = "idx_drawdown_amount_pies_drawdown_id", columnList = "drawdown_id")
+})
 public class AmountPie {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "drawdown_amount_pies_seq")
+    @SequenceGenerator(name = "drawdown_amount_pies_seq", sequenceName = "drawdown_amount_pies_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
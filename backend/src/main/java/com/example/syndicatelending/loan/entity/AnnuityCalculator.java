@@ -0,0 +1,147 @@
+package com.example.syndicatelending.loan.entity;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 元利均等返済の年金係数（annuity factor）計算機。
+ * <p>
+ * 年金係数 r * (1 + r)^n / ((1 + r)^n - 1) を有効桁数を制限したMathContextで計算し、
+ * (サイクル利率, 支払回数) をキーとするLRUキャッシュに保持する。
+ * 同一の利率・期間のローンが多数存在するため、累乗計算はキーごとに一度だけ行われる。
+ * </p>
+ * <p>
+ * 支払額は元本 × 年金係数を整数に丸めて求める。丸め境界（x.5）に極めて近い場合のみ
+ * 無制限精度の従来計算にフォールバックするため、結果は従来の計算と完全に一致する。
+ * </p>
+ */
+final class AnnuityCalculator {
+
+    /** 年金係数の計算精度（有効桁数） */
+    static final MathContext FACTOR_CONTEXT = new MathContext(64, RoundingMode.HALF_EVEN);
+
+    /** キャッシュに保持する年金係数の最大件数 */
+    static final int CACHE_CAPACITY = 1024;
+
+    /** 丸め境界判定の許容誤差。係数の誤差（約50桁目）より十分大きく、実際の金額差より十分小さい。 */
+    private static final BigDecimal TIE_TOLERANCE = new BigDecimal("1E-20");
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    private static final Map<FactorKey, BigDecimal> FACTOR_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<FactorKey, BigDecimal> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            });
+
+    private AnnuityCalculator() {
+    }
+
+    /**
+     * 元利均等返済のサイクル支払額を計算します。
+     *
+     * @param principal        元本金額
+     * @param cycleRate        サイクル利率
+     * @param numberOfPayments 支払回数
+     * @return サイクル支払額（整数に丸めた値）
+     */
+    static BigDecimal installment(BigDecimal principal, BigDecimal cycleRate, int numberOfPayments) {
+        if (cycleRate.signum() == 0) {
+            // 無利息の場合
+            return principal.divide(new BigDecimal(numberOfPayments), 0, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal approximate = principal.multiply(factor(cycleRate, numberOfPayments));
+        BigDecimal fraction = approximate.remainder(BigDecimal.ONE).abs();
+        if (fraction.subtract(HALF).abs().compareTo(TIE_TOLERANCE) < 0) {
+            // 丸め境界付近は近似誤差で結果が変わり得るため、無制限精度で計算する
+            return exactInstallment(principal, cycleRate, numberOfPayments);
+        }
+        return approximate.setScale(0, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 年金係数を取得します（キャッシュ済みの場合はキャッシュから返す）。
+     *
+     * @param cycleRate        サイクル利率（ゼロ以外）
+     * @param numberOfPayments 支払回数
+     * @return 年金係数
+     */
+    static BigDecimal factor(BigDecimal cycleRate, int numberOfPayments) {
+        FactorKey key = new FactorKey(cycleRate, numberOfPayments);
+        BigDecimal cached = FACTOR_CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        BigDecimal computed = computeFactor(cycleRate, numberOfPayments);
+        FACTOR_CACHE.put(key, computed);
+        return computed;
+    }
+
+    /**
+     * 無制限精度での従来のPMT計算。
+     * <p>
+     * PMT計算式: P * r * (1 + r)^n / ((1 + r)^n - 1)
+     * </p>
+     */
+    static BigDecimal exactInstallment(BigDecimal principal, BigDecimal cycleRate, int numberOfPayments) {
+        BigDecimal onePlusRatePowerN = BigDecimal.ONE.add(cycleRate).pow(numberOfPayments);
+        BigDecimal numerator = principal.multiply(cycleRate).multiply(onePlusRatePowerN);
+        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+        return numerator.divide(denominator, 0, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * キャッシュ件数を取得します（テスト用）。
+     */
+    static int cacheSize() {
+        return FACTOR_CACHE.size();
+    }
+
+    /**
+     * キャッシュをクリアします（テスト用）。
+     */
+    static void clearCache() {
+        FACTOR_CACHE.clear();
+    }
+
+    private static BigDecimal computeFactor(BigDecimal cycleRate, int numberOfPayments) {
+        BigDecimal onePlusRatePowerN = BigDecimal.ONE.add(cycleRate).pow(numberOfPayments, FACTOR_CONTEXT);
+        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE, FACTOR_CONTEXT);
+        return cycleRate.multiply(onePlusRatePowerN, FACTOR_CONTEXT).divide(denominator, FACTOR_CONTEXT);
+    }
+
+    /**
+     * キャッシュキー。BigDecimalのスケール差を吸収するため、末尾ゼロを除去して保持する。
+     */
+    private static final class FactorKey {
+        private final BigDecimal cycleRate;
+        private final int numberOfPayments;
+
+        private FactorKey(BigDecimal cycleRate, int numberOfPayments) {
+            this.cycleRate = cycleRate.stripTrailingZeros();
+            this.numberOfPayments = numberOfPayments;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            FactorKey that = (FactorKey) o;
+            return numberOfPayments == that.numberOfPayments && cycleRate.equals(that.cycleRate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cycleRate, numberOfPayments);
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.example.syndicatelending.loan.entity;
 
+import com.example.syndicatelending.common.infrastructure.UninitializedLazyValueFilter;
 import com.example.syndicatelending.transaction.entity.Transaction;
 import com.example.syndicatelending.transaction.entity.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import java.util.List;
 
 @Entity
-@Table(name = "drawdown")
+@NamedEntityGraph(name = Drawdown.WITH_AMOUNT_PIES,
+        attributeNodes = @NamedAttributeNode("amountPies"))
+@Table(name = "drawdown", indexes = {
+        @Index(name = "idx_drawdown_loan_id", columnList = "loan_id")
+})
 public class Drawdown extends Transaction {
+    /** 投資家別の按分を同時に取得するエンティティグラフ（詳細取得用） */
+    public static final String WITH_AMOUNT_PIES = "Drawdown.withAmountPies";
 
     @Column(nullable = false)
     private Long loanId;
@@ -20,6 +28,7 @@ public class Drawdown extends Transaction {
     private String purpose;
 
     @JsonManagedReference
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UninitializedLazyValueFilter.class)
     @OneToMany(mappedBy = "drawdown", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<AmountPie> amountPies;
 
@@ -1,17 +1,23 @@
 package com.example.syndicatelending.loan.entity;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
 import com.example.syndicatelending.common.domain.model.PercentageAttributeConverter;
+import com.example.syndicatelending.common.infrastructure.UninitializedLazyValueFilter;
 import com.example.syndicatelending.common.statemachine.loan.LoanState;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 /**
@@ -22,11 +28,20 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
  * </p>
  */
 @Entity
-@Table(name = "loan")
+@NamedEntityGraph(name = Loan.WITH_PAYMENT_DETAILS,
+        attributeNodes = @NamedAttributeNode("paymentDetails"))
+@Table(name = "loan", indexes = {
+        @Index(name = "idx_loan_facility_id_borrower_id", columnList = "facility_id, borrower_id"),
+        @Index(name = "idx_loan_borrower_id", columnList = "borrower_id")
+})
 public class Loan {
+    /** 返済明細を同時に取得するエンティティグラフ（詳細取得用） */
+    public static final String WITH_PAYMENT_DETAILS = "Loan.withPaymentDetails";
+
     /** ローンID（主キー） */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_seq")
+    @SequenceGenerator(name = "loan_seq", sequenceName = "loan_seq", allocationSize = 50)
     private Long id;
 
     /** ファシリティID（外部キー） */
@@ -73,6 +88,7 @@ public class Loan {
     /** 支払い詳細リスト */
     @OneToMany(mappedBy = "loan", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JsonManagedReference
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UninitializedLazyValueFilter.class)
     private List<PaymentDetail> paymentDetails = new ArrayList<>();
 
     /** 通貨コード（例: JPY, USD等） */
@@ -121,6 +137,20 @@ public class Loan {
     public Loan(Long facilityId, Long borrowerId, Money principalAmount, Percentage annualInterestRate,
             LocalDate drawdownDate, Integer repaymentPeriodMonths, RepaymentCycle repaymentCycle,
             RepaymentMethod repaymentMethod, String currency) {
+        this(facilityId, borrowerId, principalAmount, annualInterestRate, drawdownDate, repaymentPeriodMonths,
+                repaymentCycle, repaymentMethod, currency, null);
+    }
+
+    /**
+     * 主要プロパティを全て受け取るコンストラクタ（支払いスケジュールの生成範囲を指定）。
+     * <p>
+     * {@code materializeThrough} を指定した場合は、その日付以前に期日が到来する支払い詳細のみ生成する
+     * （永続化モードDUE_ONLY用。全件を生成してから破棄することはしない）。null の場合は全件を生成する。
+     * </p>
+     */
+    public Loan(Long facilityId, Long borrowerId, Money principalAmount, Percentage annualInterestRate,
+            LocalDate drawdownDate, Integer repaymentPeriodMonths, RepaymentCycle repaymentCycle,
+            RepaymentMethod repaymentMethod, String currency, LocalDate materializeThrough) {
         this.facilityId = facilityId;
         this.borrowerId = borrowerId;
         this.principalAmount = principalAmount;
@@ -132,7 +162,11 @@ public class Loan {
         this.repaymentMethod = repaymentMethod;
         this.currency = currency;
         // 支払いスケジュール自動生成
-        generatePaymentSchedule();
+        if (materializeThrough == null) {
+            generatePaymentSchedule();
+        } else {
+            generatePaymentSchedule(materializeThrough);
+        }
     }
 
     /**
@@ -308,154 +342,109 @@ public class Loan {
         // 既存の支払い詳細をクリア
         this.paymentDetails.clear();
 
-        // 返済方法に基づいて支払いスケジュールを生成
-        List<PaymentDetail> newPaymentDetails;
-        switch (this.repaymentMethod) {
-            case EQUAL_INSTALLMENT:
-                newPaymentDetails = generateEqualInstallmentSchedule();
-                break;
-            case BULLET_PAYMENT:
-                newPaymentDetails = generateBulletPaymentSchedule();
-                break;
-            default:
-                throw new IllegalStateException("サポートされていない返済方法です: " + this.repaymentMethod);
-        }
-
-        // 生成された支払い詳細を設定
-        this.paymentDetails.addAll(newPaymentDetails);
+        // 返済方法に基づいて支払いスケジュールを生成し設定
+        paymentSchedule().forEach(this.paymentDetails::add);
     }
 
     /**
-     * 元利均等返済の支払いスケジュールを生成します。
+     * 指定日までに期日が到来する分のみ支払いスケジュールを生成します。
+     * <p>
+     * 既存の支払い詳細をクリアし、期日が指定日以前の支払い詳細のみを設定します。
+     * 残りの支払い詳細は {@link #paymentSchedule()} で必要時に計算するか、
+     * {@link #materializeDueInstallments(LocalDate)} で期日到来時に追加します。
+     * </p>
      *
-     * @return 支払い詳細のリスト
+     * @param materializeThrough この日付以前に期日が到来する支払い詳細のみ保持する
      */
-    private List<PaymentDetail> generateEqualInstallmentSchedule() {
-        List<PaymentDetail> details = new ArrayList<>();
-
-        // 返済サイクルに基づく利率を計算
-        BigDecimal cycleRate = this.annualInterestRate.getValue()
-                .multiply(BigDecimal.valueOf(this.repaymentCycle.getMonths()))
-                .divide(new BigDecimal("12"), 10, RoundingMode.HALF_UP);
-
-        // 返済回数を計算（返済サイクルに基づく）
-        int numberOfPayments = this.repaymentCycle.getTotalPayments(this.repaymentPeriodMonths);
-        
-        BigDecimal principalBd = this.principalAmount.getAmount();
-        BigDecimal cyclePayment = calculateEqualInstallmentPayment(principalBd, cycleRate, numberOfPayments);
-
-        BigDecimal remainingBalance = principalBd;
-        LocalDate paymentDate = this.drawdownDate.plusMonths(this.repaymentCycle.getMonths());
-
-        for (int i = 1; i <= numberOfPayments; i++) {
-            // 利息部分を計算（サイクル期間の利息）
-            BigDecimal interestPayment = remainingBalance.multiply(cycleRate).setScale(0, RoundingMode.HALF_UP);
-
-            // 元本部分を計算
-            BigDecimal principalPayment = cyclePayment.subtract(interestPayment);
-
-            // 最終回の調整
-            if (i == numberOfPayments) {
-                principalPayment = remainingBalance;
-                cyclePayment = principalPayment.add(interestPayment);
-            }
-
-            // 残高を更新
-            remainingBalance = remainingBalance.subtract(principalPayment);
-
-            // PaymentDetailを作成
-            PaymentDetail detail = new PaymentDetail(
-                    this,
-                    i,
-                    Money.of(principalPayment),
-                    Money.of(interestPayment),
-                    paymentDate,
-                    Money.of(remainingBalance));
-
-            details.add(detail);
-            paymentDate = paymentDate.plusMonths(this.repaymentCycle.getMonths());
-        }
+    public void generatePaymentSchedule(LocalDate materializeThrough) {
+        this.paymentDetails.clear();
+        paymentSchedule()
+                .takeWhile(detail -> !detail.getDueDate().isAfter(materializeThrough))
+                .forEach(this.paymentDetails::add);
+    }
 
-        return details;
+    /**
+     * 現在のローン条件で支払いスケジュールを再計算し、既存の支払い詳細に差分のみ反映します。
+     * <p>
+     * 支払回数が一致する既存の支払い詳細は金額・期日を上書きして再利用し（IDは維持される）、
+     * 値が変わらない行は更新しません。返済回数が増えた分のみ追加し、減った分のみ削除します。
+     * {@link #generatePaymentSchedule()} と異なり、全件の削除・再作成は行いません。
+     * </p>
+     *
+     * @return 追加・更新・削除のいずれかが発生した支払い詳細の件数
+     */
+    public int reconcilePaymentSchedule() {
+        return reconcilePaymentSchedule(paymentSchedule());
     }
 
     /**
-     * バレット返済の支払いスケジュールを生成します。
+     * 指定日までに期日が到来する分のみを対象に、支払いスケジュールを差分反映します。
      *
-     * @return 支払い詳細のリスト
+     * @param materializeThrough この日付以前に期日が到来する支払い詳細のみ保持する
+     * @return 追加・更新・削除のいずれかが発生した支払い詳細の件数
+     * @see #reconcilePaymentSchedule()
      */
-    private List<PaymentDetail> generateBulletPaymentSchedule() {
-        List<PaymentDetail> details = new ArrayList<>();
-
-        // 返済サイクルに基づく利率を計算
-        BigDecimal cycleRate = this.annualInterestRate.getValue()
-                .multiply(BigDecimal.valueOf(this.repaymentCycle.getMonths()))
-                .divide(new BigDecimal("12"), 10, RoundingMode.HALF_UP);
-        
-        BigDecimal principalBd = this.principalAmount.getAmount();
-        
-        // 返済回数を計算（返済サイクルに基づく）
-        int numberOfPayments = this.repaymentCycle.getTotalPayments(this.repaymentPeriodMonths);
-        LocalDate paymentDate = this.drawdownDate.plusMonths(this.repaymentCycle.getMonths());
-
-        // 利息のみの支払い（最終回を除く）
-        for (int i = 1; i < numberOfPayments; i++) {
-            BigDecimal interestPayment = principalBd.multiply(cycleRate).setScale(0, RoundingMode.HALF_UP);
-
-            PaymentDetail detail = new PaymentDetail(
-                    this,
-                    i,
-                    Money.zero(),
-                    Money.of(interestPayment),
-                    paymentDate,
-                    this.principalAmount // 残高は元本と同じ
-            );
-
-            details.add(detail);
-            paymentDate = paymentDate.plusMonths(this.repaymentCycle.getMonths());
-        }
+    public int reconcilePaymentSchedule(LocalDate materializeThrough) {
+        return reconcilePaymentSchedule(paymentSchedule()
+                .takeWhile(detail -> !detail.getDueDate().isAfter(materializeThrough)));
+    }
 
-        // 最終回：元本 + 利息
-        if (numberOfPayments > 0) {
-            BigDecimal finalInterestPayment = principalBd.multiply(cycleRate).setScale(0, RoundingMode.HALF_UP);
+    private int reconcilePaymentSchedule(Stream<PaymentDetail> schedule) {
+        Map<Integer, PaymentDetail> existingByNumber = new HashMap<>();
+        for (PaymentDetail detail : this.paymentDetails) {
+            existingByNumber.put(detail.getPaymentNumber(), detail);
+        }
 
-            PaymentDetail finalDetail = new PaymentDetail(
-                    this,
-                    numberOfPayments,
-                    this.principalAmount, // 元本全額
-                    Money.of(finalInterestPayment),
-                    paymentDate,
-                    Money.zero() // 最終的な残高は0
-            );
+        int[] changed = { 0 };
+        schedule.forEach(scheduled -> {
+            PaymentDetail existing = existingByNumber.remove(scheduled.getPaymentNumber());
+            if (existing == null) {
+                this.paymentDetails.add(scheduled);
+                changed[0]++;
+            } else if (existing.applySchedule(scheduled)) {
+                changed[0]++;
+            }
+        });
 
-            details.add(finalDetail);
+        // 新しいスケジュールに存在しない末尾の支払い詳細を削除（orphan removal）
+        if (!existingByNumber.isEmpty()) {
+            this.paymentDetails.removeIf(detail -> existingByNumber.get(detail.getPaymentNumber()) == detail);
+            changed[0] += existingByNumber.size();
         }
-
-        return details;
+        return changed[0];
     }
 
     /**
-     * 元利均等返済の月次支払額を計算します。
+     * 期日が到来した未保持の支払い詳細を支払い詳細リストに追加します。
      *
-     * @param principal        元本金額
-     * @param monthlyRate      月利
-     * @param numberOfPayments 支払回数
-     * @return 月次支払額
+     * @param asOf 基準日
+     * @return 追加した支払い詳細の件数
      */
-    private BigDecimal calculateEqualInstallmentPayment(BigDecimal principal, BigDecimal monthlyRate,
-            int numberOfPayments) {
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
-            // 無利息の場合
-            return principal.divide(new BigDecimal(numberOfPayments), 0, RoundingMode.HALF_UP);
-        }
-
-        // PMT計算式: P * r * (1 + r)^n / ((1 + r)^n - 1)
-        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRatePowerN = onePlusRate.pow(numberOfPayments);
-
-        BigDecimal numerator = principal.multiply(monthlyRate).multiply(onePlusRatePowerN);
-        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+    public int materializeDueInstallments(LocalDate asOf) {
+        int lastPaymentNumber = this.paymentDetails.stream()
+                .mapToInt(PaymentDetail::getPaymentNumber)
+                .max()
+                .orElse(0);
+        int before = this.paymentDetails.size();
+        paymentSchedule()
+                .skip(lastPaymentNumber)
+                .takeWhile(detail -> !detail.getDueDate().isAfter(asOf))
+                .forEach(this.paymentDetails::add);
+        return this.paymentDetails.size() - before;
+    }
 
-        return numerator.divide(denominator, 0, RoundingMode.HALF_UP);
+    /**
+     * 現在のローン条件から支払いスケジュールを必要時に計算するStreamを返します。
+     * <p>
+     * 生成される支払い詳細は支払い詳細リストに追加されず、永続化もされません。
+     * 要素は支払回数順に1件ずつ計算されるため、先頭から必要な分だけ参照できます。
+     * </p>
+     *
+     * @return 支払い詳細のStream（支払回数順）
+     */
+    public Stream<PaymentDetail> paymentSchedule() {
+        PaymentScheduleIterator iterator = new PaymentScheduleIterator(this);
+        return StreamSupport.stream(Spliterators.spliterator(iterator, iterator.getNumberOfPayments(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
     }
 }
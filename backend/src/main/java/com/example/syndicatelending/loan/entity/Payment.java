@@ -2,8 +2,10 @@ package com.example.syndicatelending.loan.entity;
 
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.MoneyAttributeConverter;
+import com.example.syndicatelending.common.infrastructure.UninitializedLazyValueFilter;
 import com.example.syndicatelending.transaction.entity.Transaction;
 import com.example.syndicatelending.transaction.entity.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import java.time.LocalDate;
@@ -11,8 +13,15 @@ import java.util.List;
 import java.util.ArrayList;
 
 @Entity
-@Table(name = "payments")
+@NamedEntityGraph(name = Payment.WITH_DISTRIBUTIONS,
+        attributeNodes = @NamedAttributeNode("paymentDistributions"))
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_loan_id_payment_date", columnList = "loan_id, payment_date")
+})
 public class Payment extends Transaction {
+    /** 投資家配分を同時に取得するエンティティグラフ（詳細取得・Loan別の返済一覧用） */
+    public static final String WITH_DISTRIBUTIONS = "Payment.withDistributions";
+
     @Column(name = "loan_id", nullable = false)
     private Long loanId;
 
@@ -34,8 +43,9 @@ public class Payment extends Transaction {
     @Column(name = "currency", nullable = false)
     private String currency;
 
-    @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonManagedReference
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UninitializedLazyValueFilter.class)
     private List<PaymentDistribution> paymentDistributions = new ArrayList<>();
 
     @PrePersist
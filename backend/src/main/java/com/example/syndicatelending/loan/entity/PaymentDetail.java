@@ -15,11 +15,16 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
  * </p>
  */
 @Entity
-@Table(name = "payment_detail")
+@Table(name = "payment_detail", indexes = {
+        @Index(name = "idx_payment_detail_due_date_status", columnList = "due_date, payment_status"),
+        @Index(name = "idx_payment_detail_loan_id", columnList = "loan_id"),
+        @Index(name = "idx_payment_detail_payment_id", columnList = "payment_id")
+})
 public class PaymentDetail {
     /** 返済明細ID（主キー） */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_detail_seq")
+    @SequenceGenerator(name = "payment_detail_seq", sequenceName = "payment_detail_seq", allocationSize = 50)
     private Long id;
 
     /** 所属するローン */
@@ -234,6 +239,36 @@ public class PaymentDetail {
         this.paymentId = paymentId;
     }
 
+    /**
+     * 再計算されたスケジュールの金額・期日をこの返済明細に反映する（スケジュール差分更新時）
+     * <p>
+     * IDや支払い状態は変更しない。値が変わらない項目は上書きしないため、
+     * 変更がなければ更新SQLは発行されない。
+     * </p>
+     * @param scheduled 再計算された同じ返済回数の返済明細
+     * @return いずれかの項目が変更された場合true
+     */
+    public boolean applySchedule(PaymentDetail scheduled) {
+        boolean changed = false;
+        if (!principalPayment.equals(scheduled.getPrincipalPayment())) {
+            this.principalPayment = scheduled.getPrincipalPayment();
+            changed = true;
+        }
+        if (!interestPayment.equals(scheduled.getInterestPayment())) {
+            this.interestPayment = scheduled.getInterestPayment();
+            changed = true;
+        }
+        if (!dueDate.equals(scheduled.getDueDate())) {
+            this.dueDate = scheduled.getDueDate();
+            changed = true;
+        }
+        if (!remainingBalance.equals(scheduled.getRemainingBalance())) {
+            this.remainingBalance = scheduled.getRemainingBalance();
+            changed = true;
+        }
+        return changed;
+    }
+
     /**
      * 支払いを未払い状態に戻す（支払い取り消し時）
      */
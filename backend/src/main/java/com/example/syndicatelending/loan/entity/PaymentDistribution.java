@@ -7,10 +7,13 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payment_distributions")
+@Table(name = "payment_distributions", indexes = {
+        @Index(name = "idx_payment_distributions_payment_id", columnList = "payment_id")
+})
 public class PaymentDistribution {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_distributions_seq")
+    @SequenceGenerator(name = "payment_distributions_seq", sequenceName = "payment_distributions_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "investor_id", nullable = false)
@@ -0,0 +1,138 @@
+package com.example.syndicatelending.loan.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.example.syndicatelending.common.domain.model.Money;
+
+/**
+ * 返済スケジュールを1回分ずつ計算するイテレータ。
+ * <p>
+ * 生成時点のローン条件（元本、利率、返済サイクル、返済方法）をスナップショットとして保持し、
+ * {@link #next()} が呼ばれるたびに次回の返済明細を計算する。
+ * 全件をリストに展開しないため、長期ローンでも必要な分だけ計算できる。
+ * </p>
+ * <p>
+ * 生成される返済明細はローンの返済明細リストには追加されない（未永続化の状態）。
+ * </p>
+ */
+class PaymentScheduleIterator implements Iterator<PaymentDetail> {
+
+    private final Loan loan;
+    private final RepaymentMethod repaymentMethod;
+    private final int cycleMonths;
+    private final int numberOfPayments;
+    private final BigDecimal cycleRate;
+    private final Money principalAmount;
+    private final BigDecimal principalBd;
+
+    /** 元利均等返済のサイクル支払額（初回のnext()で計算） */
+    private BigDecimal cyclePayment;
+    private BigDecimal remainingBalance;
+    private LocalDate paymentDate;
+    private int nextPaymentNumber = 1;
+
+    PaymentScheduleIterator(Loan loan) {
+        this.loan = loan;
+        this.repaymentMethod = loan.getRepaymentMethod();
+        this.cycleMonths = loan.getRepaymentCycle().getMonths();
+        this.numberOfPayments = loan.getRepaymentCycle().getTotalPayments(loan.getRepaymentPeriodMonths());
+        // 返済サイクルに基づく利率を計算
+        this.cycleRate = loan.getAnnualInterestRate().getValue()
+                .multiply(BigDecimal.valueOf(cycleMonths))
+                .divide(new BigDecimal("12"), 10, RoundingMode.HALF_UP);
+        this.principalAmount = loan.getPrincipalAmount();
+        this.principalBd = principalAmount.getAmount();
+        this.remainingBalance = principalBd;
+        this.paymentDate = loan.getDrawdownDate().plusMonths(cycleMonths);
+
+        if (repaymentMethod != RepaymentMethod.EQUAL_INSTALLMENT
+                && repaymentMethod != RepaymentMethod.BULLET_PAYMENT) {
+            throw new IllegalStateException("サポートされていない返済方法です: " + repaymentMethod);
+        }
+    }
+
+    /**
+     * 総返済回数を取得します。
+     */
+    int getNumberOfPayments() {
+        return numberOfPayments;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextPaymentNumber <= numberOfPayments;
+    }
+
+    @Override
+    public PaymentDetail next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PaymentDetail detail = repaymentMethod == RepaymentMethod.EQUAL_INSTALLMENT
+                ? nextEqualInstallment()
+                : nextBulletPayment();
+        paymentDate = paymentDate.plusMonths(cycleMonths);
+        nextPaymentNumber++;
+        return detail;
+    }
+
+    /**
+     * 元利均等返済の次回分を計算します。
+     */
+    private PaymentDetail nextEqualInstallment() {
+        if (cyclePayment == null) {
+            cyclePayment = AnnuityCalculator.installment(principalBd, cycleRate, numberOfPayments);
+        }
+
+        // 利息部分を計算（サイクル期間の利息）
+        BigDecimal interestPayment = remainingBalance.multiply(cycleRate).setScale(0, RoundingMode.HALF_UP);
+
+        // 元本部分を計算（最終回は残高全額）
+        BigDecimal principalPayment = nextPaymentNumber == numberOfPayments
+                ? remainingBalance
+                : cyclePayment.subtract(interestPayment);
+
+        // 残高を更新
+        remainingBalance = remainingBalance.subtract(principalPayment);
+
+        return new PaymentDetail(
+                loan,
+                nextPaymentNumber,
+                Money.of(principalPayment),
+                Money.of(interestPayment),
+                paymentDate,
+                Money.of(remainingBalance));
+    }
+
+    /**
+     * バレット返済の次回分を計算します（最終回のみ元本全額、それ以外は利息のみ）。
+     */
+    private PaymentDetail nextBulletPayment() {
+        BigDecimal interestPayment = principalBd.multiply(cycleRate).setScale(0, RoundingMode.HALF_UP);
+
+        if (nextPaymentNumber < numberOfPayments) {
+            return new PaymentDetail(
+                    loan,
+                    nextPaymentNumber,
+                    Money.zero(),
+                    Money.of(interestPayment),
+                    paymentDate,
+                    principalAmount // 残高は元本と同じ
+            );
+        }
+
+        // 最終回：元本 + 利息
+        return new PaymentDetail(
+                loan,
+                nextPaymentNumber,
+                principalAmount, // 元本全額
+                Money.of(interestPayment),
+                paymentDate,
+                Money.zero() // 最終的な残高は0
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.syndicatelending.loan.entity;
+
+/**
+ * 返済スケジュールの永続化モードを表すEnum。
+ * 設定値 {@code loan.schedule.persistence-mode} で切り替える。
+ */
+public enum SchedulePersistenceMode {
+    /** 全返済明細をドローダウン時に永続化する（既定） */
+    FULL,
+
+    /** 期日が到来した返済明細のみ永続化し、将来分はローン条件から必要時に計算する */
+    DUE_ONLY
+}
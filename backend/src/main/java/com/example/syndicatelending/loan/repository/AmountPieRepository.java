@@ -2,15 +2,25 @@ package com.example.syndicatelending.loan.repository;
 
 import com.example.syndicatelending.loan.entity.AmountPie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface AmountPieRepository extends JpaRepository<AmountPie, Long> {
-    List<AmountPie> findByDrawdown_Id(Long drawdownId);
-    
-    List<AmountPie> findByDrawdown_LoanId(Long loanId);
+    /**
+     * 指定されたDrawdownの按分を取得（外部キー列で絞り込み、drawdown_id のインデックスを使う）
+     */
+    @Query("SELECT ap FROM AmountPie ap WHERE ap.drawdown.id = :drawdownId")
+    List<AmountPie> findByDrawdown_Id(@Param("drawdownId") Long drawdownId);
+
+    /**
+     * 指定されたLoanに紐づくDrawdownの按分を取得（loan_id・drawdown_id のインデックスを使う）
+     */
+    @Query("SELECT ap FROM AmountPie ap JOIN ap.drawdown d WHERE d.loanId = :loanId")
+    List<AmountPie> findByDrawdown_LoanId(@Param("loanId") Long loanId);
 
     void deleteByDrawdown_Id(Long drawdownId);
 }
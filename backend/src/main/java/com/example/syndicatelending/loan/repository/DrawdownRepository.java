@@ -1,14 +1,46 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.loan.dto.DrawdownSummary;
 import com.example.syndicatelending.loan.entity.Drawdown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DrawdownRepository extends JpaRepository<Drawdown, Long> {
+    /**
+     * Drawdown一覧用の射影のSELECT句（AmountPieは読み込まず、件数と合計のみ集計する）
+     */
+    String SUMMARY_SELECT = "SELECT new com.example.syndicatelending.loan.dto.DrawdownSummary(" +
+            "d.id, d.facilityId, d.borrowerId, d.loanId, d.amount, d.currency, d.purpose, d.transactionDate, d.status, " +
+            "(SELECT COUNT(ap) FROM AmountPie ap WHERE ap.drawdown = d), " +
+            "(SELECT COALESCE(SUM(ap.amount), 0.00BD) FROM AmountPie ap WHERE ap.drawdown = d), " +
+            "d.createdAt, d.updatedAt, d.version) " +
+            "FROM Drawdown d";
+
     List<Drawdown> findByFacilityId(Long facilityId);
     List<Drawdown> findByLoanId(Long loanId);
     List<Drawdown> findByBorrowerId(Long borrowerId);
+
+    /**
+     * 投資家別の按分をJOINで同時に取得する（詳細取得用。一覧取得では按分を読み込まない）
+     */
+    @EntityGraph(Drawdown.WITH_AMOUNT_PIES)
+    Optional<Drawdown> findWithAmountPiesById(Long id);
+
+    @Query(SUMMARY_SELECT)
+    List<DrawdownSummary> findAllSummaries();
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(d) FROM Drawdown d")
+    Page<DrawdownSummary> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE d.facilityId = :facilityId")
+    List<DrawdownSummary> findSummariesByFacilityId(@Param("facilityId") Long facilityId);
 }
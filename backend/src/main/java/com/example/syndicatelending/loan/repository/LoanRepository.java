@@ -1,14 +1,70 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.common.statemachine.loan.LoanState;
+import com.example.syndicatelending.loan.dto.LoanSummary;
 import com.example.syndicatelending.loan.entity.Loan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
     List<Loan> findByFacilityId(Long facilityId);
     List<Loan> findByBorrowerId(Long borrowerId);
     List<Loan> findByFacilityIdAndBorrowerId(Long facilityId, Long borrowerId);
+
+    /**
+     * 基準日より後に期日が来る返済明細を保存していないLoanのIDをID順にキーセットページングで取得
+     * （永続化モードDUE_ONLYで、期日到来分の返済明細を追加する対象の候補）
+     */
+    @Query("SELECT l.id FROM Loan l WHERE l.id > :afterId AND l.status <> :excludedStatus " +
+           "AND NOT EXISTS (SELECT pd.id FROM PaymentDetail pd WHERE pd.loan.id = l.id AND pd.dueDate > :asOf) " +
+           "ORDER BY l.id")
+    List<Long> findIdsWithoutInstallmentsAfter(@Param("asOf") LocalDate asOf,
+            @Param("excludedStatus") LoanState excludedStatus, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 返済明細をJOINで同時に取得する（詳細取得用。一覧取得では返済明細を読み込まない）
+     */
+    @EntityGraph(Loan.WITH_PAYMENT_DETAILS)
+    Optional<Loan> findWithPaymentDetailsById(Long id);
+
+    /**
+     * Loan一覧を軽量な射影で取得（返済明細は読み込まない）
+     */
+    @Query(value = "SELECT new com.example.syndicatelending.loan.dto.LoanSummary(" +
+                   "l.id, l.facilityId, l.borrowerId, l.principalAmount, l.outstandingBalance, l.annualInterestRate, " +
+                   "l.drawdownDate, l.repaymentPeriodMonths, l.repaymentCycle, l.repaymentMethod, l.currency, l.status, " +
+                   "l.createdAt, l.updatedAt, l.version) " +
+                   "FROM Loan l",
+           countQuery = "SELECT COUNT(l) FROM Loan l")
+    Page<LoanSummary> findSummaries(Pageable pageable);
+
+    /**
+     * 指定されたFacilityのLoan一覧を軽量な射影で取得（返済明細は読み込まない）
+     */
+    @Query("SELECT new com.example.syndicatelending.loan.dto.LoanSummary(" +
+           "l.id, l.facilityId, l.borrowerId, l.principalAmount, l.outstandingBalance, l.annualInterestRate, " +
+           "l.drawdownDate, l.repaymentPeriodMonths, l.repaymentCycle, l.repaymentMethod, l.currency, l.status, " +
+           "l.createdAt, l.updatedAt, l.version) " +
+           "FROM Loan l WHERE l.facilityId = :facilityId ORDER BY l.id")
+    List<LoanSummary> findSummariesByFacilityId(@Param("facilityId") Long facilityId);
+
+    /**
+     * 指定されたBorrowerのLoan一覧を軽量な射影で取得（返済明細は読み込まない）
+     */
+    @Query("SELECT new com.example.syndicatelending.loan.dto.LoanSummary(" +
+           "l.id, l.facilityId, l.borrowerId, l.principalAmount, l.outstandingBalance, l.annualInterestRate, " +
+           "l.drawdownDate, l.repaymentPeriodMonths, l.repaymentCycle, l.repaymentMethod, l.currency, l.status, " +
+           "l.createdAt, l.updatedAt, l.version) " +
+           "FROM Loan l WHERE l.borrowerId = :borrowerId ORDER BY l.id")
+    List<LoanSummary> findSummariesByBorrowerId(@Param("borrowerId") Long borrowerId);
 }
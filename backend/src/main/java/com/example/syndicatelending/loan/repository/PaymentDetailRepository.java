@@ -1,6 +1,9 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.loan.dto.DueInstallmentDto;
+import com.example.syndicatelending.loan.dto.DuePaymentDetailView;
 import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,7 +50,8 @@ public interface PaymentDetailRepository extends JpaRepository<PaymentDetail, Lo
      * @param loanId ローンID
      * @return 支払い詳細の件数
      */
-    long countByLoanId(Long loanId);
+    @Query("SELECT COUNT(pd) FROM PaymentDetail pd WHERE pd.loan.id = :loanId")
+    long countByLoanId(@Param("loanId") Long loanId);
 
     /**
      * 指定されたローンIDの支払い詳細をすべて削除します。
@@ -61,4 +67,66 @@ public interface PaymentDetailRepository extends JpaRepository<PaymentDetail, Lo
      * @return PaymentDetail（存在しない場合は空のOptional）
      */
     Optional<PaymentDetail> findByPaymentId(Long paymentId);
+
+    /**
+     * 指定日までに期日が到来した指定状態の支払い詳細のIDとローンIDを、ID順にキーセットページングで取得します。
+     * <p>
+     * 前ページの最後のIDを {@code afterId} に指定して次ページを取得します（OFFSETを使わないため、
+     * ページが進んでも読み飛ばす行が増えません）。
+     * </p>
+     *
+     * @param status   支払い状態
+     * @param runDate  基準日（この日以前に期日が到来したものが対象）
+     * @param afterId  このIDより大きいものを取得（初回は0）
+     * @param pageable 取得件数（先頭ページのみ使用）
+     * @return 支払い詳細のIDとローンIDのリスト（ID順）
+     */
+    @Query("SELECT pd.id AS id, pd.loan.id AS loanId FROM PaymentDetail pd " +
+           "WHERE pd.paymentStatus = :status AND pd.dueDate <= :runDate AND pd.id > :afterId " +
+           "ORDER BY pd.id")
+    List<DuePaymentDetailView> findDueAfterId(@Param("status") PaymentStatus status,
+                                              @Param("runDate") LocalDate runDate,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    /**
+     * 指定されたローンの支払い詳細のうち、指定IDのものを支払い番号順で取得します。
+     *
+     * @param loanId ローンID
+     * @param ids    支払い詳細IDのコレクション
+     * @return 支払い詳細のリスト（支払い番号順）
+     */
+    @Query("SELECT pd FROM PaymentDetail pd WHERE pd.loan.id = :loanId AND pd.id IN :ids ORDER BY pd.paymentNumber")
+    List<PaymentDetail> findByLoanIdAndIdInOrderByPaymentNumber(@Param("loanId") Long loanId,
+                                                                @Param("ids") Collection<Long> ids);
+
+    /**
+     * 期日が指定期間内の指定状態の支払い詳細を、期日・ID順にキーセットページングで取得します。
+     * <p>
+     * {@code (afterDueDate, afterId)} より後の行のみを返します。初回は {@code afterDueDate} に
+     * 期間開始日の前日、{@code afterId} に0を指定します。
+     * payment_detail(due_date, payment_status) のインデックスで範囲検索し、エンティティは読み込みません。
+     * </p>
+     *
+     * @param from         期間開始日
+     * @param to           期間終了日
+     * @param status       支払い状態
+     * @param afterDueDate 前ページの最後の期日
+     * @param afterId      前ページの最後のID
+     * @param pageable     取得件数（先頭ページのみ使用）
+     * @return 返済明細DTOのリスト（期日・ID順）
+     */
+    @Query("SELECT new com.example.syndicatelending.loan.dto.DueInstallmentDto(" +
+           "pd.id, l.id, l.facilityId, pd.paymentNumber, pd.dueDate, " +
+           "pd.principalPayment, pd.interestPayment, pd.paymentStatus, l.currency) " +
+           "FROM PaymentDetail pd JOIN pd.loan l " +
+           "WHERE pd.dueDate >= :from AND pd.dueDate <= :to AND pd.paymentStatus = :status " +
+           "AND (pd.dueDate > :afterDueDate OR (pd.dueDate = :afterDueDate AND pd.id > :afterId)) " +
+           "ORDER BY pd.dueDate, pd.id")
+    List<DueInstallmentDto> findDueInstallments(@Param("from") LocalDate from,
+                                                @Param("to") LocalDate to,
+                                                @Param("status") PaymentStatus status,
+                                                @Param("afterDueDate") LocalDate afterDueDate,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
 }
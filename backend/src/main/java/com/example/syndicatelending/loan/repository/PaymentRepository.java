@@ -1,10 +1,12 @@
 package com.example.syndicatelending.loan.repository;
 
 import com.example.syndicatelending.loan.entity.Payment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import com.example.syndicatelending.transaction.entity.TransactionStatus;
 
 @Repository
@@ -13,4 +15,16 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByLoanIdOrderByPaymentDateDesc(Long loanId);
     List<Payment> findByLoanIdAndStatusOrderByPaymentDateDesc(Long loanId, TransactionStatus status);
     boolean existsByLoanId(Long loanId);
+
+    /**
+     * 投資家配分をJOINで同時に取得する（詳細取得用）
+     */
+    @EntityGraph(Payment.WITH_DISTRIBUTIONS)
+    Optional<Payment> findWithDistributionsById(Long id);
+
+    /**
+     * Loanの返済を投資家配分とともに取得する（Loan別の返済一覧用）
+     */
+    @EntityGraph(Payment.WITH_DISTRIBUTIONS)
+    List<Payment> findWithDistributionsByLoanIdOrderByPaymentDateDesc(Long loanId);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.example.syndicatelending.loan.repository;
 
+import com.example.syndicatelending.transaction.dto.TransactionSummaryView;
 import com.example.syndicatelending.transaction.entity.Transaction;
 import com.example.syndicatelending.transaction.entity.TransactionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findByFacilityId(Long facilityId);
     List<Transaction> findByBorrowerId(Long borrowerId);
     List<Transaction> findByTransactionType(TransactionType transactionType);
+
+    /**
+     * 指定されたFacilityの取引を状態・タイプごとに集計する
+     * 取引テーブルの列のみを参照するため、サブクラスのテーブルは結合しない
+     */
+    @Query("SELECT t.status AS status, t.transactionType AS transactionType, " +
+           "COUNT(t) AS transactionCount, COALESCE(SUM(t.amount), 0) AS totalAmount " +
+           "FROM Transaction t WHERE t.facilityId = :facilityId " +
+           "GROUP BY t.status, t.transactionType")
+    List<TransactionSummaryView> summarizeByFacilityId(@Param("facilityId") Long facilityId);
 }
@@ -3,39 +3,59 @@ package com.example.syndicatelending.loan.service;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.ProRataAllocator;
 import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
 import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownBatchItemResult;
+import com.example.syndicatelending.loan.dto.DrawdownBatchResponse;
+import com.example.syndicatelending.loan.dto.DrawdownSummary;
 import com.example.syndicatelending.loan.dto.UpdateDrawdownRequest;
 import com.example.syndicatelending.loan.entity.Drawdown;
 import com.example.syndicatelending.loan.entity.Loan;
 import com.example.syndicatelending.loan.entity.RepaymentCycle;
+import com.example.syndicatelending.loan.entity.SchedulePersistenceMode;
 import com.example.syndicatelending.loan.repository.DrawdownRepository;
 import com.example.syndicatelending.loan.repository.LoanRepository;
 import com.example.syndicatelending.loan.repository.PaymentRepository;
+import com.example.syndicatelending.party.dto.PartyNameView;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.transaction.entity.TransactionStatus;
 import com.example.syndicatelending.loan.entity.AmountPie;
 import com.example.syndicatelending.loan.dto.AmountPieDto;
-import com.example.syndicatelending.facility.entity.SharePie;
-import com.example.syndicatelending.facility.repository.SharePieRepository;
-import com.example.syndicatelending.party.entity.Investor;
-import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.facility.domain.SharePieSnapshot;
+import com.example.syndicatelending.facility.service.SharePieSnapshotRegistry;
+import com.example.syndicatelending.party.service.InvestorBalanceService;
 import com.example.syndicatelending.facility.service.FacilityService;
 // import com.example.syndicatelending.common.statemachine.EntityStateService; // 【削除】Spring Eventsに移行
 import com.example.syndicatelending.common.statemachine.events.DrawdownCreatedEvent;
 import com.example.syndicatelending.common.statemachine.events.DrawdownDeletedEvent;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * ドローダウンサービス - シンジケートローンの資金引き出し処理を管理
@@ -48,40 +68,55 @@ import java.math.BigDecimal;
  */
 @Service
 public class DrawdownService {
+    private static final Logger logger = LoggerFactory.getLogger(DrawdownService.class);
+
     // データアクセス層
     private final DrawdownRepository drawdownRepository;
     private final LoanRepository loanRepository;
     private final PaymentRepository paymentRepository;
     private final FacilityRepository facilityRepository;
     private final BorrowerRepository borrowerRepository;
-    private final SharePieRepository sharePieRepository;
-    private final InvestorRepository investorRepository;
+    private final SharePieSnapshotRegistry sharePieSnapshotRegistry;
     
     // 他のサービス層（状態管理のため）
     private final FacilityService facilityService;
+    private final InvestorBalanceService investorBalanceService;
     // private final EntityStateService entityStateService; // 【削除】Spring Eventsに移行
     private final ApplicationEventPublisher eventPublisher;
 
+    // 返済スケジュールの永続化モード
+    private final SchedulePersistenceMode schedulePersistenceMode;
+
+    // 一括登録のチャンク単位のトランザクションと件数
+    private final TransactionTemplate batchTransactionTemplate;
+    private final int batchChunkSize;
+
     public DrawdownService(DrawdownRepository drawdownRepository,
             LoanRepository loanRepository,
             PaymentRepository paymentRepository,
             FacilityRepository facilityRepository,
             BorrowerRepository borrowerRepository,
-            SharePieRepository sharePieRepository,
-            InvestorRepository investorRepository,
+            SharePieSnapshotRegistry sharePieSnapshotRegistry,
             FacilityService facilityService,
+            InvestorBalanceService investorBalanceService,
             // EntityStateService entityStateService, // 【削除】Spring Eventsに移行
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            @Value("${loan.schedule.persistence-mode:FULL}") SchedulePersistenceMode schedulePersistenceMode,
+            PlatformTransactionManager transactionManager,
+            @Value("${loan.drawdown.batch.chunk-size:50}") int batchChunkSize) {
         this.drawdownRepository = drawdownRepository;
         this.loanRepository = loanRepository;
         this.paymentRepository = paymentRepository;
         this.facilityRepository = facilityRepository;
         this.borrowerRepository = borrowerRepository;
-        this.sharePieRepository = sharePieRepository;
-        this.investorRepository = investorRepository;
+        this.sharePieSnapshotRegistry = sharePieSnapshotRegistry;
         this.facilityService = facilityService;
+        this.investorBalanceService = investorBalanceService;
         // this.entityStateService = entityStateService; // 【削除】Spring Eventsに移行
         this.eventPublisher = eventPublisher;
+        this.schedulePersistenceMode = schedulePersistenceMode;
+        this.batchTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchChunkSize = batchChunkSize;
     }
 
     /**
@@ -111,57 +146,12 @@ public class DrawdownService {
         Loan savedLoan = loanRepository.save(loan);
 
         // 3. Drawdownエンティティの作成 - 資金引き出しの取引記録
-        Drawdown drawdown = new Drawdown();
-        drawdown.setFacilityId(request.getFacilityId());
-        drawdown.setBorrowerId(request.getBorrowerId());
-        drawdown.setTransactionDate(request.getDrawdownDate());
-        drawdown.setAmount(Money.of(request.getAmount()));
+        Drawdown drawdown = newDrawdown(request);
         drawdown.setLoanId(savedLoan.getId());
-        drawdown.setCurrency(request.getCurrency());
-        drawdown.setPurpose(request.getPurpose());
 
         // 4. AmountPieの生成 - 投資家別の引き出し額按分計算
-        List<AmountPie> amountPies = new ArrayList<>();
-        if (request.getAmountPies() != null && !request.getAmountPies().isEmpty()) {
-            // 4-1. 明示的指定ありの場合 - リクエストで投資家別金額が指定済み
-            BigDecimal total = request.getAmountPies().stream().map(AmountPieDto::getAmount).reduce(BigDecimal.ZERO,
-                    BigDecimal::add);
-            if (total.compareTo(request.getAmount()) != 0) {
-                throw new BusinessRuleViolationException("AmountPieの合計がDrawdown金額と一致しません");
-            }
-            // 指定された投資家別金額でAmountPieを作成
-            for (AmountPieDto dto : request.getAmountPies()) {
-                AmountPie pie = new AmountPie();
-                pie.setInvestorId(dto.getInvestorId());
-                pie.setAmount(dto.getAmount());
-                pie.setCurrency(dto.getCurrency());
-                pie.setDrawdown(drawdown);
-                amountPies.add(pie);
-            }
-        } else {
-            // 4-2. SharePieで按分 - ファシリティの持分比率に従って自動按分
-            List<SharePie> sharePies = sharePieRepository.findByFacility_Id(request.getFacilityId());
-            BigDecimal total = BigDecimal.ZERO;
-            for (SharePie sharePie : sharePies) {
-                AmountPie pie = new AmountPie();
-                pie.setInvestorId(sharePie.getInvestorId());
-                // 投資家の持分比率 × ドローダウン金額 = 投資家の引き出し額
-                BigDecimal investorAmount = request.getAmount().multiply(sharePie.getShare().getValue());
-                // 小数点以下第2位まで四捨五入（通貨の精度に合わせる）
-                investorAmount = investorAmount.setScale(2, java.math.RoundingMode.HALF_UP);
-                pie.setAmount(investorAmount);
-                pie.setCurrency(request.getCurrency());
-                pie.setDrawdown(drawdown);
-                amountPies.add(pie);
-                total = total.add(investorAmount);
-            }
-            // 端数調整 - 四捨五入による誤差を最後の投資家で調整
-            if (!amountPies.isEmpty()) {
-                AmountPie last = amountPies.get(amountPies.size() - 1);
-                BigDecimal diff = request.getAmount().subtract(total);
-                last.setAmount(last.getAmount().add(diff));
-            }
-        }
+        List<AmountPie> amountPies = createAmountPies(
+                request, drawdown, sharePieSnapshotRegistry.getSnapshot(request.getFacilityId()));
         drawdown.setAmountPies(amountPies);
 
         // 5. Drawdown保存 - 作成したドローダウンをデータベースに永続化
@@ -186,22 +176,200 @@ public class DrawdownService {
     }
 
     /**
-     * 全ドローダウンの取得
+     * ドローダウンの一括登録
+     * 
+     * リクエストを {@code loan.drawdown.batch.chunk-size} 件ずつのチャンクに分け、
+     * チャンクごとに1つのトランザクションで以下を実行する：
+     * 1. 参照するFacility・Borrower・SharePieをIN句で一括取得
+     * 2. メモリ上で検証・按分（検証エラーの明細は保存せず、エラーとして返す）
+     * 3. Loan・Drawdown・AmountPieをまとめて保存（JDBCバッチ）
+     * 4. 投資家の投資額を投資家ごとに集計して一括更新し、Facilityを確定状態に変更
+     * 
+     * チャンクの保存に失敗した場合はロールバックし、そのチャンクの明細を1件ずつ
+     * 個別のトランザクションで {@link #createDrawdown(CreateDrawdownRequest)} により再実行する。
+     * 明細の失敗はチャンク内の他の明細や他のチャンクに影響しない。
+     * 
+     * チャンクごとにコミットするため、トランザクション外から呼び出すこと
+     * （呼び出し元のトランザクションに参加するとチャンク単位のコミット・ロールバックにならないため、例外とする）。
+     * 
+     * @param requests ドローダウンリクエストのリスト
+     * @return 明細ごとの結果と処理件数・処理時間
+     * @throws IllegalStateException トランザクション内から呼び出された場合
+     */
+    public DrawdownBatchResponse createDrawdowns(List<CreateDrawdownRequest> requests) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("createDrawdowns must not be called within an active transaction");
+        }
+        long startedAt = System.nanoTime();
+        DrawdownBatchItemResult[] results = new DrawdownBatchItemResult[requests.size()];
+        // 1つのFacilityに対するドローダウンは1件のみのため、登録済みのFacilityを記録する
+        Set<Long> drawnFacilityIds = new HashSet<>();
+        int chunkCount = 0;
+        for (int from = 0; from < requests.size(); from += batchChunkSize) {
+            int to = Math.min(from + batchChunkSize, requests.size());
+            processDrawdownChunk(requests, from, to, drawnFacilityIds, results);
+            chunkCount++;
+        }
+        DrawdownBatchResponse response = new DrawdownBatchResponse(
+                Arrays.asList(results), chunkCount, System.nanoTime() - startedAt);
+        logger.info("Drawdown batch completed: total={}, succeeded={}, failed={}, chunks={}, elapsed={}ms, {} items/s",
+                response.getTotalCount(), response.getSucceededCount(), response.getFailedCount(),
+                response.getChunkCount(), response.getElapsedMillis(),
+                String.format("%.1f", response.getItemsPerSecond()));
+        return response;
+    }
+
+    private void processDrawdownChunk(List<CreateDrawdownRequest> requests, int from, int to,
+            Set<Long> drawnFacilityIds, DrawdownBatchItemResult[] results) {
+        Set<Long> chunkFacilityIds = new HashSet<>();
+        try {
+            batchTransactionTemplate.executeWithoutResult(status -> {
+                List<PreparedDrawdown> prepared = prepareDrawdownChunk(
+                        requests, from, to, drawnFacilityIds, chunkFacilityIds, results);
+                persistDrawdownChunk(prepared, results);
+            });
+            drawnFacilityIds.addAll(chunkFacilityIds);
+        } catch (RuntimeException e) {
+            logger.warn("Drawdown batch chunk [{}, {}) rolled back, retrying item by item: {}", from, to,
+                    e.getMessage());
+            for (int i = from; i < to; i++) {
+                // 検証エラーの明細はそのまま返し、それ以外（ロールバックされた明細）を再実行する
+                if (results[i] != null && !results[i].isSucceeded()) {
+                    continue;
+                }
+                results[i] = createDrawdownInNewTransaction(i, requests.get(i));
+                if (results[i].isSucceeded()) {
+                    drawnFacilityIds.add(requests.get(i).getFacilityId());
+                }
+            }
+        }
+    }
+
+    /**
+     * チャンク内の参照データを一括取得し、検証・按分済みのエンティティを作成する（保存はしない）
+     */
+    private List<PreparedDrawdown> prepareDrawdownChunk(List<CreateDrawdownRequest> requests, int from, int to,
+            Set<Long> drawnFacilityIds, Set<Long> chunkFacilityIds, DrawdownBatchItemResult[] results) {
+        List<CreateDrawdownRequest> chunk = requests.subList(from, to);
+        Map<Long, Facility> facilities = new HashMap<>();
+        for (Facility facility : facilityRepository.findAllById(
+                distinctIds(chunk, CreateDrawdownRequest::getFacilityId))) {
+            facilities.put(facility.getId(), facility);
+        }
+        Set<Long> borrowerIds = new HashSet<>();
+        for (PartyNameView borrower : borrowerRepository.findNamesByIdIn(
+                distinctIds(chunk, CreateDrawdownRequest::getBorrowerId))) {
+            borrowerIds.add(borrower.getId());
+        }
+        Map<Long, SharePieSnapshot> sharePies = sharePieSnapshotRegistry.getSnapshots(facilities.values());
+
+        List<PreparedDrawdown> prepared = new ArrayList<>(chunk.size());
+        for (int i = from; i < to; i++) {
+            CreateDrawdownRequest request = requests.get(i);
+            try {
+                Facility facility = facilities.get(request.getFacilityId());
+                if (facility == null) {
+                    throw new ResourceNotFoundException("Facility not found with id: " + request.getFacilityId());
+                }
+                if (!borrowerIds.contains(request.getBorrowerId())) {
+                    throw new ResourceNotFoundException("Borrower not found with id: " + request.getBorrowerId());
+                }
+                validateDrawdownTerms(request, facility);
+                if (facility.isFixed() || drawnFacilityIds.contains(facility.getId())
+                        || chunkFacilityIds.contains(facility.getId())) {
+                    throw new BusinessRuleViolationException(
+                            "FIXED状態のFacilityに対して2度目のドローダウンはできません。Facility ID: " + facility.getId());
+                }
+                Loan loan = createLoan(request);
+                Drawdown drawdown = newDrawdown(request);
+                drawdown.setAmountPies(createAmountPies(
+                        request, drawdown, sharePies.getOrDefault(facility.getId(), SharePieSnapshot.empty())));
+                prepared.add(new PreparedDrawdown(i, loan, drawdown));
+                chunkFacilityIds.add(facility.getId());
+            } catch (RuntimeException e) {
+                results[i] = DrawdownBatchItemResult.failure(i, request.getFacilityId(), e.getMessage());
+            }
+        }
+        return prepared;
+    }
+
+    /**
+     * 検証済みのチャンクをまとめて保存する
+     */
+    private void persistDrawdownChunk(List<PreparedDrawdown> prepared, DrawdownBatchItemResult[] results) {
+        if (prepared.isEmpty()) {
+            return;
+        }
+        List<Loan> loans = new ArrayList<>(prepared.size());
+        for (PreparedDrawdown item : prepared) {
+            loans.add(item.loan());
+        }
+        loanRepository.saveAll(loans);
+
+        List<Drawdown> drawdowns = new ArrayList<>(prepared.size());
+        List<AmountPie> amountPies = new ArrayList<>();
+        for (PreparedDrawdown item : prepared) {
+            item.drawdown().setLoanId(item.loan().getId());
+            drawdowns.add(item.drawdown());
+            amountPies.addAll(item.drawdown().getAmountPies());
+        }
+        drawdownRepository.saveAll(drawdowns);
+
+        // チャンク内の全明細の投資額を投資家ごとに集計して一括更新
+        updateInvestorAmounts(amountPies);
+
+        for (PreparedDrawdown item : prepared) {
+            Drawdown drawdown = item.drawdown();
+            eventPublisher.publishEvent(new DrawdownCreatedEvent(drawdown.getFacilityId(), drawdown.getId()));
+            drawdown.setStatus(TransactionStatus.ACTIVE);
+            results[item.index()] = DrawdownBatchItemResult.success(
+                    item.index(), drawdown.getFacilityId(), drawdown.getId(), drawdown.getLoanId());
+        }
+    }
+
+    private DrawdownBatchItemResult createDrawdownInNewTransaction(int index, CreateDrawdownRequest request) {
+        try {
+            Drawdown drawdown = batchTransactionTemplate.execute(status -> createDrawdown(request));
+            return DrawdownBatchItemResult.success(
+                    index, drawdown.getFacilityId(), drawdown.getId(), drawdown.getLoanId());
+        } catch (RuntimeException e) {
+            return DrawdownBatchItemResult.failure(index, request.getFacilityId(), e.getMessage());
+        }
+    }
+
+    private static Set<Long> distinctIds(Collection<CreateDrawdownRequest> requests,
+            Function<CreateDrawdownRequest, Long> idExtractor) {
+        Set<Long> ids = new HashSet<>();
+        for (CreateDrawdownRequest request : requests) {
+            ids.add(idExtractor.apply(request));
+        }
+        ids.remove(null);
+        return ids;
+    }
+
+    /**
+     * 検証・按分済みで保存前のLoanとDrawdown
+     */
+    private record PreparedDrawdown(int index, Loan loan, Drawdown drawdown) {
+    }
+
+    /**
+     * 全ドローダウンの取得（按分明細を含まない一覧用の射影）
      * @return 全ドローダウンのリスト
      */
     @Transactional(readOnly = true)
-    public List<Drawdown> getAllDrawdowns() {
-        return drawdownRepository.findAll();
+    public List<DrawdownSummary> getAllDrawdowns() {
+        return drawdownRepository.findAllSummaries();
     }
 
     /**
-     * ページネーション付きドローダウンの取得
+     * ページネーション付きドローダウンの取得（按分明細を含まない一覧用の射影）
      * @param pageable ページネーション情報
      * @return ページ分割されたドローダウンのリスト
      */
     @Transactional(readOnly = true)
-    public Page<Drawdown> getAllDrawdowns(Pageable pageable) {
-        return drawdownRepository.findAll(pageable);
+    public Page<DrawdownSummary> getAllDrawdowns(Pageable pageable) {
+        return drawdownRepository.findSummaries(pageable);
     }
 
     /**
@@ -212,18 +380,18 @@ public class DrawdownService {
      */
     @Transactional(readOnly = true)
     public Drawdown getDrawdownById(Long id) {
-        return drawdownRepository.findById(id)
+        return drawdownRepository.findWithAmountPiesById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Drawdown not found with id: " + id));
     }
 
     /**
-     * ファシリティIDによるドローダウンの取得
+     * ファシリティIDによるドローダウンの取得（按分明細を含まない一覧用の射影）
      * @param facilityId ファシリティID
      * @return 指定されたファシリティに関連するドローダウンのリスト
      */
     @Transactional(readOnly = true)
-    public List<Drawdown> getDrawdownsByFacilityId(Long facilityId) {
-        return drawdownRepository.findByFacilityId(facilityId);
+    public List<DrawdownSummary> getDrawdownsByFacilityId(Long facilityId) {
+        return drawdownRepository.findSummariesByFacilityId(facilityId);
     }
 
     /**
@@ -340,8 +508,8 @@ public class DrawdownService {
             loan.setRepaymentMethod(request.getRepaymentMethod());
             loan.setCurrency(request.getCurrency());
             
-            // 支払いスケジュールを再生成
-            loan.generatePaymentSchedule();
+            // 支払いスケジュールを差分更新（返済回数が一致する明細はIDを維持してUPDATE）
+            reconcilePaymentSchedule(loan);
             loanRepository.save(loan);
         }
 
@@ -364,25 +532,8 @@ public class DrawdownService {
             }
         } else {
             // SharePieで按分
-            List<SharePie> sharePies = sharePieRepository.findByFacility_Id(drawdown.getFacilityId());
-            BigDecimal total = BigDecimal.ZERO;
-            for (SharePie sharePie : sharePies) {
-                AmountPie pie = new AmountPie();
-                pie.setInvestorId(sharePie.getInvestorId());
-                BigDecimal investorAmount = request.getAmount().multiply(sharePie.getShare().getValue());
-                investorAmount = investorAmount.setScale(2, java.math.RoundingMode.HALF_UP);
-                pie.setAmount(investorAmount);
-                pie.setCurrency(request.getCurrency());
-                pie.setDrawdown(drawdown);
-                newAmountPies.add(pie);
-                total = total.add(investorAmount);
-            }
-            // 端数調整
-            if (!newAmountPies.isEmpty()) {
-                AmountPie last = newAmountPies.get(newAmountPies.size() - 1);
-                BigDecimal diff = request.getAmount().subtract(total);
-                last.setAmount(last.getAmount().add(diff));
-            }
+            newAmountPies.addAll(allocateBySharePies(sharePieSnapshotRegistry.getSnapshot(drawdown.getFacilityId()),
+                    request.getAmount(), request.getCurrency(), drawdown));
         }
 
         // 8. 既存のAmountPieを削除し、新しいものに置き換え
@@ -405,6 +556,35 @@ public class DrawdownService {
         return savedDrawdown;
     }
 
+    /**
+     * ドローダウン金額をFacilityの持分比率で投資家に按分する
+     * 
+     * 最大剰余方式で按分するため、AmountPieの合計はドローダウン金額と一致する。
+     * 
+     * @param sharePies FacilityのSharePieスナップショット
+     * @param amount ドローダウン金額
+     * @param currency 通貨
+     * @param drawdown AmountPieの紐づけ先
+     * @return 投資家別のAmountPie
+     */
+    private List<AmountPie> allocateBySharePies(SharePieSnapshot sharePies, BigDecimal amount, String currency,
+            Drawdown drawdown) {
+        List<AmountPie> amountPies = new ArrayList<>(sharePies.size());
+        if (sharePies.isEmpty()) {
+            return amountPies;
+        }
+        Money[] investorAmounts = ProRataAllocator.allocate(Money.of(amount), sharePies.scaledShares());
+        for (int i = 0; i < sharePies.size(); i++) {
+            AmountPie pie = new AmountPie();
+            pie.setInvestorId(sharePies.investorIdAt(i));
+            pie.setAmount(investorAmounts[i].getAmount());
+            pie.setCurrency(currency);
+            pie.setDrawdown(drawdown);
+            amountPies.add(pie);
+        }
+        return amountPies;
+    }
+
     /**
      * 編集可能状態かどうかを判定
      */
@@ -435,18 +615,14 @@ public class DrawdownService {
     }
 
     /**
-     * 投資家の投資額を元に戻す
+     * 投資家の投資額を元に戻す（投資家ごとに集計して一括更新）
      */
     private void revertInvestorAmounts(List<AmountPie> amountPies) {
+        Map<Long, Money> deltas = new LinkedHashMap<>();
         for (AmountPie amountPie : amountPies) {
-            Investor investor = investorRepository.findById(amountPie.getInvestorId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Investor not found with id: " + amountPie.getInvestorId()));
-            
-            Money investmentAmount = Money.of(amountPie.getAmount());
-            investor.decreaseInvestmentAmount(investmentAmount);
-            investorRepository.save(investor);
+            deltas.merge(amountPie.getInvestorId(), Money.zero().subtract(Money.of(amountPie.getAmount())), Money::add);
         }
+        investorBalanceService.applyDeltas(deltas);
     }
 
     private void validateDrawdownRequest(CreateDrawdownRequest request) {
@@ -458,6 +634,13 @@ public class DrawdownService {
             throw new ResourceNotFoundException("Borrower not found with id: " + request.getBorrowerId());
         }
 
+        validateDrawdownTerms(request, facility);
+    }
+
+    /**
+     * 取得済みのFacilityに対して金額・金利・返済期間を検証する
+     */
+    private void validateDrawdownTerms(CreateDrawdownRequest request, Facility facility) {
         // 金額の妥当性チェック
         Money amount = Money.of(request.getAmount());
         if (amount.isZero() || !amount.isPositiveOrZero()) {
@@ -482,6 +665,50 @@ public class DrawdownService {
         }
     }
 
+    /**
+     * リクエストからDrawdownエンティティを作成する（LoanのIDは保存後に設定する）
+     */
+    private Drawdown newDrawdown(CreateDrawdownRequest request) {
+        Drawdown drawdown = new Drawdown();
+        drawdown.setFacilityId(request.getFacilityId());
+        drawdown.setBorrowerId(request.getBorrowerId());
+        drawdown.setTransactionDate(request.getDrawdownDate());
+        drawdown.setAmount(Money.of(request.getAmount()));
+        drawdown.setCurrency(request.getCurrency());
+        drawdown.setPurpose(request.getPurpose());
+        return drawdown;
+    }
+
+    /**
+     * 投資家別のAmountPieを生成する
+     * 
+     * リクエストで投資家別金額が指定されている場合はその金額を使い（合計がドローダウン金額と
+     * 一致すること）、指定がない場合はFacilityの持分比率で按分する。
+     */
+    private List<AmountPie> createAmountPies(CreateDrawdownRequest request, Drawdown drawdown,
+            SharePieSnapshot sharePies) {
+        if (request.getAmountPies() == null || request.getAmountPies().isEmpty()) {
+            // SharePieで按分 - ファシリティの持分比率に従って自動按分
+            return allocateBySharePies(sharePies, request.getAmount(), request.getCurrency(), drawdown);
+        }
+        // 明示的指定ありの場合 - リクエストで投資家別金額が指定済み
+        BigDecimal total = request.getAmountPies().stream().map(AmountPieDto::getAmount).reduce(BigDecimal.ZERO,
+                BigDecimal::add);
+        if (total.compareTo(request.getAmount()) != 0) {
+            throw new BusinessRuleViolationException("AmountPieの合計がDrawdown金額と一致しません");
+        }
+        List<AmountPie> amountPies = new ArrayList<>(request.getAmountPies().size());
+        for (AmountPieDto dto : request.getAmountPies()) {
+            AmountPie pie = new AmountPie();
+            pie.setInvestorId(dto.getInvestorId());
+            pie.setAmount(dto.getAmount());
+            pie.setCurrency(dto.getCurrency());
+            pie.setDrawdown(drawdown);
+            amountPies.add(pie);
+        }
+        return amountPies;
+    }
+
     private Loan createLoan(CreateDrawdownRequest request) {
         return new Loan(
                 request.getFacilityId(),
@@ -492,19 +719,32 @@ public class DrawdownService {
                 request.getRepaymentPeriodMonths(),
                 RepaymentCycle.valueOf(request.getRepaymentCycle()),
                 request.getRepaymentMethod(),
-                request.getCurrency());
+                request.getCurrency(),
+                schedulePersistenceMode == SchedulePersistenceMode.DUE_ONLY ? LocalDate.now() : null);
     }
 
+    /**
+     * 永続化モードに応じて支払いスケジュールを既存の返済明細に差分反映する
+     * 
+     * 全件削除・再作成ではなく、変更された返済明細のみ更新し、増減した末尾分のみ追加・削除する。
+     */
+    private void reconcilePaymentSchedule(Loan loan) {
+        if (schedulePersistenceMode == SchedulePersistenceMode.DUE_ONLY) {
+            loan.reconcilePaymentSchedule(LocalDate.now());
+        } else {
+            loan.reconcilePaymentSchedule();
+        }
+    }
+
+    /**
+     * 投資家の投資額を増加させる（投資家ごとに集計して一括更新）
+     */
     private void updateInvestorAmounts(List<AmountPie> amountPies) {
+        Map<Long, Money> deltas = new LinkedHashMap<>();
         for (AmountPie amountPie : amountPies) {
-            Investor investor = investorRepository.findById(amountPie.getInvestorId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Investor not found with id: " + amountPie.getInvestorId()));
-            
-            Money investmentAmount = Money.of(amountPie.getAmount());
-            investor.increaseInvestmentAmount(investmentAmount);
-            investorRepository.save(investor);
+            deltas.merge(amountPie.getInvestorId(), Money.of(amountPie.getAmount()), Money::add);
         }
+        investorBalanceService.applyDeltas(deltas);
     }
 
     /**
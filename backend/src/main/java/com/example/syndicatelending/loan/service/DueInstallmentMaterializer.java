@@ -0,0 +1,82 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.statemachine.loan.LoanState;
+import com.example.syndicatelending.loan.entity.SchedulePersistenceMode;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 期日到来分の返済明細の保存
+ *
+ * 返済スケジュールの永続化モードがDUE_ONLYの場合に、基準日までに期日が到来した未保存の返済明細を
+ * Loanごとに保存する（{@link LoanService#materializeDueInstallments}）。
+ * 基準日より後の返済明細を保存していないLoanのみをキーセットページングで取得し、
+ * 1件のLoanごとにトランザクションをコミットする。
+ *
+ * 毎日 {@code loan.schedule.materialize-cron} の時刻に当日分を保存する。
+ * FULLの場合は全件保存済みのため何も行わない。
+ */
+@Component
+public class DueInstallmentMaterializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DueInstallmentMaterializer.class);
+
+    private final LoanRepository loanRepository;
+    private final LoanService loanService;
+    private final SchedulePersistenceMode schedulePersistenceMode;
+    private final int pageSize;
+
+    public DueInstallmentMaterializer(
+            LoanRepository loanRepository,
+            LoanService loanService,
+            @Value("${loan.schedule.persistence-mode:FULL}") SchedulePersistenceMode schedulePersistenceMode,
+            @Value("${loan.schedule.materialize-page-size:500}") int pageSize) {
+        this.loanRepository = loanRepository;
+        this.loanService = loanService;
+        this.schedulePersistenceMode = schedulePersistenceMode;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 当日までに期日が到来した返済明細を保存する（日次）
+     */
+    @Scheduled(cron = "${loan.schedule.materialize-cron:0 5 0 * * *}")
+    public void materializeToday() {
+        materializeDueInstallments(LocalDate.now());
+    }
+
+    /**
+     * 基準日までに期日が到来した未保存の返済明細を保存する
+     *
+     * @param asOf 基準日
+     * @return 追加した返済明細の件数
+     */
+    public int materializeDueInstallments(LocalDate asOf) {
+        if (schedulePersistenceMode != SchedulePersistenceMode.DUE_ONLY) {
+            return 0;
+        }
+        int materialized = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> loanIds = loanRepository.findIdsWithoutInstallmentsAfter(
+                    asOf, LoanState.COMPLETED, afterId, PageRequest.of(0, pageSize));
+            for (Long loanId : loanIds) {
+                materialized += loanService.materializeDueInstallments(loanId, asOf);
+            }
+            if (loanIds.size() < pageSize) {
+                break;
+            }
+            afterId = loanIds.get(loanIds.size() - 1);
+        }
+        logger.info("Materialized {} due installments as of {}", materialized, asOf);
+        return materialized;
+    }
+}
@@ -1,18 +1,28 @@
 package com.example.syndicatelending.loan.service;
 
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.loan.dto.DueInstallmentDto;
+import com.example.syndicatelending.loan.dto.DueInstallmentPage;
+import com.example.syndicatelending.loan.dto.LoanSummary;
 import com.example.syndicatelending.loan.entity.Loan;
 import com.example.syndicatelending.loan.entity.Drawdown;
 import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
+import com.example.syndicatelending.loan.entity.SchedulePersistenceMode;
 import com.example.syndicatelending.loan.repository.LoanRepository;
 import com.example.syndicatelending.loan.repository.DrawdownRepository;
 import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,15 +34,21 @@ import java.util.List;
 @Service
 @Transactional(readOnly = true)
 public class LoanService {
+
+    /** 期日別返済明細の1ページあたりの最大件数 */
+    static final int MAX_DUE_INSTALLMENT_PAGE_SIZE = 1000;
     
     private final LoanRepository loanRepository;
     private final DrawdownRepository drawdownRepository;
     private final PaymentDetailRepository paymentDetailRepository;
+    private final SchedulePersistenceMode schedulePersistenceMode;
     
-    public LoanService(LoanRepository loanRepository, DrawdownRepository drawdownRepository, PaymentDetailRepository paymentDetailRepository) {
+    public LoanService(LoanRepository loanRepository, DrawdownRepository drawdownRepository, PaymentDetailRepository paymentDetailRepository,
+            @Value("${loan.schedule.persistence-mode:FULL}") SchedulePersistenceMode schedulePersistenceMode) {
         this.loanRepository = loanRepository;
         this.drawdownRepository = drawdownRepository;
         this.paymentDetailRepository = paymentDetailRepository;
+        this.schedulePersistenceMode = schedulePersistenceMode;
     }
     
     /**
@@ -43,7 +59,7 @@ public class LoanService {
      * @throws ResourceNotFoundException ローンが見つからない場合
      */
     public Loan getLoanById(Long id) {
-        return loanRepository.findById(id)
+        return loanRepository.findWithPaymentDetailsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Loan not found with id: " + id));
     }
     
@@ -65,32 +81,33 @@ public class LoanService {
     
     /**
      * 全てのローンをページネーション付きで取得します。
+     * 返済明細を含まない一覧用の射影を返します。
      * 
      * @param pageable ページネーション情報
-     * @return ローンのページ
+     * @return ローン一覧のページ
      */
-    public Page<Loan> getAllLoans(Pageable pageable) {
-        return loanRepository.findAll(pageable);
+    public Page<LoanSummary> getAllLoans(Pageable pageable) {
+        return loanRepository.findSummaries(pageable);
     }
     
     /**
      * ファシリティIDに関連するローンを取得します。
      * 
      * @param facilityId ファシリティID
-     * @return ローンのリスト
+     * @return ローンの一覧（返済明細を含まない軽量な射影）
      */
-    public List<Loan> getLoansByFacilityId(Long facilityId) {
-        return loanRepository.findByFacilityId(facilityId);
+    public List<LoanSummary> getLoansByFacilityId(Long facilityId) {
+        return loanRepository.findSummariesByFacilityId(facilityId);
     }
     
     /**
      * 借り手IDに関連するローンを取得します。
      * 
      * @param borrowerId 借り手ID
-     * @return ローンのリスト
+     * @return ローンの一覧（返済明細を含まない軽量な射影）
      */
-    public List<Loan> getLoansByBorrowerId(Long borrowerId) {
-        return loanRepository.findByBorrowerId(borrowerId);
+    public List<LoanSummary> getLoansByBorrowerId(Long borrowerId) {
+        return loanRepository.findSummariesByBorrowerId(borrowerId);
     }
     
     /**
@@ -111,6 +128,82 @@ public class LoanService {
      * @return PaymentDetailのリスト
      */
     public List<PaymentDetail> getPaymentDetailsByLoanId(Long loanId) {
-        return paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loanId);
+        List<PaymentDetail> persisted = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loanId);
+        if (schedulePersistenceMode == SchedulePersistenceMode.FULL) {
+            return persisted;
+        }
+
+        // DUE_ONLYの場合、未保存の将来分をローン条件から計算して後続に付加する（IDは未採番）
+        Loan loan = loanRepository.findById(loanId).orElse(null);
+        if (loan == null) {
+            return persisted;
+        }
+        List<PaymentDetail> details = new ArrayList<>(persisted);
+        loan.paymentSchedule()
+            .skip(persisted.size())
+            .forEach(details::add);
+        return details;
+    }
+
+    /**
+     * 期日が指定期間内の返済明細を期日・ID順にキーセットページングで取得します（資金繰り予測用）。
+     * <p>
+     * エンティティではなく必要な列のみのDTOを返します。永続化モードがDUE_ONLYの場合、
+     * 未保存の将来分は含まれません（期日到来分は日次の保存処理と支払い一括実行の開始時に保存されます）。
+     * </p>
+     * 
+     * @param from 期間開始日
+     * @param to 期間終了日
+     * @param status 支払い状態（省略時はPENDING）
+     * @param afterDueDate 前ページの最後の期日（初回は省略）
+     * @param afterId 前ページの最後のID（初回は省略）
+     * @param size 取得件数（1以上。1000を超える場合は1000件）
+     * @return 返済明細のページ
+     * @throws BusinessRuleViolationException 期間または件数が不正な場合
+     */
+    public DueInstallmentPage getDueInstallments(LocalDate from, LocalDate to, PaymentStatus status,
+            LocalDate afterDueDate, Long afterId, int size) {
+        if (from.isAfter(to)) {
+            throw new BusinessRuleViolationException("from must not be after to");
+        }
+        if (size < 1) {
+            throw new BusinessRuleViolationException("size must be positive");
+        }
+        if ((afterDueDate == null) != (afterId == null)) {
+            throw new BusinessRuleViolationException("afterDueDate and afterId must be specified together");
+        }
+        size = Math.min(size, MAX_DUE_INSTALLMENT_PAGE_SIZE);
+
+        // 次ページの有無を判定するため1件多く取得する
+        List<DueInstallmentDto> items = paymentDetailRepository.findDueInstallments(
+                from, to,
+                status != null ? status : PaymentStatus.PENDING,
+                afterDueDate != null ? afterDueDate : from.minusDays(1),
+                afterId != null ? afterId : 0L,
+                PageRequest.of(0, size + 1));
+        boolean hasNext = items.size() > size;
+        return new DueInstallmentPage(hasNext ? items.subList(0, size) : items, hasNext);
+    }
+
+    /**
+     * 期日が到来した返済明細を永続化します。
+     * <p>
+     * 永続化モードがDUE_ONLYの場合に、基準日までに期日が到来した未保存の返済明細を追加します。
+     * FULLの場合は全件保存済みのため何も行いません。
+     * </p>
+     * 
+     * @param loanId ローンID
+     * @param asOf 基準日
+     * @return 追加した返済明細の件数
+     * @throws ResourceNotFoundException ローンが見つからない場合
+     */
+    @Transactional
+    public int materializeDueInstallments(Long loanId, LocalDate asOf) {
+        Loan loan = getLoanById(loanId);
+        int added = loan.materializeDueInstallments(asOf);
+        if (added > 0) {
+            loanRepository.save(loan);
+        }
+        return added;
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.example.syndicatelending.loan.service;
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.ProRataAllocator;
 import com.example.syndicatelending.common.statemachine.loan.LoanState;
 import com.example.syndicatelending.common.statemachine.loan.LoanEvent;
 import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
@@ -16,14 +17,14 @@ import com.example.syndicatelending.loan.repository.PaymentRepository;
 import com.example.syndicatelending.loan.repository.LoanRepository;
 import com.example.syndicatelending.loan.repository.AmountPieRepository;
 import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
-import com.example.syndicatelending.party.entity.Investor;
-import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.InvestorBalanceService;
 import com.example.syndicatelending.common.statemachine.events.PaymentCreatedEvent;
 import com.example.syndicatelending.common.statemachine.events.PaymentCancelledEvent;
+import com.example.syndicatelending.common.statemachine.StateMachineExecutor;
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
 
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.statemachine.StateMachine;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,8 +32,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.math.BigDecimal;
+import java.util.Map;
 import java.time.LocalDate;
 
 @Service
@@ -42,24 +45,30 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final LoanRepository loanRepository;
     private final AmountPieRepository amountPieRepository;
-    private final InvestorRepository investorRepository;
+    private final InvestorBalanceService investorBalanceService;
     private final PaymentDetailRepository paymentDetailRepository;
-    private final StateMachine<LoanState, LoanEvent> loanStateMachine;
+    private final StateMachinePool<LoanState, LoanEvent> loanStateMachinePool;
+    private final TransitionTable<LoanState, LoanEvent> loanTransitionTable;
+    private final StateMachineExecutor stateMachineExecutor;
     private final ApplicationEventPublisher eventPublisher;
 
     public PaymentService(PaymentRepository paymentRepository,
                          LoanRepository loanRepository,
                          AmountPieRepository amountPieRepository,
-                         InvestorRepository investorRepository,
+                         InvestorBalanceService investorBalanceService,
                          PaymentDetailRepository paymentDetailRepository,
-                         @Qualifier("loanStateMachine") StateMachine<LoanState, LoanEvent> loanStateMachine,
+                         StateMachinePool<LoanState, LoanEvent> loanStateMachinePool,
+                         TransitionTable<LoanState, LoanEvent> loanTransitionTable,
+                         StateMachineExecutor stateMachineExecutor,
                          ApplicationEventPublisher eventPublisher) {
         this.paymentRepository = paymentRepository;
         this.loanRepository = loanRepository;
         this.amountPieRepository = amountPieRepository;
-        this.investorRepository = investorRepository;
+        this.investorBalanceService = investorBalanceService;
         this.paymentDetailRepository = paymentDetailRepository;
-        this.loanStateMachine = loanStateMachine;
+        this.loanStateMachinePool = loanStateMachinePool;
+        this.loanTransitionTable = loanTransitionTable;
+        this.stateMachineExecutor = stateMachineExecutor;
         this.eventPublisher = eventPublisher;
     }
 
@@ -120,12 +129,12 @@ public class PaymentService {
 
     @Transactional(readOnly = true)
     public List<Payment> getPaymentsByLoanId(Long loanId) {
-        return paymentRepository.findByLoanIdOrderByPaymentDateDesc(loanId);
+        return paymentRepository.findWithDistributionsByLoanIdOrderByPaymentDateDesc(loanId);
     }
 
     @Transactional(readOnly = true)
     public Payment getPaymentById(Long id) {
-        return paymentRepository.findById(id)
+        return paymentRepository.findWithDistributionsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found with id: " + id));
     }
 
@@ -158,39 +167,16 @@ public class PaymentService {
             throw new BusinessRuleViolationException("No amount pies found for loan: " + loan.getId());
         }
 
-        // 総投資額を計算
-        BigDecimal totalInvestmentAmount = amountPies.stream()
-                .map(AmountPie::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<PaymentDistribution> distributions = new ArrayList<>();
-        BigDecimal totalDistributedPrincipal = BigDecimal.ZERO;
-        BigDecimal totalDistributedInterest = BigDecimal.ZERO;
+        // 出資額を重みとして元本・利息を同時に按分（最大剰余方式で合計を一致させる）
+        Money[][] allocated = ProRataAllocator.allocate(
+                new Money[] { principalAmount, interestAmount }, investmentWeights(amountPies));
 
+        List<PaymentDistribution> distributions = new ArrayList<>(amountPies.size());
         for (int i = 0; i < amountPies.size(); i++) {
-            AmountPie amountPie = amountPies.get(i);
-            
-            // 投資家の持分比率を計算
-            BigDecimal shareRatio = amountPie.getAmount().divide(totalInvestmentAmount, 10, java.math.RoundingMode.HALF_UP);
-
-            Money investorPrincipal;
-            Money investorInterest;
-
-            if (i == amountPies.size() - 1) {
-                // 最後の投資家には端数調整
-                investorPrincipal = principalAmount.subtract(Money.of(totalDistributedPrincipal));
-                investorInterest = interestAmount.subtract(Money.of(totalDistributedInterest));
-            } else {
-                investorPrincipal = principalAmount.multiply(shareRatio);
-                investorInterest = interestAmount.multiply(shareRatio);
-                totalDistributedPrincipal = totalDistributedPrincipal.add(investorPrincipal.getAmount());
-                totalDistributedInterest = totalDistributedInterest.add(investorInterest.getAmount());
-            }
-
             PaymentDistribution distribution = new PaymentDistribution(
-                    amountPie.getInvestorId(),
-                    investorPrincipal,
-                    investorInterest,
+                    amountPies.get(i).getInvestorId(),
+                    allocated[0][i],
+                    allocated[1][i],
                     currency
             );
             distribution.setPayment(payment);
@@ -201,15 +187,8 @@ public class PaymentService {
     }
 
     private void updateInvestorAmountsForPayment(List<PaymentDistribution> paymentDistributions) {
-        for (PaymentDistribution distribution : paymentDistributions) {
-            Investor investor = investorRepository.findById(distribution.getInvestorId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Investor not found with id: " + distribution.getInvestorId()));
-
-            // 元本部分のみ投資額から減算（利息は投資額に影響しない）
-            investor.decreaseInvestmentAmount(distribution.getPrincipalAmount());
-            investorRepository.save(investor);
-        }
+        // 元本部分のみ投資額から減算（利息は投資額に影響しない）
+        investorBalanceService.applyDeltas(principalDeltas(paymentDistributions, true));
     }
 
     /**
@@ -244,16 +223,14 @@ public class PaymentService {
      */
     private boolean executeLoanStateTransition(Loan loan, LoanEvent event) {
         try {
-            // StateMachineを現在状態に設定
-            loanStateMachine.getStateMachineAccessor().doWithAllRegions(access -> {
-                access.resetStateMachine(null);
-            });
-
-            // 現在状態を設定
-            loanStateMachine.getExtendedState().getVariables().put("loanId", loan.getId());
-            
-            // イベント送信
-            return loanStateMachine.sendEvent(event);
+            // 設定された判定エンジン（遷移表 / StateMachine）でイベント送信
+            return stateMachineExecutor.executeTransition(
+                loanStateMachinePool,
+                loanTransitionTable,
+                loan.getStatus(),
+                event,
+                loan.getId(),
+                "Loan");
         } catch (Exception e) {
             // Critical: State Machine失敗は業務プロセスに影響するため適切にログ記録し例外をスロー
             // 状態管理の整合性を保つため、支払い処理も失敗させる
@@ -293,26 +270,13 @@ public class PaymentService {
         }
 
         // 4. Paymentエンティティの作成
-        Payment payment = new Payment();
-        payment.setLoanId(loan.getId());
-        
         LocalDate paymentDate = LocalDate.now(); // 今日の日付で支払い
-        payment.setPaymentDate(paymentDate);
-        payment.setTransactionDate(paymentDate); // Transaction基底クラスのフィールドも設定
-        
-        payment.setPrincipalAmount(paymentDetail.getPrincipalPayment());
-        payment.setInterestAmount(paymentDetail.getInterestPayment());
-        payment.setTotalAmount(paymentDetail.getTotalPayment());
-        payment.setCurrency(loan.getCurrency());
-        
-        // Transaction基底クラスのフィールド設定
-        payment.setAmount(paymentDetail.getTotalPayment());
-        payment.setTransactionType(com.example.syndicatelending.transaction.entity.TransactionType.PAYMENT);
-        payment.setFacilityId(loan.getFacilityId());
-        payment.setBorrowerId(loan.getBorrowerId());
+        Payment payment = newScheduledPayment(loan, paymentDetail, paymentDate);
 
         // 5. PaymentDistributionの生成（投資家別配分）
-        List<PaymentDistribution> distributions = generatePaymentDistributions(payment, loan, paymentDetail);
+        List<AmountPie> amountPies = findAmountPies(loan);
+        List<PaymentDistribution> distributions = generatePaymentDistributions(
+                payment, loan, paymentDetail, amountPies, investmentWeights(amountPies));
         payment.setPaymentDistributions(distributions);
 
         // 6. Paymentの保存と完了マーク
@@ -342,69 +306,147 @@ public class PaymentService {
     }
 
     /**
-     * PaymentDistributionを生成する（投資家別配分）
+     * 1つのLoanの期日到来分の返済明細をまとめて支払う（支払い一括実行用）
+     * 
+     * AmountPieの取得と按分の重みの計算はLoanごとに1回のみ行い、Payment・PaymentDistributionは
+     * まとめて保存する（JDBCバッチ）。投資家の投資額は全返済明細の元本配分を投資家ごとに集計して
+     * 一括更新する。返済明細は返済回数順に処理し、既に支払い済みの明細はスキップする。
+     * 
+     * @param loanId LoanのID
+     * @param paymentDetailIds 支払う返済明細のID
+     * @param paymentDate 支払い日
+     * @return 作成されたPayment（返済回数順）
+     * @throws ResourceNotFoundException Loanが存在しない場合
+     * @throws BusinessRuleViolationException AmountPieが存在しない場合
+     */
+    @Transactional
+    public List<Payment> processScheduledPayments(Long loanId, Collection<Long> paymentDetailIds,
+            LocalDate paymentDate) {
+        Loan loan = loanRepository.findById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan not found with id: " + loanId));
+        List<PaymentDetail> paymentDetails = paymentDetailRepository.findByLoanIdAndIdInOrderByPaymentNumber(
+                loanId, paymentDetailIds);
+        List<AmountPie> amountPies = findAmountPies(loan);
+        long[] weights = investmentWeights(amountPies);
+
+        List<PaymentDetail> payableDetails = new ArrayList<>(paymentDetails.size());
+        List<Payment> payments = new ArrayList<>(paymentDetails.size());
+        List<PaymentDistribution> allDistributions = new ArrayList<>();
+        for (PaymentDetail paymentDetail : paymentDetails) {
+            if (!paymentDetail.isPayable()) {
+                logger.debug("Skipping PaymentDetail {} (status: {})", paymentDetail.getId(),
+                        paymentDetail.getPaymentStatus());
+                continue;
+            }
+            Payment payment = newScheduledPayment(loan, paymentDetail, paymentDate);
+            List<PaymentDistribution> distributions = generatePaymentDistributions(
+                    payment, loan, paymentDetail, amountPies, weights);
+            payment.setPaymentDistributions(distributions);
+            payment.markAsCompleted();
+            payableDetails.add(paymentDetail);
+            payments.add(payment);
+            allDistributions.addAll(distributions);
+        }
+        if (payments.isEmpty()) {
+            return payments;
+        }
+
+        // Payment・PaymentDistributionをまとめて保存
+        paymentRepository.saveAll(payments);
+
+        // 返済明細を支払い済みにし、返済回数順にLoanの残高と状態を更新
+        for (int i = 0; i < payments.size(); i++) {
+            PaymentDetail paymentDetail = payableDetails.get(i);
+            paymentDetail.markAsPaid(paymentDate, payments.get(i).getId());
+            updateLoanBalanceAndStatus(loan, paymentDetail);
+        }
+
+        // 投資家の投資額更新（全返済明細の元本返済分を集計）
+        investorBalanceService.applyDeltas(principalDeltas(allDistributions, true));
+
+        for (int i = 0; i < payments.size(); i++) {
+            Payment payment = payments.get(i);
+            eventPublisher.publishEvent(new PaymentCreatedEvent(
+                payment.getLoanId(),
+                payment.getId(),
+                payment.getFacilityId(),
+                payableDetails.get(i).getId()
+            ));
+        }
+        return payments;
+    }
+
+    /**
+     * 返済明細の期日通り満額支払いのPaymentエンティティを作成する
      */
-    private List<PaymentDistribution> generatePaymentDistributions(Payment payment, Loan loan, PaymentDetail paymentDetail) {
-        List<PaymentDistribution> distributions = new ArrayList<>();
+    private Payment newScheduledPayment(Loan loan, PaymentDetail paymentDetail, LocalDate paymentDate) {
+        Payment payment = new Payment();
+        payment.setLoanId(loan.getId());
+        payment.setPaymentDate(paymentDate);
+        payment.setTransactionDate(paymentDate); // Transaction基底クラスのフィールドも設定
         
-        // ローンに関連するAmountPie（投資家別の出資比率）を取得
-        List<AmountPie> amountPies = amountPieRepository.findByDrawdown_LoanId(loan.getId());
+        payment.setPrincipalAmount(paymentDetail.getPrincipalPayment());
+        payment.setInterestAmount(paymentDetail.getInterestPayment());
+        payment.setTotalAmount(paymentDetail.getTotalPayment());
+        payment.setCurrency(loan.getCurrency());
         
+        // Transaction基底クラスのフィールド設定
+        payment.setAmount(paymentDetail.getTotalPayment());
+        payment.setTransactionType(com.example.syndicatelending.transaction.entity.TransactionType.PAYMENT);
+        payment.setFacilityId(loan.getFacilityId());
+        payment.setBorrowerId(loan.getBorrowerId());
+        return payment;
+    }
+
+    /**
+     * ローンに関連するAmountPie（投資家別の出資額）を取得する
+     */
+    private List<AmountPie> findAmountPies(Loan loan) {
+        List<AmountPie> amountPies = amountPieRepository.findByDrawdown_LoanId(loan.getId());
         if (amountPies.isEmpty()) {
             throw new BusinessRuleViolationException("No AmountPies found for loan: " + loan.getId());
         }
+        return amountPies;
+    }
 
-        // 総出資額を計算
-        BigDecimal totalAmount = amountPies.stream()
-                .map(AmountPie::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 各投資家への配分を計算
-        BigDecimal principalTotal = BigDecimal.ZERO;
-        BigDecimal interestTotal = BigDecimal.ZERO;
+    /**
+     * PaymentDistributionを生成する（投資家別配分）
+     */
+    private List<PaymentDistribution> generatePaymentDistributions(Payment payment, Loan loan,
+            PaymentDetail paymentDetail, List<AmountPie> amountPies, long[] weights) {
+        List<PaymentDistribution> distributions = new ArrayList<>(amountPies.size());
 
-        for (AmountPie amountPie : amountPies) {
-            // 投資家の出資比率を計算
-            BigDecimal ratio = amountPie.getAmount().divide(totalAmount, 4, java.math.RoundingMode.HALF_UP);
-            
-            // 元本と利息の配分額を計算
-            BigDecimal principalShare = paymentDetail.getPrincipalPayment().getAmount()
-                    .multiply(ratio).setScale(2, java.math.RoundingMode.HALF_UP);
-            BigDecimal interestShare = paymentDetail.getInterestPayment().getAmount()
-                    .multiply(ratio).setScale(2, java.math.RoundingMode.HALF_UP);
+        // 出資額を重みとして元本・利息を同時に按分（最大剰余方式で合計を一致させる）
+        Money[][] allocated = ProRataAllocator.allocate(
+                new Money[] { paymentDetail.getPrincipalPayment(), paymentDetail.getInterestPayment() },
+                weights);
 
+        for (int i = 0; i < amountPies.size(); i++) {
             PaymentDistribution distribution = new PaymentDistribution();
             distribution.setPayment(payment);
-            distribution.setInvestorId(amountPie.getInvestorId());
-            distribution.setPrincipalAmount(Money.of(principalShare));
-            distribution.setInterestAmount(Money.of(interestShare));
+            distribution.setInvestorId(amountPies.get(i).getInvestorId());
+            distribution.setPrincipalAmount(allocated[0][i]);
+            distribution.setInterestAmount(allocated[1][i]);
             distribution.setCurrency(loan.getCurrency()); // 通貨設定を追加
             // totalAmountは計算プロパティなので設定不要
 
             distributions.add(distribution);
-            
-            principalTotal = principalTotal.add(principalShare);
-            interestTotal = interestTotal.add(interestShare);
-        }
-
-        // 端数調整（最後の投資家で調整）
-        if (!distributions.isEmpty()) {
-            PaymentDistribution lastDistribution = distributions.get(distributions.size() - 1);
-            
-            BigDecimal principalDiff = paymentDetail.getPrincipalPayment().getAmount().subtract(principalTotal);
-            BigDecimal interestDiff = paymentDetail.getInterestPayment().getAmount().subtract(interestTotal);
-            
-            Money adjustedPrincipal = lastDistribution.getPrincipalAmount().add(Money.of(principalDiff));
-            Money adjustedInterest = lastDistribution.getInterestAmount().add(Money.of(interestDiff));
-            
-            lastDistribution.setPrincipalAmount(adjustedPrincipal);
-            lastDistribution.setInterestAmount(adjustedInterest);
-            // totalAmountは計算プロパティなので設定不要
         }
 
         return distributions;
     }
 
+    /**
+     * AmountPieの出資額（補助単位）を按分の重みとして取得する
+     */
+    private static long[] investmentWeights(List<AmountPie> amountPies) {
+        long[] weights = new long[amountPies.size()];
+        for (int i = 0; i < amountPies.size(); i++) {
+            weights[i] = ProRataAllocator.weightOf(Money.of(amountPies.get(i).getAmount()));
+        }
+        return weights;
+    }
+
     /**
      * Loanの残高と状態を更新する
      */
@@ -431,16 +473,8 @@ public class PaymentService {
      * 投資家の投資額を更新する（元本返済分のみ）
      */
     private void updateInvestorInvestmentAmounts(List<PaymentDistribution> distributions, Money principalPayment) {
-        for (PaymentDistribution distribution : distributions) {
-            Investor investor = investorRepository.findById(distribution.getInvestorId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Investor not found with id: " + distribution.getInvestorId()));
-            
-            // 元本返済分だけ投資額を減額（利息は投資額に影響しない）
-            Money principalReduction = distribution.getPrincipalAmount();
-            investor.decreaseInvestmentAmount(principalReduction);
-            investorRepository.save(investor);
-        }
+        // 元本返済分だけ投資額を減額（利息は投資額に影響しない）
+        investorBalanceService.applyDeltas(principalDeltas(distributions, true));
     }
 
     /**
@@ -454,7 +488,7 @@ public class PaymentService {
     @Transactional
     public Payment cancelPayment(Long paymentId) {
         // 1. Paymentの取得と検証
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findWithDistributionsById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found with id: " + paymentId));
 
         // 2. 取り消し可能状態の確認（Transaction基底クラスのメソッドを使用）
@@ -529,15 +563,23 @@ public class PaymentService {
      * 投資家の投資額を復元する（元本返済分のみ）
      */
     private void restoreInvestorInvestmentAmounts(List<PaymentDistribution> distributions) {
+        // 元本返済分だけ投資額を復元（増額）
+        investorBalanceService.applyDeltas(principalDeltas(distributions, false));
+    }
+
+    /**
+     * 投資家ごとの元本配分額を集計し、投資額の増減額マップを作成する
+     * 
+     * @param distributions 支払い配分
+     * @param reduce trueの場合は減額（負の増減額）、falseの場合は増額
+     */
+    private Map<Long, Money> principalDeltas(List<PaymentDistribution> distributions, boolean reduce) {
+        Map<Long, Money> deltas = new LinkedHashMap<>();
         for (PaymentDistribution distribution : distributions) {
-            Investor investor = investorRepository.findById(distribution.getInvestorId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Investor not found with id: " + distribution.getInvestorId()));
-            
-            // 元本返済分だけ投資額を復元（増額）
-            Money principalRestoration = distribution.getPrincipalAmount();
-            investor.increaseInvestmentAmount(principalRestoration);
-            investorRepository.save(investor);
+            Money principal = distribution.getPrincipalAmount();
+            deltas.merge(distribution.getInvestorId(),
+                    reduce ? Money.zero().subtract(principal) : principal, Money::add);
         }
+        return deltas;
     }
 }
\ No newline at end of file
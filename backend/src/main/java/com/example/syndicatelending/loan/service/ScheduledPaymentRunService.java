@@ -0,0 +1,193 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.loan.dto.DuePaymentDetailView;
+import com.example.syndicatelending.loan.dto.PaymentRunReport;
+import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 期日到来分の返済明細の支払い一括実行
+ *
+ * 基準日以前に期日が到来した未払い（PENDING）の返済明細をキーセットページングで1ページずつ取得し、
+ * ページ内でLoanごとに振り分けたパーティションを並列に処理してから次のページに進む
+ * （全件のIDをメモリに保持しない）。1つのLoanの返済明細は1つのトランザクションで
+ * {@link PaymentService#processScheduledPayments} により処理し、同じページの別パーティションとLoanや
+ * 返済明細の行を取り合うことはない。ページをまたぐLoanは、ページごとに別のトランザクションで処理する。
+ *
+ * 返済スケジュールの永続化モードがDUE_ONLYの場合は、支払い対象を取得する前に、基準日までに期日が到来した
+ * 未保存の返済明細を保存する（{@link DueInstallmentMaterializer}）。
+ *
+ * 投資家の投資額は複数のLoanで共有されるため、楽観ロック等の競合で失敗したパーティションは
+ * {@code loan.payment-run.max-attempts} 回まで再実行する。それ以外の失敗はLoan単位でロールバックし、
+ * レポートに記録して他のLoanの処理を続ける。
+ */
+@Service
+public class ScheduledPaymentRunService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledPaymentRunService.class);
+
+    private final PaymentDetailRepository paymentDetailRepository;
+    private final PaymentService paymentService;
+    private final DueInstallmentMaterializer dueInstallmentMaterializer;
+    private final int pageSize;
+    private final int parallelism;
+    private final int maxAttempts;
+
+    public ScheduledPaymentRunService(
+            PaymentDetailRepository paymentDetailRepository,
+            PaymentService paymentService,
+            DueInstallmentMaterializer dueInstallmentMaterializer,
+            @Value("${loan.payment-run.page-size:500}") int pageSize,
+            @Value("${loan.payment-run.parallelism:4}") int parallelism,
+            @Value("${loan.payment-run.max-attempts:3}") int maxAttempts) {
+        this.paymentDetailRepository = paymentDetailRepository;
+        this.paymentService = paymentService;
+        this.dueInstallmentMaterializer = dueInstallmentMaterializer;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 基準日以前に期日が到来した返済明細を一括で支払う
+     *
+     * 同時に複数の実行が重複して支払わないよう、実行は直列化する。
+     *
+     * @param runDate 基準日（支払い日としても使用する）
+     * @return 実行結果のレポート
+     */
+    public synchronized PaymentRunReport run(LocalDate runDate) {
+        long startedAt = System.nanoTime();
+
+        // 0. DUE_ONLYの場合、期日が到来した未保存の返済明細を保存
+        dueInstallmentMaterializer.materializeDueInstallments(runDate);
+
+        // 1. 期日到来分の返済明細をキーセットページングで1ページずつ取得し、Loanごとのパーティションを並列に処理
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "payment-run-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int dueCount = 0;
+            int paidCount = 0;
+            int failedCount = 0;
+            Set<Long> loanIds = new HashSet<>();
+            List<PaymentRunReport.Failure> failures = new ArrayList<>();
+            long afterId = 0L;
+            while (true) {
+                List<DuePaymentDetailView> page = paymentDetailRepository.findDueAfterId(
+                        PaymentStatus.PENDING, runDate, afterId, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                dueCount += page.size();
+
+                Map<Long, List<Long>> paymentDetailIdsByLoan = groupByLoan(page);
+                loanIds.addAll(paymentDetailIdsByLoan.keySet());
+                List<Future<PartitionResult>> futures = new ArrayList<>(paymentDetailIdsByLoan.size());
+                for (Map.Entry<Long, List<Long>> entry : paymentDetailIdsByLoan.entrySet()) {
+                    futures.add(executor.submit(() -> processPartition(entry.getKey(), entry.getValue(), runDate)));
+                }
+                // 次のページは、このページのパーティションがすべて終わってから取得する
+                for (Future<PartitionResult> future : futures) {
+                    PartitionResult result = awaitPartition(future);
+                    paidCount += result.paidCount();
+                    if (result.failure() != null) {
+                        failedCount += result.failure().getPaymentDetailIds().size();
+                        failures.add(result.failure());
+                    }
+                }
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+
+            PaymentRunReport report = new PaymentRunReport(runDate, dueCount, loanIds.size(),
+                    paidCount, failedCount, failures, System.nanoTime() - startedAt);
+            logger.info("Payment run for {} completed: due={}, loans={}, paid={}, skipped={}, failed={}, "
+                    + "elapsed={}ms, {} payments/s",
+                    runDate, report.getDueCount(), report.getLoanCount(), report.getPaidCount(),
+                    report.getSkippedCount(), report.getFailedCount(), report.getElapsedMillis(),
+                    String.format("%.1f", report.getPaymentsPerSecond()));
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 1ページ分の返済明細のIDをLoanごとに振り分ける
+     */
+    private Map<Long, List<Long>> groupByLoan(List<DuePaymentDetailView> page) {
+        Map<Long, List<Long>> paymentDetailIdsByLoan = new LinkedHashMap<>();
+        for (DuePaymentDetailView due : page) {
+            paymentDetailIdsByLoan.computeIfAbsent(due.getLoanId(), id -> new ArrayList<>()).add(due.getId());
+        }
+        return paymentDetailIdsByLoan;
+    }
+
+    /**
+     * 1つのLoanの返済明細を支払う（競合による失敗は再実行する）
+     */
+    private PartitionResult processPartition(Long loanId, List<Long> paymentDetailIds, LocalDate runDate) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<Payment> payments = paymentService.processScheduledPayments(loanId, paymentDetailIds, runDate);
+                return new PartitionResult(payments.size(), null);
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    return failed(loanId, paymentDetailIds, e);
+                }
+                logger.debug("Payment run partition for loan {} conflicted (attempt {}), retrying", loanId, attempt);
+            } catch (RuntimeException e) {
+                return failed(loanId, paymentDetailIds, e);
+            }
+        }
+    }
+
+    private PartitionResult failed(Long loanId, List<Long> paymentDetailIds, RuntimeException e) {
+        logger.warn("Payment run failed for loan {}: {}", loanId, e.getMessage());
+        return new PartitionResult(0, new PaymentRunReport.Failure(loanId, paymentDetailIds, e.getMessage()));
+    }
+
+    private PartitionResult awaitPartition(Future<PartitionResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Payment run was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Payment run partition failed unexpectedly", e.getCause());
+        }
+    }
+
+    /**
+     * Loanごとのパーティションの処理結果
+     */
+    private record PartitionResult(int paidCount, PaymentRunReport.Failure failure) {
+    }
+}
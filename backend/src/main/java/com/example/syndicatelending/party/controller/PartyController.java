@@ -2,6 +2,7 @@ package com.example.syndicatelending.party.controller;
 
 import com.example.syndicatelending.party.dto.*;
 import com.example.syndicatelending.party.entity.*;
+import com.example.syndicatelending.party.service.PartyNameCache;
 import com.example.syndicatelending.party.service.PartyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,9 +22,11 @@ import org.springframework.web.bind.annotation.*;
 public class PartyController {
 
     private final PartyService partyService;
+    private final PartyNameCache partyNameCache;
 
-    public PartyController(PartyService partyService) {
+    public PartyController(PartyService partyService, PartyNameCache partyNameCache) {
         this.partyService = partyService;
+        this.partyNameCache = partyNameCache;
     }
 
     // Company endpoints
@@ -193,4 +196,15 @@ public class PartyController {
         CanUpdateResponse response = partyService.canUpdateInvestor(id);
         return ResponseEntity.ok(response);
     }
+
+    // ==============================================================
+    // 名前キャッシュ統計
+    // ==============================================================
+
+    @GetMapping("/name-cache/stats")
+    @Operation(summary = "Get party name cache statistics", 
+               description = "Returns hit/miss/eviction counts of the borrower and investor name cache")
+    public ResponseEntity<PartyNameCacheStats> getNameCacheStats() {
+        return ResponseEntity.ok(partyNameCache.getStats());
+    }
 }
@@ -0,0 +1,69 @@
+package com.example.syndicatelending.party.dto;
+
+/**
+ * 名前キャッシュ（PartyNameCache）の統計情報レスポンスDTO
+ * 
+ * キャッシュサイズ・TTLの調整に使用する。
+ */
+public class PartyNameCacheStats {
+    
+    /** キャッシュから返した件数 */
+    private final long hits;
+    
+    /** DBから取得した件数 */
+    private final long misses;
+    
+    /** 上限超過で追い出した件数 */
+    private final long evictions;
+    
+    /** 有効期限切れで破棄した件数 */
+    private final long expirations;
+    
+    /** 保持しているBorrower名の件数 */
+    private final int borrowerEntries;
+    
+    /** 保持しているInvestor名の件数 */
+    private final int investorEntries;
+    
+    public PartyNameCacheStats(long hits, long misses, long evictions, long expirations,
+            int borrowerEntries, int investorEntries) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.borrowerEntries = borrowerEntries;
+        this.investorEntries = investorEntries;
+    }
+    
+    public long getHits() {
+        return hits;
+    }
+    
+    public long getMisses() {
+        return misses;
+    }
+    
+    public long getEvictions() {
+        return evictions;
+    }
+    
+    public long getExpirations() {
+        return expirations;
+    }
+    
+    public int getBorrowerEntries() {
+        return borrowerEntries;
+    }
+    
+    public int getInvestorEntries() {
+        return investorEntries;
+    }
+    
+    /**
+     * ヒット率（参照がない場合は0）
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
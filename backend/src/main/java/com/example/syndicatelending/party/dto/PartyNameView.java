@@ -0,0 +1,13 @@
+package com.example.syndicatelending.party.dto;
+
+/**
+ * 取引参加者（Borrower・Investor）のIDと名前のみを取得するプロジェクション
+ * 
+ * 一覧表示などで名前だけが必要な場合に、エンティティ全体を読み込まずに
+ * IN句による一括取得を行うために使用する。
+ */
+public interface PartyNameView {
+    Long getId();
+
+    String getName();
+}
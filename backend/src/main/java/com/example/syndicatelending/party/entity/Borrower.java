@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
  * 借り手エンティティ（JPA Entity兼ドメインエンティティ）。
  */
 @Entity
-@Table(name = "borrowers")
+@Table(name = "borrowers", indexes = {
+        @Index(name = "idx_borrowers_credit_rating", columnList = "credit_rating")
+})
 public class Borrower {
 
     @Id
@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
  * 企業エンティティ（JPA Entity兼ドメインエンティティ）。
  */
 @Entity
-@Table(name = "companies")
+@Table(name = "companies", indexes = {
+        @Index(name = "idx_companies_registration_number", columnList = "registration_number"),
+        @Index(name = "idx_companies_industry", columnList = "industry"),
+        @Index(name = "idx_companies_country", columnList = "country")
+})
 public class Company {
 
     @Id
@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
  * 投資家エンティティ（JPA Entity兼ドメインエンティティ）。
  */
 @Entity
-@Table(name = "investors")
+@Table(name = "investors", indexes = {
+        @Index(name = "idx_investors_investor_type", columnList = "investor_type"),
+        @Index(name = "idx_investors_status", columnList = "status")
+})
 public class Investor {
 
     @Id
@@ -1,13 +1,17 @@
 package com.example.syndicatelending.party.repository;
 
+import com.example.syndicatelending.party.dto.PartyNameView;
 import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.entity.CreditRating;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,4 +27,10 @@ public interface BorrowerRepository extends JpaRepository<Borrower, Long>, JpaSp
     Page<Borrower> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Borrower> findByCreditRating(CreditRating creditRating, Pageable pageable);
+
+    /**
+     * 指定IDのBorrowerのIDと名前を一括取得する
+     */
+    @Query("SELECT b.id AS id, b.name AS name FROM Borrower b WHERE b.id IN :ids")
+    List<PartyNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,6 +1,7 @@
 package com.example.syndicatelending.party.repository;
 
 import com.example.syndicatelending.party.entity.Company;
+import com.example.syndicatelending.party.entity.Country;
 import com.example.syndicatelending.party.entity.Industry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,7 +24,7 @@ public interface CompanyRepository extends JpaRepository<Company, Long>, JpaSpec
 
     List<Company> findByIndustry(String industry);
 
-    List<Company> findByCountry(String country);
+    List<Company> findByCountry(Country country);
 
     Page<Company> findByCompanyNameContainingIgnoreCase(String companyName, Pageable pageable);
 
@@ -1,5 +1,6 @@
 package com.example.syndicatelending.party.repository;
 
+import com.example.syndicatelending.party.dto.PartyNameView;
 import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.entity.InvestorType;
 import com.example.syndicatelending.common.statemachine.party.InvestorState;
@@ -7,8 +8,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -26,4 +32,24 @@ public interface InvestorRepository extends JpaRepository<Investor, Long>, JpaSp
     Page<Investor> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<Investor> findByInvestorType(InvestorType investorType, Pageable pageable);
+
+    /**
+     * 指定状態の投資家の状態を一括更新する（楽観ロックのバージョンも進める）。
+     * 実行前に永続化コンテキストをフラッシュし、実行後にクリアする。
+     *
+     * @return 更新件数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Investor i SET i.status = :target, i.version = i.version + 1, i.updatedAt = :updatedAt " +
+           "WHERE i.id IN :ids AND i.status = :source")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("source") InvestorState source,
+                     @Param("target") InvestorState target,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 指定IDのInvestorのIDと名前を一括取得する
+     */
+    @Query("SELECT i.id AS id, i.name AS name FROM Investor i WHERE i.id IN :ids")
+    List<PartyNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,61 @@
+package com.example.syndicatelending.party.service;
+
+import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 投資家の投資額（currentInvestmentAmount）を一括で増減するサービス。
+ * <p>
+ * ドローダウン・返済・取り消しの各処理から、投資家ごとの増減額をまとめて受け取り、
+ * 対象投資家を1回のクエリで取得してメモリ上で反映する。
+ * 更新はJDBCバッチ（{@code hibernate.jdbc.batch_size}）でまとめてフラッシュされる。
+ * </p>
+ */
+@Service
+@Transactional
+public class InvestorBalanceService {
+
+    private final InvestorRepository investorRepository;
+
+    public InvestorBalanceService(InvestorRepository investorRepository) {
+        this.investorRepository = investorRepository;
+    }
+
+    /**
+     * 投資家ごとの増減額を投資額に反映する。
+     *
+     * @param deltas 投資家IDをキー、増減額（正: 増額、負: 減額）を値とするマップ
+     * @throws ResourceNotFoundException 存在しない投資家IDが含まれる場合
+     */
+    public void applyDeltas(Map<Long, Money> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Investor> investors = investorRepository.findAllById(deltas.keySet());
+        if (investors.size() != deltas.size()) {
+            Long missingId = deltas.keySet().stream()
+                    .filter(id -> investors.stream().noneMatch(investor -> investor.getId().equals(id)))
+                    .findFirst()
+                    .orElse(null);
+            throw new ResourceNotFoundException("Investor not found with id: " + missingId);
+        }
+
+        for (Investor investor : investors) {
+            Money delta = deltas.get(investor.getId());
+            if (delta.isPositiveOrZero()) {
+                investor.increaseInvestmentAmount(delta);
+            } else {
+                investor.decreaseInvestmentAmount(Money.zero().subtract(delta));
+            }
+        }
+        investorRepository.saveAll(investors);
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.syndicatelending.party.service;
+
+import com.example.syndicatelending.party.dto.PartyNameCacheStats;
+import com.example.syndicatelending.party.dto.PartyNameView;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Borrower・Investor の名前キャッシュ
+ *
+ * DTO組み立て時に繰り返し参照される名前をIDごとに保持する。
+ * 最大件数（LRU）と有効期限（TTL）で追い出す。ロック競合を避けるため、
+ * キャッシュはIDのハッシュで分割したセグメントごとに同期する。
+ *
+ * 名前は PartyService の更新・削除時に無効化する。更新トランザクションのコミット前に
+ * 他のリクエストが旧い名前を再キャッシュしないよう、トランザクション完了後にも再度無効化する。
+ * 無効化のたびにIDごとの世代を進め、DBからの取得前に記録した世代から変わっている場合は
+ * 取得した名前をキャッシュしない（無効化をまたいで読み込んだ旧い名前を保持しない）。
+ */
+@Component
+public class PartyNameCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final BorrowerRepository borrowerRepository;
+    private final InvestorRepository investorRepository;
+    private final NameCache borrowerNames;
+    private final NameCache investorNames;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public PartyNameCache(
+            BorrowerRepository borrowerRepository,
+            InvestorRepository investorRepository,
+            @Value("${party.name-cache.max-size:10000}") int maxSize,
+            @Value("${party.name-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.borrowerRepository = borrowerRepository;
+        this.investorRepository = investorRepository;
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.borrowerNames = new NameCache(maxSize, ttlNanos);
+        this.investorNames = new NameCache(maxSize, ttlNanos);
+    }
+
+    /**
+     * Borrower名を一括取得する（キャッシュにないIDは1回のIN句クエリで取得）
+     *
+     * @param ids Borrower IDのコレクション
+     * @return IDと名前のMap（存在しないIDは含まない）
+     */
+    public Map<Long, String> getBorrowerNames(Collection<Long> ids) {
+        return getNames(borrowerNames, ids, borrowerRepository::findNamesByIdIn);
+    }
+
+    /**
+     * Investor名を一括取得する（キャッシュにないIDは1回のIN句クエリで取得）
+     *
+     * @param ids Investor IDのコレクション
+     * @return IDと名前のMap（存在しないIDは含まない）
+     */
+    public Map<Long, String> getInvestorNames(Collection<Long> ids) {
+        return getNames(investorNames, ids, investorRepository::findNamesByIdIn);
+    }
+
+    public void invalidateBorrower(Long id) {
+        invalidate(borrowerNames, id);
+    }
+
+    public void invalidateInvestor(Long id) {
+        invalidate(investorNames, id);
+    }
+
+    public void invalidateAll() {
+        borrowerNames.clear();
+        investorNames.clear();
+    }
+
+    /**
+     * キャッシュの統計情報（ヒット・ミス・追い出し・期限切れ件数、保持件数）
+     */
+    public PartyNameCacheStats getStats() {
+        return new PartyNameCacheStats(hits.get(), misses.get(), evictions.get(), expirations.get(),
+                borrowerNames.size(), investorNames.size());
+    }
+
+    private Map<Long, String> getNames(NameCache cache, Collection<Long> ids,
+            Function<Collection<Long>, List<PartyNameView>> finder) {
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null || names.containsKey(id)) {
+                continue;
+            }
+            String name = cache.get(id);
+            if (name != null) {
+                names.put(id, name);
+            } else {
+                missing.add(id);
+            }
+        }
+        hits.addAndGet(names.size());
+        misses.addAndGet(missing.size());
+
+        if (!missing.isEmpty()) {
+            Map<Long, Long> generations = new HashMap<>();
+            for (Long id : missing) {
+                generations.put(id, cache.generation(id));
+            }
+            for (PartyNameView view : finder.apply(missing)) {
+                cache.put(view.getId(), view.getName(), generations.get(view.getId()));
+                names.put(view.getId(), view.getName());
+            }
+        }
+        return names;
+    }
+
+    private void invalidate(NameCache cache, Long id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * セグメント分割したLRU + TTLキャッシュ
+     */
+    private final class NameCache {
+        private final Segment[] segments = new Segment[SEGMENTS];
+        private final long ttlNanos;
+
+        NameCache(int maxSize, long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+            int segmentSize = Math.max(1, maxSize / SEGMENTS);
+            for (int i = 0; i < SEGMENTS; i++) {
+                segments[i] = new Segment(segmentSize);
+            }
+        }
+
+        String get(Long id) {
+            Segment segment = segmentFor(id);
+            synchronized (segment) {
+                Entry entry = segment.get(id);
+                if (entry == null) {
+                    return null;
+                }
+                if (System.nanoTime() - entry.loadedAt > ttlNanos) {
+                    segment.remove(id);
+                    expirations.incrementAndGet();
+                    return null;
+                }
+                return entry.name;
+            }
+        }
+
+        /**
+         * IDの無効化世代（セグメント全体の無効化回数 + IDごとの無効化回数。いずれも増加のみ）
+         */
+        long generation(Long id) {
+            Segment segment = segmentFor(id);
+            synchronized (segment) {
+                return segment.clears + segment.generations.getOrDefault(id, 0L);
+            }
+        }
+
+        /**
+         * 取得前に記録した世代から無効化されていない場合のみキャッシュする
+         */
+        void put(Long id, String name, long generation) {
+            Segment segment = segmentFor(id);
+            synchronized (segment) {
+                if (segment.clears + segment.generations.getOrDefault(id, 0L) == generation) {
+                    segment.put(id, new Entry(name, System.nanoTime()));
+                }
+            }
+        }
+
+        void invalidate(Long id) {
+            Segment segment = segmentFor(id);
+            synchronized (segment) {
+                segment.remove(id);
+                segment.generations.merge(id, 1L, Long::sum);
+            }
+        }
+
+        void clear() {
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    segment.clear();
+                    segment.clears++;
+                }
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    size += segment.size();
+                }
+            }
+            return size;
+        }
+
+        private Segment segmentFor(Long id) {
+            return segments[Math.floorMod(id.hashCode(), SEGMENTS)];
+        }
+    }
+
+    /**
+     * アクセス順のLinkedHashMap。上限を超えた場合は最も古くアクセスされたエントリを追い出す。
+     * 無効化世代は更新・削除されたIDのみ保持する（件数はPartyの件数を超えない）。
+     */
+    private final class Segment extends LinkedHashMap<Long, Entry> {
+        private final int maxSize;
+        private final Map<Long, Long> generations = new HashMap<>();
+        private long clears;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private record Entry(String name, long loadedAt) {
+    }
+}
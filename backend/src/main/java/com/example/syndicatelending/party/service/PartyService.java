@@ -30,15 +30,18 @@ public class PartyService {
     // Note: FacilityRepository is used only for read-only calculation of current facility amounts
     // This is acceptable cross-context dependency for data aggregation purposes
     private final FacilityRepository facilityRepository;
+    private final PartyNameCache partyNameCache;
 
     public PartyService(CompanyRepository companyRepository,
             BorrowerRepository borrowerRepository,
             InvestorRepository investorRepository,
-            FacilityRepository facilityRepository) {
+            FacilityRepository facilityRepository,
+            PartyNameCache partyNameCache) {
         this.companyRepository = companyRepository;
         this.borrowerRepository = borrowerRepository;
         this.investorRepository = investorRepository;
         this.facilityRepository = facilityRepository;
+        this.partyNameCache = partyNameCache;
     }
 
     // Company operations
@@ -178,7 +181,9 @@ public class PartyService {
         entityToSave.setCreditRating(request.getCreditRating());
         entityToSave.setCreatedAt(existingBorrower.getCreatedAt());
 
-        return borrowerRepository.save(entityToSave);
+        Borrower savedBorrower = borrowerRepository.save(entityToSave);
+        partyNameCache.invalidateBorrower(id);
+        return savedBorrower;
     }
 
     public void deleteBorrower(Long id) {
@@ -193,6 +198,7 @@ public class PartyService {
         }
         
         borrowerRepository.deleteById(id);
+        partyNameCache.invalidateBorrower(id);
     }
 
     // Investor operations
@@ -251,7 +257,9 @@ public class PartyService {
         entityToSave.setInvestorType(request.getInvestorType());
         entityToSave.setCreatedAt(existingInvestor.getCreatedAt());
 
-        return investorRepository.save(entityToSave);
+        Investor savedInvestor = investorRepository.save(entityToSave);
+        partyNameCache.invalidateInvestor(id);
+        return savedInvestor;
     }
 
     public void deleteInvestor(Long id) {
@@ -266,6 +274,7 @@ public class PartyService {
         }
         
         investorRepository.deleteById(id);
+        partyNameCache.invalidateInvestor(id);
     }
 
     @Transactional(readOnly = true)
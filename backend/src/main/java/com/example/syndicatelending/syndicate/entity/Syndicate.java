@@ -2,12 +2,20 @@ package com.example.syndicatelending.syndicate.entity;
 
 import com.example.syndicatelending.common.statemachine.syndicate.SyndicateState;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "syndicates")
+@Table(name = "syndicates", indexes = {
+        @Index(name = "idx_syndicates_borrower_id", columnList = "borrower_id"),
+        @Index(name = "idx_syndicates_lead_bank_id", columnList = "lead_bank_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Syndicate {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,8 +33,14 @@ public class Syndicate {
     private Long borrowerId;
 
     // メンバー（投資家IDのリスト、シンプルな形で実装）
+    // ページング一覧では複数Syndicate分をまとめて読み込む
     @ElementCollection
-    @CollectionTable(name = "syndicate_members", joinColumns = @JoinColumn(name = "syndicate_id"))
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @CollectionTable(name = "syndicate_members", joinColumns = @JoinColumn(name = "syndicate_id"), indexes = {
+            @Index(name = "idx_syndicate_members_syndicate_id", columnList = "syndicate_id"),
+            @Index(name = "idx_syndicate_members_investor_id", columnList = "investor_id")
+    })
     @Column(name = "investor_id")
     private List<Long> memberInvestorIds = new ArrayList<>();
 
@@ -24,15 +24,15 @@ public interface SyndicateRepository extends JpaRepository<Syndicate, Long> {
     
     /**
      * 関連エンティティの詳細情報を含むシンジケート一覧を取得
-     * Borrower、Lead Bank Investor の名前情報を併せて取得
+     * メンバー投資家IDを同一クエリで取得する（名前はSyndicateServiceで一括解決）
      */
-    @Query("SELECT s FROM Syndicate s")
+    @Query("SELECT DISTINCT s FROM Syndicate s LEFT JOIN FETCH s.memberInvestorIds")
     List<Syndicate> findAllForDetailResponse();
     
     /**
      * 関連エンティティの詳細情報を含む特定のシンジケートを取得
-     * Borrower、Lead Bank Investor の名前情報を併せて取得
+     * メンバー投資家IDを同一クエリで取得する（名前はSyndicateServiceで一括解決）
      */
-    @Query("SELECT s FROM Syndicate s WHERE s.id = :id")
+    @Query("SELECT s FROM Syndicate s LEFT JOIN FETCH s.memberInvestorIds WHERE s.id = :id")
     Optional<Syndicate> findByIdForDetailResponse(Long id);
 }
@@ -8,16 +8,21 @@ import com.example.syndicatelending.common.application.exception.ResourceNotFoun
 import com.example.syndicatelending.party.repository.InvestorRepository;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.party.entity.Investor;
-import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.service.PartyNameCache;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,15 +32,18 @@ public class SyndicateService {
     private final InvestorRepository investorRepository;
     private final BorrowerRepository borrowerRepository;
     private final FacilityRepository facilityRepository;
+    private final PartyNameCache partyNameCache;
 
     public SyndicateService(SyndicateRepository syndicateRepository, 
                            InvestorRepository investorRepository,
                            BorrowerRepository borrowerRepository,
-                           FacilityRepository facilityRepository) {
+                           FacilityRepository facilityRepository,
+                           PartyNameCache partyNameCache) {
         this.syndicateRepository = syndicateRepository;
         this.investorRepository = investorRepository;
         this.borrowerRepository = borrowerRepository;
         this.facilityRepository = facilityRepository;
+        this.partyNameCache = partyNameCache;
     }
 
     public Syndicate createSyndicate(Syndicate syndicate) {
@@ -69,9 +77,7 @@ public class SyndicateService {
     @Transactional(readOnly = true)
     public List<SyndicateDetailResponseDTO> getAllSyndicatesWithDetails() {
         List<Syndicate> syndicates = syndicateRepository.findAllForDetailResponse();
-        return syndicates.stream()
-                .map(this::convertToDetailResponseDTO)
-                .collect(Collectors.toList());
+        return convertToDetailResponseDTOs(syndicates);
     }
     
     /**
@@ -81,7 +87,8 @@ public class SyndicateService {
     @Transactional(readOnly = true)
     public Page<SyndicateDetailResponseDTO> getAllSyndicatesWithDetailsPageable(Pageable pageable) {
         Page<Syndicate> syndicatesPage = syndicateRepository.findAll(pageable);
-        return syndicatesPage.map(this::convertToDetailResponseDTO);
+        List<SyndicateDetailResponseDTO> content = convertToDetailResponseDTOs(syndicatesPage.getContent());
+        return new PageImpl<>(content, syndicatesPage.getPageable(), syndicatesPage.getTotalElements());
     }
     
     /**
@@ -92,28 +99,50 @@ public class SyndicateService {
     public SyndicateDetailResponseDTO getSyndicateWithDetails(Long id) {
         Syndicate syndicate = syndicateRepository.findByIdForDetailResponse(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Syndicate not found with ID: " + id));
-        return convertToDetailResponseDTO(syndicate);
+        return convertToDetailResponseDTOs(List.of(syndicate)).get(0);
+    }
+    
+    /**
+     * SyndicateエンティティのリストをSyndicateDetailResponseDTOのリストに変換
+     * 
+     * 全Syndicateが参照するBorrower・InvestorのIDを集約し、
+     * 名前をPartyNameCacheから一括取得してからDTOを組み立てる。
+     * キャッシュにない名前はそれぞれ1回のIN句クエリで取得するため、
+     * Syndicate数・メンバー数に関わらずクエリ数は一定（最大でBorrower 1回、Investor 1回）。
+     */
+    private List<SyndicateDetailResponseDTO> convertToDetailResponseDTOs(List<Syndicate> syndicates) {
+        Set<Long> borrowerIds = new HashSet<>();
+        Set<Long> investorIds = new HashSet<>();
+        for (Syndicate syndicate : syndicates) {
+            borrowerIds.add(syndicate.getBorrowerId());
+            investorIds.add(syndicate.getLeadBankId());
+            investorIds.addAll(syndicate.getMemberInvestorIds());
+        }
+        
+        Map<Long, String> borrowerNames = partyNameCache.getBorrowerNames(borrowerIds);
+        Map<Long, String> investorNames = partyNameCache.getInvestorNames(investorIds);
+        
+        return syndicates.stream()
+                .map(syndicate -> convertToDetailResponseDTO(syndicate, borrowerNames, investorNames))
+                .collect(Collectors.toList());
     }
     
     /**
      * SyndicateエンティティをSyndicateDetailResponseDTOに変換
      */
-    private SyndicateDetailResponseDTO convertToDetailResponseDTO(Syndicate syndicate) {
+    private SyndicateDetailResponseDTO convertToDetailResponseDTO(Syndicate syndicate,
+            Map<Long, String> borrowerNames, Map<Long, String> investorNames) {
         // Borrower名を取得
-        String borrowerName = borrowerRepository.findById(syndicate.getBorrowerId())
-                .map(Borrower::getName)
-                .orElse("Unknown Borrower");
+        String borrowerName = Objects.requireNonNullElse(
+                borrowerNames.get(syndicate.getBorrowerId()), "Unknown Borrower");
         
         // Lead Bank名を取得
-        String leadBankName = investorRepository.findById(syndicate.getLeadBankId())
-                .map(Investor::getName)
-                .orElse("Unknown Lead Bank");
+        String leadBankName = Objects.requireNonNullElse(
+                investorNames.get(syndicate.getLeadBankId()), "Unknown Lead Bank");
         
         // Member Investor名のリストを取得
         List<String> memberInvestorNames = syndicate.getMemberInvestorIds().stream()
-                .map(investorId -> investorRepository.findById(investorId)
-                        .map(Investor::getName)
-                        .orElse("Unknown Investor"))
+                .map(investorId -> Objects.requireNonNullElse(investorNames.get(investorId), "Unknown Investor"))
                 .collect(Collectors.toList());
         
         return new SyndicateDetailResponseDTO(
@@ -34,7 +34,7 @@ public class TransactionController {
      */
     @GetMapping("/{transactionId}")
     public ResponseEntity<Transaction> getTransaction(@PathVariable Long transactionId) {
-        Transaction transaction = transactionService.getTransactionById(transactionId);
+        Transaction transaction = transactionService.getTransactionDetail(transactionId);
         return ResponseEntity.ok(transaction);
     }
 
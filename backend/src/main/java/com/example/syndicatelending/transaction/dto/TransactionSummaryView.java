@@ -0,0 +1,21 @@
+package com.example.syndicatelending.transaction.dto;
+
+import com.example.syndicatelending.transaction.entity.TransactionStatus;
+import com.example.syndicatelending.transaction.entity.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * 取引の状態・タイプごとの件数と金額合計を取得するプロジェクション
+ * 
+ * 取引統計を、取引エンティティを読み込まずに1回の集計クエリで求めるために使用する。
+ */
+public interface TransactionSummaryView {
+    TransactionStatus getStatus();
+
+    TransactionType getTransactionType();
+
+    long getTransactionCount();
+
+    BigDecimal getTotalAmount();
+}
@@ -0,0 +1,35 @@
+package com.example.syndicatelending.transaction.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * タイプごとの件数と金額合計
+ * 
+ * 取引統計（取引タイプごと）と手数料支払い統計（手数料タイプごと）で共通に使用する。
+ */
+public class TypeTotal {
+    private final long count;
+    private final BigDecimal totalAmount;
+
+    public TypeTotal(long count, BigDecimal totalAmount) {
+        this.count = count;
+        this.totalAmount = totalAmount;
+    }
+
+    /**
+     * 0件・0円の集計結果を返す
+     */
+    public static TypeTotal zero() {
+        return new TypeTotal(0, BigDecimal.ZERO);
+    }
+
+    /**
+     * 件数と金額合計をそれぞれ加算した集計結果を返す
+     */
+    public TypeTotal add(TypeTotal other) {
+        return new TypeTotal(count + other.count, totalAmount.add(other.totalAmount));
+    }
+
+    public long getCount() { return count; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+}
@@ -2,16 +2,23 @@ package com.example.syndicatelending.transaction.service;
 
 import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
 import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.fee.entity.FeePayment;
+import com.example.syndicatelending.loan.entity.Payment;
 import com.example.syndicatelending.transaction.entity.Transaction;
 import com.example.syndicatelending.transaction.entity.TransactionType;
 import com.example.syndicatelending.transaction.entity.TransactionStatus;
 import com.example.syndicatelending.loan.repository.TransactionRepository;
+import com.example.syndicatelending.transaction.dto.TransactionSummaryView;
+import com.example.syndicatelending.transaction.dto.TypeTotal;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 取引管理の統合サービス
@@ -42,6 +49,26 @@ public class TransactionService {
             .orElseThrow(() -> new ResourceNotFoundException("Transaction not found: " + transactionId));
     }
 
+    /**
+     * 取引IDで取引を配分情報とともに取得（詳細表示用）
+     * 
+     * 配分は遅延ロードのため、返済・手数料支払いの場合はここで読み込む。
+     * 
+     * @param transactionId 取引ID
+     * @return 取引エンティティ
+     * @throws ResourceNotFoundException 取引が見つからない場合
+     */
+    @Transactional(readOnly = true)
+    public Transaction getTransactionDetail(Long transactionId) {
+        Transaction transaction = getTransactionById(transactionId);
+        if (transaction instanceof Payment payment) {
+            Hibernate.initialize(payment.getPaymentDistributions());
+        } else if (transaction instanceof FeePayment feePayment) {
+            Hibernate.initialize(feePayment.getFeeDistributions());
+        }
+        return transaction;
+    }
+
     /**
      * Facility IDで取引履歴を取得
      * 
@@ -156,31 +183,14 @@ public class TransactionService {
     /**
      * 取引統計を取得
      * 
+     * 状態・タイプごとの件数と金額合計を1回の集計クエリで取得し、取引エンティティは読み込まない。
+     * 
      * @param facilityId Facility ID
      * @return 取引統計情報
      */
     @Transactional(readOnly = true)
     public TransactionStatistics getTransactionStatistics(Long facilityId) {
-        List<Transaction> transactions = getTransactionsByFacility(facilityId);
-        
-        long completedCount = transactions.stream()
-            .filter(Transaction::isCompleted)
-            .count();
-            
-        long pendingCount = transactions.stream()
-            .filter(t -> t.getStatus() == TransactionStatus.DRAFT)
-            .count();
-            
-        long processingCount = transactions.stream()
-            .filter(Transaction::isActive)
-            .count();
-            
-        return new TransactionStatistics(
-            transactions.size(),
-            completedCount,
-            pendingCount,
-            processingCount
-        );
+        return TransactionStatistics.from(transactionRepository.summarizeByFacilityId(facilityId));
     }
 
     /**
@@ -191,17 +201,49 @@ public class TransactionService {
         private final long completedCount;
         private final long pendingCount;
         private final long processingCount;
+        private final Map<TransactionType, TypeTotal> totalsByType;
 
-        public TransactionStatistics(long totalCount, long completedCount, long pendingCount, long processingCount) {
+        public TransactionStatistics(long totalCount, long completedCount, long pendingCount, long processingCount,
+                                     Map<TransactionType, TypeTotal> totalsByType) {
             this.totalCount = totalCount;
             this.completedCount = completedCount;
             this.pendingCount = pendingCount;
             this.processingCount = processingCount;
+            this.totalsByType = totalsByType;
+        }
+
+        /**
+         * 状態・タイプごとの集計結果から統計を組み立てる
+         * 
+         * @param summaries 状態・タイプごとの件数と金額合計
+         * @return 取引統計情報
+         */
+        public static TransactionStatistics from(List<TransactionSummaryView> summaries) {
+            long totalCount = 0;
+            long completedCount = 0;
+            long pendingCount = 0;
+            long processingCount = 0;
+            Map<TransactionType, TypeTotal> totalsByType = new EnumMap<>(TransactionType.class);
+            for (TransactionSummaryView summary : summaries) {
+                long count = summary.getTransactionCount();
+                totalCount += count;
+                if (summary.getStatus() == TransactionStatus.COMPLETED) {
+                    completedCount += count;
+                } else if (summary.getStatus() == TransactionStatus.DRAFT) {
+                    pendingCount += count;
+                } else if (summary.getStatus() == TransactionStatus.ACTIVE) {
+                    processingCount += count;
+                }
+                totalsByType.merge(summary.getTransactionType(),
+                        new TypeTotal(count, summary.getTotalAmount()), TypeTotal::add);
+            }
+            return new TransactionStatistics(totalCount, completedCount, pendingCount, processingCount, totalsByType);
         }
 
         public long getTotalCount() { return totalCount; }
         public long getCompletedCount() { return completedCount; }
         public long getPendingCount() { return pendingCount; }
         public long getProcessingCount() { return processingCount; }
+        public Map<TransactionType, TypeTotal> getTotalsByType() { return totalsByType; }
     }
-}
\ No newline at end of file
+}
@@ -58,5 +58,6 @@ ALTER TABLE BORROWERS ALTER COLUMN ID RESTART WITH 10;
 ALTER TABLE INVESTORS ALTER COLUMN ID RESTART WITH 10;
 ALTER TABLE SYNDICATES ALTER COLUMN ID RESTART WITH 10;
 ALTER TABLE FACILITIES ALTER COLUMN ID RESTART WITH 10;
-ALTER TABLE TRANSACTION ALTER COLUMN ID RESTART WITH 10;
-ALTER TABLE FACILITY_SHARE_PIES ALTER COLUMN ID RESTART WITH 10;
+-- TRANSACTION / FACILITY_SHARE_PIES はシーケンス（pooled-lo）で採番するため、シーケンスをリセットする
+ALTER SEQUENCE TRANSACTION_SEQ RESTART WITH 10;
+ALTER SEQUENCE FACILITY_SHARE_PIES_SEQ RESTART WITH 10;
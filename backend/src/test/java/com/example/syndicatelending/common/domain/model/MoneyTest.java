@@ -0,0 +1,165 @@
+package com.example.syndicatelending.common.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Moneyの固定小数点演算のテスト。
+ * <p>
+ * 乱数で生成した入力に対し、従来のBigDecimal + setScale(2, HALF_UP) による計算結果と
+ * ビット単位（値・スケール）で一致することを検証するプロパティベーステスト。
+ * </p>
+ */
+class MoneyTest {
+
+    private static final int ITERATIONS = 20_000;
+    private static final long SEED = 20250101L;
+
+    /** longの境界付近を含む金額（補助単位）の候補 */
+    private static final long[] EDGE_MINOR_UNITS = {
+            0L, 1L, -1L, 5L, -5L, 49L, 50L, -50L, 99L, 100L,
+            Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1,
+            Long.MAX_VALUE / 2, Long.MIN_VALUE / 2, Long.MAX_VALUE / 100, Long.MIN_VALUE / 100
+    };
+
+    @Test
+    void 生成時の丸めがBigDecimalの結果と一致すること() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal input = randomDecimal(random);
+            assertSameAsReference(reference(input), Money.of(input), "of(" + input + ")");
+        }
+    }
+
+    @Test
+    void 加算がBigDecimalの結果と一致すること() {
+        Random random = new Random(SEED + 1);
+        for (BigDecimal[] pair : randomPairs(random)) {
+            BigDecimal expected = reference(reference(pair[0]).add(reference(pair[1])));
+            assertSameAsReference(expected, Money.of(pair[0]).add(Money.of(pair[1])),
+                    pair[0] + " + " + pair[1]);
+        }
+    }
+
+    @Test
+    void 減算がBigDecimalの結果と一致すること() {
+        Random random = new Random(SEED + 2);
+        for (BigDecimal[] pair : randomPairs(random)) {
+            BigDecimal expected = reference(reference(pair[0]).subtract(reference(pair[1])));
+            assertSameAsReference(expected, Money.of(pair[0]).subtract(Money.of(pair[1])),
+                    pair[0] + " - " + pair[1]);
+        }
+    }
+
+    @Test
+    void 乗算がBigDecimalの結果と一致すること() {
+        Random random = new Random(SEED + 3);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal amount = randomDecimal(random);
+            BigDecimal multiplier = randomMultiplier(random);
+            BigDecimal expected = reference(reference(amount).multiply(multiplier));
+            assertSameAsReference(expected, Money.of(amount).multiply(multiplier),
+                    amount + " * " + multiplier);
+        }
+    }
+
+    @Test
+    void 比較がBigDecimalの結果と一致すること() {
+        Random random = new Random(SEED + 4);
+        for (BigDecimal[] pair : randomPairs(random)) {
+            Money left = Money.of(pair[0]);
+            Money right = Money.of(pair[1]);
+            int expected = reference(pair[0]).compareTo(reference(pair[1]));
+            assertEquals(expected > 0, left.isGreaterThan(right));
+            assertEquals(expected >= 0, left.isGreaterThanOrEqual(right));
+            assertEquals(expected < 0, left.isLessThan(right));
+            assertEquals(expected == 0, left.equals(right));
+            if (expected == 0) {
+                assertEquals(left.hashCode(), right.hashCode());
+            }
+            assertEquals(reference(pair[0]).signum() >= 0, left.isPositiveOrZero());
+            assertEquals(reference(pair[0]).signum() == 0, left.isZero());
+        }
+    }
+
+    @Test
+    void longの範囲を超えてもBigDecimalにフォールバックして計算できること() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+        Money overflowed = max.add(Money.ofMinorUnits(1));
+
+        assertEquals(new BigDecimal("92233720368547758.08"), overflowed.getAmount());
+        assertEquals(max, overflowed.subtract(Money.ofMinorUnits(1)), "longの範囲に戻ると固定小数点に正規化されること");
+        assertTrue(overflowed.isGreaterThan(max));
+    }
+
+    @Test
+    void long値のファクトリと補助単位のファクトリが整合すること() {
+        assertEquals(Money.of(new BigDecimal("1000")), Money.of(1000L));
+        assertEquals(Money.of(new BigDecimal("123.45")), Money.ofMinorUnits(12345L));
+        assertEquals(new BigDecimal("0.00"), Money.zero().getAmount());
+        assertEquals(new BigDecimal(Long.MAX_VALUE).setScale(2), Money.of(Long.MAX_VALUE).getAmount());
+    }
+
+    private static BigDecimal reference(BigDecimal value) {
+        return value.setScale(Money.DEFAULT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static void assertSameAsReference(BigDecimal expected, Money actual, String description) {
+        // BigDecimal.equalsは値とスケールの両方を比較する
+        assertEquals(expected, actual.getAmount(), description);
+        assertEquals(Money.of(expected), actual, description);
+    }
+
+    private static List<BigDecimal[]> randomPairs(Random random) {
+        List<BigDecimal[]> pairs = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            pairs.add(new BigDecimal[] { randomDecimal(random), randomDecimal(random) });
+        }
+        return pairs;
+    }
+
+    /**
+     * 小さな金額、一般的な金額、longの境界付近、longを超える金額を混在させて生成する。
+     */
+    private static BigDecimal randomDecimal(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return BigDecimal.valueOf(random.nextInt(20_001) - 10_000, random.nextInt(5));
+            case 1:
+                return BigDecimal.valueOf(random.nextLong() % 1_000_000_000_000L, random.nextInt(4));
+            case 2:
+                return BigDecimal.valueOf(EDGE_MINOR_UNITS[random.nextInt(EDGE_MINOR_UNITS.length)], 2);
+            case 3:
+                return BigDecimal.valueOf(random.nextLong(), random.nextInt(4));
+            default:
+                return new BigDecimal(new BigInteger(80, random), random.nextInt(4))
+                        .multiply(random.nextBoolean() ? BigDecimal.ONE : BigDecimal.ONE.negate());
+        }
+    }
+
+    /**
+     * 持分比率・利率・大きな乗数などを混在させて生成する。
+     */
+    private static BigDecimal randomMultiplier(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return BigDecimal.valueOf(random.nextInt(10_001), 4); // Percentage相当
+            case 1:
+                return BigDecimal.valueOf(Math.abs(random.nextLong() % 10_000_000_000L), 10); // 10桁の比率
+            case 2:
+                return BigDecimal.valueOf(random.nextInt(1_000_001) - 500_000, random.nextInt(19));
+            case 3:
+                return BigDecimal.valueOf(random.nextLong(), random.nextInt(25));
+            default:
+                return new BigDecimal(random.nextInt(1000) + "E" + (random.nextInt(7) - 3));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.syndicatelending.common.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProRataAllocator（最大剰余方式の按分）のテスト。
+ * <p>
+ * 乱数で生成した金額・重みに対し、配分額の合計が元の金額と一致すること、
+ * 各配分額と理論値（金額 × 重み / 重み合計）の差が1単位未満であることを検証する。
+ * </p>
+ */
+class ProRataAllocatorTest {
+
+    private static final int ITERATIONS = 5_000;
+    private static final long SEED = 20250101L;
+
+    @Test
+    void 割り切れない端数は剰余の大きい順に割り当てる() {
+        Money[] allocated = ProRataAllocator.allocate(Money.of(new BigDecimal("100.00")), new long[] { 1, 1, 1 });
+
+        assertEquals(Money.of(new BigDecimal("33.34")), allocated[0]);
+        assertEquals(Money.of(new BigDecimal("33.33")), allocated[1]);
+        assertEquals(Money.of(new BigDecimal("33.33")), allocated[2]);
+    }
+
+    @Test
+    void 最後の投資家ではなく剰余が最大の投資家に端数を割り当てる() {
+        // 理論値: 0.333..., 0.666... → 0.33 + 残り1単位は剰余の大きい2番目へ
+        Money[] allocated = ProRataAllocator.allocate(Money.of(new BigDecimal("1.00")), new long[] { 1, 2 });
+
+        assertEquals(Money.of(new BigDecimal("0.33")), allocated[0]);
+        assertEquals(Money.of(new BigDecimal("0.67")), allocated[1]);
+    }
+
+    @Test
+    void 持分比率で割り切れる場合は比率どおりに按分する() {
+        Money[] allocated = ProRataAllocator.allocate(
+                Money.of(new BigDecimal("12500.00")), new long[] { 4000, 3500, 2500 });
+
+        assertEquals(Money.of(new BigDecimal("5000.00")), allocated[0]);
+        assertEquals(Money.of(new BigDecimal("4375.00")), allocated[1]);
+        assertEquals(Money.of(new BigDecimal("3125.00")), allocated[2]);
+    }
+
+    @Test
+    void 複数の金額を同じ重みで按分する() {
+        Money principal = Money.of(new BigDecimal("1000.01"));
+        Money interest = Money.of(new BigDecimal("10.01"));
+        long[] weights = { 3, 3, 4 };
+
+        Money[][] allocated = ProRataAllocator.allocate(new Money[] { principal, interest }, weights);
+
+        assertArrayEquals(ProRataAllocator.allocate(principal, weights), allocated[0]);
+        assertArrayEquals(ProRataAllocator.allocate(interest, weights), allocated[1]);
+    }
+
+    @Test
+    void 負の金額は正の金額と符号のみ異なる() {
+        long[] weights = { 1, 1, 1 };
+        Money[] positive = ProRataAllocator.allocate(Money.of(new BigDecimal("100.00")), weights);
+        Money[] negative = ProRataAllocator.allocate(Money.of(new BigDecimal("-100.00")), weights);
+
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(positive[i].getAmount().negate(), negative[i].getAmount());
+        }
+    }
+
+    @Test
+    void 乱数の金額と重みで合計と誤差が保たれること() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long minorUnits = random.nextLong() % 1_000_000_000_000L;
+            long[] weights = randomWeights(random, 1 + random.nextInt(50));
+            assertAllocation(Money.ofMinorUnits(minorUnits), weights);
+        }
+    }
+
+    @Test
+    void longの範囲を超える積でも合計と誤差が保たれること() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 200; i++) {
+            long[] weights = new long[1 + random.nextInt(10)];
+            for (int j = 0; j < weights.length; j++) {
+                weights[j] = Math.abs(random.nextLong() % (Long.MAX_VALUE / 16));
+            }
+            weights[0] = Math.max(weights[0], 1L);
+            assertAllocation(Money.ofMinorUnits(Long.MAX_VALUE - random.nextInt(1000)), weights);
+        }
+        assertAllocation(Money.of(new BigDecimal("92233720368547758.08")), new long[] { 1, 2, 3 });
+    }
+
+    @Test
+    void 重みが0の配分先には配分しない() {
+        Money[] allocated = ProRataAllocator.allocate(Money.of(new BigDecimal("10.00")), new long[] { 0, 1, 0 });
+
+        assertTrue(allocated[0].isZero());
+        assertEquals(Money.of(new BigDecimal("10.00")), allocated[1]);
+        assertTrue(allocated[2].isZero());
+    }
+
+    @Test
+    void 不正な重みは拒否する() {
+        Money amount = Money.of(new BigDecimal("10.00"));
+
+        assertThrows(IllegalArgumentException.class, () -> ProRataAllocator.allocate(amount, new long[] { 0, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> ProRataAllocator.allocate(amount, new long[] { 1, -1 }));
+        assertEquals(0, ProRataAllocator.allocate(amount, new long[0]).length);
+    }
+
+    private static long[] randomWeights(Random random, int size) {
+        long[] weights = new long[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = random.nextInt(1_000_000);
+        }
+        weights[random.nextInt(size)] += 1;
+        return weights;
+    }
+
+    private static void assertAllocation(Money amount, long[] weights) {
+        Money[] allocated = ProRataAllocator.allocate(amount, weights);
+
+        BigInteger total = BigInteger.ZERO;
+        BigInteger totalWeight = BigInteger.ZERO;
+        for (long weight : weights) {
+            totalWeight = totalWeight.add(BigInteger.valueOf(weight));
+        }
+        BigInteger minorUnits = amount.getAmount().unscaledValue();
+        for (int i = 0; i < weights.length; i++) {
+            BigInteger actual = allocated[i].getAmount().unscaledValue();
+            total = total.add(actual);
+            // |actual × 重み合計 − 金額 × 重み| < 重み合計（誤差1単位未満）
+            BigInteger error = actual.multiply(totalWeight)
+                    .subtract(minorUnits.multiply(BigInteger.valueOf(weights[i])))
+                    .abs();
+            assertTrue(error.compareTo(totalWeight) < 0, "allocation error for " + amount + " index " + i);
+        }
+        assertEquals(minorUnits, total, "total for " + amount);
+    }
+}
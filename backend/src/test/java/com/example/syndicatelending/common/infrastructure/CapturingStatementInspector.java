@@ -0,0 +1,46 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Hibernateが発行するSELECT文を記録するStatementInspector（テスト用）
+ *
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} に指定して使う。
+ * バックグラウンドのスケジューラ等のSQLが混ざらないよう、{@link #start()} を呼んだスレッドのSQLのみ記録する。
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> captured = new ArrayList<>();
+    private static volatile Thread capturingThread;
+
+    /**
+     * 現在のスレッドで記録を開始する（記録済みのSQLは破棄する）
+     */
+    public static synchronized void start() {
+        captured.clear();
+        capturingThread = Thread.currentThread();
+    }
+
+    /**
+     * 記録を終了し、記録したSQLを返す
+     */
+    public static synchronized List<String> stop() {
+        capturingThread = null;
+        return new ArrayList<>(captured);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (Thread.currentThread() == capturingThread
+                && sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            synchronized (CapturingStatementInspector.class) {
+                captured.add(sql);
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.fee.entity.FeeDistribution;
+import com.example.syndicatelending.fee.entity.FeePayment;
+import com.example.syndicatelending.fee.entity.FeeType;
+import com.example.syndicatelending.fee.entity.RecipientType;
+import com.example.syndicatelending.loan.entity.AmountPie;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.PaymentDistribution;
+import com.example.syndicatelending.loan.entity.RepaymentCycle;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 一覧・詳細エンドポイントで発行されるSELECT文の数のテスト。
+ * 一覧取得では件数によらずクエリ数が一定であること、詳細取得では子のコレクションをJOINで同時に取得することを確認する。
+ * 画面が配分を表示する一覧のうち、手数料支払いの一覧は取得した分の配分を1回のクエリで、Loan別の返済一覧はJOINで取得し、
+ * それ以外の一覧は子のコレクション（配分・持分・按分・返済明細）を読み込まない。
+ * Facility・Loan・Drawdownの一覧は軽量な射影（*Summary）を返し、子の件数・合計をサブクエリで集計する。
+ * SQLは {@link CapturingStatementInspector} でテストスレッド（MockMvcのリクエスト処理を含む）の分のみ記録する。
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.syndicatelending.common.infrastructure.CapturingStatementInspector")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class ListEndpointQueryCountTest {
+
+    private static final Long FACILITY_ID = 9001L;
+    private static final Long BORROWER_ID = 9001L;
+    private static final Long LOAN_ID = 9001L;
+    private static final LocalDate FEE_DATE = LocalDate.of(2099, 1, 15);
+    private static final int ROW_COUNT = 5;
+    private static final int DISTRIBUTION_COUNT = 3;
+    // Drawdownは取引一覧にも含まれるため、返済・手数料支払いとは別のFacility・Borrowerに登録する
+    private static final Long DRAWDOWN_FACILITY_ID = 9002L;
+    private static final Long DRAWDOWN_BORROWER_ID = 9002L;
+    private static final int INVESTOR_COUNT = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long paymentId;
+    private Long feePaymentId;
+    private Long facilityId;
+    private Long loanId;
+    private Long drawdownId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Payment payment = new Payment(LOAN_ID, FEE_DATE.plusDays(i), Money.of(new BigDecimal("1100.00")),
+                    Money.of(new BigDecimal("1000.00")), Money.of(new BigDecimal("100.00")), "JPY");
+            payment.setFacilityId(FACILITY_ID);
+            payment.setBorrowerId(BORROWER_ID);
+            for (int j = 0; j < DISTRIBUTION_COUNT; j++) {
+                PaymentDistribution distribution = new PaymentDistribution((long) j + 1,
+                        Money.of(new BigDecimal("300.00")), Money.of(new BigDecimal("30.00")), "JPY");
+                distribution.setPayment(payment);
+                payment.getPaymentDistributions().add(distribution);
+            }
+            entityManager.persist(payment);
+            paymentId = payment.getId();
+
+            FeePayment feePayment = new FeePayment(FeeType.MANAGEMENT_FEE, FEE_DATE.plusDays(i),
+                    Money.of(new BigDecimal("500.00")), Money.of(new BigDecimal("100000.00")), 0.5,
+                    RecipientType.INVESTOR, 1L, "JPY", "query count");
+            feePayment.setFacilityId(FACILITY_ID);
+            feePayment.setBorrowerId(BORROWER_ID);
+            for (int j = 0; j < DISTRIBUTION_COUNT; j++) {
+                FeeDistribution distribution = new FeeDistribution("INVESTOR", (long) j + 1,
+                        Money.of(new BigDecimal("100.00")), 20.0, "JPY");
+                distribution.setFeePayment(feePayment);
+                feePayment.getFeeDistributions().add(distribution);
+            }
+            entityManager.persist(feePayment);
+            feePaymentId = feePayment.getId();
+        }
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Facility facility = new Facility(1L, Money.of(new BigDecimal("1000000.00")), "JPY", FEE_DATE,
+                    FEE_DATE.plusYears(1), "query count");
+            for (int j = 0; j < INVESTOR_COUNT; j++) {
+                SharePie sharePie = new SharePie();
+                sharePie.setInvestorId((long) j + 1);
+                sharePie.setShare(Percentage.of(new BigDecimal("0.5")));
+                sharePie.setFacility(facility);
+                facility.getSharePies().add(sharePie);
+            }
+            entityManager.persist(facility);
+            facilityId = facility.getId();
+
+            Loan loan = new Loan(DRAWDOWN_FACILITY_ID, DRAWDOWN_BORROWER_ID, Money.of(new BigDecimal("1200000")),
+                    Percentage.of(new BigDecimal("0.05")), FEE_DATE, 12, RepaymentCycle.MONTHLY,
+                    RepaymentMethod.EQUAL_INSTALLMENT, "JPY");
+            entityManager.persist(loan);
+            loanId = loan.getId();
+
+            Drawdown drawdown = new Drawdown();
+            drawdown.setFacilityId(DRAWDOWN_FACILITY_ID);
+            drawdown.setBorrowerId(DRAWDOWN_BORROWER_ID);
+            drawdown.setLoanId(loan.getId());
+            drawdown.setAmount(Money.of(new BigDecimal("1200000")));
+            drawdown.setCurrency("JPY");
+            drawdown.setPurpose("query count");
+            drawdown.setTransactionDate(FEE_DATE);
+            List<AmountPie> amountPies = new ArrayList<>();
+            for (int j = 0; j < INVESTOR_COUNT; j++) {
+                AmountPie amountPie = new AmountPie();
+                amountPie.setInvestorId((long) j + 1);
+                amountPie.setAmount(new BigDecimal("600000.00"));
+                amountPie.setCurrency("JPY");
+                amountPie.setDrawdown(drawdown);
+                amountPies.add(amountPie);
+            }
+            drawdown.setAmountPies(amountPies);
+            entityManager.persist(drawdown);
+            drawdownId = drawdown.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 手数料支払いのページング一覧はページ分の配分をまとめて取得する() throws Exception {
+        // 一覧、件数、ページ分の配分の3回
+        assertSelectCount(3, get("/api/v1/fees/payments").param("size", "2"))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].feeDistributions", hasSize(DISTRIBUTION_COUNT)))
+                .andExpect(jsonPath("$.content[1].feeDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void Facility別の手数料支払い一覧は配分をまとめて取得する() throws Exception {
+        // 一覧、配分の2回
+        assertSelectCount(2, get("/api/v1/fees/payments/facility/{facilityId}", FACILITY_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[0].feeDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void 手数料タイプ別の手数料支払い一覧は配分をまとめて取得する() throws Exception {
+        assertSelectCount(2, get("/api/v1/fees/payments/type/{feeType}", FeeType.MANAGEMENT_FEE))
+                .andExpect(jsonPath("$[0].feeDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void 日付範囲の手数料支払い一覧は配分をまとめて取得する() throws Exception {
+        assertSelectCount(2, get("/api/v1/fees/payments/date-range")
+                .param("startDate", FEE_DATE.toString())
+                .param("endDate", FEE_DATE.plusDays(ROW_COUNT).toString()))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[0].feeDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void 取引のページング一覧は配分を読み込まない() throws Exception {
+        // 一覧（サブクラスのテーブルを結合）、件数の2回
+        assertSelectCount(2, get("/api/v1/transactions").param("size", "4"))
+                .andExpect(jsonPath("$.content", hasSize(4)))
+                .andExpect(jsonPath("$.content[*].paymentDistributions").isEmpty())
+                .andExpect(jsonPath("$.content[*].feeDistributions").isEmpty());
+    }
+
+    @Test
+    void Facility別の取引一覧は配分を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/transactions/facility/{facilityId}", FACILITY_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT * 2)))
+                .andExpect(jsonPath("$[*].paymentDistributions").isEmpty())
+                .andExpect(jsonPath("$[*].feeDistributions").isEmpty());
+    }
+
+    @Test
+    void Borrower別の取引一覧は配分を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/transactions/borrower/{borrowerId}", BORROWER_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT * 2)));
+    }
+
+    @Test
+    void 取引タイプ別の取引一覧は配分を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/transactions/type/{transactionType}", "PAYMENT"))
+                .andExpect(jsonPath("$[*].paymentDistributions").isEmpty());
+    }
+
+    @Test
+    void Loan別の返済一覧は配分をJOINで取得する() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/payments/loan/{loanId}", LOAN_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[0].paymentDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void 手数料支払いの詳細は配分をJOINで取得する() throws Exception {
+        assertSelectCount(1, get("/api/v1/fees/payments/{feePaymentId}", feePaymentId))
+                .andExpect(jsonPath("$.feeDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void 返済の詳細は配分をJOINで取得する() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/payments/{id}", paymentId))
+                .andExpect(jsonPath("$.paymentDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void 取引の詳細は返済の配分を含む() throws Exception {
+        // 取引、配分の2回
+        assertSelectCount(2, get("/api/v1/transactions/{transactionId}", paymentId))
+                .andExpect(jsonPath("$.paymentDistributions", hasSize(DISTRIBUTION_COUNT)));
+    }
+
+    @Test
+    void Facilityのページング一覧は持分を読み込まない() throws Exception {
+        // 一覧（投資家数はサブクエリ）、件数の2回
+        assertSelectCount(2, get("/api/v1/facilities").param("size", "2"))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].investorCount").value(INVESTOR_COUNT))
+                .andExpect(jsonPath("$.content[0].sharePies").doesNotExist());
+    }
+
+    @Test
+    void Loanのページング一覧は返済明細を読み込まない() throws Exception {
+        assertSelectCount(2, get("/api/v1/loans").param("size", "2"))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].paymentDetails").doesNotExist());
+    }
+
+    @Test
+    void Facility別のLoan一覧は返済明細を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/facility/{facilityId}", DRAWDOWN_FACILITY_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[0].paymentDetails").doesNotExist());
+    }
+
+    @Test
+    void Borrower別のLoan一覧は返済明細を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/borrower/{borrowerId}", DRAWDOWN_BORROWER_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[0].paymentDetails").doesNotExist());
+    }
+
+    @Test
+    void Drawdownの一覧は按分を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/drawdowns"))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[0].investorCount").value(INVESTOR_COUNT))
+                .andExpect(jsonPath("$[0].allocatedAmount").value(1200000.00))
+                .andExpect(jsonPath("$[0].amountPies").doesNotExist());
+    }
+
+    @Test
+    void Drawdownのページング一覧は按分を読み込まない() throws Exception {
+        assertSelectCount(2, get("/api/v1/loans/drawdowns/paged").param("size", "2"))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].amountPies").doesNotExist());
+    }
+
+    @Test
+    void Facility別のDrawdown一覧は按分を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/drawdowns/facility/{facilityId}", DRAWDOWN_FACILITY_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[0].investorCount").value(INVESTOR_COUNT));
+    }
+
+    @Test
+    void Facility別の取引一覧はDrawdownの按分を読み込まない() throws Exception {
+        assertSelectCount(1, get("/api/v1/transactions/facility/{facilityId}", DRAWDOWN_FACILITY_ID))
+                .andExpect(jsonPath("$", hasSize(ROW_COUNT)))
+                .andExpect(jsonPath("$[*].amountPies").isEmpty());
+    }
+
+    @Test
+    void Facilityの詳細は持分を含む() throws Exception {
+        // Facility、持分の2回
+        assertSelectCount(2, get("/api/v1/facilities/{id}", facilityId))
+                .andExpect(jsonPath("$.sharePies", hasSize(INVESTOR_COUNT)));
+    }
+
+    @Test
+    void Drawdownの詳細は按分をJOINで取得する() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/drawdowns/{id}", drawdownId))
+                .andExpect(jsonPath("$.amountPies", hasSize(INVESTOR_COUNT)));
+    }
+
+    @Test
+    void Loanの詳細は返済明細をJOINで取得する() throws Exception {
+        assertSelectCount(1, get("/api/v1/loans/{id}", loanId))
+                .andExpect(jsonPath("$.paymentDetails", hasSize(12)));
+    }
+
+    private ResultActions assertSelectCount(int expected, RequestBuilder request) throws Exception {
+        ResultActions result;
+        List<String> statements;
+        CapturingStatementInspector.start();
+        try {
+            result = mockMvc.perform(request);
+        } finally {
+            statements = CapturingStatementInspector.stop();
+        }
+        assertStatementCount(expected, statements);
+        return result.andExpect(status().isOk());
+    }
+
+    private void assertStatementCount(int expected, List<String> statements) {
+        assertEquals(expected, statements.size(), () -> String.join("\n", statements));
+    }
+}
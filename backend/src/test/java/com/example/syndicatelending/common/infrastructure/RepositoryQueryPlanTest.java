@@ -0,0 +1,260 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import com.example.syndicatelending.common.statemachine.outbox.OutboxEventRepository;
+import com.example.syndicatelending.common.statemachine.outbox.OutboxStatus;
+import com.example.syndicatelending.common.statemachine.party.InvestorState;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.fee.entity.FeeType;
+import com.example.syndicatelending.fee.entity.RecipientType;
+import com.example.syndicatelending.fee.repository.FeePaymentRepository;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
+import com.example.syndicatelending.loan.repository.AmountPieRepository;
+import com.example.syndicatelending.loan.repository.DrawdownRepository;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.loan.repository.PaymentRepository;
+import com.example.syndicatelending.loan.repository.TransactionRepository;
+import com.example.syndicatelending.party.entity.Country;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Industry;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.CompanyRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import com.example.syndicatelending.transaction.entity.TransactionStatus;
+import com.example.syndicatelending.transaction.entity.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * リポジトリのクエリがインデックスを使うことのテスト。
+ * 各クエリを実行して Hibernate が発行した SELECT 文を記録し、H2 の EXPLAIN で実行計画を取得して
+ * 条件なしで表・インデックス全体を走査するテーブルがないことを確認する。
+ *
+ * 対象外のクエリ：
+ * - 主キー検索、findAll、一覧用の全件取得（findAllForDetailResponse）
+ * - 部分一致検索（*ContainingIgnoreCase）：前方一致でないLIKEはインデックスを使えない
+ * - existsByLeadBankIdOrMemberInvestorIdsContaining：列をまたぐORのため単一のインデックスでは絞り込めない
+ * - 引数が文字列の旧シグネチャ（findByInvestorType(String) など）：同じ列の検索は列挙型の版で確認する
+ * - 削除・更新メソッド：対象の検索条件は同じ条件の検索メソッドで確認する
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.syndicatelending.common.infrastructure.CapturingStatementInspector")
+@ActiveProfiles("test")
+@Transactional
+public class RepositoryQueryPlanTest {
+
+    /** 条件なしの走査（H2の実行計画では "PUBLIC.LOAN.tableScan" や条件のない "PUBLIC.PRIMARY_KEY_2" と表示される） */
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\*\\s*[\\w\"]+\\.[\\w\"]+(\\.tableScan)?\\s*\\*/");
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private AmountPieRepository amountPieRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private FeePaymentRepository feePaymentRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void リポジトリのクエリは全件走査しない() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("DrawdownRepository.findByFacilityId", () -> drawdownRepository.findByFacilityId(1L));
+        queries.put("DrawdownRepository.findByLoanId", () -> drawdownRepository.findByLoanId(1L));
+        queries.put("DrawdownRepository.findByBorrowerId", () -> drawdownRepository.findByBorrowerId(1L));
+
+        queries.put("LoanRepository.findByFacilityId", () -> loanRepository.findByFacilityId(1L));
+        queries.put("LoanRepository.findByBorrowerId", () -> loanRepository.findByBorrowerId(1L));
+        queries.put("LoanRepository.findSummariesByFacilityId", () -> loanRepository.findSummariesByFacilityId(1L));
+        queries.put("LoanRepository.findSummariesByBorrowerId", () -> loanRepository.findSummariesByBorrowerId(1L));
+        queries.put("LoanRepository.findByFacilityIdAndBorrowerId",
+                () -> loanRepository.findByFacilityIdAndBorrowerId(1L, 1L));
+
+        queries.put("PaymentRepository.findByLoanId", () -> paymentRepository.findByLoanId(1L));
+        queries.put("PaymentRepository.findByLoanIdOrderByPaymentDateDesc",
+                () -> paymentRepository.findByLoanIdOrderByPaymentDateDesc(1L));
+        queries.put("PaymentRepository.findByLoanIdAndStatusOrderByPaymentDateDesc",
+                () -> paymentRepository.findByLoanIdAndStatusOrderByPaymentDateDesc(1L, TransactionStatus.COMPLETED));
+        queries.put("PaymentRepository.existsByLoanId", () -> paymentRepository.existsByLoanId(1L));
+        queries.put("PaymentRepository.findWithDistributionsByLoanIdOrderByPaymentDateDesc",
+                () -> paymentRepository.findWithDistributionsByLoanIdOrderByPaymentDateDesc(1L));
+
+        queries.put("PaymentDetailRepository.findByLoanIdOrderByPaymentNumber",
+                () -> paymentDetailRepository.findByLoanIdOrderByPaymentNumber(1L));
+        queries.put("PaymentDetailRepository.findByLoanId",
+                () -> paymentDetailRepository.findByLoanId(1L, PageRequest.of(0, 10)));
+        queries.put("PaymentDetailRepository.countByLoanId", () -> paymentDetailRepository.countByLoanId(1L));
+        queries.put("PaymentDetailRepository.findByPaymentId", () -> paymentDetailRepository.findByPaymentId(1L));
+        queries.put("PaymentDetailRepository.findDueAfterId",
+                () -> paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, TO, 0L, PageRequest.of(0, 10)));
+        queries.put("PaymentDetailRepository.findByLoanIdAndIdInOrderByPaymentNumber",
+                () -> paymentDetailRepository.findByLoanIdAndIdInOrderByPaymentNumber(1L, List.of(1L, 2L)));
+        queries.put("PaymentDetailRepository.findDueInstallments",
+                () -> paymentDetailRepository.findDueInstallments(
+                        FROM, TO, PaymentStatus.PENDING, FROM, 0L, PageRequest.of(0, 10)));
+
+        queries.put("AmountPieRepository.findByDrawdown_Id", () -> amountPieRepository.findByDrawdown_Id(1L));
+        queries.put("AmountPieRepository.findByDrawdown_LoanId", () -> amountPieRepository.findByDrawdown_LoanId(1L));
+
+        queries.put("TransactionRepository.findByFacilityId", () -> transactionRepository.findByFacilityId(1L));
+        queries.put("TransactionRepository.findByBorrowerId", () -> transactionRepository.findByBorrowerId(1L));
+        queries.put("TransactionRepository.findByTransactionType",
+                () -> transactionRepository.findByTransactionType(TransactionType.DRAWDOWN));
+        queries.put("TransactionRepository.summarizeByFacilityId",
+                () -> transactionRepository.summarizeByFacilityId(1L));
+
+        queries.put("FeePaymentRepository.findByFacilityId", () -> feePaymentRepository.findByFacilityId(1L));
+        queries.put("FeePaymentRepository.findByBorrowerId", () -> feePaymentRepository.findByBorrowerId(1L));
+        queries.put("FeePaymentRepository.findByFeeType",
+                () -> feePaymentRepository.findByFeeType(FeeType.MANAGEMENT_FEE));
+        queries.put("FeePaymentRepository.findByFeeDateBetween",
+                () -> feePaymentRepository.findByFeeDateBetween(FROM, TO));
+        queries.put("FeePaymentRepository.findByRecipientTypeAndRecipientId",
+                () -> feePaymentRepository.findByRecipientTypeAndRecipientId(RecipientType.INVESTOR, 1L));
+        queries.put("FeePaymentRepository.findByFacilityIdAndFeeType",
+                () -> feePaymentRepository.findByFacilityIdAndFeeType(1L, FeeType.MANAGEMENT_FEE));
+        queries.put("FeePaymentRepository.findByFacilityIdAndFeeDateBetween",
+                () -> feePaymentRepository.findByFacilityIdAndFeeDateBetween(1L, FROM, TO));
+        queries.put("FeePaymentRepository.summarizeByFacilityId",
+                () -> feePaymentRepository.summarizeByFacilityId(1L));
+        queries.put("FeePaymentRepository.summarizeByFacilityIdAndFeeDateBetween",
+                () -> feePaymentRepository.summarizeByFacilityIdAndFeeDateBetween(1L, FROM, TO));
+        queries.put("FeePaymentRepository.findWithDistributionsByIdIn",
+                () -> feePaymentRepository.findWithDistributionsByIdIn(List.of(1L, 2L)));
+
+        queries.put("FacilityRepository.findBySyndicateId", () -> facilityRepository.findBySyndicateId(1L));
+        queries.put("FacilityRepository.existsActiveFacilityForBorrower",
+                () -> facilityRepository.existsActiveFacilityForBorrower(1L));
+        queries.put("FacilityRepository.existsActiveFacilityForInvestor",
+                () -> facilityRepository.existsActiveFacilityForInvestor(1L));
+        queries.put("FacilityRepository.existsBySyndicateId", () -> facilityRepository.existsBySyndicateId(1L));
+        queries.put("FacilityRepository.getTotalFacilityAmountByBorrowerId",
+                () -> facilityRepository.getTotalFacilityAmountByBorrowerId(1L));
+
+        queries.put("SharePieRepository.findByFacility_Id", () -> sharePieRepository.findByFacility_Id(1L));
+        queries.put("SharePieRepository.findByFacility_IdIn",
+                () -> sharePieRepository.findByFacility_IdIn(List.of(1L, 2L)));
+
+        queries.put("SyndicateRepository.existsByName", () -> syndicateRepository.existsByName("Syndicate"));
+        queries.put("SyndicateRepository.existsByBorrowerId", () -> syndicateRepository.existsByBorrowerId(1L));
+
+        queries.put("InvestorRepository.findByStatus", () -> investorRepository.findByStatus(InvestorState.ACTIVE));
+        queries.put("InvestorRepository.findByInvestorType",
+                () -> investorRepository.findByInvestorType(InvestorType.BANK, PageRequest.of(0, 10)));
+        queries.put("InvestorRepository.findNamesByIdIn", () -> investorRepository.findNamesByIdIn(List.of(1L, 2L)));
+
+        queries.put("BorrowerRepository.findByCreditRating",
+                () -> borrowerRepository.findByCreditRating(CreditRating.AAA, PageRequest.of(0, 10)));
+        queries.put("BorrowerRepository.findNamesByIdIn", () -> borrowerRepository.findNamesByIdIn(List.of(1L, 2L)));
+
+        queries.put("CompanyRepository.findByRegistrationNumber",
+                () -> companyRepository.findByRegistrationNumber("REG-001"));
+        queries.put("CompanyRepository.findByIndustry",
+                () -> companyRepository.findByIndustry(Industry.FINANCE, PageRequest.of(0, 10)));
+        queries.put("CompanyRepository.findByCountry", () -> companyRepository.findByCountry(Country.JAPAN));
+
+        queries.put("OutboxEventRepository.findIdsByStatus",
+                () -> outboxEventRepository.findIdsByStatus(OutboxStatus.PENDING, PageRequest.of(0, 10)));
+        queries.put("OutboxEventRepository.countByStatus",
+                () -> outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            List<String> statements;
+            CapturingStatementInspector.start();
+            try {
+                query.getValue().run();
+            } finally {
+                statements = CapturingStatementInspector.stop();
+            }
+            assertFalse(statements.isEmpty(), query.getKey() + " issued no SELECT statement");
+            for (String sql : statements) {
+                String plan = explain(sql);
+                if (FULL_SCAN.matcher(plan).find()) {
+                    violations.add(query.getKey() + ":\n" + plan);
+                }
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            fail("Full scans found in " + violations.size() + " statement(s):\n\n" + String.join("\n\n", violations));
+        }
+    }
+
+    /**
+     * SQLの実行計画を取得する（パラメータはNULLで束縛する。EXPLAINは実行しないため値は計画に影響しない）
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
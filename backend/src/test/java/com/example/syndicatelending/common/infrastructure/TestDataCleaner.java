@@ -0,0 +1,42 @@
+package com.example.syndicatelending.common.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * トランザクションをロールバックしないテスト用のデータ削除。
+ * 別スレッド・別トランザクションでコミットされる処理を検証するテストは {@code @Transactional} を付けられないため、
+ * テスト後にこのクラスで全テーブルの行を削除する（テスト用のインメモリDBは全テストコンテキストで共有される）。
+ */
+public final class TestDataCleaner {
+
+    /** 外部キーの参照元から順に並べたテーブル */
+    private static final String[] TABLES = {
+            "payment_distributions",
+            "fee_distributions",
+            "payment_detail",
+            "payments",
+            "fee_payments",
+            "drawdown_amount_pies",
+            "drawdown",
+            "facility_investment",
+            "transaction",
+            "loan",
+            "facility_share_pies",
+            "facilities",
+            "syndicate_members",
+            "syndicates",
+            "investors",
+            "borrowers",
+            "companies",
+            "outbox_event"
+    };
+
+    private TestDataCleaner() {
+    }
+
+    public static void deleteAll(JdbcTemplate jdbcTemplate) {
+        for (String table : TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.syndicatelending.common.statemachine.managers;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.statemachine.StateMachineEngine;
+import com.example.syndicatelending.common.statemachine.StateMachineExecutor;
+import com.example.syndicatelending.common.statemachine.StateMachinePool;
+import com.example.syndicatelending.common.statemachine.TransitionTable;
+import com.example.syndicatelending.common.statemachine.party.InvestorEvent;
+import com.example.syndicatelending.common.statemachine.party.InvestorState;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class InvestorStateManagerTest {
+
+    @Autowired
+    private InvestorStateManager investorStateManager;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private StateMachinePool<InvestorState, InvestorEvent> investorStateMachinePool;
+
+    @Autowired
+    private TransitionTable<InvestorState, InvestorEvent> investorTransitionTable;
+
+    @Test
+    void 複数Investorを一括でACTIVEに遷移し遷移済みはスキップする() {
+        Investor draft1 = createInvestor("Investor 1", InvestorState.DRAFT);
+        Investor draft2 = createInvestor("Investor 2", InvestorState.DRAFT);
+        Investor active = createInvestor("Investor 3", InvestorState.ACTIVE);
+        Long activeVersion = active.getVersion();
+
+        int updated = investorStateManager.transitionAll(
+                List.of(draft1.getId(), draft2.getId(), active.getId(), draft1.getId()),
+                InvestorEvent.FACILITY_PARTICIPATION);
+
+        assertEquals(2, updated);
+        assertEquals(InvestorState.ACTIVE, investorRepository.findById(draft1.getId()).orElseThrow().getStatus());
+        assertEquals(InvestorState.ACTIVE, investorRepository.findById(draft2.getId()).orElseThrow().getStatus());
+        Investor reloadedActive = investorRepository.findById(active.getId()).orElseThrow();
+        assertEquals(InvestorState.ACTIVE, reloadedActive.getStatus());
+        assertEquals(activeVersion, reloadedActive.getVersion());
+    }
+
+    @Test
+    void 一括遷移で楽観ロックのバージョンが進む() {
+        Investor active = createInvestor("Investor 1", InvestorState.ACTIVE);
+        Long version = active.getVersion();
+
+        int updated = investorStateManager.transitionAll(List.of(active.getId()), InvestorEvent.FACILITY_DELETED);
+
+        assertEquals(1, updated);
+        Investor reloaded = investorRepository.findById(active.getId()).orElseThrow();
+        assertEquals(InvestorState.DRAFT, reloaded.getStatus());
+        assertEquals(version + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void SPRINGエンジンでは状態ごとにStateMachineで遷移を判定して一括遷移する() {
+        StateMachinePool<InvestorState, InvestorEvent> pool = spy(investorStateMachinePool);
+        InvestorStateManager springManager = new InvestorStateManager(investorRepository,
+                new StateMachineExecutor(StateMachineEngine.SPRING), pool, investorTransitionTable);
+        Investor draft1 = createInvestor("Investor 1", InvestorState.DRAFT);
+        Investor draft2 = createInvestor("Investor 2", InvestorState.DRAFT);
+        Investor active = createInvestor("Investor 3", InvestorState.ACTIVE);
+
+        int updated = springManager.transitionAll(
+                List.of(draft1.getId(), draft2.getId(), active.getId()), InvestorEvent.FACILITY_PARTICIPATION);
+
+        assertEquals(2, updated);
+        assertEquals(InvestorState.ACTIVE, investorRepository.findById(draft1.getId()).orElseThrow().getStatus());
+        assertEquals(InvestorState.ACTIVE, investorRepository.findById(draft2.getId()).orElseThrow().getStatus());
+        // Investorごとではなく、現在の状態ごとに1回StateMachineを実行する
+        verify(pool, times(1)).execute(eq(InvestorState.DRAFT), any());
+        verify(pool, times(1)).execute(eq(InvestorState.ACTIVE), any());
+    }
+
+    @Test
+    void 存在しないInvestorが含まれる場合はエラーになる() {
+        Investor draft = createInvestor("Investor 1", InvestorState.DRAFT);
+
+        assertThrows(IllegalStateException.class, () -> investorStateManager.transitionAll(
+                List.of(draft.getId(), 999999L), InvestorEvent.FACILITY_PARTICIPATION));
+    }
+
+    private Investor createInvestor(String name, InvestorState status) {
+        Investor investor = new Investor();
+        investor.setName(name);
+        investor.setCompanyId("1");
+        investor.setInvestmentCapacity(new BigDecimal("10000000.00"));
+        investor.setCurrentInvestmentAmount(Money.of(new BigDecimal("0.00")));
+        investor.setCreatedAt(LocalDateTime.now());
+        investor.setUpdatedAt(LocalDateTime.now());
+        investor.setStatus(status);
+        return investorRepository.saveAndFlush(investor);
+    }
+}
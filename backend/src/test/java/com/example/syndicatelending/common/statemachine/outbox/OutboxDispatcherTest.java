@@ -0,0 +1,161 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+import com.example.syndicatelending.common.statemachine.events.FacilityCreatedEvent;
+import com.example.syndicatelending.common.statemachine.events.PaymentCreatedEvent;
+import com.example.syndicatelending.common.statemachine.handlers.FacilityLifecycleEventHandler;
+import com.example.syndicatelending.common.statemachine.handlers.PaymentLifecycleEventHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxDispatcher の単体テスト。
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private FacilityLifecycleEventHandler facilityLifecycleEventHandler;
+
+    @Mock
+    private PaymentLifecycleEventHandler paymentLifecycleEventHandler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxDispatcher = new OutboxDispatcher(outboxEventRepository, objectMapper, transactionManager,
+                facilityLifecycleEventHandler, paymentLifecycleEventHandler, 100, 3, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxDispatcher.shutdown();
+    }
+
+    @Test
+    void 未配信イベントをハンドラーへ配信して配信済みにする() throws Exception {
+        FacilityCreatedEvent event = new FacilityCreatedEvent(1L, 2L, List.of(10L, 11L), LocalDateTime.now());
+        OutboxEvent outboxEvent = new OutboxEvent(
+                OutboxEventType.FACILITY_CREATED, objectMapper.writeValueAsString(event));
+        when(outboxEventRepository.findIdsByStatus(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(100L));
+        when(outboxEventRepository.compareAndSetStatus(100L, OutboxStatus.PENDING, OutboxStatus.IN_PROGRESS))
+                .thenReturn(1);
+        when(outboxEventRepository.findById(100L)).thenReturn(Optional.of(outboxEvent));
+
+        int dispatched = outboxDispatcher.dispatchPending();
+
+        assertEquals(1, dispatched);
+        ArgumentCaptor<FacilityCreatedEvent> captor = ArgumentCaptor.forClass(FacilityCreatedEvent.class);
+        verify(facilityLifecycleEventHandler).handleFacilityCreated(captor.capture());
+        assertEquals(1L, captor.getValue().getFacilityId());
+        assertEquals(2L, captor.getValue().getSyndicateId());
+        assertEquals(List.of(10L, 11L), captor.getValue().getInvestorIds());
+        assertEquals(OutboxStatus.PROCESSED, outboxEvent.getStatus());
+        assertNotNull(outboxEvent.getProcessedAt());
+    }
+
+    @Test
+    void 他のディスパッチャーが取得済みのイベントは配信しない() {
+        when(outboxEventRepository.findIdsByStatus(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(100L));
+        when(outboxEventRepository.compareAndSetStatus(100L, OutboxStatus.PENDING, OutboxStatus.IN_PROGRESS))
+                .thenReturn(0);
+
+        outboxDispatcher.dispatchPending();
+
+        verify(outboxEventRepository, never()).findById(any());
+        verifyNoInteractions(facilityLifecycleEventHandler, paymentLifecycleEventHandler);
+    }
+
+    @Test
+    void 配信に失敗した場合は試行回数を記録し後続イベントを配信しない() throws Exception {
+        OutboxEvent failing = new OutboxEvent(OutboxEventType.FACILITY_CREATED, objectMapper.writeValueAsString(
+                new FacilityCreatedEvent(1L, 2L, List.of(10L), LocalDateTime.now())));
+        when(outboxEventRepository.findIdsByStatus(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(100L, 101L));
+        when(outboxEventRepository.compareAndSetStatus(100L, OutboxStatus.PENDING, OutboxStatus.IN_PROGRESS))
+                .thenReturn(1);
+        when(outboxEventRepository.findById(100L)).thenReturn(Optional.of(failing));
+        doThrow(new IllegalStateException("Facility creation state management failed"))
+                .when(facilityLifecycleEventHandler).handleFacilityCreated(any());
+
+        int dispatched = outboxDispatcher.dispatchPending();
+
+        assertEquals(0, dispatched);
+        assertEquals(OutboxStatus.PENDING, failing.getStatus());
+        assertEquals(1, failing.getAttempts());
+        assertNotNull(failing.getLastError());
+        verify(outboxEventRepository, never()).compareAndSetStatus(eq(101L), any(), any());
+    }
+
+    @Test
+    void 最大試行回数に達したイベントはFAILEDになる() {
+        OutboxEvent outboxEvent = new OutboxEvent(OutboxEventType.PAYMENT_CREATED, "{}");
+
+        outboxEvent.recordFailure("error", 3);
+        outboxEvent.recordFailure("error", 3);
+        assertEquals(OutboxStatus.PENDING, outboxEvent.getStatus());
+
+        outboxEvent.recordFailure("error", 3);
+        assertEquals(OutboxStatus.FAILED, outboxEvent.getStatus());
+        assertEquals(3, outboxEvent.getAttempts());
+    }
+
+    @Test
+    void 配信中のイベントの失敗は再試行待ちに戻す() throws Exception {
+        OutboxEvent outboxEvent = new OutboxEvent(OutboxEventType.PAYMENT_CREATED,
+                objectMapper.writeValueAsString(new PaymentCreatedEvent(1L, 2L, 3L)));
+        setStatus(outboxEvent, OutboxStatus.IN_PROGRESS);
+
+        outboxEvent.recordFailure("error", 3);
+
+        assertEquals(OutboxStatus.PENDING, outboxEvent.getStatus());
+        assertEquals(1, outboxEvent.getAttempts());
+    }
+
+    @Test
+    void 配信済みのイベントには失敗を記録しない() throws Exception {
+        OutboxEvent outboxEvent = new OutboxEvent(OutboxEventType.PAYMENT_CREATED,
+                objectMapper.writeValueAsString(new PaymentCreatedEvent(1L, 2L, 3L)));
+        outboxEvent.markProcessed();
+
+        outboxEvent.recordFailure("error", 1);
+
+        assertEquals(OutboxStatus.PROCESSED, outboxEvent.getStatus());
+        assertEquals(0, outboxEvent.getAttempts());
+        assertNull(outboxEvent.getLastError());
+    }
+
+    private void setStatus(OutboxEvent outboxEvent, OutboxStatus status) throws Exception {
+        Field field = OutboxEvent.class.getDeclaredField("status");
+        field.setAccessible(true);
+        field.set(outboxEvent, status);
+    }
+}
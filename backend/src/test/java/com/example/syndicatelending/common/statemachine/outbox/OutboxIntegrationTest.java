@@ -0,0 +1,202 @@
+package com.example.syndicatelending.common.statemachine.outbox;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.TestDataCleaner;
+import com.example.syndicatelending.common.statemachine.party.BorrowerState;
+import com.example.syndicatelending.common.statemachine.party.InvestorState;
+import com.example.syndicatelending.common.statemachine.syndicate.SyndicateState;
+import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.service.FacilityService;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * アウトボックスの統合テスト
+ * 業務トランザクションでのイベント記録→コミット後の配信→ハンドラーによる状態遷移の一連の流れを検証
+ * <p>
+ * 記録と配信はそれぞれ別のトランザクションでコミットされるため、テストメソッドをトランザクションで囲まない。
+ * テストではバックグラウンド配信を無効化しているため（outbox.dispatcher.enabled=false）、
+ * 配信は {@link OutboxDispatcher#dispatchPending()} の呼び出し時にのみ行われる。
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private Investor investor1;
+    private Investor investor2;
+    private Borrower borrower;
+    private Syndicate syndicate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        investor1 = investorRepository.save(new Investor("Outbox Investor 1", "outbox1@test.com",
+                "111-1111-1111", "COMP001", new BigDecimal("50000000"), InvestorType.BANK));
+        investor2 = investorRepository.save(new Investor("Outbox Investor 2", "outbox2@test.com",
+                "222-2222-2222", "COMP002", new BigDecimal("50000000"), InvestorType.FUND));
+        borrower = borrowerRepository.save(new Borrower("Outbox Borrower", "outbox-borrower@test.com",
+                "333-3333-3333", "COMP003", Money.of(new BigDecimal("50000000")), CreditRating.A));
+
+        syndicate = new Syndicate();
+        syndicate.setName("Outbox Integration Syndicate");
+        syndicate.setLeadBankId(investor1.getId());
+        syndicate.setBorrowerId(borrower.getId());
+        syndicate.setMemberInvestorIds(List.of(investor1.getId(), investor2.getId()));
+        syndicate = syndicateRepository.save(syndicate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataCleaner.deleteAll(jdbcTemplate);
+    }
+
+    @Test
+    void 業務トランザクションで記録したイベントをコミット後に配信する() {
+        // 1. 業務トランザクション内で、業務データと同時にイベントが記録される
+        Long facilityId = transactionTemplate.execute(status -> {
+            Facility facility = facilityService.createFacility(createRequest());
+            List<OutboxEvent> recorded = outboxEventRepository.findAll();
+            assertEquals(1, recorded.size());
+            assertEquals(OutboxEventType.FACILITY_CREATED, recorded.get(0).getEventType());
+            assertEquals(OutboxStatus.PENDING, recorded.get(0).getStatus());
+            // コミット前はハンドラーが実行されない
+            assertEquals(SyndicateState.DRAFT,
+                    syndicateRepository.findById(syndicate.getId()).orElseThrow().getStatus());
+            return facility.getId();
+        });
+
+        // 2. コミット後に配信される
+        outboxDispatcher.dispatchPending();
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(1, events.size());
+        assertEquals(OutboxStatus.PROCESSED, events.get(0).getStatus());
+        assertNotNull(events.get(0).getProcessedAt());
+        assertEquals(0, outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+
+        // 3. ハンドラーにより関連エンティティが遷移している
+        assertTrue(facilityRepository.findById(facilityId).isPresent());
+        assertEquals(SyndicateState.ACTIVE,
+                syndicateRepository.findById(syndicate.getId()).orElseThrow().getStatus());
+        assertEquals(BorrowerState.ACTIVE,
+                borrowerRepository.findById(borrower.getId()).orElseThrow().getStatus());
+        assertEquals(InvestorState.ACTIVE,
+                investorRepository.findById(investor1.getId()).orElseThrow().getStatus());
+        assertEquals(InvestorState.ACTIVE,
+                investorRepository.findById(investor2.getId()).orElseThrow().getStatus());
+
+        // 4. 配信済みのイベントは再配信しない
+        assertEquals(0, outboxDispatcher.dispatchPending());
+    }
+
+    @Test
+    void ロールバックした業務トランザクションのイベントは記録も配信もされない() {
+        transactionTemplate.executeWithoutResult(status -> {
+            facilityService.createFacility(createRequest());
+            assertEquals(1, outboxEventRepository.count());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxDispatcher.dispatchPending());
+
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(0, facilityRepository.count());
+        assertEquals(SyndicateState.DRAFT,
+                syndicateRepository.findById(syndicate.getId()).orElseThrow().getStatus());
+        assertEquals(BorrowerState.DRAFT,
+                borrowerRepository.findById(borrower.getId()).orElseThrow().getStatus());
+        assertEquals(InvestorState.DRAFT,
+                investorRepository.findById(investor1.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void 他のディスパッチャーが取得済みのイベントは配信しない() {
+        transactionTemplate.executeWithoutResult(status -> facilityService.createFacility(createRequest()));
+        Long eventId = outboxEventRepository.findAll().get(0).getId();
+
+        // 他のインスタンスが取得済み（配信中）
+        transactionTemplate.executeWithoutResult(status -> assertEquals(1,
+                outboxEventRepository.compareAndSetStatus(eventId, OutboxStatus.PENDING, OutboxStatus.IN_PROGRESS)));
+        // 同じイベントは2回取得できない
+        transactionTemplate.executeWithoutResult(status -> assertEquals(0,
+                outboxEventRepository.compareAndSetStatus(eventId, OutboxStatus.PENDING, OutboxStatus.IN_PROGRESS)));
+
+        assertEquals(0, outboxDispatcher.dispatchPending());
+
+        assertEquals(OutboxStatus.IN_PROGRESS, outboxEventRepository.findById(eventId).orElseThrow().getStatus());
+        assertEquals(SyndicateState.DRAFT,
+                syndicateRepository.findById(syndicate.getId()).orElseThrow().getStatus());
+    }
+
+    private CreateFacilityRequest createRequest() {
+        CreateFacilityRequest request = new CreateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(new BigDecimal("5000000")));
+        request.setCurrency("JPY");
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        request.setInterestTerms("LIBOR + 200bp");
+        CreateFacilityRequest.SharePieRequest pie1 = new CreateFacilityRequest.SharePieRequest();
+        pie1.setInvestorId(investor1.getId());
+        pie1.setShare(Percentage.of(new BigDecimal("0.4")));
+        CreateFacilityRequest.SharePieRequest pie2 = new CreateFacilityRequest.SharePieRequest();
+        pie2.setInvestorId(investor2.getId());
+        pie2.setShare(Percentage.of(new BigDecimal("0.6")));
+        request.setSharePies(List.of(pie1, pie2));
+        return request;
+    }
+}
@@ -2,7 +2,9 @@ package com.example.syndicatelending.facility.controller;
 
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.statemachine.facility.FacilityState;
 import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.FacilitySummary;
 import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
 import com.example.syndicatelending.facility.entity.Facility;
 import com.example.syndicatelending.facility.service.FacilityService;
@@ -67,11 +69,12 @@ class FacilityControllerTest {
 
     @Test
     void 全てのFacilityリストを取得できる() throws Exception {
-        Facility facility = new Facility();
-        facility.setId(1L);
-        List<Facility> facilities = List.of(facility);
+        FacilitySummary facility = new FacilitySummary(1L, 1L, Money.of(new BigDecimal("5000000")), "USD",
+                LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), "LIBOR + 2%", FacilityState.DRAFT, 2L,
+                null, null, 0L);
+        List<FacilitySummary> facilities = List.of(facility);
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Facility> facilityPage = new PageImpl<>(facilities, pageable, facilities.size());
+        Page<FacilitySummary> facilityPage = new PageImpl<>(facilities, pageable, facilities.size());
 
         when(facilityService.getAllFacilities(any(Pageable.class))).thenReturn(facilityPage);
 
@@ -79,7 +82,9 @@ class FacilityControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content[0].id").value(1));
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].investorCount").value(2))
+                .andExpect(jsonPath("$.content[0].sharePies").doesNotExist());
     }
 
     @Test
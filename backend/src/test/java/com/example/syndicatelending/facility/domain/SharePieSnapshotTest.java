@@ -0,0 +1,55 @@
+package com.example.syndicatelending.facility.domain;
+
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.SharePie;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharePieSnapshotTest {
+
+    @Test
+    void SharePieの投資家IDと持分比率を順序どおりに保持する() {
+        SharePieSnapshot snapshot = SharePieSnapshot.of(List.of(
+                sharePie(10L, "0.4"),
+                sharePie(20L, "0.35"),
+                sharePie(30L, "0.25")));
+
+        assertEquals(3, snapshot.size());
+        assertEquals(10L, snapshot.investorIdAt(0));
+        assertEquals(20L, snapshot.investorIdAt(1));
+        assertEquals(30L, snapshot.investorIdAt(2));
+        assertEquals(4000L, snapshot.scaledShareAt(0));
+        assertEquals(new BigDecimal("0.3500"), snapshot.shareAt(1));
+        assertEquals(25.0, snapshot.sharePercentAt(2));
+    }
+
+    @Test
+    void 持分比率はPercentageと同じ値になる() {
+        Percentage share = Percentage.of(new BigDecimal("0.12345"));
+        SharePieSnapshot snapshot = SharePieSnapshot.of(List.of(sharePie(1L, share)));
+
+        assertEquals(share.getValue(), snapshot.shareAt(0));
+        assertEquals(share.getValue().multiply(BigDecimal.valueOf(100)).doubleValue(), snapshot.sharePercentAt(0));
+    }
+
+    @Test
+    void SharePieがない場合は空のスナップショットになる() {
+        assertTrue(SharePieSnapshot.of(List.of()).isEmpty());
+        assertEquals(0, SharePieSnapshot.empty().size());
+    }
+
+    private static SharePie sharePie(Long investorId, String share) {
+        return sharePie(investorId, Percentage.of(new BigDecimal(share)));
+    }
+
+    private static SharePie sharePie(Long investorId, Percentage share) {
+        SharePie sharePie = new SharePie();
+        sharePie.setInvestorId(investorId);
+        sharePie.setShare(share);
+        return sharePie;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Facility・SharePieの2次キャッシュとクエリキャッシュのテスト。
+ * テストプロファイルでは2次キャッシュを無効化しているため、このテストでのみ有効にする。
+ * キャッシュはコミット時に反映されるため、各操作を個別のトランザクションで実行する。
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+public class FacilityCacheEvictorTest {
+
+    @Autowired
+    private FacilityCacheEvictor facilityCacheEvictor;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Cache cache;
+    private Long facilityId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+
+        facilityId = transactionTemplate.execute(status -> {
+            Facility facility = new Facility(1L, Money.of(new BigDecimal("1000000")), "JPY",
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), "LIBOR + 2%");
+            facility.setSharePies(new ArrayList<>(List.of(sharePie(facility, 1L, "0.6"), sharePie(facility, 2L, "0.4"))));
+            return facilityRepository.save(facility).getId();
+        });
+        cache.evictAllRegions();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> facilityRepository.deleteById(facilityId));
+        cache.evictAllRegions();
+    }
+
+    @Test
+    void 二回目以降のSharePie取得はクエリキャッシュから返す() {
+        List<SharePie> first = findSharePies();
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+
+        List<SharePie> second = findSharePies();
+
+        assertEquals(2, first.size());
+        assertEquals(2, second.size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(statementsAfterFirst, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 削除後はSharePieとFacilityをデータベースから再取得する() {
+        findSharePies();
+        transactionTemplate.executeWithoutResult(status -> facilityRepository.findById(facilityId));
+        assertTrue(cache.containsEntity(Facility.class, facilityId));
+
+        facilityCacheEvictor.evict(facilityId);
+
+        assertFalse(cache.containsEntity(Facility.class, facilityId));
+        findSharePies();
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(2, statistics.getQueryCacheMissCount());
+    }
+
+    private List<SharePie> findSharePies() {
+        return transactionTemplate.execute(status -> sharePieRepository.findByFacility_Id(facilityId));
+    }
+
+    private static SharePie sharePie(Facility facility, Long investorId, String share) {
+        SharePie sharePie = new SharePie();
+        sharePie.setInvestorId(investorId);
+        sharePie.setShare(Percentage.of(new BigDecimal(share)));
+        sharePie.setFacility(facility);
+        return sharePie;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.TestDataCleaner;
+import com.example.syndicatelending.facility.dto.CreateFacilityRequest;
+import com.example.syndicatelending.facility.dto.UpdateFacilityRequest;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FacilityServiceの統合テスト
+ * SharePie・FacilityInvestmentの一括削除（永続化コンテキストのクリアを伴う）を含む更新・削除を検証
+ * <p>
+ * サービスのトランザクションがコミットした結果を確認するため、テストメソッドをトランザクションで囲まない。
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FacilityServiceIntegrationTest {
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Investor investor1;
+    private Investor investor2;
+    private Investor investor3;
+    private Syndicate syndicate;
+
+    @BeforeEach
+    void setUp() {
+        investor1 = investorRepository.save(new Investor("Facility Investor 1", "facility1@test.com",
+                "111-1111-1111", "COMP001", new BigDecimal("50000000"), InvestorType.BANK));
+        investor2 = investorRepository.save(new Investor("Facility Investor 2", "facility2@test.com",
+                "222-2222-2222", "COMP002", new BigDecimal("50000000"), InvestorType.FUND));
+        investor3 = investorRepository.save(new Investor("Facility Investor 3", "facility3@test.com",
+                "333-3333-3333", "COMP003", new BigDecimal("50000000"), InvestorType.INSURANCE));
+        Borrower borrower = borrowerRepository.save(new Borrower("Facility Borrower", "facility-borrower@test.com",
+                "444-4444-4444", "COMP004", Money.of(new BigDecimal("50000000")), CreditRating.A));
+
+        syndicate = new Syndicate();
+        syndicate.setName("Facility Integration Syndicate");
+        syndicate.setLeadBankId(investor1.getId());
+        syndicate.setBorrowerId(borrower.getId());
+        syndicate.setMemberInvestorIds(List.of(investor1.getId(), investor2.getId(), investor3.getId()));
+        syndicate = syndicateRepository.save(syndicate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataCleaner.deleteAll(jdbcTemplate);
+    }
+
+    @Test
+    void SharePieと投資記録を差し替えてFacilityを更新する() {
+        Facility created = facilityService.createFacility(createRequest());
+        Long facilityId = created.getId();
+        Facility before = facilityRepository.findById(facilityId).orElseThrow();
+
+        // 作成時の投資家はFacility作成イベントの配信で制限状態になるため、未参加の投資家に差し替える
+        Facility updated = facilityService.updateFacility(facilityId, new UpdateFacilityRequest(
+                syndicate.getId(), Money.of(new BigDecimal("6000000")), "JPY", LocalDate.now(),
+                LocalDate.now().plusYears(2), "TIBOR + 150bp",
+                List.of(updateSharePie(investor3.getId(), "1.0")),
+                before.getVersion()));
+
+        assertThat(updated.getSharePies()).hasSize(1);
+
+        Facility reloaded = facilityRepository.findById(facilityId).orElseThrow();
+        assertThat(reloaded.getCommitment()).isEqualTo(Money.of(new BigDecimal("6000000")));
+        assertThat(reloaded.getInterestTerms()).isEqualTo("TIBOR + 150bp");
+        assertThat(reloaded.getCreatedAt()).isEqualTo(before.getCreatedAt());
+        assertThat(reloaded.getVersion()).isGreaterThan(before.getVersion());
+
+        // SharePieは新しい持分のみ（旧持分の行は残らない）
+        assertThat(sharePieRepository.findByFacility_Id(facilityId))
+                .extracting(SharePie::getInvestorId)
+                .containsExactly(investor3.getId());
+
+        // 投資記録は新しいコミットメント・持分で作り直される
+        assertThat(investmentAmountsByInvestor(facilityId)).containsOnly(
+                entry(investor3.getId(), new BigDecimal("6000000.00")));
+    }
+
+    @Test
+    void 古いバージョンでの更新は楽観的排他制御でエラーになりSharePieを変更しない() {
+        Facility created = facilityService.createFacility(createRequest());
+        Long facilityId = created.getId();
+        Long staleVersion = facilityRepository.findById(facilityId).orElseThrow().getVersion();
+        facilityService.updateFacility(facilityId, new UpdateFacilityRequest(
+                syndicate.getId(), Money.of(new BigDecimal("4000000")), "JPY", LocalDate.now(),
+                LocalDate.now().plusYears(1), "LIBOR + 200bp",
+                List.of(updateSharePie(investor3.getId(), "1.0")),
+                staleVersion));
+
+        assertThatThrownBy(() -> facilityService.updateFacility(facilityId, new UpdateFacilityRequest(
+                syndicate.getId(), Money.of(new BigDecimal("3000000")), "JPY", LocalDate.now(),
+                LocalDate.now().plusYears(1), "LIBOR + 200bp",
+                List.of(updateSharePie(investor3.getId(), "1.0")),
+                staleVersion)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        // ロールバックにより、SharePie・投資記録は1回目の更新後のまま残る
+        assertThat(facilityRepository.findById(facilityId).orElseThrow().getCommitment())
+                .isEqualTo(Money.of(new BigDecimal("4000000")));
+        assertThat(sharePieRepository.findByFacility_Id(facilityId))
+                .extracting(SharePie::getInvestorId)
+                .containsExactly(investor3.getId());
+        assertThat(investmentAmountsByInvestor(facilityId)).containsOnly(
+                entry(investor3.getId(), new BigDecimal("4000000.00")));
+    }
+
+    @Test
+    void SharePieと投資記録を含めてFacilityを削除する() {
+        Facility created = facilityService.createFacility(createRequest());
+        Long facilityId = created.getId();
+
+        facilityService.deleteFacility(facilityId);
+
+        assertThat(facilityRepository.findById(facilityId)).isEmpty();
+        assertThat(sharePieRepository.findByFacility_Id(facilityId)).isEmpty();
+        assertThat(investmentAmountsByInvestor(facilityId)).isEmpty();
+    }
+
+    private CreateFacilityRequest createRequest() {
+        CreateFacilityRequest request = new CreateFacilityRequest();
+        request.setSyndicateId(syndicate.getId());
+        request.setCommitment(Money.of(new BigDecimal("5000000")));
+        request.setCurrency("JPY");
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        request.setInterestTerms("LIBOR + 200bp");
+        CreateFacilityRequest.SharePieRequest pie1 = new CreateFacilityRequest.SharePieRequest();
+        pie1.setInvestorId(investor1.getId());
+        pie1.setShare(Percentage.of(new BigDecimal("0.4")));
+        CreateFacilityRequest.SharePieRequest pie2 = new CreateFacilityRequest.SharePieRequest();
+        pie2.setInvestorId(investor2.getId());
+        pie2.setShare(Percentage.of(new BigDecimal("0.6")));
+        request.setSharePies(List.of(pie1, pie2));
+        return request;
+    }
+
+    private UpdateFacilityRequest.SharePieRequest updateSharePie(Long investorId, String share) {
+        UpdateFacilityRequest.SharePieRequest pie = new UpdateFacilityRequest.SharePieRequest();
+        pie.setInvestorId(investorId);
+        pie.setShare(Percentage.of(new BigDecimal(share)));
+        return pie;
+    }
+
+    private Map<Long, BigDecimal> investmentAmountsByInvestor(Long facilityId) {
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        jdbcTemplate.query("SELECT fi.investor_id, t.amount FROM facility_investment fi "
+                        + "JOIN transaction t ON t.id = fi.id WHERE t.facility_id = ?",
+                rs -> {
+                    amounts.put(rs.getLong(1), rs.getBigDecimal(2));
+                }, facilityId);
+        return amounts;
+    }
+}
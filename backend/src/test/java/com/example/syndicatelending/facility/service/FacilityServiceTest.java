@@ -56,6 +56,12 @@ class FacilityServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private FacilityCacheEvictor facilityCacheEvictor;
+
+    @Mock
+    private SharePieSnapshotRegistry sharePieSnapshotRegistry;
+
     @Mock
     private com.example.syndicatelending.loan.repository.DrawdownRepository drawdownRepository;
 
@@ -147,6 +153,7 @@ class FacilityServiceTest {
         verify(facilityInvestmentRepository).deleteByFacilityId(facilityId); // FacilityInvestment削除確認
         verify(syndicateRepository).findById(1L); // Syndicate取得確認
         verify(facilityInvestmentRepository).saveAll(any(List.class)); // FacilityInvestment再生成確認
+        verify(facilityCacheEvictor).evict(facilityId); // キャッシュ削除確認
     }
 
     @Test
@@ -208,7 +215,12 @@ class FacilityServiceTest {
         // drawdownRepository.findAll() は呼び出されない（状態ベース判定のため）
         // verify(entityStateService).onFacilityDeleted(facility); // 【移行中】Spring Eventsに置き換え
         verify(eventPublisher).publishEvent(any(FacilityDeletedEvent.class)); // イベント発行確認
+        // 関連データはFacility IDを条件に一括削除（全件読み込みしない）
+        verify(sharePieRepository).deleteByFacility_Id(facilityId);
+        verify(facilityInvestmentRepository).deleteByFacilityId(facilityId);
+        verify(facilityInvestmentRepository, never()).findAll();
         verify(facilityRepository).deleteById(facilityId);
+        verify(facilityCacheEvictor).evict(facilityId); // キャッシュ削除確認
     }
 
     @Test
@@ -0,0 +1,149 @@
+package com.example.syndicatelending.facility.service;
+
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.statemachine.facility.FacilityState;
+import com.example.syndicatelending.facility.domain.SharePieSnapshot;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SharePieSnapshotRegistryTest {
+
+    private static final Long FACILITY_ID = 1L;
+
+    @Mock
+    private FacilityRepository facilityRepository;
+
+    @Mock
+    private SharePieRepository sharePieRepository;
+
+    private SharePieSnapshotRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SharePieSnapshotRegistry(facilityRepository, sharePieRepository, 100);
+    }
+
+    @Test
+    void ACTIVE状態のFacilityは初回参照時に登録され以降は読み込まない() {
+        when(facilityRepository.findById(FACILITY_ID)).thenReturn(Optional.of(facility(FacilityState.ACTIVE)));
+        when(sharePieRepository.findByFacility_Id(FACILITY_ID)).thenReturn(sharePies());
+
+        SharePieSnapshot first = registry.getSnapshot(FACILITY_ID);
+        SharePieSnapshot second = registry.getSnapshot(FACILITY_ID);
+
+        assertSame(first, second);
+        assertEquals(2, second.size());
+        verify(facilityRepository, times(1)).findById(FACILITY_ID);
+        verify(sharePieRepository, times(1)).findByFacility_Id(FACILITY_ID);
+    }
+
+    @Test
+    void DRAFT状態のFacilityは登録せず毎回読み込む() {
+        when(facilityRepository.findById(FACILITY_ID)).thenReturn(Optional.of(facility(FacilityState.DRAFT)));
+        when(sharePieRepository.findByFacility_Id(FACILITY_ID)).thenReturn(sharePies());
+
+        registry.getSnapshot(FACILITY_ID);
+        registry.getSnapshot(FACILITY_ID);
+
+        verify(sharePieRepository, times(2)).findByFacility_Id(FACILITY_ID);
+    }
+
+    @Test
+    void DRAFTへの復帰で登録済みのスナップショットを破棄する() {
+        Facility facility = facility(FacilityState.ACTIVE);
+        when(sharePieRepository.findByFacility_Id(FACILITY_ID)).thenReturn(sharePies());
+        registry.register(facility);
+
+        facility.setStatus(FacilityState.DRAFT);
+        registry.remove(facility);
+        when(facilityRepository.findById(FACILITY_ID)).thenReturn(Optional.of(facility));
+        registry.getSnapshot(FACILITY_ID);
+
+        verify(facilityRepository).findById(FACILITY_ID);
+        verify(sharePieRepository, times(2)).findByFacility_Id(FACILITY_ID);
+    }
+
+    @Test
+    void 破棄より前に読み込んだバージョンのスナップショットは登録しない() {
+        // 遷移前（バージョン1、ACTIVE）に読み込んだ参照側の登録が、破棄（バージョン2で遷移）の後に届く
+        Facility removed = facility(FacilityState.DRAFT);
+        removed.setVersion(2L);
+        registry.remove(removed);
+
+        Facility stale = facility(FacilityState.ACTIVE);
+        stale.setVersion(1L);
+        when(facilityRepository.findById(FACILITY_ID)).thenReturn(Optional.of(stale));
+        when(sharePieRepository.findByFacility_Id(FACILITY_ID)).thenReturn(sharePies());
+        registry.getSnapshot(FACILITY_ID);
+        registry.getSnapshot(FACILITY_ID);
+
+        verify(facilityRepository, times(2)).findById(FACILITY_ID);
+
+        // 再度ACTIVEに遷移した新しいバージョンは登録する
+        Facility fixedAgain = facility(FacilityState.ACTIVE);
+        fixedAgain.setVersion(3L);
+        registry.register(fixedAgain);
+        registry.getSnapshot(FACILITY_ID);
+
+        verify(facilityRepository, times(2)).findById(FACILITY_ID);
+    }
+
+    @Test
+    void 最大件数を超えた場合は最も古くアクセスされたスナップショットを追い出す() {
+        registry = new SharePieSnapshotRegistry(facilityRepository, sharePieRepository, 1);
+        Facility other = facility(FacilityState.ACTIVE);
+        other.setId(2L);
+        when(facilityRepository.findById(FACILITY_ID)).thenReturn(Optional.of(facility(FacilityState.ACTIVE)));
+        when(facilityRepository.findById(2L)).thenReturn(Optional.of(other));
+        when(sharePieRepository.findByFacility_Id(anyLong())).thenReturn(sharePies());
+
+        registry.getSnapshot(FACILITY_ID);
+        registry.getSnapshot(2L);
+        registry.getSnapshot(FACILITY_ID);
+
+        verify(facilityRepository, times(2)).findById(FACILITY_ID);
+        verify(facilityRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    void 存在しないFacilityは空のスナップショットを返す() {
+        when(facilityRepository.findById(FACILITY_ID)).thenReturn(Optional.empty());
+
+        assertTrue(registry.getSnapshot(FACILITY_ID).isEmpty());
+        verifyNoInteractions(sharePieRepository);
+    }
+
+    private static Facility facility(FacilityState state) {
+        Facility facility = new Facility();
+        facility.setId(FACILITY_ID);
+        facility.setStatus(state);
+        return facility;
+    }
+
+    private static List<SharePie> sharePies() {
+        return List.of(sharePie(10L, "0.6"), sharePie(20L, "0.4"));
+    }
+
+    private static SharePie sharePie(Long investorId, String share) {
+        SharePie sharePie = new SharePie();
+        sharePie.setInvestorId(investorId);
+        sharePie.setShare(Percentage.of(new BigDecimal(share)));
+        return sharePie;
+    }
+}
@@ -2,11 +2,13 @@ package com.example.syndicatelending.fee.controller;
 
 import com.example.syndicatelending.common.domain.model.Money;
 import com.example.syndicatelending.fee.dto.CreateFeePaymentRequest;
+import com.example.syndicatelending.fee.dto.FeePaymentStatistics;
 import com.example.syndicatelending.fee.entity.FeeDistribution;
 import com.example.syndicatelending.fee.entity.FeePayment;
 import com.example.syndicatelending.fee.entity.FeeType;
 import com.example.syndicatelending.fee.entity.RecipientType;
 import com.example.syndicatelending.fee.service.FeePaymentService;
+import com.example.syndicatelending.transaction.dto.TypeTotal;
 import com.example.syndicatelending.transaction.entity.TransactionStatus;
 import com.example.syndicatelending.transaction.entity.TransactionType;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,7 +26,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.lang.reflect.Field;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -156,6 +160,29 @@ class FeePaymentControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void Facility別手数料統計を取得できる() throws Exception {
+        Map<FeeType, TypeTotal> totals = new EnumMap<>(FeeType.class);
+        for (FeeType feeType : FeeType.values()) {
+            totals.put(feeType, new TypeTotal(0, BigDecimal.ZERO));
+        }
+        totals.put(FeeType.MANAGEMENT_FEE, new TypeTotal(2, new BigDecimal("30000.00")));
+        FeePaymentStatistics statistics = new FeePaymentStatistics(2, "30000.00", totals);
+
+        when(feePaymentService.getFeePaymentStatistics(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)))
+            .thenReturn(statistics);
+
+        mockMvc.perform(get("/api/v1/fees/payments/facility/1/statistics")
+                .param("startDate", "2025-01-01")
+                .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.totalAmount").value("30000.00"))
+                .andExpect(jsonPath("$.managementFeeCount").value(2))
+                .andExpect(jsonPath("$.totalsByFeeType.MANAGEMENT_FEE.count").value(2))
+                .andExpect(jsonPath("$.totalsByFeeType.LATE_FEE.count").value(0));
+    }
+
     private CreateFeePaymentRequest createValidFeePaymentRequest() {
         CreateFeePaymentRequest request = new CreateFeePaymentRequest();
         request.setFacilityId(1L);
@@ -9,6 +9,7 @@ import com.example.syndicatelending.facility.entity.SharePie;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
 import com.example.syndicatelending.facility.repository.SharePieRepository;
 import com.example.syndicatelending.fee.dto.CreateFeePaymentRequest;
+import com.example.syndicatelending.fee.dto.FeePaymentStatistics;
 import com.example.syndicatelending.fee.entity.FeeDistribution;
 import com.example.syndicatelending.fee.entity.FeePayment;
 import com.example.syndicatelending.fee.entity.FeeType;
@@ -19,6 +20,7 @@ import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.entity.InvestorType;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.transaction.dto.TypeTotal;
 import com.example.syndicatelending.transaction.entity.TransactionStatus;
 import com.example.syndicatelending.transaction.entity.TransactionType;
 
@@ -362,6 +364,36 @@ class FeePaymentServiceTest {
         });
     }
 
+    @Test
+    void Facility別手数料統計を手数料タイプごとに集計できる() {
+        createTestFeePayment(FeeType.MANAGEMENT_FEE, "BANK", new BigDecimal("25000.00"));
+        createTestFeePayment(FeeType.MANAGEMENT_FEE, "BANK", new BigDecimal("5000.00"));
+        createTestFeePayment(FeeType.TRANSACTION_FEE, "BANK", new BigDecimal("5000.00"));
+
+        FeePaymentStatistics stats = feePaymentService.getFeePaymentStatistics(facility.getId(), null, null);
+
+        assertEquals(3, stats.getTotalCount());
+        assertEquals(0, new BigDecimal(stats.getTotalAmount()).compareTo(new BigDecimal("35000.00")));
+        assertEquals(2, stats.getManagementFeeCount());
+        assertEquals(0, stats.getLateFeeCount());
+        // 全ての手数料タイプを含む（該当なしは0件・0円）
+        assertEquals(FeeType.values().length, stats.getTotalsByFeeType().size());
+        TypeTotal management = stats.getTotalsByFeeType().get(FeeType.MANAGEMENT_FEE);
+        assertEquals(0, management.getTotalAmount().compareTo(new BigDecimal("30000.00")));
+        assertEquals(1, stats.getTotalsByFeeType().get(FeeType.TRANSACTION_FEE).getCount());
+        assertEquals(0, stats.getTotalsByFeeType().get(FeeType.OTHER_FEE).getTotalAmount().signum());
+
+        // 日付範囲指定（範囲外のみ）
+        FeePaymentStatistics past = feePaymentService.getFeePaymentStatistics(
+                facility.getId(), LocalDate.now().minusYears(1), LocalDate.now().minusDays(1));
+        assertEquals(0, past.getTotalCount());
+        assertEquals(0, new BigDecimal(past.getTotalAmount()).signum());
+
+        // 開始日・終了日の片方のみの指定は不正
+        assertThrows(BusinessRuleViolationException.class,
+                () -> feePaymentService.getFeePaymentStatistics(facility.getId(), LocalDate.now(), null));
+    }
+
     @Test
     void PENDING状態の手数料支払いを削除できる() {
         // PENDING状態の手数料支払いを作成
@@ -1,8 +1,10 @@
 package com.example.syndicatelending.loan.controller;
 
 import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
+import com.example.syndicatelending.loan.dto.PaymentRunReport;
 import com.example.syndicatelending.loan.entity.Payment;
 import com.example.syndicatelending.loan.service.PaymentService;
+import com.example.syndicatelending.loan.service.ScheduledPaymentRunService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,9 +37,28 @@ class PaymentControllerTest {
     @MockBean
     private PaymentService paymentService;
 
+    @MockBean
+    private ScheduledPaymentRunService scheduledPaymentRunService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Test
+    void 期日到来分の支払いを一括実行できる() throws Exception {
+        LocalDate runDate = LocalDate.of(2025, 3, 31);
+        PaymentRunReport report = new PaymentRunReport(runDate, 3, 2, 3, 0, List.of(), 1_000_000L);
+        when(scheduledPaymentRunService.run(runDate)).thenReturn(report);
+
+        mockMvc.perform(post("/api/v1/loans/payments/scheduled/run").param("runDate", "2025-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dueCount").value(3))
+                .andExpect(jsonPath("$.loanCount").value(2))
+                .andExpect(jsonPath("$.paidCount").value(3))
+                .andExpect(jsonPath("$.failedCount").value(0));
+
+        verify(scheduledPaymentRunService).run(runDate);
+    }
+
     @Test
     void 支払いを正常に作成できる() throws Exception {
         CreatePaymentRequest request = createValidPaymentRequest();
@@ -0,0 +1,132 @@
+package com.example.syndicatelending.loan.entity;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AnnuityCalculatorのテスト。
+ * <p>
+ * 利用している利率グリッド全体で、従来の無制限精度計算と支払額が完全に一致することを検証する。
+ * </p>
+ */
+class AnnuityCalculatorTest {
+
+    private static final int[] REPAYMENT_PERIOD_MONTHS = { 1, 6, 12, 24, 36, 60, 84, 120, 180, 240, 300, 360 };
+    private static final BigDecimal[] PRINCIPALS = {
+            new BigDecimal("1.00"),
+            new BigDecimal("1000000.00"),
+            new BigDecimal("123456789.99"),
+            new BigDecimal("5000000000.00"),
+            new BigDecimal("999999999999.99")
+    };
+
+    @BeforeEach
+    void setUp() {
+        AnnuityCalculator.clearCache();
+    }
+
+    @Test
+    void 利率グリッド全体で従来計算と支払額が一致すること() {
+        int checked = 0;
+        // 年利 0.05% 〜 15.00% を 0.05% 刻み
+        for (int basisPoints = 5; basisPoints <= 1500; basisPoints += 5) {
+            BigDecimal annualRate = BigDecimal.valueOf(basisPoints, 4);
+            for (RepaymentCycle cycle : RepaymentCycle.values()) {
+                BigDecimal cycleRate = cycleRate(annualRate, cycle);
+                for (int periodMonths : REPAYMENT_PERIOD_MONTHS) {
+                    int numberOfPayments = cycle.getTotalPayments(periodMonths);
+                    for (BigDecimal principal : PRINCIPALS) {
+                        assertEquals(legacyInstallment(principal, cycleRate, numberOfPayments),
+                                AnnuityCalculator.installment(principal, cycleRate, numberOfPayments),
+                                () -> "rate=" + annualRate + ", cycle=" + cycle + ", months=" + periodMonths
+                                        + ", principal=" + principal);
+                        checked++;
+                    }
+                }
+            }
+        }
+        assertTrue(checked > 0);
+    }
+
+    @Test
+    void 無利息の場合は元本を回数で割った値になること() {
+        assertEquals(new BigDecimal("83333"),
+                AnnuityCalculator.installment(new BigDecimal("1000000.00"), BigDecimal.ZERO.setScale(10), 12));
+    }
+
+    @Test
+    void 丸め境界付近では従来計算と一致すること() {
+        // 支払額がちょうど x.5 になる元本: r=0.5, n=1 → PMT = P * 1.5
+        BigDecimal cycleRate = new BigDecimal("0.5000000000");
+        BigDecimal principal = new BigDecimal("1.00");
+
+        BigDecimal expected = legacyInstallment(principal, cycleRate, 1);
+        assertEquals(new BigDecimal("2"), expected);
+        assertEquals(expected, AnnuityCalculator.installment(principal, cycleRate, 1));
+    }
+
+    @Test
+    void 同一の利率と回数の係数はキャッシュされること() {
+        BigDecimal cycleRate = new BigDecimal("0.0041666667");
+
+        BigDecimal first = AnnuityCalculator.factor(cycleRate, 360);
+        BigDecimal second = AnnuityCalculator.factor(new BigDecimal("0.00416666670"), 360);
+
+        assertSame(first, second, "スケール違いの同一利率はキャッシュを共有すること");
+        assertEquals(1, AnnuityCalculator.cacheSize());
+    }
+
+    @Test
+    void キャッシュ件数が上限を超えないこと() {
+        for (int n = 1; n <= AnnuityCalculator.CACHE_CAPACITY + 100; n++) {
+            AnnuityCalculator.factor(new BigDecimal("0.0025000000"), n);
+        }
+
+        assertEquals(AnnuityCalculator.CACHE_CAPACITY, AnnuityCalculator.cacheSize());
+    }
+
+    @Test
+    void 長期ローンのスケジュールが従来計算の支払額で生成されること() {
+        Loan loan = new Loan(1L, 1L,
+                Money.of(new BigDecimal("300000000")),
+                Percentage.of(new BigDecimal("0.0175")),
+                LocalDate.of(2024, 1, 1), 360, RepaymentCycle.MONTHLY,
+                RepaymentMethod.EQUAL_INSTALLMENT, "JPY");
+
+        loan.generatePaymentSchedule();
+
+        BigDecimal cycleRate = cycleRate(new BigDecimal("0.0175"), RepaymentCycle.MONTHLY);
+        BigDecimal expectedPayment = legacyInstallment(new BigDecimal("300000000.00"), cycleRate, 360);
+        PaymentDetail first = loan.getPaymentDetails().get(0);
+        assertEquals(0, expectedPayment.compareTo(
+                first.getPrincipalPayment().add(first.getInterestPayment()).getAmount()));
+        assertTrue(loan.getPaymentDetails().get(359).getRemainingBalance().isZero());
+    }
+
+    private static BigDecimal cycleRate(BigDecimal annualRate, RepaymentCycle cycle) {
+        return annualRate.multiply(BigDecimal.valueOf(cycle.getMonths()))
+                .divide(new BigDecimal("12"), 10, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 従来のLoan.calculateEqualInstallmentPaymentと同一の無制限精度計算。
+     */
+    private static BigDecimal legacyInstallment(BigDecimal principal, BigDecimal monthlyRate, int numberOfPayments) {
+        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+            return principal.divide(new BigDecimal(numberOfPayments), 0, RoundingMode.HALF_UP);
+        }
+        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
+        BigDecimal onePlusRatePowerN = onePlusRate.pow(numberOfPayments);
+        BigDecimal numerator = principal.multiply(monthlyRate).multiply(onePlusRatePowerN);
+        BigDecimal denominator = onePlusRatePowerN.subtract(BigDecimal.ONE);
+        return numerator.divide(denominator, 0, RoundingMode.HALF_UP);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -146,4 +147,125 @@ class LoanPaymentScheduleTest {
         // Then: 新しいスケジュールが生成される
         assertEquals(12, loan.getPaymentDetails().size(), "12回の支払いに更新されること");
     }
+
+    @Test
+    void ストリームのスケジュールが生成済みの明細と一致すること() {
+        // Given: 30年の元利均等返済ローン
+        Loan loan = new Loan(
+                1L, 1L,
+                Money.of(new BigDecimal("300000000")),
+                Percentage.of(new BigDecimal("0.0175")),
+                LocalDate.of(2024, 1, 1),
+                360,
+                RepaymentCycle.MONTHLY,
+                RepaymentMethod.EQUAL_INSTALLMENT,
+                "JPY"
+        );
+
+        // When: ストリームで計算
+        List<PaymentDetail> streamed = loan.paymentSchedule().collect(Collectors.toList());
+
+        // Then: 保持している明細と全件一致し、明細リストは変化しない
+        List<PaymentDetail> materialized = loan.getPaymentDetails();
+        assertEquals(360, materialized.size());
+        assertEquals(materialized.size(), streamed.size());
+        for (int i = 0; i < streamed.size(); i++) {
+            PaymentDetail expected = materialized.get(i);
+            PaymentDetail actual = streamed.get(i);
+            assertEquals(expected.getPaymentNumber(), actual.getPaymentNumber());
+            assertEquals(expected.getPrincipalPayment(), actual.getPrincipalPayment());
+            assertEquals(expected.getInterestPayment(), actual.getInterestPayment());
+            assertEquals(expected.getDueDate(), actual.getDueDate());
+            assertEquals(expected.getRemainingBalance(), actual.getRemainingBalance());
+        }
+        assertEquals(360, loan.getPaymentDetails().size(), "ストリーム参照で明細リストが変化しないこと");
+    }
+
+    @Test
+    void 期日到来分のみスケジュールを保持し後から追加できること() {
+        // Given: 四半期返済のバレットローン（5年 = 20回）
+        Loan loan = new Loan(
+                1L, 1L,
+                Money.of(new BigDecimal("1000000")),
+                Percentage.of(new BigDecimal("0.04")),
+                LocalDate.of(2024, 1, 1),
+                60,
+                RepaymentCycle.QUARTERLY,
+                RepaymentMethod.BULLET_PAYMENT,
+                "JPY"
+        );
+
+        // When: 2024-12-31までの期日分のみ保持
+        loan.generatePaymentSchedule(LocalDate.of(2024, 12, 31));
+
+        // Then: 2024-04-01, 07-01, 10-01 の3回分のみ保持される
+        assertEquals(3, loan.getPaymentDetails().size());
+        assertEquals(LocalDate.of(2024, 10, 1), loan.getPaymentDetails().get(2).getDueDate());
+
+        // When: 2025-07-01時点で期日到来分を追加
+        int added = loan.materializeDueInstallments(LocalDate.of(2025, 7, 1));
+
+        // Then: 2025-01-01, 04-01, 07-01 の3回分が続きとして追加される
+        assertEquals(3, added);
+        assertEquals(6, loan.getPaymentDetails().size());
+        assertEquals(6, loan.getPaymentDetails().get(5).getPaymentNumber());
+        assertEquals(0, loan.materializeDueInstallments(LocalDate.of(2025, 7, 1)), "重複して追加されないこと");
+
+        // When: 満期後に期日到来分を追加
+        loan.materializeDueInstallments(LocalDate.of(2030, 1, 1));
+
+        // Then: 全20回が揃い、最終回で元本全額が返済される
+        assertEquals(20, loan.getPaymentDetails().size());
+        assertEquals(loan.getPrincipalAmount(), loan.getPaymentDetails().get(19).getPrincipalPayment());
+    }
+
+    @Test
+    void スケジュール差分更新で既存の返済明細を再利用し末尾のみ増減すること() {
+        // Given: 12回払いの元利均等ローン
+        Loan loan = new Loan(
+                1L, 1L,
+                Money.of(new BigDecimal("1000000")),
+                Percentage.of(new BigDecimal("0.05")),
+                LocalDate.of(2024, 1, 1),
+                12,
+                RepaymentCycle.MONTHLY,
+                RepaymentMethod.EQUAL_INSTALLMENT,
+                "JPY"
+        );
+        List<PaymentDetail> original = List.copyOf(loan.getPaymentDetails());
+
+        // When: 条件変更なしで差分更新
+        // Then: 変更は発生しない
+        assertEquals(0, loan.reconcilePaymentSchedule());
+
+        // When: 利率のみ変更して差分更新
+        loan.setAnnualInterestRate(Percentage.of(new BigDecimal("0.03")));
+        loan.reconcilePaymentSchedule();
+
+        // Then: 同じ返済明細インスタンスが再利用され、金額が再計算される
+        assertEquals(12, loan.getPaymentDetails().size());
+        for (int i = 0; i < 12; i++) {
+            assertSame(original.get(i), loan.getPaymentDetails().get(i));
+        }
+        Money expectedInterest = loan.paymentSchedule().findFirst().orElseThrow().getInterestPayment();
+        assertEquals(expectedInterest, loan.getPaymentDetails().get(0).getInterestPayment());
+
+        // When: 返済期間を短縮して差分更新
+        loan.setRepaymentPeriodMonths(6);
+        loan.reconcilePaymentSchedule();
+
+        // Then: 先頭6回は再利用され、末尾6回のみ削除される
+        assertEquals(6, loan.getPaymentDetails().size());
+        assertSame(original.get(5), loan.getPaymentDetails().get(5));
+        assertTrue(loan.getPaymentDetails().get(5).getRemainingBalance().isZero(), "最終残高がゼロであること");
+
+        // When: 返済期間を延長して差分更新
+        loan.setRepaymentPeriodMonths(9);
+        loan.reconcilePaymentSchedule();
+
+        // Then: 末尾3回のみ追加される
+        assertEquals(9, loan.getPaymentDetails().size());
+        assertSame(original.get(0), loan.getPaymentDetails().get(0));
+        assertEquals(9, loan.getPaymentDetails().get(8).getPaymentNumber());
+    }
 }
@@ -0,0 +1,251 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.TestDataCleaner;
+import com.example.syndicatelending.common.statemachine.facility.FacilityState;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.DrawdownBatchItemResult;
+import com.example.syndicatelending.loan.dto.DrawdownBatchResponse;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.DrawdownRepository;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ドローダウンの一括登録の統合テスト
+ * チャンクごとのコミット、保存に失敗したチャンクのロールバックと明細ごとの再実行、NDJSONエンドポイントを検証
+ * <p>
+ * 一括登録はチャンクごとに自身のトランザクションでコミットするため、テストメソッドをトランザクションで囲まない。
+ * </p>
+ */
+@SpringBootTest(properties = "loan.drawdown.batch.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DrawdownBatchIntegrationTest {
+
+    /** 存在しない投資家のID（按分先に含むとチャンクの保存時に投資額の更新で失敗する） */
+    private static final Long MISSING_INVESTOR_ID = 999999L;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Investor investor;
+    private Borrower borrower;
+
+    @BeforeEach
+    void setUp() {
+        investor = investorRepository.save(new Investor("Batch Investor", "batch@test.com", "111-1111-1111",
+                "COMP001", new BigDecimal("50000000"), InvestorType.BANK));
+        borrower = borrowerRepository.save(new Borrower("Batch Borrower", "batch-borrower@test.com",
+                "333-3333-3333", "COMP003", Money.of(new BigDecimal("50000000")), CreditRating.A));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataCleaner.deleteAll(jdbcTemplate);
+    }
+
+    @Test
+    void 明細ごとの結果を返しチャンクごとにコミットする() {
+        Long firstFacilityId = createFacility(Map.of(investor.getId(), "1.0"));
+        Long secondFacilityId = createFacility(Map.of(investor.getId(), "1.0"));
+
+        List<CreateDrawdownRequest> requests = List.of(
+                batchRequest(firstFacilityId, "1000000"),
+                batchRequest(secondFacilityId, "2000000"),
+                // 同じFacilityへの2件目のドローダウンは不可（前のチャンクでコミット済み）
+                batchRequest(firstFacilityId, "500000"),
+                // 存在しないFacility
+                batchRequest(999999L, "500000"),
+                // コミットメント超過
+                batchRequest(createFacility(Map.of(investor.getId(), "1.0")), "20000000"));
+
+        DrawdownBatchResponse response = drawdownService.createDrawdowns(requests);
+
+        assertEquals(5, response.getTotalCount());
+        assertEquals(2, response.getSucceededCount());
+        assertEquals(3, response.getFailedCount());
+        assertEquals(3, response.getChunkCount());
+
+        List<DrawdownBatchItemResult> results = response.getResults();
+        assertTrue(results.get(0).isSucceeded());
+        assertTrue(results.get(1).isSucceeded());
+        assertFalse(results.get(2).isSucceeded());
+        assertFalse(results.get(3).isSucceeded());
+        assertTrue(results.get(3).getError().contains("Facility not found"));
+        assertFalse(results.get(4).isSucceeded());
+        assertEquals("Drawdown amount exceeds facility commitment", results.get(4).getError());
+
+        Drawdown drawdown = drawdownRepository.findById(results.get(1).getDrawdownId()).orElseThrow();
+        assertEquals(results.get(1).getLoanId(), drawdown.getLoanId());
+        assertEquals(Money.of(new BigDecimal("2000000")), drawdown.getAmount());
+        assertEquals(12, paymentDetailRepository.countByLoanId(drawdown.getLoanId()));
+        assertEquals(FacilityState.ACTIVE, facilityRepository.findById(secondFacilityId).orElseThrow().getStatus());
+        assertEquals(1, drawdownRepository.findByFacilityId(firstFacilityId).size());
+        assertEquals(Money.of(new BigDecimal("3000000")),
+                investorRepository.findById(investor.getId()).orElseThrow().getCurrentInvestmentAmount());
+    }
+
+    @Test
+    void 保存に失敗したチャンクはロールバックし明細ごとに再実行する() {
+        Long validFacilityId = createFacility(Map.of(investor.getId(), "1.0"));
+        // 按分先の投資家が存在しないため、チャンクの保存（投資額の一括更新）で失敗する
+        Long invalidFacilityId = createFacility(Map.of(investor.getId(), "0.5", MISSING_INVESTOR_ID, "0.5"));
+        Long nextChunkFacilityId = createFacility(Map.of(investor.getId(), "1.0"));
+
+        DrawdownBatchResponse response = drawdownService.createDrawdowns(List.of(
+                batchRequest(validFacilityId, "1000000"),
+                batchRequest(invalidFacilityId, "2000000"),
+                batchRequest(nextChunkFacilityId, "3000000")));
+
+        assertEquals(2, response.getChunkCount());
+        List<DrawdownBatchItemResult> results = response.getResults();
+        // 1つ目のチャンクはロールバック後に1件ずつ再実行され、有効な明細のみ登録される
+        assertTrue(results.get(0).isSucceeded());
+        assertFalse(results.get(1).isSucceeded());
+        assertTrue(results.get(1).getError().contains("Investor not found"));
+        assertTrue(results.get(2).isSucceeded());
+
+        assertEquals(1, drawdownRepository.findByFacilityId(validFacilityId).size());
+        assertEquals(1, loanRepository.findByFacilityId(validFacilityId).size());
+        assertTrue(drawdownRepository.findByFacilityId(invalidFacilityId).isEmpty());
+        assertTrue(loanRepository.findByFacilityId(invalidFacilityId).isEmpty());
+        assertEquals(FacilityState.DRAFT, facilityRepository.findById(invalidFacilityId).orElseThrow().getStatus());
+        assertEquals(1, drawdownRepository.findByFacilityId(nextChunkFacilityId).size());
+
+        // ロールバックしたチャンクの投資額は反映されず、再実行で登録した分のみ加算される
+        assertEquals(Money.of(new BigDecimal("4000000")),
+                investorRepository.findById(investor.getId()).orElseThrow().getCurrentInvestmentAmount());
+    }
+
+    @Test
+    void NDJSONで一括登録する() throws Exception {
+        Long firstFacilityId = createFacility(Map.of(investor.getId(), "1.0"));
+        Long secondFacilityId = createFacility(Map.of(investor.getId(), "1.0"));
+        String body = objectMapper.writeValueAsString(batchRequest(firstFacilityId, "1000000")) + "\n"
+                + "\n"
+                + objectMapper.writeValueAsString(batchRequest(secondFacilityId, "2000000")) + "\n";
+
+        mockMvc.perform(post("/api/v1/loans/drawdowns/batch")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.succeededCount").value(2))
+                .andExpect(jsonPath("$.results[0].facilityId").value(firstFacilityId))
+                .andExpect(jsonPath("$.results[1].facilityId").value(secondFacilityId));
+
+        assertEquals(1, drawdownRepository.findByFacilityId(firstFacilityId).size());
+        assertEquals(1, drawdownRepository.findByFacilityId(secondFacilityId).size());
+    }
+
+    @Test
+    void NDJSONに解析できない行があれば登録しない() throws Exception {
+        Long facilityId = createFacility(Map.of(investor.getId(), "1.0"));
+        String body = objectMapper.writeValueAsString(batchRequest(facilityId, "1000000")) + "\n"
+                + "{not json\n";
+
+        mockMvc.perform(post("/api/v1/loans/drawdowns/batch")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        assertTrue(drawdownRepository.findByFacilityId(facilityId).isEmpty());
+    }
+
+    private Long createFacility(Map<Long, String> sharesByInvestor) {
+        Facility facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("10000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now());
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        for (Map.Entry<Long, String> entry : sharesByInvestor.entrySet()) {
+            SharePie sharePie = new SharePie();
+            sharePie.setFacility(facility);
+            sharePie.setInvestorId(entry.getKey());
+            sharePie.setShare(Percentage.of(new BigDecimal(entry.getValue())));
+            sharePieRepository.save(sharePie);
+        }
+        return facility.getId();
+    }
+
+    private CreateDrawdownRequest batchRequest(Long facilityId, String amount) {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facilityId);
+        request.setBorrowerId(borrower.getId());
+        request.setAmount(new BigDecimal(amount));
+        request.setCurrency("JPY");
+        request.setPurpose("Batch drawdown");
+        request.setAnnualInterestRate(new BigDecimal("0.05"));
+        request.setDrawdownDate(LocalDate.now());
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        return request;
+    }
+}
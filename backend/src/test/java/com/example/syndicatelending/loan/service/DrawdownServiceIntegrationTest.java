@@ -266,6 +266,33 @@ class DrawdownServiceIntegrationTest {
         }
     }
 
+    @Test
+    void testCreateDrawdownsRejectsActiveTransaction() {
+        // チャンクごとにコミットできないため、トランザクション内からの一括登録は例外とする
+        // （一括登録の結果・コミットの検証はDrawdownBatchIntegrationTest）
+        TestDataHelper helper = new TestDataHelper();
+        Long facilityId = helper.createTestFacilityWithBorrower();
+
+        assertThrows(IllegalStateException.class, () -> drawdownService.createDrawdowns(
+                List.of(batchRequest(facilityId, helper.borrowerId, "1000000"))));
+        assertTrue(drawdownRepository.findByFacilityId(facilityId).isEmpty());
+    }
+
+    private CreateDrawdownRequest batchRequest(Long facilityId, Long borrowerId, String amount) {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facilityId);
+        request.setBorrowerId(borrowerId);
+        request.setAmount(new BigDecimal(amount));
+        request.setCurrency("JPY");
+        request.setPurpose("Batch drawdown");
+        request.setAnnualInterestRate(new BigDecimal("0.05"));
+        request.setDrawdownDate(LocalDate.now());
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        return request;
+    }
+
     /**
      * テストデータ作成ヘルパークラス
      */
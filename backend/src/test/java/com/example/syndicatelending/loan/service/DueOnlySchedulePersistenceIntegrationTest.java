@@ -0,0 +1,206 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.common.infrastructure.TestDataCleaner;
+import com.example.syndicatelending.common.statemachine.loan.LoanState;
+import com.example.syndicatelending.facility.entity.Facility;
+import com.example.syndicatelending.facility.entity.SharePie;
+import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.facility.repository.SharePieRepository;
+import com.example.syndicatelending.loan.dto.CreateDrawdownRequest;
+import com.example.syndicatelending.loan.dto.PaymentRunReport;
+import com.example.syndicatelending.loan.entity.Drawdown;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.loan.repository.PaymentRepository;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 返済明細を期日到来分のみ保存する設定（DUE_ONLY）の統合テスト
+ * ドローダウン→期日到来分の保存→支払いの一連の流れを検証
+ * <p>
+ * 期日到来分の保存はLoanごとのトランザクションでコミットするため、テストメソッドをトランザクションで囲まない。
+ * </p>
+ */
+@SpringBootTest(properties = "loan.schedule.persistence-mode=DUE_ONLY")
+@ActiveProfiles("test")
+class DueOnlySchedulePersistenceIntegrationTest {
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private DueInstallmentMaterializer dueInstallmentMaterializer;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ScheduledPaymentRunService scheduledPaymentRunService;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Facility facility;
+    private Borrower borrower;
+
+    @BeforeEach
+    void setUp() {
+        Investor investor1 = investorRepository.save(new Investor("Due Only Investor 1", "dueonly1@test.com",
+                "111-1111-1111", "COMP001", new BigDecimal("1000000"), InvestorType.BANK));
+        Investor investor2 = investorRepository.save(new Investor("Due Only Investor 2", "dueonly2@test.com",
+                "222-2222-2222", "COMP002", new BigDecimal("1000000"), InvestorType.FUND));
+
+        borrower = borrowerRepository.save(new Borrower("Due Only Borrower", "dueonly@test.com", "333-3333-3333",
+                "COMP003", Money.of(new BigDecimal("2000000")), CreditRating.A));
+
+        facility = new Facility();
+        facility.setSyndicateId(1L);
+        facility.setCommitment(Money.of(new BigDecimal("1000000")));
+        facility.setCurrency("JPY");
+        facility.setStartDate(LocalDate.now().minusYears(1));
+        facility.setEndDate(LocalDate.now().plusYears(1));
+        facility = facilityRepository.save(facility);
+
+        SharePie sharePie1 = new SharePie();
+        sharePie1.setFacility(facility);
+        sharePie1.setInvestorId(investor1.getId());
+        sharePie1.setShare(Percentage.of(new BigDecimal("0.6")));
+        sharePieRepository.save(sharePie1);
+
+        SharePie sharePie2 = new SharePie();
+        sharePie2.setFacility(facility);
+        sharePie2.setInvestorId(investor2.getId());
+        sharePie2.setShare(Percentage.of(new BigDecimal("0.4")));
+        sharePieRepository.save(sharePie2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDataCleaner.deleteAll(jdbcTemplate);
+    }
+
+    @Test
+    void 期日到来分の返済明細を保存して支払う() {
+        LocalDate today = LocalDate.now();
+        LocalDate asOf = today.plusMonths(2);
+
+        // 1. 3か月前のドローダウン（12回の月次返済）
+        Drawdown drawdown = drawdownService.createDrawdown(createDrawdownRequest(today.minusMonths(3)));
+        Long loanId = drawdown.getLoanId();
+        Loan loan = loanRepository.findById(loanId).orElseThrow();
+
+        long dueByToday = loan.paymentSchedule().filter(detail -> !detail.getDueDate().isAfter(today)).count();
+        long dueByAsOf = loan.paymentSchedule().filter(detail -> !detail.getDueDate().isAfter(asOf)).count();
+        assertTrue(dueByToday < dueByAsOf);
+        assertTrue(dueByAsOf < loan.paymentSchedule().count());
+
+        // 2. ドローダウン時点では期日到来分のみ保存される
+        assertEquals(dueByToday, paymentDetailRepository.countByLoanId(loanId));
+
+        // 3. 基準日までに期日が到来した分を保存
+        assertEquals(dueByAsOf - dueByToday, dueInstallmentMaterializer.materializeDueInstallments(asOf));
+
+        List<PaymentDetail> details = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loanId);
+        assertEquals(dueByAsOf, details.size());
+
+        // 4. 保存した返済明細を支払う
+        for (PaymentDetail detail : details) {
+            paymentService.processScheduledPayment(detail.getId());
+        }
+
+        details = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loanId);
+        assertTrue(details.stream().allMatch(detail -> detail.getPaymentStatus() == PaymentStatus.PAID));
+        assertEquals(dueByAsOf, paymentRepository.findByLoanId(loanId).size());
+
+        Money paidPrincipal = details.stream()
+                .map(PaymentDetail::getPrincipalPayment)
+                .reduce(Money.zero(), Money::add);
+        loan = loanRepository.findById(loanId).orElseThrow();
+        assertEquals(loan.getPrincipalAmount().subtract(paidPrincipal), loan.getOutstandingBalance());
+        assertEquals(LoanState.ACTIVE, loan.getStatus());
+
+        // 5. 同じ基準日で再実行しても、追加の保存は行われない
+        assertEquals(0, dueInstallmentMaterializer.materializeDueInstallments(asOf));
+        assertEquals(dueByAsOf, paymentDetailRepository.countByLoanId(loanId));
+    }
+
+    @Test
+    void 支払い一括実行で期日到来分を保存してから支払う() {
+        LocalDate today = LocalDate.now();
+        LocalDate runDate = today.plusMonths(2);
+
+        Drawdown drawdown = drawdownService.createDrawdown(createDrawdownRequest(today.minusMonths(3)));
+        Long loanId = drawdown.getLoanId();
+        Loan loan = loanRepository.findById(loanId).orElseThrow();
+        long dueByRunDate = loan.paymentSchedule().filter(detail -> !detail.getDueDate().isAfter(runDate)).count();
+
+        PaymentRunReport report = scheduledPaymentRunService.run(runDate);
+
+        assertEquals(dueByRunDate, report.getDueCount());
+        assertEquals(dueByRunDate, report.getPaidCount());
+        assertEquals(0, report.getFailedCount());
+        List<PaymentDetail> details = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loanId);
+        assertEquals(dueByRunDate, details.size());
+        assertTrue(details.stream().allMatch(detail -> detail.getPaymentStatus() == PaymentStatus.PAID));
+    }
+
+    private CreateDrawdownRequest createDrawdownRequest(LocalDate drawdownDate) {
+        CreateDrawdownRequest request = new CreateDrawdownRequest();
+        request.setFacilityId(facility.getId());
+        request.setBorrowerId(borrower.getId());
+        request.setAmount(new BigDecimal("600000"));
+        request.setCurrency("JPY");
+        request.setDrawdownDate(drawdownDate);
+        request.setAnnualInterestRate(new BigDecimal("0.05"));
+        request.setRepaymentPeriodMonths(12);
+        request.setRepaymentCycle("MONTHLY");
+        request.setRepaymentMethod(RepaymentMethod.EQUAL_INSTALLMENT);
+        request.setPurpose("Due only integration test");
+        return request;
+    }
+}
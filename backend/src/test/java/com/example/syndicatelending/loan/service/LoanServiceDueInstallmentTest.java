@@ -0,0 +1,123 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.common.domain.model.Percentage;
+import com.example.syndicatelending.loan.dto.DueInstallmentDto;
+import com.example.syndicatelending.loan.dto.DueInstallmentPage;
+import com.example.syndicatelending.loan.entity.Loan;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
+import com.example.syndicatelending.loan.entity.RepaymentCycle;
+import com.example.syndicatelending.loan.entity.RepaymentMethod;
+import com.example.syndicatelending.loan.repository.LoanRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoanService 期日別返済明細取得の統合テスト
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LoanServiceDueInstallmentTest {
+
+    // 他のテストデータと重ならない期日を使用する
+    private static final LocalDate DRAWDOWN_DATE = LocalDate.of(2090, 1, 15);
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Test
+    void 期間内の返済明細を期日とID順にキーセットページングで取得できる() {
+        Loan first = createLoan(100L);
+        Loan second = createLoan(200L);
+        LocalDate from = DRAWDOWN_DATE.plusMonths(1);
+        LocalDate to = DRAWDOWN_DATE.plusMonths(2);
+
+        DueInstallmentPage page1 = loanService.getDueInstallments(from, to, null, null, null, 3);
+
+        assertEquals(3, page1.getItems().size());
+        assertTrue(page1.isHasNext());
+        DueInstallmentDto firstItem = page1.getItems().get(0);
+        assertEquals(from, firstItem.getDueDate());
+        assertEquals(first.getId(), firstItem.getLoanId());
+        assertEquals(100L, firstItem.getFacilityId());
+        assertEquals(1, firstItem.getPaymentNumber());
+        assertEquals(PaymentStatus.PENDING, firstItem.getPaymentStatus());
+        assertEquals("JPY", firstItem.getCurrency());
+        assertEquals(second.getId(), page1.getItems().get(1).getLoanId());
+        assertEquals(to, page1.getNextAfterDueDate());
+
+        DueInstallmentPage page2 = loanService.getDueInstallments(
+                from, to, null, page1.getNextAfterDueDate(), page1.getNextAfterId(), 3);
+
+        assertEquals(1, page2.getItems().size());
+        assertFalse(page2.isHasNext());
+        assertNull(page2.getNextAfterId());
+        assertEquals(to, page2.getItems().get(0).getDueDate());
+        assertEquals(second.getId(), page2.getItems().get(0).getLoanId());
+    }
+
+    @Test
+    void 支払い状態で絞り込める() {
+        Loan loan = createLoan(100L);
+        PaymentDetail paid = loan.getPaymentDetails().get(0);
+        paid.markAsPaid(paid.getDueDate(), 1L);
+        loanRepository.saveAndFlush(loan);
+        LocalDate from = DRAWDOWN_DATE.plusMonths(1);
+        LocalDate to = DRAWDOWN_DATE.plusMonths(3);
+
+        List<DueInstallmentDto> pending = loanService.getDueInstallments(from, to, null, null, null, 10).getItems();
+        List<DueInstallmentDto> paidItems = loanService.getDueInstallments(
+                from, to, PaymentStatus.PAID, null, null, 10).getItems();
+
+        assertEquals(2, pending.size());
+        assertEquals(1, paidItems.size());
+        assertEquals(paid.getId(), paidItems.get(0).getId());
+    }
+
+    @Test
+    void 上限を超える件数は上限に切り詰めて取得する() {
+        createLoan(100L);
+        LocalDate from = DRAWDOWN_DATE.plusMonths(1);
+        LocalDate to = DRAWDOWN_DATE.plusMonths(12);
+
+        DueInstallmentPage page = loanService.getDueInstallments(
+                from, to, null, null, null, LoanService.MAX_DUE_INSTALLMENT_PAGE_SIZE + 1);
+
+        assertEquals(12, page.getItems().size());
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    void 件数が1未満の場合はエラー() {
+        assertThrows(BusinessRuleViolationException.class, () -> loanService.getDueInstallments(
+                DRAWDOWN_DATE, DRAWDOWN_DATE.plusMonths(2), null, null, null, 0));
+    }
+
+    @Test
+    void 期間が逆転している場合はエラー() {
+        assertThrows(BusinessRuleViolationException.class, () -> loanService.getDueInstallments(
+                DRAWDOWN_DATE.plusMonths(2), DRAWDOWN_DATE, null, null, null, 10));
+    }
+
+    private Loan createLoan(Long facilityId) {
+        Loan loan = new Loan(facilityId, 1L, Money.of(new BigDecimal("1200000")),
+                Percentage.of(new BigDecimal("0.05")), DRAWDOWN_DATE, 12, RepaymentCycle.MONTHLY,
+                RepaymentMethod.EQUAL_INSTALLMENT, "JPY");
+        return loanRepository.saveAndFlush(loan);
+    }
+}
@@ -11,8 +11,12 @@ import com.example.syndicatelending.loan.dto.CreatePaymentRequest;
 import com.example.syndicatelending.loan.entity.Drawdown;
 import com.example.syndicatelending.loan.entity.Loan;
 import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.PaymentDetail;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
 import com.example.syndicatelending.loan.entity.RepaymentMethod;
 import com.example.syndicatelending.loan.repository.LoanRepository;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import com.example.syndicatelending.loan.repository.PaymentRepository;
 import com.example.syndicatelending.party.entity.Borrower;
 import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.entity.InvestorType;
@@ -22,6 +26,7 @@ import com.example.syndicatelending.common.domain.model.Percentage;
 import com.example.syndicatelending.transaction.entity.TransactionType;
 import com.example.syndicatelending.transaction.entity.TransactionStatus;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -60,6 +66,15 @@ class PaymentServiceTest {
     @Autowired
     private LoanRepository loanRepository;
 
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Investor investor1;
     private Investor investor2;
     private Borrower borrower;
@@ -319,4 +334,87 @@ class PaymentServiceTest {
         loan = loanRepository.findById(loan.getId()).orElseThrow();
         assertEquals(LoanState.ACTIVE, loan.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 期日到来分の一括支払いで返済明細ごとに返済を保存し残高と状態を更新する() {
+        List<PaymentDetail> dueDetails = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loan.getId())
+                .subList(0, 3);
+        List<Long> dueIds = dueDetails.stream().map(PaymentDetail::getId).toList();
+        Money paidPrincipal = dueDetails.stream()
+                .map(PaymentDetail::getPrincipalPayment)
+                .reduce(Money.zero(), Money::add);
+        LocalDate paymentDate = LocalDate.now().plusMonths(3);
+
+        List<Payment> payments = paymentService.processScheduledPayments(loan.getId(), dueIds, paymentDate);
+        assertEquals(3, payments.size());
+
+        // 保存された内容をDBから読み直して確認
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Payment> savedPayments = paymentRepository.findWithDistributionsByLoanIdOrderByPaymentDateDesc(loan.getId());
+        assertEquals(3, savedPayments.size());
+        for (Payment payment : savedPayments) {
+            assertEquals(TransactionStatus.COMPLETED, payment.getStatus());
+            assertEquals(paymentDate, payment.getPaymentDate());
+            assertEquals(facility.getId(), payment.getFacilityId());
+            assertEquals(2, payment.getPaymentDistributions().size());
+        }
+
+        List<PaymentDetail> details = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loan.getId());
+        for (PaymentDetail detail : details) {
+            if (dueIds.contains(detail.getId())) {
+                assertEquals(PaymentStatus.PAID, detail.getPaymentStatus());
+                assertEquals(paymentDate, detail.getActualPaymentDate());
+                assertTrue(savedPayments.stream().anyMatch(payment -> payment.getId().equals(detail.getPaymentId())));
+            } else {
+                assertEquals(PaymentStatus.PENDING, detail.getPaymentStatus());
+            }
+        }
+
+        Loan savedLoan = loanRepository.findById(loan.getId()).orElseThrow();
+        assertEquals(savedLoan.getPrincipalAmount().subtract(paidPrincipal), savedLoan.getOutstandingBalance());
+        assertEquals(LoanState.ACTIVE, savedLoan.getStatus());
+
+        // 投資家の投資額は元本返済分だけ減少する
+        Money investedAfter = investorRepository.findById(investor1.getId()).orElseThrow().getCurrentInvestmentAmount()
+                .add(investorRepository.findById(investor2.getId()).orElseThrow().getCurrentInvestmentAmount());
+        assertEquals(Money.of(new BigDecimal("300000")).subtract(paidPrincipal), investedAfter);
+    }
+
+    @Test
+    void 期日到来分の一括支払いで全返済明細を支払うとLoanが完済になる() {
+        List<Long> allIds = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loan.getId()).stream()
+                .map(PaymentDetail::getId)
+                .toList();
+
+        List<Payment> payments = paymentService.processScheduledPayments(loan.getId(), allIds,
+                LocalDate.now().plusYears(1));
+        assertEquals(allIds.size(), payments.size());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Loan savedLoan = loanRepository.findById(loan.getId()).orElseThrow();
+        assertTrue(savedLoan.getOutstandingBalance().isZero());
+        assertEquals(LoanState.COMPLETED, savedLoan.getStatus());
+        assertEquals(allIds.size(), paymentRepository.findByLoanId(loan.getId()).size());
+    }
+
+    @Test
+    void 期日到来分の一括支払いは支払い済みの返済明細を読み飛ばす() {
+        List<Long> firstIds = paymentDetailRepository.findByLoanIdOrderByPaymentNumber(loan.getId()).stream()
+                .limit(2)
+                .map(PaymentDetail::getId)
+                .toList();
+        paymentService.processScheduledPayments(loan.getId(), firstIds, LocalDate.now().plusMonths(2));
+
+        List<Payment> payments = paymentService.processScheduledPayments(loan.getId(), firstIds,
+                LocalDate.now().plusMonths(2));
+
+        assertTrue(payments.isEmpty());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(2, paymentRepository.findByLoanId(loan.getId()).size());
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.syndicatelending.loan.service;
+
+import com.example.syndicatelending.common.application.exception.BusinessRuleViolationException;
+import com.example.syndicatelending.loan.dto.DuePaymentDetailView;
+import com.example.syndicatelending.loan.dto.PaymentRunReport;
+import com.example.syndicatelending.loan.entity.Payment;
+import com.example.syndicatelending.loan.entity.PaymentStatus;
+import com.example.syndicatelending.loan.repository.PaymentDetailRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ScheduledPaymentRunService 単体テスト。
+ */
+@ExtendWith(MockitoExtension.class)
+class ScheduledPaymentRunServiceTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private PaymentDetailRepository paymentDetailRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private DueInstallmentMaterializer dueInstallmentMaterializer;
+
+    private ScheduledPaymentRunService scheduledPaymentRunService;
+
+    @BeforeEach
+    void setUp() {
+        scheduledPaymentRunService = new ScheduledPaymentRunService(paymentDetailRepository, paymentService,
+                dueInstallmentMaterializer, 2, 2, 2);
+    }
+
+    @Test
+    void 期日到来分をキーセットページングで取得しLoanごとに支払う() {
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(due(1L, 10L), due(2L, 10L)));
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(due(3L, 20L)));
+        when(paymentService.processScheduledPayments(10L, List.of(1L, 2L), RUN_DATE))
+                .thenReturn(List.of(new Payment(), new Payment()));
+        when(paymentService.processScheduledPayments(20L, List.of(3L), RUN_DATE))
+                .thenReturn(List.of(new Payment()));
+
+        PaymentRunReport report = scheduledPaymentRunService.run(RUN_DATE);
+
+        assertEquals(RUN_DATE, report.getRunDate());
+        assertEquals(3, report.getDueCount());
+        assertEquals(2, report.getLoanCount());
+        assertEquals(3, report.getPaidCount());
+        assertEquals(0, report.getSkippedCount());
+        assertEquals(0, report.getFailedCount());
+        assertTrue(report.getFailures().isEmpty());
+        // 支払い対象を取得する前に、期日到来分の返済明細を保存する
+        InOrder inOrder = inOrder(dueInstallmentMaterializer, paymentDetailRepository);
+        inOrder.verify(dueInstallmentMaterializer).materializeDueInstallments(RUN_DATE);
+        inOrder.verify(paymentDetailRepository).findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 0L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void ページごとに支払いを終えてから次のページを取得する() {
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(due(1L, 10L), due(2L, 10L)));
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(due(3L, 10L)));
+        when(paymentService.processScheduledPayments(10L, List.of(1L, 2L), RUN_DATE))
+                .thenReturn(List.of(new Payment(), new Payment()));
+        when(paymentService.processScheduledPayments(10L, List.of(3L), RUN_DATE))
+                .thenReturn(List.of(new Payment()));
+
+        PaymentRunReport report = scheduledPaymentRunService.run(RUN_DATE);
+
+        // ページをまたぐLoanはページごとに処理し、Loanの件数は1件と数える
+        assertEquals(3, report.getDueCount());
+        assertEquals(1, report.getLoanCount());
+        assertEquals(3, report.getPaidCount());
+        InOrder inOrder = inOrder(paymentDetailRepository, paymentService);
+        inOrder.verify(paymentService).processScheduledPayments(10L, List.of(1L, 2L), RUN_DATE);
+        inOrder.verify(paymentDetailRepository).findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 2L, PageRequest.of(0, 2));
+        inOrder.verify(paymentService).processScheduledPayments(10L, List.of(3L), RUN_DATE);
+    }
+
+    @Test
+    void 失敗したLoanをレポートに記録し他のLoanの処理を続ける() {
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(due(1L, 10L), due(2L, 20L)));
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+        when(paymentService.processScheduledPayments(10L, List.of(1L), RUN_DATE))
+                .thenThrow(new BusinessRuleViolationException("No AmountPies found for loan: 10"));
+        when(paymentService.processScheduledPayments(20L, List.of(2L), RUN_DATE))
+                .thenReturn(List.of(new Payment()));
+
+        PaymentRunReport report = scheduledPaymentRunService.run(RUN_DATE);
+
+        assertEquals(1, report.getPaidCount());
+        assertEquals(1, report.getFailedCount());
+        assertEquals(1, report.getFailures().size());
+        PaymentRunReport.Failure failure = report.getFailures().get(0);
+        assertEquals(10L, failure.getLoanId());
+        assertEquals(List.of(1L), failure.getPaymentDetailIds());
+        assertEquals("No AmountPies found for loan: 10", failure.getError());
+        verify(paymentService, times(1)).processScheduledPayments(eq(10L), any(), eq(RUN_DATE));
+    }
+
+    @Test
+    void 競合で失敗したLoanは再実行する() {
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(due(1L, 10L)));
+        when(paymentService.processScheduledPayments(10L, List.of(1L), RUN_DATE))
+                .thenThrow(new OptimisticLockingFailureException("Investor was updated"))
+                .thenReturn(List.of(new Payment()));
+
+        PaymentRunReport report = scheduledPaymentRunService.run(RUN_DATE);
+
+        assertEquals(1, report.getPaidCount());
+        assertEquals(0, report.getFailedCount());
+        verify(paymentService, times(2)).processScheduledPayments(10L, List.of(1L), RUN_DATE);
+    }
+
+    @Test
+    void 期日到来分がない場合は何もしない() {
+        when(paymentDetailRepository.findDueAfterId(PaymentStatus.PENDING, RUN_DATE, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+
+        PaymentRunReport report = scheduledPaymentRunService.run(RUN_DATE);
+
+        assertEquals(0, report.getDueCount());
+        assertEquals(0, report.getLoanCount());
+        verifyNoInteractions(paymentService);
+    }
+
+    private static DuePaymentDetailView due(Long id, Long loanId) {
+        return new DuePaymentDetailView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getLoanId() {
+                return loanId;
+            }
+        };
+    }
+}
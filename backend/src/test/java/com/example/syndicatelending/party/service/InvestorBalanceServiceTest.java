@@ -0,0 +1,85 @@
+package com.example.syndicatelending.party.service;
+
+import com.example.syndicatelending.common.application.exception.ResourceNotFoundException;
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.entity.InvestorType;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * InvestorBalanceService の単体テスト。
+ */
+@ExtendWith(MockitoExtension.class)
+class InvestorBalanceServiceTest {
+
+    @Mock
+    private InvestorRepository investorRepository;
+
+    private InvestorBalanceService investorBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        investorBalanceService = new InvestorBalanceService(investorRepository);
+    }
+
+    @Test
+    void 複数投資家の増減額を一括で反映できる() {
+        Investor investor1 = investor(1L, Money.of(1000));
+        Investor investor2 = investor(2L, Money.of(500));
+        Map<Long, Money> deltas = new LinkedHashMap<>();
+        deltas.put(1L, Money.of(200));
+        deltas.put(2L, Money.of(-300));
+        when(investorRepository.findAllById(deltas.keySet())).thenReturn(List.of(investor1, investor2));
+
+        investorBalanceService.applyDeltas(deltas);
+
+        assertEquals(Money.of(1200), investor1.getCurrentInvestmentAmount());
+        assertEquals(Money.of(200), investor2.getCurrentInvestmentAmount());
+        verify(investorRepository, times(1)).findAllById(any());
+        verify(investorRepository, times(1)).saveAll(List.of(investor1, investor2));
+        verify(investorRepository, never()).findById(any());
+    }
+
+    @Test
+    void 存在しない投資家が含まれる場合は例外が発生する() {
+        Investor investor1 = investor(1L, Money.of(1000));
+        Map<Long, Money> deltas = new LinkedHashMap<>();
+        deltas.put(1L, Money.of(100));
+        deltas.put(99L, Money.of(100));
+        when(investorRepository.findAllById(deltas.keySet())).thenReturn(List.of(investor1));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> investorBalanceService.applyDeltas(deltas));
+        assertTrue(exception.getMessage().contains("99"));
+        verify(investorRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void 増減額が空の場合は何もしない() {
+        investorBalanceService.applyDeltas(Map.of());
+
+        verifyNoInteractions(investorRepository);
+    }
+
+    private Investor investor(Long id, Money currentInvestmentAmount) {
+        Investor investor = new Investor("Investor " + id, "investor" + id + "@example.com", "000-0000-0000",
+                "COMP" + id, new BigDecimal("1000000"), InvestorType.BANK);
+        investor.setId(id);
+        investor.setCurrentInvestmentAmount(currentInvestmentAmount);
+        return investor;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.syndicatelending.party.service;
+
+import com.example.syndicatelending.party.dto.PartyNameCacheStats;
+import com.example.syndicatelending.party.dto.PartyNameView;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * PartyNameCache の単体テスト。
+ */
+@ExtendWith(MockitoExtension.class)
+class PartyNameCacheTest {
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private InvestorRepository investorRepository;
+
+    @Test
+    void キャッシュにない名前のみをまとめて取得しヒットとミスを記録する() {
+        PartyNameCache cache = new PartyNameCache(borrowerRepository, investorRepository, 1000, 600);
+        when(investorRepository.findNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(view(1L, "Investor 1"), view(2L, "Investor 2")))
+                .thenReturn(List.of(view(3L, "Investor 3")));
+
+        Map<Long, String> first = cache.getInvestorNames(List.of(1L, 2L, 2L));
+        Map<Long, String> second = cache.getInvestorNames(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, "Investor 1", 2L, "Investor 2"), first);
+        assertEquals(Map.of(1L, "Investor 1", 2L, "Investor 2", 3L, "Investor 3"), second);
+        verify(investorRepository).findNamesByIdIn(argThatContainsExactly(1L, 2L));
+        verify(investorRepository).findNamesByIdIn(argThatContainsExactly(3L));
+
+        PartyNameCacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(3, stats.getMisses());
+        assertEquals(3, stats.getInvestorEntries());
+        assertEquals(0.4, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void 無効化した名前は再取得される() {
+        PartyNameCache cache = new PartyNameCache(borrowerRepository, investorRepository, 1000, 600);
+        when(borrowerRepository.findNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(view(1L, "Old Name")))
+                .thenReturn(List.of(view(1L, "New Name")));
+
+        assertEquals("Old Name", cache.getBorrowerNames(List.of(1L)).get(1L));
+        cache.invalidateBorrower(1L);
+
+        assertEquals("New Name", cache.getBorrowerNames(List.of(1L)).get(1L));
+        verify(borrowerRepository, times(2)).findNamesByIdIn(anyCollection());
+    }
+
+    @Test
+    void 上限を超えると最も古くアクセスされた名前を追い出す() {
+        // 16セグメント × 1件。ID 1 と 17 は同じセグメントに入る
+        PartyNameCache cache = new PartyNameCache(borrowerRepository, investorRepository, 16, 600);
+        when(investorRepository.findNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(view(1L, "Investor 1")))
+                .thenReturn(List.of(view(17L, "Investor 17")))
+                .thenReturn(List.of(view(1L, "Investor 1")));
+
+        cache.getInvestorNames(List.of(1L));
+        cache.getInvestorNames(List.of(17L));
+        cache.getInvestorNames(List.of(1L));
+
+        verify(investorRepository, times(3)).findNamesByIdIn(anyCollection());
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void 有効期限切れの名前は再取得される() throws InterruptedException {
+        PartyNameCache cache = new PartyNameCache(borrowerRepository, investorRepository, 1000, 0);
+        when(borrowerRepository.findNamesByIdIn(anyCollection())).thenReturn(List.of(view(1L, "Borrower 1")));
+
+        cache.getBorrowerNames(List.of(1L));
+        Thread.sleep(1);
+        cache.getBorrowerNames(List.of(1L));
+
+        verify(borrowerRepository, times(2)).findNamesByIdIn(anyCollection());
+        assertEquals(0, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getExpirations());
+        assertEquals(0, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void 取得中に無効化された名前はキャッシュしない() {
+        PartyNameCache cache = new PartyNameCache(borrowerRepository, investorRepository, 1000, 600);
+        // 旧い名前を読み込んでいる間に、更新による無効化が行われる
+        when(borrowerRepository.findNamesByIdIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    cache.invalidateBorrower(1L);
+                    return List.of(view(1L, "Old Name"));
+                })
+                .thenReturn(List.of(view(1L, "New Name")));
+
+        assertEquals("Old Name", cache.getBorrowerNames(List.of(1L)).get(1L));
+        assertEquals(0, cache.getStats().getBorrowerEntries());
+
+        assertEquals("New Name", cache.getBorrowerNames(List.of(1L)).get(1L));
+        assertEquals("New Name", cache.getBorrowerNames(List.of(1L)).get(1L));
+        verify(borrowerRepository, times(2)).findNamesByIdIn(anyCollection());
+    }
+
+    @Test
+    void 全件無効化をまたいで取得した名前はキャッシュしない() {
+        PartyNameCache cache = new PartyNameCache(borrowerRepository, investorRepository, 1000, 600);
+        when(investorRepository.findNamesByIdIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    cache.invalidateAll();
+                    return List.of(view(1L, "Investor 1"));
+                });
+
+        cache.getInvestorNames(List.of(1L));
+
+        assertEquals(0, cache.getStats().getInvestorEntries());
+    }
+
+    private static Collection<Long> argThatContainsExactly(Long... ids) {
+        return argThat(collection -> collection.size() == ids.length && collection.containsAll(List.of(ids)));
+    }
+
+    private static PartyNameView view(Long id, String name) {
+        return new PartyNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -47,13 +47,15 @@ class PartyServiceTest {
         @Mock
         private FacilityRepository facilityRepository;
 
+        @Mock
+        private PartyNameCache partyNameCache;
 
         private PartyService partyService;
 
         @BeforeEach
         void setUp() {
                 partyService = new PartyService(companyRepository, borrowerRepository, investorRepository, 
-                                               facilityRepository);
+                                               facilityRepository, partyNameCache);
         }
 
         @Test
@@ -312,6 +314,7 @@ class PartyServiceTest {
                 assertEquals(2L, result.getVersion());
                 verify(borrowerRepository).findById(borrowerId);
                 verify(borrowerRepository).save(any(Borrower.class));
+                verify(partyNameCache).invalidateBorrower(borrowerId);
         }
 
         @Test
@@ -359,6 +362,7 @@ class PartyServiceTest {
                 assertEquals(2L, result.getVersion());
                 verify(investorRepository).findById(investorId);
                 verify(investorRepository).save(any(Investor.class));
+                verify(partyNameCache).invalidateInvestor(investorId);
         }
 
         @Test
@@ -418,6 +422,7 @@ class PartyServiceTest {
 
                 verify(borrowerRepository).findById(borrowerId);
                 verify(borrowerRepository).deleteById(borrowerId);
+                verify(partyNameCache).invalidateBorrower(borrowerId);
         }
 
         @Test
@@ -446,6 +451,7 @@ class PartyServiceTest {
 
                 verify(investorRepository).findById(investorId);
                 verify(investorRepository).deleteById(investorId);
+                verify(partyNameCache).invalidateInvestor(investorId);
         }
 
         @Test
@@ -0,0 +1,168 @@
+package com.example.syndicatelending.syndicate.service;
+
+import com.example.syndicatelending.common.domain.model.Money;
+import com.example.syndicatelending.party.entity.Borrower;
+import com.example.syndicatelending.party.entity.CreditRating;
+import com.example.syndicatelending.party.entity.Investor;
+import com.example.syndicatelending.party.repository.BorrowerRepository;
+import com.example.syndicatelending.party.repository.InvestorRepository;
+import com.example.syndicatelending.party.service.PartyNameCache;
+import com.example.syndicatelending.syndicate.dto.SyndicateDetailResponseDTO;
+import com.example.syndicatelending.syndicate.entity.Syndicate;
+import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SyndicateService の詳細DTO組み立てで発行されるクエリ数のテスト。
+ * Syndicate数・メンバー数が増えてもクエリ数が一定であることを Hibernate statistics で確認する。
+ * 名前キャッシュ（PartyNameCache）は各テストの開始時にクリアする。
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+public class SyndicateServiceQueryCountTest {
+
+    private static final int SYNDICATE_COUNT = 10;
+    private static final int MEMBER_COUNT = 5;
+
+    @Autowired
+    private SyndicateService syndicateService;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private PartyNameCache partyNameCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Borrower borrower;
+    private List<Investor> investors;
+
+    @BeforeEach
+    void setUp() {
+        borrower = new Borrower();
+        borrower.setName("Query Count Borrower");
+        borrower.setCompanyId("1");
+        borrower.setCreditRating(CreditRating.AAA);
+        borrower.setCreditLimit(Money.of(new BigDecimal("50000000.00")));
+        borrower.setCreatedAt(LocalDateTime.now());
+        borrower.setUpdatedAt(LocalDateTime.now());
+        borrower = borrowerRepository.save(borrower);
+
+        investors = new ArrayList<>();
+        for (int i = 0; i <= MEMBER_COUNT; i++) {
+            Investor investor = new Investor();
+            investor.setName("Query Count Investor " + i);
+            investor.setCompanyId("1");
+            investor.setInvestmentCapacity(new BigDecimal("10000000.00"));
+            investor.setCurrentInvestmentAmount(Money.of(new BigDecimal("0.00")));
+            investor.setCreatedAt(LocalDateTime.now());
+            investor.setUpdatedAt(LocalDateTime.now());
+            investors.add(investorRepository.save(investor));
+        }
+
+        List<Long> memberIds = investors.subList(1, investors.size()).stream().map(Investor::getId).toList();
+        for (int i = 0; i < SYNDICATE_COUNT; i++) {
+            syndicateRepository.save(new Syndicate(
+                    "Query Count Syndicate " + i, investors.get(0).getId(), borrower.getId(), new ArrayList<>(memberIds)));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        partyNameCache.invalidateAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 一覧取得のクエリ数はSyndicate数とメンバー数に依存しない() {
+        List<SyndicateDetailResponseDTO> result = syndicateService.getAllSyndicatesWithDetails();
+
+        // Syndicate（メンバーIDをJOIN FETCH）、Borrower名、Investor名の3回
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(SYNDICATE_COUNT, result.size());
+        SyndicateDetailResponseDTO dto = result.get(0);
+        assertEquals("Query Count Borrower", dto.getBorrowerName());
+        assertEquals("Query Count Investor 0", dto.getLeadBankName());
+        assertEquals(MEMBER_COUNT, dto.getMemberInvestorNames().size());
+        assertEquals("Query Count Investor 1", dto.getMemberInvestorNames().get(0));
+    }
+
+    @Test
+    void ページング一覧取得のクエリ数はページサイズに依存しない() {
+        Page<SyndicateDetailResponseDTO> smallPage =
+                syndicateService.getAllSyndicatesWithDetailsPageable(PageRequest.of(0, 2));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        partyNameCache.invalidateAll();
+        statistics.clear();
+        Page<SyndicateDetailResponseDTO> largePage =
+                syndicateService.getAllSyndicatesWithDetailsPageable(PageRequest.of(0, SYNDICATE_COUNT));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // Syndicate、件数、メンバーID（バッチ取得）、Borrower名、Investor名
+        assertTrue(largePageStatements <= 5, "statements: " + largePageStatements);
+        assertEquals(smallPageStatements, largePageStatements);
+        assertEquals(2, smallPage.getContent().size());
+        assertEquals(SYNDICATE_COUNT, largePage.getTotalElements());
+        assertEquals(MEMBER_COUNT, largePage.getContent().get(SYNDICATE_COUNT - 1).getMemberInvestorNames().size());
+    }
+
+    @Test
+    void キャッシュ済みの名前はクエリを発行しない() {
+        syndicateService.getAllSyndicatesWithDetails();
+
+        entityManager.clear();
+        statistics.clear();
+        List<SyndicateDetailResponseDTO> result = syndicateService.getAllSyndicatesWithDetails();
+
+        // Syndicate（メンバーIDをJOIN FETCH）のみ
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("Query Count Borrower", result.get(0).getBorrowerName());
+    }
+
+    @Test
+    void 存在しない参加者はUnknownとして表示される() {
+        Syndicate orphan = syndicateRepository.save(new Syndicate(
+                "Query Count Orphan", 999999L, 999998L, new ArrayList<>(List.of(999997L))));
+        entityManager.flush();
+        entityManager.clear();
+
+        SyndicateDetailResponseDTO dto = syndicateService.getSyndicateWithDetails(orphan.getId());
+
+        assertEquals("Unknown Borrower", dto.getBorrowerName());
+        assertEquals("Unknown Lead Bank", dto.getLeadBankName());
+        assertEquals(List.of("Unknown Investor"), dto.getMemberInvestorNames());
+    }
+}
@@ -6,6 +6,7 @@ import com.example.syndicatelending.syndicate.repository.SyndicateRepository;
 import com.example.syndicatelending.party.repository.InvestorRepository;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.facility.repository.FacilityRepository;
+import com.example.syndicatelending.party.service.PartyNameCache;
 import com.example.syndicatelending.party.entity.Investor;
 import com.example.syndicatelending.party.entity.InvestorType;
 import com.example.syndicatelending.syndicate.dto.UpdateSyndicateRequest;
@@ -33,11 +34,13 @@ class SyndicateServiceTest {
     private BorrowerRepository borrowerRepository;
     @Mock
     private FacilityRepository facilityRepository;
+    @Mock
+    private PartyNameCache partyNameCache;
     private SyndicateService syndicateService;
 
     @BeforeEach
     void setUp() {
-        syndicateService = new SyndicateService(syndicateRepository, investorRepository, borrowerRepository, facilityRepository);
+        syndicateService = new SyndicateService(syndicateRepository, investorRepository, borrowerRepository, facilityRepository, partyNameCache);
     }
 
     @Test
@@ -24,6 +24,7 @@ import com.example.syndicatelending.party.entity.InvestorType;
 import com.example.syndicatelending.party.repository.BorrowerRepository;
 import com.example.syndicatelending.party.repository.InvestorRepository;
 import com.example.syndicatelending.transaction.service.TransactionService.TransactionStatistics;
+import com.example.syndicatelending.transaction.dto.TypeTotal;
 import com.example.syndicatelending.transaction.entity.Transaction;
 import com.example.syndicatelending.transaction.entity.TransactionStatus;
 import com.example.syndicatelending.transaction.entity.TransactionType;
@@ -240,6 +241,14 @@ class TransactionServiceIntegrationTest {
         assertEquals(0, stats.getCompletedCount()); // 全てPENDING状態
         assertTrue(stats.getPendingCount() >= 3);
         assertEquals(0, stats.getProcessingCount());
+
+        // タイプ別の件数・金額合計
+        TypeTotal feeTotal = stats.getTotalsByType().get(TransactionType.FEE_PAYMENT);
+        assertNotNull(feeTotal);
+        assertTrue(feeTotal.getCount() >= 3);
+        assertTrue(feeTotal.getTotalAmount().compareTo(new BigDecimal("15000.00")) >= 0);
+        assertEquals(stats.getTotalCount(),
+                stats.getTotalsByType().values().stream().mapToLong(TypeTotal::getCount).sum());
     }
 
     @Test
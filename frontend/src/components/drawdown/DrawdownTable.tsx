@@ -1,14 +1,14 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { drawdownApi } from '../../lib/api';
-import type { Drawdown } from '../../types/api';
+import type { DrawdownSummary } from '../../types/api';
 
 interface DrawdownTableProps {
   searchTerm?: string;
   facilityFilter?: number;
-  onView?: (drawdown: Drawdown) => void;
-  onEdit?: (drawdown: Drawdown) => void;
-  onDelete?: (drawdown: Drawdown) => void;
+  onView?: (drawdown: DrawdownSummary) => void;
+  onEdit?: (drawdown: DrawdownSummary) => void;
+  onDelete?: (drawdown: DrawdownSummary) => void;
   refreshTrigger?: number;
 }
 
@@ -21,7 +21,7 @@ const DrawdownTable: React.FC<DrawdownTableProps> = ({
   refreshTrigger = 0
 }) => {
   const navigate = useNavigate();
-  const [drawdowns, setDrawdowns] = useState<Drawdown[]>([]);
+  const [drawdowns, setDrawdowns] = useState<DrawdownSummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [currentPage, setCurrentPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
@@ -217,7 +217,7 @@ const DrawdownTable: React.FC<DrawdownTableProps> = ({
               </thead>
               <tbody className="divide-y divide-secondary-500">
                 {filteredDrawdowns.map((drawdown) => {
-                  const totalAmountPies = drawdown.amountPies?.reduce((sum, pie) => sum + pie.amount, 0) || 0;
+                  const totalAmountPies = drawdown.allocatedAmount;
                   
                   return (
                     <tr 
@@ -258,7 +258,7 @@ const DrawdownTable: React.FC<DrawdownTableProps> = ({
                       </td>
                       <td className="px-6 py-4 whitespace-nowrap">
                         <div className="flex items-center">
-                          <span className="text-white font-medium">{drawdown.amountPies?.length || 0}</span>
+                          <span className="text-white font-medium">{drawdown.investorCount}</span>
                           <span className="text-accent-400 text-sm ml-1">investors</span>
                         </div>
                         <div className="text-accent-400 text-xs">
@@ -1,10 +1,10 @@
 import React, { useState, useEffect } from 'react';
 import { facilityApi } from '../../lib/api';
-import type { Facility } from '../../types/api';
+import type { FacilitySummary } from '../../types/api';
 
 interface FacilitySelectForDrawdownProps {
   value?: number;
-  onChange: (facilityId: number | undefined, facility?: Facility) => void;
+  onChange: (facilityId: number | undefined, facility?: FacilitySummary) => void;
   error?: string;
 }
 
@@ -13,7 +13,7 @@ const FacilitySelectForDrawdown: React.FC<FacilitySelectForDrawdownProps> = ({
   onChange, 
   error 
 }) => {
-  const [facilities, setFacilities] = useState<Facility[]>([]);
+  const [facilities, setFacilities] = useState<FacilitySummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState('');
   const [isOpen, setIsOpen] = useState(false);
@@ -62,12 +62,12 @@ const FacilitySelectForDrawdown: React.FC<FacilitySelectForDrawdownProps> = ({
   };
 
   // Calculate available amount (future: get from API)
-  const getAvailableAmount = (facility: Facility) => {
+  const getAvailableAmount = (facility: FacilitySummary) => {
     // Current simple implementation: show full commitment as available
     return facility.commitment;
   };
 
-  const getUtilizationPercentage = (facility: Facility) => {
+  const getUtilizationPercentage = (facility: FacilitySummary) => {
     // Current simple implementation: show 0% (future: calculate from actual usage)
     return 0;
   };
@@ -185,7 +185,7 @@ const FacilitySelectForDrawdown: React.FC<FacilitySelectForDrawdownProps> = ({
                         Available: {formatCurrency(getAvailableAmount(facility), facility.currency)}
                       </div>
                       <div className="text-accent-400 text-xs">
-                        Investors: {facility.sharePies?.length || 0}
+                        Investors: {facility.investorCount}
                       </div>
                     </div>
                   </div>
@@ -219,7 +219,7 @@ const FacilitySelectForDrawdown: React.FC<FacilitySelectForDrawdownProps> = ({
             </div>
             <div>
               <div className="text-accent-400">Investors</div>
-              <div className="text-white font-medium">{selectedFacility.sharePies?.length || 0}</div>
+              <div className="text-white font-medium">{selectedFacility.investorCount}</div>
             </div>
             <div>
               <div className="text-accent-400">Status</div>
@@ -1,13 +1,13 @@
 import React, { useState, useEffect } from 'react';
 import { facilityApi } from '../../lib/api';
-import type { Facility } from '../../types/api';
+import type { FacilitySummary } from '../../types/api';
 
 interface FacilityTableProps {
   searchTerm?: string;
-  onEdit?: (facility: Facility) => void;
-  onDelete?: (facility: Facility) => void;
-  onDetail?: (facility: Facility) => void;
-  onFacilitiesChange?: (facilities: Facility[]) => void;
+  onEdit?: (facility: FacilitySummary) => void;
+  onDelete?: (facility: FacilitySummary) => void;
+  onDetail?: (facility: FacilitySummary) => void;
+  onFacilitiesChange?: (facilities: FacilitySummary[]) => void;
   refreshTrigger?: number;
 }
 
@@ -19,7 +19,7 @@ const FacilityTable: React.FC<FacilityTableProps> = ({
   onFacilitiesChange,
   refreshTrigger = 0
 }) => {
-  const [facilities, setFacilities] = useState<Facility[]>([]);
+  const [facilities, setFacilities] = useState<FacilitySummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [currentPage, setCurrentPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
@@ -101,10 +101,6 @@ const FacilityTable: React.FC<FacilityTableProps> = ({
     }
   };
 
-  const calculateTotalSharePies = (facility: Facility) => {
-    return facility.sharePies?.reduce((total, pie) => total + pie.share, 0) || 0;
-  };
-
   if (loading) {
     return (
       <div className="flex items-center justify-center py-12">
@@ -167,9 +163,6 @@ const FacilityTable: React.FC<FacilityTableProps> = ({
               </thead>
               <tbody className="divide-y divide-secondary-500">
                 {facilities.map((facility) => {
-                  const totalShare = calculateTotalSharePies(facility);
-                  const isValidSharePie = Math.abs(totalShare - 1.0) < 0.0001;
-                  
                   return (
                     <tr 
                       key={facility.id} 
@@ -202,12 +195,9 @@ const FacilityTable: React.FC<FacilityTableProps> = ({
                       </td>
                       <td className="px-6 py-4 whitespace-nowrap">
                         <div className="flex items-center">
-                          <span className="text-white font-medium">{facility.sharePies?.length || 0}</span>
+                          <span className="text-white font-medium">{facility.investorCount}</span>
                           <span className="text-accent-400 text-sm ml-1">investors</span>
                         </div>
-                        <div className={`text-xs ${isValidSharePie ? 'text-success' : 'text-warning'}`}>
-                          {Math.round(totalShare * 100)}%
-                        </div>
                       </td>
                       <td className="px-6 py-4 whitespace-nowrap">
                         <span 
@@ -3,7 +3,7 @@ import { feePaymentApi, facilityApi } from '../../lib/api';
 import { FEE_TYPE_LABELS, getFeeTypeColor } from '../../lib/feeTypes';
 import type { 
   FeePaymentStatistics,
-  Facility,
+  FacilitySummary,
   FeeType,
   ApiError 
 } from '../../types/api';
@@ -18,7 +18,7 @@ const FeeStatisticsDashboard: React.FC<FeeStatisticsDashboardProps> = ({
   className = ''
 }) => {
   const [statistics, setStatistics] = useState<FeePaymentStatistics | null>(null);
-  const [facilities, setFacilities] = useState<Facility[]>([]);
+  const [facilities, setFacilities] = useState<FacilitySummary[]>([]);
   const [selectedFacility, setSelectedFacility] = useState<number>(facilityId || 0);
   const [isLoading, setIsLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
@@ -5,7 +5,7 @@ import { createDrawdownSchema, type CreateDrawdownFormData, defaultDrawdownValue
 import FacilitySelectForDrawdown from '../drawdown/FacilitySelectForDrawdown';
 import RepaymentTerms from '../drawdown/RepaymentTerms';
 import { drawdownApi, loanApi } from '../../lib/api';
-import type { ApiError, Drawdown, CreateDrawdownRequest, UpdateDrawdownRequest, Facility, Loan } from '../../types/api';
+import type { ApiError, Drawdown, CreateDrawdownRequest, UpdateDrawdownRequest, FacilitySummary, Loan } from '../../types/api';
 
 interface DrawdownFormProps {
   onSuccess?: (drawdown: Drawdown) => void;
@@ -18,7 +18,7 @@ const DrawdownForm: React.FC<DrawdownFormProps> = ({ onSuccess, onCancel, initia
   const [currentStep, setCurrentStep] = useState(1);
   const [isSubmitting, setIsSubmitting] = useState(false);
   const [submitError, setSubmitError] = useState<string | null>(null);
-  const [selectedFacility, setSelectedFacility] = useState<Facility | null>(null);
+  const [selectedFacility, setSelectedFacility] = useState<FacilitySummary | null>(null);
 
   const {
     register,
@@ -117,7 +117,7 @@ const DrawdownForm: React.FC<DrawdownFormProps> = ({ onSuccess, onCancel, initia
     }
   };
 
-  const handleFacilitySelect = (facilityId: number | undefined, facility?: Facility) => {
+  const handleFacilitySelect = (facilityId: number | undefined, facility?: FacilitySummary) => {
     setValue('facilityId', facilityId);
     setSelectedFacility(facility || null);
     
@@ -22,7 +22,7 @@ import type {
   CreateFeePaymentRequest, 
   FeeType, 
   RecipientType,
-  Facility,
+  FacilitySummary,
   Investor,
   Borrower,
   ApiError 
@@ -99,7 +99,7 @@ interface FeePaymentFormProps {
 const FeePaymentForm: React.FC<FeePaymentFormProps> = ({ onSuccess, onCancel }) => {
   const [isSubmitting, setIsSubmitting] = useState(false);
   const [submitError, setSubmitError] = useState<string | null>(null);
-  const [facilities, setFacilities] = useState<Facility[]>([]);
+  const [facilities, setFacilities] = useState<FacilitySummary[]>([]);
   const [investors, setInvestors] = useState<Investor[]>([]);
   const [borrowers, setBorrowers] = useState<Borrower[]>([]);
   const [isLoadingFacilities, setIsLoadingFacilities] = useState(false);
@@ -7,8 +7,11 @@ import type {
   Syndicate,
   SyndicateDetail,
   Facility,
+  FacilitySummary,
   Loan,
+  LoanSummary,
   Drawdown,
+  DrawdownSummary,
   Payment,
   PaymentDetail,
   FeePayment,
@@ -145,7 +148,7 @@ export const facilityApi = {
     if (search) params.append('search', search);
     params.append('sort', 'id,desc'); // 新しい順にソート
     
-    return apiClient.get<PageResponse<Facility>>(`/facilities?${params.toString()}`);
+    return apiClient.get<PageResponse<FacilitySummary>>(`/facilities?${params.toString()}`);
   },
   getById: (id: number) => apiClient.get<Facility>(`/facilities/${id}`),
   create: (data: CreateFacilityRequest) => apiClient.post<Facility>('/facilities', data),
@@ -156,17 +159,17 @@ export const facilityApi = {
 
 // Drawdowns
 export const drawdownApi = {
-  getAll: () => apiClient.get<Drawdown[]>('/loans/drawdowns'),
+  getAll: () => apiClient.get<DrawdownSummary[]>('/loans/drawdowns'),
   getAllPaged: (page?: number, size?: number) => {
     const params = new URLSearchParams();
     if (page !== undefined) params.append('page', page.toString());
     if (size !== undefined) params.append('size', size.toString());
     params.append('sort', 'id,desc'); // 新しい順にソート
     
-    return apiClient.get<PageResponse<Drawdown>>(`/loans/drawdowns/paged?${params.toString()}`);
+    return apiClient.get<PageResponse<DrawdownSummary>>(`/loans/drawdowns/paged?${params.toString()}`);
   },
   getById: (id: number) => apiClient.get<Drawdown>(`/loans/drawdowns/${id}`),
-  getByFacilityId: (facilityId: number) => apiClient.get<Drawdown[]>(`/loans/drawdowns/facility/${facilityId}`),
+  getByFacilityId: (facilityId: number) => apiClient.get<DrawdownSummary[]>(`/loans/drawdowns/facility/${facilityId}`),
   create: (data: CreateDrawdownRequest) => apiClient.post<Drawdown>('/loans/drawdowns', data),
   update: (id: number, data: UpdateDrawdownRequest) => apiClient.put<Drawdown>(`/loans/drawdowns/${id}`, data),
   delete: (id: number) => apiClient.delete(`/loans/drawdowns/${id}`),
@@ -182,7 +185,7 @@ export const loanApi = {
     if (size !== undefined) params.append('size', size.toString());
     params.append('sort', 'id,desc');
     
-    return apiClient.get<PageResponse<Loan>>(`/loans?${params.toString()}`);
+    return apiClient.get<PageResponse<LoanSummary>>(`/loans?${params.toString()}`);
   },
 };
 
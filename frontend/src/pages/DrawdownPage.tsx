@@ -3,7 +3,7 @@ import Layout from '../components/layout/Layout';
 import DrawdownForm from '../components/forms/DrawdownForm';
 import DrawdownTable from '../components/drawdown/DrawdownTable';
 import { drawdownApi } from '../lib/api';
-import type { Drawdown } from '../types/api';
+import type { Drawdown, DrawdownSummary } from '../types/api';
 
 const DrawdownPage: React.FC = () => {
   const [showForm, setShowForm] = useState(false);
@@ -29,16 +29,19 @@ const DrawdownPage: React.FC = () => {
     setEditingDrawdown(null);
   };
 
-  const handleView = (drawdown: Drawdown) => {
-    setSelectedDrawdown(drawdown);
+  const handleView = async (drawdown: DrawdownSummary) => {
+    // 一覧には投資家別の按分が含まれないため、詳細を取得して表示する
+    const response = await drawdownApi.getById(drawdown.id);
+    setSelectedDrawdown(response.data);
   };
 
-  const handleEdit = (drawdown: Drawdown) => {
-    setEditingDrawdown(drawdown);
+  const handleEdit = async (drawdown: DrawdownSummary) => {
+    const response = await drawdownApi.getById(drawdown.id);
+    setEditingDrawdown(response.data);
     setShowForm(true);
   };
 
-  const handleDelete = async (drawdown: Drawdown) => {
+  const handleDelete = async (drawdown: DrawdownSummary) => {
     const confirmDelete = window.confirm(
       `Are you sure you want to delete Drawdown #${drawdown.id}?\nThis action cannot be undone.`
     );
@@ -4,7 +4,7 @@ import FacilityForm from '../components/forms/FacilityForm';
 import FacilityTable from '../components/facility/FacilityTable';
 import FacilityDetail from '../components/facility/FacilityDetail';
 import { facilityApi } from '../lib/api';
-import type { Facility } from '../types/api';
+import type { Facility, FacilitySummary } from '../types/api';
 
 const FacilityPage: React.FC = () => {
   const [showForm, setShowForm] = useState(false);
@@ -15,7 +15,7 @@ const FacilityPage: React.FC = () => {
   const [showDetail, setShowDetail] = useState(false);
   const [editMode, setEditMode] = useState<'create' | 'edit'>('create');
   const [editData, setEditData] = useState<Facility | undefined>(undefined);
-  const [facilities, setFacilities] = useState<Facility[]>([]);
+  const [facilities, setFacilities] = useState<FacilitySummary[]>([]);
 
   // Quick Stats計算
   const calculateStats = () => {
@@ -56,7 +56,7 @@ const FacilityPage: React.FC = () => {
     setEditData(undefined);
   };
 
-  const handleDelete = async (facility: Facility) => {
+  const handleDelete = async (facility: FacilitySummary) => {
     if (window.confirm(`Are you sure you want to delete facility "#${facility.id}"?`)) {
       try {
         await facilityApi.delete(facility.id);
@@ -72,15 +72,17 @@ const FacilityPage: React.FC = () => {
     }
   };
 
-  const handleEdit = (facility: Facility) => {
-    console.log('Edit facility:', facility);
+  const handleEdit = async (facility: FacilitySummary) => {
+    // 一覧には持分の明細が含まれないため、詳細を取得してフォームに渡す
+    const response = await facilityApi.getById(facility.id);
     setEditMode('edit');
-    setEditData(facility);
+    setEditData(response.data);
     setShowForm(true);
   };
 
-  const handleDetail = (facility: Facility) => {
-    setSelectedFacility(facility);
+  const handleDetail = async (facility: FacilitySummary) => {
+    const response = await facilityApi.getById(facility.id);
+    setSelectedFacility(response.data);
     setShowDetail(true);
   };
 
@@ -89,7 +91,7 @@ const FacilityPage: React.FC = () => {
     setSelectedFacility(null);
   };
 
-  const handleFacilitiesChange = (updatedFacilities: Facility[]) => {
+  const handleFacilitiesChange = (updatedFacilities: FacilitySummary[]) => {
     setFacilities(updatedFacilities);
   };
 
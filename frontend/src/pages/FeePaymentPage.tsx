@@ -7,7 +7,7 @@ import { FEE_TYPE_LABELS, getFeeTypeOptions } from '../lib/feeTypes';
 import type { 
   FeePayment, 
   FeePaymentStatistics,
-  Facility,
+  FacilitySummary,
   FeeType,
   ApiError,
   PageResponse 
@@ -15,7 +15,7 @@ import type {
 
 const FeePaymentPage: React.FC = () => {
   const [feePayments, setFeePayments] = useState<FeePayment[]>([]);
-  const [facilities, setFacilities] = useState<Facility[]>([]);
+  const [facilities, setFacilities] = useState<FacilitySummary[]>([]);
   const [selectedFacility, setSelectedFacility] = useState<number | null>(null);
   const [selectedFeeType, setSelectedFeeType] = useState<FeeType | 'ALL'>('ALL');
   const [statistics, setStatistics] = useState<FeePaymentStatistics | null>(null);
@@ -191,6 +191,22 @@ export interface Facility {
   version: number;
 }
 
+// 一覧取得用（持分の明細を含まない）
+export interface FacilitySummary {
+  id: number;
+  syndicateId: number;
+  commitment: number;
+  currency: string;
+  startDate: string;
+  endDate: string;
+  interestTerms: string;
+  status: FacilityStatus;
+  investorCount: number;
+  createdAt: string;
+  updatedAt: string;
+  version: number;
+}
+
 export interface SharePie {
   id: number;
   investorId: number;
@@ -244,6 +260,25 @@ export interface Loan {
   version: number;
 }
 
+// 一覧取得用（返済明細を含まない）
+export interface LoanSummary {
+  id: number;
+  facilityId: number;
+  borrowerId: number;
+  principalAmount: any; // MoneyオブジェクトまたはnumberとしてJSONシリアライズされる可能性
+  outstandingBalance: any; // MoneyオブジェクトまたはnumberとしてJSONシリアライズされる可能性
+  currency: string;
+  annualInterestRate: any; // PercentageオブジェクトまたはnumberとしてJSONシリアライズされる可能性
+  drawdownDate: string;
+  repaymentPeriodMonths: number;
+  repaymentCycle: string;
+  repaymentMethod: RepaymentMethod;
+  status: LoanStatus;
+  createdAt: string;
+  updatedAt: string;
+  version: number;
+}
+
 export interface Drawdown {
   id: number;
   loanId: number;
@@ -258,6 +293,24 @@ export interface Drawdown {
   version: number;
 }
 
+// 一覧取得用（投資家別の按分の明細を含まない）
+export interface DrawdownSummary {
+  id: number;
+  facilityId: number;
+  borrowerId: number;
+  loanId: number;
+  amount: number;
+  currency: string;
+  purpose: string;
+  transactionDate: string;
+  status: TransactionStatus;
+  investorCount: number;
+  allocatedAmount: number;
+  createdAt: string;
+  updatedAt: string;
+  version: number;
+}
+
 export type TransactionStatus = 'DRAFT' | 'ACTIVE' | 'COMPLETED' | 'FAILED' | 'CANCELLED' | 'REFUNDED';
 
 export interface AmountPie {